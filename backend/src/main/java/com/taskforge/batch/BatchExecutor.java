@@ -0,0 +1,232 @@
+package com.taskforge.batch;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.taskforge.datasource.PrimaryPinning;
+import com.taskforge.dto.BatchOperation;
+import com.taskforge.dto.BatchRequest;
+import com.taskforge.dto.BatchResponse;
+import com.taskforge.dto.BatchResult;
+import com.taskforge.exceptions.BusinessRuleException;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Exécute les opérations d'un lot ({@code POST /api/batch}) dans l'ordre, sans repasser par les filtres HTTP.
+ * Le lot est authentifié une fois par la chaîne de sécurité ; chaque opération est ensuite remise directement à un
+ * {@link DispatcherServlet} propre aux lots, construit sur le contexte de l'application, avec l'authentification du
+ * lot : elle suit donc le même chemin qu'un appel isolé (résolution de l'endpoint, contrôles d'accès des services,
+ * traduction des exceptions en ProblemDetail).
+ *
+ * <p>Un lot atomique s'exécute dans une seule transaction sur la base principale : les services y participent,
+ * la première opération en échec (statut 4xx ou 5xx) annule toutes les écritures du lot et les opérations
+ * suivantes ne sont pas exécutées (statut 424). Un lot non atomique exécute chaque opération indépendamment ; avec
+ * le routage vers un réplica, chaque écriture réussie épingle l'utilisateur sur la base principale, comme le ferait
+ * {@code PrimaryPinningFilter} entre deux appels isolés, pour que les lectures suivantes du lot la voient.
+ *
+ * <p>Métriques : {@code taskforge.batch.operations} (opérations par lot).
+ */
+@Component
+public class BatchExecutor {
+
+    static final String OPERATIONS_METRIC = "taskforge.batch.operations";
+
+    private static final Set<String> METHODS = Set.of("GET", "POST", "PUT", "PATCH", "DELETE");
+
+    private final WebApplicationContext applicationContext;
+    private final TransactionTemplate primaryTransaction;
+    private final ObjectProvider<PrimaryPinning> primaryPinning;
+    private final ObjectMapper objectMapper;
+    private final int maxOperations;
+    private final DistributionSummary operations;
+    private volatile DispatcherServlet dispatcherServlet;
+
+    public BatchExecutor(
+            WebApplicationContext applicationContext,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<PrimaryPinning> primaryPinning,
+            ObjectMapper objectMapper,
+            @Value("${taskforge.batch.max-operations:50}") int maxOperations,
+            MeterRegistry registry) {
+        this.applicationContext = applicationContext;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryPinning = primaryPinning;
+        this.objectMapper = objectMapper;
+        this.maxOperations = maxOperations;
+        this.operations = DistributionSummary.builder(OPERATIONS_METRIC)
+                .description("Nombre d'opérations par lot")
+                .register(registry);
+    }
+
+    /**
+     * @param batch    Le lot à exécuter.
+     * @param request  La requête HTTP du lot, déjà authentifiée.
+     * @param response La réponse HTTP du lot.
+     * @return Un résultat par opération, dans l'ordre du lot.
+     * @throws BusinessRuleException Si le lot est vide, trop long ou contient une opération invalide.
+     */
+    public BatchResponse execute(BatchRequest batch, HttpServletRequest request, HttpServletResponse response) {
+        List<BatchOperation> items = batch.getOperations();
+        if (items == null || items.isEmpty()) {
+            throw new BusinessRuleException("Le lot ne contient aucune opération");
+        }
+        if (items.size() > maxOperations) {
+            throw new BusinessRuleException("Un lot contient au plus " + maxOperations + " opérations");
+        }
+        items.forEach(BatchExecutor::validate);
+        operations.record(items.size());
+
+        if (!batch.isAtomic()) {
+            List<BatchResult> results = new ArrayList<>(items.size());
+            for (BatchOperation item : items) {
+                BatchResult result = dispatch(item, request, response);
+                results.add(result);
+                if (!"GET".equalsIgnoreCase(item.getMethod()) && result.getStatus() < 400) {
+                    pinOnPrimary();
+                }
+            }
+            return BatchResponse.builder().committed(true).results(results).build();
+        }
+
+        List<BatchResult> results = new ArrayList<>(items.size());
+        boolean committed = Boolean.TRUE.equals(primaryTransaction.execute(status -> {
+            for (BatchOperation item : items) {
+                BatchResult result = dispatch(item, request, response);
+                results.add(result);
+                if (result.getStatus() >= 400) {
+                    status.setRollbackOnly();
+                    return false;
+                }
+            }
+            return true;
+        }));
+        while (results.size() < items.size()) {
+            results.add(BatchResult.builder().status(HttpStatus.FAILED_DEPENDENCY.value()).build());
+        }
+        return BatchResponse.builder().committed(committed).results(results).build();
+    }
+
+    private BatchResult dispatch(BatchOperation item, HttpServletRequest request, HttpServletResponse response) {
+        BatchSubResponse subResponse = new BatchSubResponse(response);
+        try {
+            byte[] body = item.getBody() == null || item.getBody().isNull() ? null
+                    : objectMapper.writeValueAsBytes(item.getBody());
+            BatchSubRequest subRequest = new BatchSubRequest(request, item.getMethod().toUpperCase(Locale.ROOT),
+                    item.getPath(), body);
+            dispatcherServlet(request.getServletContext()).service(subRequest, subResponse);
+        } catch (ServletException | IOException | RuntimeException e) {
+            return BatchResult.builder()
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                    .body(TextNode.valueOf(e.getMessage() != null ? e.getMessage() : "Internal server error"))
+                    .build();
+        }
+        return BatchResult.builder().status(subResponse.getStatus()).body(body(subResponse)).build();
+    }
+
+    /**
+     * Les opérations ne passent pas par {@code PrimaryPinningFilter} : l'épinglage après une écriture est fait ici.
+     */
+    private void pinOnPrimary() {
+        PrimaryPinning pinning = primaryPinning.getIfAvailable();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (pinning != null && authentication != null && !(authentication instanceof AnonymousAuthenticationToken)) {
+            pinning.pin(authentication.getName());
+        }
+    }
+
+    private DispatcherServlet dispatcherServlet(ServletContext servletContext) throws ServletException {
+        DispatcherServlet servlet = dispatcherServlet;
+        if (servlet == null) {
+            synchronized (this) {
+                servlet = dispatcherServlet;
+                if (servlet == null) {
+                    servlet = new DispatcherServlet(applicationContext);
+                    servlet.setPublishEvents(false);
+                    servlet.init(servletConfig(servletContext));
+                    dispatcherServlet = servlet;
+                }
+            }
+        }
+        return servlet;
+    }
+
+    private static ServletConfig servletConfig(ServletContext servletContext) {
+        return new ServletConfig() {
+            @Override
+            public String getServletName() {
+                return "batch";
+            }
+
+            @Override
+            public ServletContext getServletContext() {
+                return servletContext;
+            }
+
+            @Override
+            public String getInitParameter(String name) {
+                return null;
+            }
+
+            @Override
+            public Enumeration<String> getInitParameterNames() {
+                return Collections.emptyEnumeration();
+            }
+        };
+    }
+
+    private JsonNode body(BatchSubResponse subResponse) {
+        byte[] content = subResponse.getContentAsByteArray();
+        if (content.length == 0) {
+            return null;
+        }
+        String contentType = subResponse.getContentType();
+        if (contentType != null && MediaType.parseMediaType(contentType).getSubtype().contains("json")) {
+            try {
+                return objectMapper.readTree(content);
+            } catch (IOException e) {
+                // Corps non JSON malgré son type : renvoyé tel quel
+            }
+        }
+        return TextNode.valueOf(new String(content, Charset.forName(subResponse.getCharacterEncoding())));
+    }
+
+    private static void validate(BatchOperation item) {
+        if (item == null || item.getMethod() == null || !METHODS.contains(item.getMethod().toUpperCase(Locale.ROOT))) {
+            throw new BusinessRuleException("Méthode d'opération invalide : " + (item == null ? null : item.getMethod()));
+        }
+        String path = item.getPath();
+        if (path == null || !path.startsWith("/api/") || path.startsWith("/api/batch") || path.startsWith("/api/auth/")
+                || path.contains("..") || path.contains("#")) {
+            throw new BusinessRuleException("Chemin d'opération invalide : " + path);
+        }
+    }
+}
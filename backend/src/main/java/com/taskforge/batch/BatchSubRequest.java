@@ -0,0 +1,255 @@
+package com.taskforge.batch;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * Requête d'une opération d'un lot, construite sur la requête du lot.
+ * Elle en reprend l'authentification et les en-têtes, avec sa propre méthode, son chemin, ses paramètres,
+ * son corps JSON et ses propres attributs : rien de ce que le traitement d'une opération dépose sur la requête
+ * ne fuit vers les suivantes.
+ */
+class BatchSubRequest extends HttpServletRequestWrapper {
+
+    private static final Set<String> OVERRIDDEN_HEADERS = Set.of(
+            HttpHeaders.CONTENT_TYPE.toLowerCase(), HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.ACCEPT.toLowerCase(), HttpHeaders.ACCEPT_ENCODING.toLowerCase(),
+            HttpHeaders.IF_NONE_MATCH.toLowerCase());
+
+    private final String method;
+    private final String path;
+    private final String queryString;
+    private final byte[] body;
+    private final Map<String, String[]> parameters;
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    /**
+     * @param batch  La requête du lot.
+     * @param method La méthode HTTP de l'opération.
+     * @param target Le chemin de l'opération, paramètres de requête compris, relatif au contexte.
+     * @param body   Le corps JSON de l'opération, ou null.
+     */
+    BatchSubRequest(HttpServletRequest batch, String method, String target, byte[] body) {
+        super(batch);
+        this.method = method;
+        int query = target.indexOf('?');
+        this.path = query < 0 ? target : target.substring(0, query);
+        this.queryString = query < 0 ? null : target.substring(query + 1);
+        this.body = body == null ? new byte[0] : body;
+        this.parameters = parse(queryString);
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public String getRequestURI() {
+        return getContextPath() + path;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        StringBuffer url = new StringBuffer();
+        url.append(getScheme()).append("://").append(getServerName()).append(':').append(getServerPort())
+                .append(getRequestURI());
+        return url;
+    }
+
+    @Override
+    public String getServletPath() {
+        return UriUtils.decode(path, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getPathInfo() {
+        return null;
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return DispatcherType.REQUEST;
+    }
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = parameters.get(name);
+        return values == null || values.length == 0 ? null : values[0];
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return parameters.get(name);
+    }
+
+    @Override
+    public String getContentType() {
+        return body.length == 0 ? null : MediaType.APPLICATION_JSON_VALUE;
+    }
+
+    @Override
+    public int getContentLength() {
+        return body.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return body.length;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return StandardCharsets.UTF_8.name();
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream in = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public int read() {
+                return in.read();
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                return in.read(buffer, offset, length);
+            }
+
+            @Override
+            public boolean isFinished() {
+                return in.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener listener) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String getHeader(String name) {
+        String lower = name.toLowerCase();
+        if (!OVERRIDDEN_HEADERS.contains(lower)) {
+            return super.getHeader(name);
+        }
+        return switch (lower) {
+            case "content-type" -> getContentType();
+            case "content-length" -> body.length == 0 ? null : String.valueOf(body.length);
+            case "accept" -> MediaType.APPLICATION_JSON_VALUE;
+            default -> null;
+        };
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        if (!OVERRIDDEN_HEADERS.contains(name.toLowerCase())) {
+            return super.getHeaders(name);
+        }
+        String value = getHeader(name);
+        return Collections.enumeration(value == null ? List.of() : List.of(value));
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        List<String> names = new ArrayList<>();
+        Enumeration<String> batchNames = super.getHeaderNames();
+        while (batchNames.hasMoreElements()) {
+            String name = batchNames.nextElement();
+            if (!OVERRIDDEN_HEADERS.contains(name.toLowerCase())) {
+                names.add(name);
+            }
+        }
+        names.add(HttpHeaders.ACCEPT);
+        if (body.length > 0) {
+            names.add(HttpHeaders.CONTENT_TYPE);
+            names.add(HttpHeaders.CONTENT_LENGTH);
+        }
+        return Collections.enumeration(names);
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    private static Map<String, String[]> parse(String queryString) {
+        Map<String, String[]> parameters = new LinkedHashMap<>();
+        if (queryString == null || queryString.isEmpty()) {
+            return parameters;
+        }
+        MultiValueMap<String, String> query = UriComponentsBuilder.newInstance().query(queryString).build().getQueryParams();
+        query.forEach((name, values) -> parameters.put(UriUtils.decode(name, StandardCharsets.UTF_8),
+                values.stream().map(value -> value == null ? "" : UriUtils.decode(value, StandardCharsets.UTF_8))
+                        .toArray(String[]::new)));
+        return parameters;
+    }
+}
@@ -0,0 +1,68 @@
+package com.taskforge.compression;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache LRU borné en octets des corps de réponse compressés, indexé par l'ETag de la réponse non compressée.
+ * Deux lectures d'une ressource inchangée produisent le même ETag : la seconde réutilise les octets gzip
+ * sans recompresser.
+ */
+public class CompressedResponseCache {
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long sizeInBytes;
+
+    /**
+     * @param maxBytes La taille cumulée maximale des entrées, en octets.
+     */
+    public CompressedResponseCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Retourne le corps compressé associé à un ETag.
+     *
+     * @param etag L'ETag de la réponse non compressée.
+     * @return Les octets compressés, ou null s'ils ne sont pas en cache.
+     */
+    public synchronized byte[] get(String etag) {
+        return entries.get(etag);
+    }
+
+    /**
+     * Ajoute un corps compressé et évince les entrées les moins récemment lues au-delà de la taille maximale.
+     * Un corps plus grand que le cache entier n'est pas conservé.
+     *
+     * @param etag       L'ETag de la réponse non compressée.
+     * @param compressed Les octets compressés.
+     */
+    public synchronized void put(String etag, byte[] compressed) {
+        if (compressed.length > maxBytes) {
+            return;
+        }
+        byte[] previous = entries.put(etag, compressed);
+        sizeInBytes += compressed.length - (previous != null ? previous.length : 0);
+        Iterator<Map.Entry<String, byte[]>> eldest = entries.entrySet().iterator();
+        while (sizeInBytes > maxBytes && eldest.hasNext()) {
+            sizeInBytes -= eldest.next().getValue().length;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * @return La taille cumulée des entrées, en octets.
+     */
+    public synchronized long sizeInBytes() {
+        return sizeInBytes;
+    }
+
+    /**
+     * @return Le nombre d'entrées en cache.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,164 @@
+package com.taskforge.compression;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filtre des endpoints de lecture volumineux (backlog, sprints, User Stories d'une version).
+ * Le corps de la réponse est haché pour produire un ETag : une requête conditionnelle sur une ressource
+ * inchangée reçoit un 304 sans corps, et la version gzip d'un corps déjà vu est servie depuis
+ * {@link CompressedResponseCache} au lieu d'être recompressée.
+ *
+ * <p>Métriques : {@code taskforge.response.cache{result=hit|miss|not_modified}} et
+ * {@code taskforge.response.cache.size} (octets en cache).
+ */
+public class CompressedResponseFilter extends OncePerRequestFilter {
+
+    static final String CACHE_METRIC = "taskforge.response.cache";
+
+    private final CompressionProperties properties;
+    private final CompressedResponseCache cache;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter notModified;
+
+    public CompressedResponseFilter(CompressionProperties properties, CompressedResponseCache cache, MeterRegistry registry) {
+        this.properties = properties;
+        this.cache = cache;
+        this.hits = counter(registry, "hit");
+        this.misses = counter(registry, "miss");
+        this.notModified = counter(registry, "not_modified");
+        registry.gauge(CACHE_METRIC + ".size", cache, CompressedResponseCache::sizeInBytes);
+    }
+
+    /**
+     * Met le corps en mémoire tampon, puis répond 304, gzip (depuis le cache si possible) ou en clair.
+     *
+     * @param request  La requête HTTP entrante.
+     * @param response La réponse HTTP sortante.
+     * @param chain    La chaîne de filtres à poursuivre.
+     * @throws ServletException En cas d'erreur de servlet.
+     * @throws IOException      En cas d'erreur d'entrée/sortie.
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, buffered);
+
+        byte[] body = buffered.getContentAsByteArray();
+        if (buffered.getStatus() != HttpServletResponse.SC_OK || body.length < properties.getMinResponseSize()) {
+            buffered.copyBodyToResponse();
+            return;
+        }
+
+        String etag = etag(buffered.getContentType(), body);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        // Le navigateur peut conserver la réponse mais doit la revalider à chaque lecture
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.setHeader(HttpHeaders.VARY, "Accept, Accept-Encoding, Authorization");
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            notModified.increment();
+            buffered.resetBuffer();
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        if (!acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            buffered.copyBodyToResponse();
+            return;
+        }
+
+        byte[] compressed = cache.get(etag);
+        if (compressed != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            compressed = RenderedResponse.gzip(body);
+            cache.put(etag, compressed);
+        }
+        buffered.resetBuffer();
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.setContentLength(compressed.length);
+        response.getOutputStream().write(compressed);
+    }
+
+    /**
+     * Seules les lectures GET des endpoints configurés passent par le filtre.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return properties.getCachedPaths().stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    /**
+     * ETag faible dérivé du type de contenu et du corps : la représentation gzip et la représentation en clair
+     * partagent le même ETag.
+     */
+    static String etag(String contentType, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (contentType != null) {
+                digest.update(contentType.getBytes(StandardCharsets.UTF_8));
+            }
+            byte[] hash = digest.digest(body);
+            return "W/\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = etag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder(CACHE_METRIC)
+                .description("Lectures des endpoints volumineux : réponse gzip servie depuis le cache, compressée, ou 304")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,86 @@
+package com.taskforge.compression;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.taskforge.service.ProjectChangeVersions;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration du cache de réponses compressées des endpoints de lecture volumineux, et du cache de réponses
+ * rendues des lectures d'un projet.
+ * Les autres réponses sont compressées par Tomcat ({@code server.compression}) au-delà du même seuil.
+ * Désactivable avec {@code taskforge.compression.enabled=false} ; le cache des lectures d'un projet, propre à
+ * chaque instance, se désactive seul avec {@code taskforge.compression.project-cache-enabled=false}.
+ */
+@Configuration
+@EnableConfigurationProperties(CompressionProperties.class)
+@ConditionalOnProperty(prefix = "taskforge.compression", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CompressionConfig {
+
+    /**
+     * @param properties Les paramètres du cache.
+     * @return Le cache LRU des corps compressés.
+     */
+    @Bean
+    public CompressedResponseCache compressedResponseCache(CompressionProperties properties) {
+        return new CompressedResponseCache(properties.getCacheMaxBytes());
+    }
+
+    /**
+     * Enregistre le filtre juste après le filtre de mesure SQL et avant la sécurité :
+     * l'ETag et la compression s'appliquent au corps final, en-têtes de sécurité compris.
+     *
+     * @param properties Les paramètres du cache.
+     * @param cache      Le cache des corps compressés.
+     * @param registry   Le registre Micrometer des compteurs de hit/miss.
+     * @return L'enregistrement du filtre.
+     */
+    @Bean
+    public FilterRegistrationBean<CompressedResponseFilter> compressedResponseFilter(CompressionProperties properties,
+            CompressedResponseCache cache, MeterRegistry registry) {
+        FilterRegistrationBean<CompressedResponseFilter> registration =
+                new FilterRegistrationBean<>(new CompressedResponseFilter(properties, cache, registry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    /**
+     * @param properties Les paramètres du cache.
+     * @param registry   Le registre Micrometer.
+     * @return Le cache des réponses rendues des lectures d'un projet.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "taskforge.compression", name = "project-cache-enabled", havingValue = "true",
+            matchIfMissing = true)
+    public ProjectResponseCache projectResponseCache(CompressionProperties properties, MeterRegistry registry) {
+        return new ProjectResponseCache(properties.getProjectCacheMaxBytes(), registry);
+    }
+
+    /**
+     * Enregistre le filtre juste après la sécurité : l'appartenance de l'appelant au projet est connue, et les
+     * en-têtes de sécurité et CORS sont déjà posés sur la réponse.
+     *
+     * @param properties Les paramètres du cache.
+     * @param cache      Le cache des réponses rendues.
+     * @param versions   Les versions de modification des projets.
+     * @param registry   Le registre Micrometer.
+     * @return L'enregistrement du filtre.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "taskforge.compression", name = "project-cache-enabled", havingValue = "true",
+            matchIfMissing = true)
+    public FilterRegistrationBean<ProjectResponseFilter> projectResponseFilter(CompressionProperties properties,
+            ProjectResponseCache cache, ProjectChangeVersions versions, MeterRegistry registry) {
+        FilterRegistrationBean<ProjectResponseFilter> registration =
+                new FilterRegistrationBean<>(new ProjectResponseFilter(properties, cache, versions, registry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,46 @@
+package com.taskforge.compression;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Paramètres du cache de réponses compressées ({@code taskforge.compression.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "taskforge.compression")
+public class CompressionProperties {
+
+    /** Active l'ETag et le cache de réponses compressées sur les endpoints de {@link #cachedPaths}. */
+    private boolean enabled = true;
+
+    /** Taille minimale (en octets) d'un corps de réponse pour être compressé et mis en cache. */
+    private int minResponseSize = 2048;
+
+    /** Taille maximale cumulée (en octets) des réponses compressées conservées en mémoire. */
+    private long cacheMaxBytes = 32L * 1024 * 1024;
+
+    /**
+     * Gabarits (style Ant) des endpoints GET volumineux et stables dont la réponse compressée est mise en cache.
+     */
+    private List<String> cachedPaths = new ArrayList<>();
+
+    /**
+     * Active le cache des réponses rendues des lectures d'un projet. Les versions de modification des projets sont
+     * propres à chaque instance : avec plusieurs instances, le désactiver, sans quoi une instance servirait
+     * indéfiniment ses réponses d'un projet modifié par une autre.
+     */
+    private boolean projectCacheEnabled = true;
+
+    /**
+     * Gabarits (style Ant, avec une variable {@code {projectId}}) des endpoints GET d'un projet dont la réponse
+     * rendue est mise en cache par version de modification du projet.
+     */
+    private List<String> projectPaths = new ArrayList<>();
+
+    /** Taille maximale cumulée (en octets) des réponses rendues des endpoints de {@link #projectPaths}. */
+    private long projectCacheMaxBytes = 64L * 1024 * 1024;
+}
@@ -0,0 +1,58 @@
+package com.taskforge.compression;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache des réponses rendues des lectures d'un projet, borné en octets.
+ * La clé porte la version de modification du projet au moment du rendu : une écriture change la version, et
+ * les entrées rendues avant elle ne sont plus jamais lues ; elles sont évincées, les moins utilisées d'abord,
+ * quand la taille maximale est atteinte.
+ *
+ * <p>Métriques : {@code cache_gets_total{cache="projectResponses"}} et associées.
+ */
+public class ProjectResponseCache {
+
+    static final String CACHE_NAME = "projectResponses";
+
+    private final Cache<Key, RenderedResponse> entries;
+
+    /**
+     * Identifie une représentation : le chemin (identifiant du projet compris) et la requête, le type de contenu
+     * demandé, et la version du projet.
+     */
+    public record Key(String uri, String accept, long projectVersion) {
+    }
+
+    /**
+     * @param maxBytes La taille cumulée maximale des entrées, en octets.
+     * @param registry Le registre Micrometer.
+     */
+    public ProjectResponseCache(long maxBytes, MeterRegistry registry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, RenderedResponse response) -> response.weight())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, entries, CACHE_NAME);
+    }
+
+    /**
+     * @param key La représentation demandée.
+     * @return La réponse rendue, ou null si elle n'est pas en cache.
+     */
+    public RenderedResponse get(Key key) {
+        return entries.getIfPresent(key);
+    }
+
+    /**
+     * @param key      La représentation rendue.
+     * @param response La réponse rendue.
+     */
+    public void put(Key key, RenderedResponse response) {
+        entries.put(key, response);
+    }
+}
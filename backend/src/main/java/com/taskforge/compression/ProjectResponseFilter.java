@@ -0,0 +1,168 @@
+package com.taskforge.compression;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.taskforge.security.AuthenticatedUser;
+import com.taskforge.service.ProjectChangeVersions;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filtre des lectures d'un projet (User Stories, backlog, sprints, colonnes, versions, tableaux).
+ * La réponse rendue (octets sérialisés, compressés si utile, et ETag) est mise en cache sous la version de
+ * modification courante du projet : tant que le projet ne change pas, une lecture est une recherche dans le
+ * cache suivie de l'écriture des octets, sans contrôleur, requête SQL ni sérialisation.
+ *
+ * <p>Le filtre s'exécute après la sécurité. Seul un appelant dont le jeton atteste, à jour, l'appartenance au
+ * projet est servi depuis le cache ; les réponses de ces endpoints ne dépendent pas de l'appelant au-delà de ce
+ * contrôle d'accès. Les autres appelants passent par le contrôleur, avec le même ETag et la même compression.
+ *
+ * <p>Métriques : {@code taskforge.response.project_cache{result=hit|miss|bypass|not_modified}}.
+ */
+public class ProjectResponseFilter extends OncePerRequestFilter {
+
+    static final String CACHE_METRIC = "taskforge.response.project_cache";
+
+    static final String PROJECT_ID = "projectId";
+
+    private final CompressionProperties properties;
+    private final ProjectResponseCache cache;
+    private final ProjectChangeVersions versions;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bypasses;
+    private final Counter notModified;
+
+    public ProjectResponseFilter(CompressionProperties properties, ProjectResponseCache cache,
+            ProjectChangeVersions versions, MeterRegistry registry) {
+        this.properties = properties;
+        this.cache = cache;
+        this.versions = versions;
+        this.hits = counter(registry, "hit");
+        this.misses = counter(registry, "miss");
+        this.bypasses = counter(registry, "bypass");
+        this.notModified = counter(registry, "not_modified");
+    }
+
+    /**
+     * Sert la réponse depuis le cache, ou la rend puis la met en cache si l'appelant est membre du projet.
+     *
+     * @param request  La requête HTTP entrante.
+     * @param response La réponse HTTP sortante.
+     * @param chain    La chaîne de filtres à poursuivre.
+     * @throws ServletException En cas d'erreur de servlet.
+     * @throws IOException      En cas d'erreur d'entrée/sortie.
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Long projectId = projectId(path(request));
+        ProjectResponseCache.Key key = null;
+        if (projectId != null && isMember(projectId)) {
+            String uri = request.getQueryString() == null ? request.getRequestURI()
+                    : request.getRequestURI() + "?" + request.getQueryString();
+            String accept = request.getHeader(HttpHeaders.ACCEPT);
+            key = new ProjectResponseCache.Key(uri, accept == null ? "" : accept, versions.current(projectId));
+            RenderedResponse cached = cache.get(key);
+            if (cached != null) {
+                hits.increment();
+                write(cached, request, response);
+                return;
+            }
+            misses.increment();
+        } else {
+            bypasses.increment();
+        }
+
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, buffered);
+        if (buffered.getStatus() != HttpServletResponse.SC_OK) {
+            buffered.copyBodyToResponse();
+            return;
+        }
+        RenderedResponse rendered = RenderedResponse.of(buffered.getContentType(), buffered.getContentAsByteArray(),
+                properties.getMinResponseSize());
+        if (key != null) {
+            cache.put(key, rendered);
+        }
+        buffered.resetBuffer();
+        write(rendered, request, response);
+    }
+
+    /**
+     * Seules les lectures GET des endpoints de projet configurés passent par le filtre.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || projectId(path(request)) == null;
+    }
+
+    private void write(RenderedResponse rendered, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setHeader(HttpHeaders.ETAG, rendered.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.setHeader(HttpHeaders.VARY, "Accept, Accept-Encoding, Authorization");
+        if (CompressedResponseFilter.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), rendered.etag())) {
+            notModified.increment();
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(rendered.contentType());
+        byte[] body;
+        if (rendered.gzipped() && CompressedResponseFilter.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = rendered.body();
+        } else {
+            body = rendered.plainBody();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private Long projectId(String path) {
+        for (String pattern : properties.getProjectPaths()) {
+            if (pathMatcher.match(pattern, path)) {
+                Map<String, String> variables = pathMatcher.extractUriTemplateVariables(pattern, path);
+                try {
+                    return Long.valueOf(variables.get(PROJECT_ID));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static boolean isMember(Long projectId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user
+                && user.isMemberOf(projectId);
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder(CACHE_METRIC)
+                .description("Lectures d'un projet : réponse rendue servie depuis le cache, rendue puis mise en cache, "
+                        + "rendue sans cache (appartenance non attestée par le jeton) ou 304")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskforge.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Réponse rendue et prête à écrire : type de contenu, ETag et corps, conservé compressé en gzip quand
+ * la compression le réduit.
+ *
+ * @param contentType Le type de contenu négocié (JSON, CBOR ou Smile).
+ * @param etag        L'ETag du corps non compressé.
+ * @param body        Le corps, compressé si {@code gzipped}.
+ * @param gzipped     {@code true} si {@code body} est compressé en gzip.
+ */
+public record RenderedResponse(String contentType, String etag, byte[] body, boolean gzipped) {
+
+    /**
+     * @param contentType     Le type de contenu de la réponse.
+     * @param body            Le corps non compressé.
+     * @param minCompressSize La taille à partir de laquelle la compression est tentée.
+     * @return La réponse, compressée si c'est utile.
+     * @throws IOException En cas d'erreur de compression.
+     */
+    static RenderedResponse of(String contentType, byte[] body, int minCompressSize) throws IOException {
+        String etag = CompressedResponseFilter.etag(contentType, body);
+        if (body.length >= minCompressSize) {
+            byte[] compressed = gzip(body);
+            if (compressed.length < body.length) {
+                return new RenderedResponse(contentType, etag, compressed, true);
+            }
+        }
+        return new RenderedResponse(contentType, etag, body, false);
+    }
+
+    /**
+     * @return Le corps non compressé.
+     * @throws IOException En cas d'erreur de décompression.
+     */
+    byte[] plainBody() throws IOException {
+        if (!gzipped) {
+            return body;
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * @return L'occupation mémoire approximative de l'entrée, en octets.
+     */
+    int weight() {
+        return body.length + 2 * (contentType == null ? 0 : contentType.length()) + 2 * etag.length() + 64;
+    }
+
+    static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,14 +1,21 @@
 package com.taskforge.config;
 
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.taskforge.models.User;
 import com.taskforge.repositories.UserRepository;
+import com.taskforge.service.BoardProjection;
 
 @Configuration
+@EnableConfigurationProperties(SyntheticDataProperties.class)
 public class DataLoader {
 
     /**
@@ -35,4 +42,48 @@ public class DataLoader {
             }
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Génère un jeu de données synthétique volumineux au démarrage, si {@code taskforge.seed.enabled} vaut true.
+     * Utilisé avec le profil {@code seed} pour reproduire localement le volume de production.
+     *
+     * @param generator  Le générateur de données.
+     * @param properties Les volumes à générer.
+     * @return Un CommandLineRunner qui exécute la génération.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "taskforge.seed", name = "enabled", havingValue = "true")
+    CommandLineRunner seedSyntheticData(SyntheticDataGenerator generator, SyntheticDataProperties properties) {
+        return args -> {
+            long start = System.currentTimeMillis();
+            Map<String, Integer> summary = generator.generate(properties);
+            if (summary.isEmpty()) {
+                System.out.println("✓ Données synthétiques déjà présentes (préfixe " + properties.getPrefix() + "), génération ignorée");
+                return;
+            }
+            System.out.println("✓ Données synthétiques générées en " + (System.currentTimeMillis() - start) + " ms : " + summary);
+        };
+    }
+
+    /**
+     * Reconstruit le modèle de lecture des tableaux depuis les tables sources au démarrage, si
+     * {@code taskforge.board.rebuild-on-startup} vaut true ou si le modèle est vide alors que des User Stories
+     * existent (première mise en service).
+     *
+     * @param projection La projection du modèle de lecture.
+     * @param force      Reconstruire même si le modèle de lecture est déjà rempli.
+     * @return Un CommandLineRunner qui exécute la reconstruction.
+     */
+    @Bean
+    CommandLineRunner rebuildBoardReadModel(BoardProjection projection,
+            @Value("${taskforge.board.rebuild-on-startup:false}") boolean force) {
+        return args -> {
+            if (force || projection.isMissing()) {
+                long start = System.currentTimeMillis();
+                int rows = projection.rebuild();
+                System.out.println("✓ Modèle de lecture des tableaux reconstruit en " + (System.currentTimeMillis() - start)
+                        + " ms : " + rows + " User Stories");
+            }
+        };
+    }
+}
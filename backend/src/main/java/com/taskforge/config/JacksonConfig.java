@@ -0,0 +1,114 @@
+package com.taskforge.config;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.taskforge.dto.BoardColumn;
+import com.taskforge.dto.BoardStory;
+import com.taskforge.dto.ProjectSummary;
+import com.taskforge.dto.SprintResponse;
+import com.taskforge.models.KanbanColumn;
+import com.taskforge.models.Project;
+import com.taskforge.models.Sprint;
+import com.taskforge.models.Task;
+import com.taskforge.models.UserStory;
+import com.taskforge.models.Version;
+
+/**
+ * Configuration de la sérialisation JSON des réponses.
+ * Les accès par réflexion aux propriétés sont remplacés par du code généré (module Blackbird) et les
+ * writers des types de réponse les plus fréquents (tableau, backlog, tâches) sont préparés au démarrage.
+ *
+ * <p>En plus du JSON, les contrôleurs produisent et acceptent les encodages binaires CBOR ({@code application/cbor})
+ * et Smile ({@code application/x-jackson-smile}) selon les en-têtes Accept et Content-Type. Le JSON reste le format
+ * par défaut lorsque le client n'exprime pas de préférence.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Types de réponse des endpoints les plus sollicités, tels que déclarés par les contrôleurs.
+     */
+    static final List<Type> HOT_RESPONSE_TYPES = List.of(
+            new ParameterizedTypeReference<List<BoardStory>>() { }.getType(),
+            new ParameterizedTypeReference<List<BoardColumn>>() { }.getType(),
+            new ParameterizedTypeReference<List<UserStory>>() { }.getType(),
+            UserStory.class,
+            new ParameterizedTypeReference<List<Task>>() { }.getType(),
+            Task.class,
+            new ParameterizedTypeReference<List<KanbanColumn>>() { }.getType(),
+            new ParameterizedTypeReference<List<SprintResponse>>() { }.getType(),
+            Sprint.class,
+            new ParameterizedTypeReference<List<Version>>() { }.getType(),
+            new ParameterizedTypeReference<List<ProjectSummary>>() { }.getType(),
+            Project.class);
+
+    /**
+     * Module Blackbird, enregistré automatiquement par Spring Boot dans l'ObjectMapper de l'application.
+     *
+     * @return Le module Jackson.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Module Hibernate : une association paresseuse déjà chargée par le service est sérialisée comme l'entité
+     * elle-même (et non comme un proxy), une association non chargée l'est comme {@code null} au lieu de
+     * déclencher une requête après la fin de la transaction.
+     *
+     * @return Le module Jackson.
+     */
+    @Bean
+    public Module hibernateModule() {
+        return new Hibernate6Module();
+    }
+
+    /**
+     * Remplace le convertisseur JSON par défaut de Spring Boot par sa variante à writers préparés.
+     *
+     * @param objectMapper L'ObjectMapper configuré par Spring Boot.
+     * @return Le convertisseur JSON utilisé par Spring MVC.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new PrefetchingJackson2HttpMessageConverter(objectMapper, HOT_RESPONSE_TYPES);
+    }
+
+    /**
+     * Convertisseur CBOR construit avec la même configuration Jackson que le JSON (modules, dates, inclusions).
+     *
+     * @param builder Le builder Jackson configuré par Spring Boot.
+     * @return Le convertisseur {@code application/cbor}.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Convertisseur Smile construit avec la même configuration Jackson que le JSON.
+     *
+     * @param builder Le builder Jackson configuré par Spring Boot.
+     * @return Le convertisseur {@code application/x-jackson-smile}.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskforge.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+/**
+ * Configuration de l'observabilité (Micrometer / Actuator).
+ * Ajoute aux métriques {@code http.server.requests} un tag {@code handler} identifiant la méthode
+ * de contrôleur qui a traité la requête, afin d'obtenir un histogramme de latence par méthode.
+ */
+@Configuration
+public class ObservabilityConfig {
+
+    static final String HANDLER_KEY = "handler";
+    static final String NO_HANDLER = "none";
+
+    /**
+     * Convention d'observation des requêtes HTTP enrichie du tag {@code handler} (ex. "ProjectController#getMyProjects").
+     * Le nombre de valeurs possibles est borné par le nombre de méthodes de contrôleur, ce qui reste compatible
+     * avec un tag de faible cardinalité.
+     *
+     * @return La convention utilisée par le filtre d'observation de Spring MVC.
+     */
+    @Bean
+    public ServerRequestObservationConvention handlerMethodObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context).and(handler(context));
+            }
+        };
+    }
+
+    private static KeyValue handler(ServerRequestObservationContext context) {
+        Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return KeyValue.of(HANDLER_KEY,
+                    handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName());
+        }
+        return KeyValue.of(HANDLER_KEY, NO_HANDLER);
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskforge.config;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Convertisseur JSON qui réutilise un {@link ObjectWriter} déjà résolu pour chaque type de réponse.
+ * Un writer obtenu par {@code writerFor(type)} garde en cache le sérialiseur racine : les requêtes suivantes
+ * n'ont plus à le rechercher ni à reconstruire le writer. Les types les plus sollicités sont préparés
+ * au démarrage ; les autres le sont à leur première sérialisation.
+ *
+ * <p>Le JSON est écrit directement dans le flux de la réponse, sans tampon intermédiaire.
+ * Les writers configurés avec une vue ou des filtres (MappingJacksonValue) ne passent pas par le cache,
+ * pas plus que les types déclarés abstraits, pour lesquels le sérialiseur dépend du type réel de la valeur.
+ */
+public class PrefetchingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    /**
+     * @param objectMapper L'ObjectMapper de l'application.
+     * @param hotTypes     Les types de réponse à préparer dès la construction.
+     */
+    public PrefetchingJackson2HttpMessageConverter(ObjectMapper objectMapper, List<Type> hotTypes) {
+        super(objectMapper);
+        hotTypes.forEach(type -> prefetchedWriter(getJavaType(type, null)));
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType contentType) {
+        if (javaType == null
+                || (!javaType.isContainerType() && (javaType.isAbstract() || javaType.isJavaLangObject()))
+                || writer.getConfig().getActiveView() != null
+                || writer.getConfig().getFilterProvider() != null
+                || (contentType != null && contentType.isCompatibleWith(MediaType.TEXT_EVENT_STREAM))) {
+            return writer;
+        }
+        return prefetchedWriter(javaType);
+    }
+
+    /**
+     * Retourne le writer préparé pour un type, en le créant au premier appel.
+     *
+     * @param javaType Le type de la valeur à sérialiser.
+     * @return Un writer dont le sérialiseur racine est déjà résolu.
+     */
+    ObjectWriter prefetchedWriter(JavaType javaType) {
+        return writers.computeIfAbsent(javaType, type -> getObjectMapper().writerFor(type));
+    }
+}
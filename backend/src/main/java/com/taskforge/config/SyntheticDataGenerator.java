@@ -0,0 +1,313 @@
+package com.taskforge.config;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskforge.models.Project;
+import com.taskforge.repositories.BoardEntryRepository;
+import com.taskforge.repositories.ProjectRepository;
+import com.taskforge.repositories.UserRepository;
+
+/**
+ * Générateur de données synthétiques reproduisant un volume proche de la production.
+ * Crée des utilisateurs, des projets avec leurs membres, des colonnes Kanban, des sprints, des versions,
+ * des User Stories et des tâches. Les volumes suivent une distribution log-normale autour des moyennes
+ * configurées et les insertions passent par des lots JDBC.
+ */
+@Component
+public class SyntheticDataGenerator {
+
+    private static final String[] DEFAULT_STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+    private static final String[] CUSTOM_STATUSES = {"REVIEW", "TESTING", "BLOCKED", "VALIDATION", "DEPLOYED"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+    private static final String[] TASK_STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+    private static final String[] STORY_VERBS = {"consulter", "modifier", "exporter", "partager", "archiver", "filtrer", "valider"};
+    private static final String[] STORY_OBJECTS = {"mes factures", "le tableau de bord", "les rapports", "mon profil", "les notifications", "l'historique", "les commentaires"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final BoardEntryRepository boardEntryRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            ProjectRepository projectRepository, UserRepository userRepository, BoardEntryRepository boardEntryRepository,
+            PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.boardEntryRepository = boardEntryRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    /**
+     * Génère un jeu de données complet selon les paramètres fournis.
+     * Ne fait rien si des utilisateurs portant le même préfixe existent déjà.
+     *
+     * @param properties Les volumes et la graine à utiliser.
+     * @return Le nombre de lignes créées par table.
+     */
+    public Map<String, Integer> generate(SyntheticDataProperties properties) {
+        Map<String, Integer> summary = new LinkedHashMap<>();
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE username LIKE ?", Integer.class, properties.getPrefix() + "_user_%");
+        if (existing != null && existing > 0) {
+            return summary;
+        }
+
+        Random random = new Random(properties.getRandomSeed());
+
+        List<Long> userIds = transactionTemplate.execute(status -> insertUsers(properties));
+        summary.put("users", userIds.size());
+
+        for (int p = 0; p < properties.getProjects(); p++) {
+            final int projectIndex = p;
+            transactionTemplate.executeWithoutResult(status ->
+                    generateProject(properties, projectIndex, userIds, random, summary));
+        }
+        return summary;
+    }
+
+    private List<Long> insertUsers(SyntheticDataProperties properties) {
+        // Un seul hachage BCrypt : il est volontairement lent et le mot de passe est commun.
+        String encodedPassword = passwordEncoder.encode(properties.getPassword());
+        List<Object[]> rows = new ArrayList<>(properties.getUsers());
+        for (int i = 0; i < properties.getUsers(); i++) {
+            String username = properties.getPrefix() + "_user_" + i;
+            rows.add(new Object[] {username, username + "@taskforge.test", encodedPassword});
+        }
+        batchInsert("INSERT INTO users (username, email, password) VALUES (?, ?, ?)", rows, properties.getBatchSize());
+        return jdbcTemplate.queryForList("SELECT id FROM users WHERE username LIKE ? ORDER BY id",
+                Long.class, properties.getPrefix() + "_user_%");
+    }
+
+    private void generateProject(SyntheticDataProperties properties, int projectIndex, List<Long> userIds,
+            Random random, Map<String, Integer> summary) {
+        int batchSize = properties.getBatchSize();
+
+        // Membres : le propriétaire plus un tirage sans remise parmi les autres utilisateurs
+        int memberCount = Math.min(userIds.size(), Math.max(1, skewed(random, properties.getMembersPerProject())));
+        Set<Long> memberIds = new LinkedHashSet<>();
+        Long ownerId = userIds.get(random.nextInt(userIds.size()));
+        memberIds.add(ownerId);
+        while (memberIds.size() < memberCount) {
+            memberIds.add(userIds.get(random.nextInt(userIds.size())));
+        }
+        List<Long> members = new ArrayList<>(memberIds);
+
+        // Le projet passe par JPA pour profiter du générateur de séquence d'Hibernate
+        Project project = projectRepository.saveAndFlush(Project.builder()
+                .name(properties.getPrefix() + "_project_" + projectIndex)
+                .description("Projet généré pour les tests de charge")
+                .owner(userRepository.getReferenceById(ownerId))
+                .build());
+        Long projectId = project.getId();
+        increment(summary, "projects", 1);
+
+        List<Object[]> memberRows = new ArrayList<>();
+        for (Long memberId : members) {
+            memberRows.add(new Object[] {projectId, memberId});
+        }
+        batchInsert("INSERT INTO project_members (project_id, user_id) VALUES (?, ?)", memberRows, batchSize);
+        increment(summary, "project_members", memberRows.size());
+
+        // Colonnes Kanban : les trois colonnes par défaut puis les colonnes personnalisées
+        List<Object[]> columnRows = new ArrayList<>();
+        String[] defaultNames = {"À faire", "En cours", "Terminé"};
+        for (int i = 0; i < DEFAULT_STATUSES.length; i++) {
+            columnRows.add(new Object[] {defaultNames[i], DEFAULT_STATUSES[i], i + 1, projectId, true});
+        }
+        int customColumns = Math.min(properties.getCustomColumnsPerProject(), CUSTOM_STATUSES.length);
+        for (int i = 0; i < customColumns; i++) {
+            columnRows.add(new Object[] {CUSTOM_STATUSES[i], CUSTOM_STATUSES[i], DEFAULT_STATUSES.length + i + 1, projectId, false});
+        }
+        batchInsert("INSERT INTO kanban_columns (name, status, column_order, project_id, is_default) VALUES (?, ?, ?, ?, ?)",
+                columnRows, batchSize);
+        increment(summary, "kanban_columns", columnRows.size());
+        Map<String, Long> columnIdsByStatus = new HashMap<>();
+        jdbcTemplate.query("SELECT id, status FROM kanban_columns WHERE project_id = ?",
+                rs -> { columnIdsByStatus.put(rs.getString("status"), rs.getLong("id")); }, projectId);
+        List<String> statuses = columnIdsByStatus.keySet().stream().sorted().toList();
+
+        // Sprints de deux semaines : passés terminés, un sprint actif, futurs planifiés
+        List<Object[]> sprintRows = new ArrayList<>();
+        int sprintCount = properties.getSprintsPerProject();
+        LocalDate firstStart = LocalDate.now().minusWeeks(2L * Math.max(0, sprintCount - 2));
+        for (int i = 0; i < sprintCount; i++) {
+            LocalDate start = firstStart.plusWeeks(2L * i);
+            String status = i < sprintCount - 2 ? "COMPLETED" : (i == sprintCount - 2 ? "ACTIVE" : "PLANNED");
+            sprintRows.add(new Object[] {"Sprint " + (i + 1), start, start.plusDays(13), status, projectId});
+        }
+        batchInsert("INSERT INTO sprints (name, start_date, end_date, status, project_id) VALUES (?, ?, ?, ?, ?)",
+                sprintRows, batchSize);
+        increment(summary, "sprints", sprintRows.size());
+        List<Long> sprintIds = jdbcTemplate.queryForList(
+                "SELECT id FROM sprints WHERE project_id = ? ORDER BY id", Long.class, projectId);
+
+        // Versions : une version livrée, une en cours, les suivantes planifiées
+        List<Object[]> versionRows = new ArrayList<>();
+        for (int i = 0; i < properties.getVersionsPerProject(); i++) {
+            String status = i == 0 ? "RELEASED" : (i == 1 ? "IN_PROGRESS" : "PLANNED");
+            LocalDate releaseDate = i == 0 ? LocalDate.now().minusMonths(1) : null;
+            versionRows.add(new Object[] {"Version 1." + i, "Version générée", "1." + i + ".0", releaseDate, status, projectId});
+        }
+        batchInsert("INSERT INTO versions (title, description, version_number, release_date, status, project_id) VALUES (?, ?, ?, ?, ?, ?)",
+                versionRows, batchSize);
+        increment(summary, "versions", versionRows.size());
+        List<Long> versionIds = jdbcTemplate.queryForList(
+                "SELECT id FROM versions WHERE project_id = ? ORDER BY id", Long.class, projectId);
+
+        // User Stories
+        int storyCount = Math.max(1, skewed(random, properties.getStoriesPerProject()));
+        List<Object[]> storyRows = new ArrayList<>(storyCount);
+        for (int i = 0; i < storyCount; i++) {
+            String status = pickStoryStatus(random, statuses);
+            Long sprintId = !sprintIds.isEmpty() && random.nextDouble() < 0.55
+                    ? sprintIds.get(random.nextInt(sprintIds.size())) : null;
+            Long versionId = !versionIds.isEmpty() && random.nextDouble() < 0.4
+                    ? versionIds.get(random.nextInt(versionIds.size())) : null;
+            String title = "US-" + (i + 1) + " : en tant qu'utilisateur, je veux "
+                    + STORY_VERBS[random.nextInt(STORY_VERBS.length)] + " "
+                    + STORY_OBJECTS[random.nextInt(STORY_OBJECTS.length)];
+            storyRows.add(new Object[] {title, "Description générée de la User Story " + (i + 1),
+                    weighted(random, PRIORITIES, 0.3, 0.5), status, projectId, sprintId, versionId, columnIdsByStatus.get(status)});
+        }
+        batchInsert("INSERT INTO user_stories (title, description, priority, status, project_id, sprint_id, version_id, kanban_column_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", storyRows, batchSize);
+        increment(summary, "user_stories", storyRows.size());
+        List<Long> storyIds = jdbcTemplate.queryForList(
+                "SELECT id FROM user_stories WHERE project_id = ? ORDER BY id", Long.class, projectId);
+
+        // Assignations et tâches
+        List<Object[]> assigneeRows = new ArrayList<>();
+        List<Object[]> taskRows = new ArrayList<>();
+        List<Object[]> counterRows = new ArrayList<>();
+        for (Long storyId : storyIds) {
+            int assignees = Math.min(members.size(), random.nextInt(3));
+            Set<Long> assigned = new LinkedHashSet<>();
+            while (assigned.size() < assignees) {
+                assigned.add(members.get(random.nextInt(members.size())));
+            }
+            for (Long userId : assigned) {
+                assigneeRows.add(new Object[] {storyId, userId});
+            }
+
+            int taskCount = skewed(random, properties.getTasksPerStory());
+            int done = 0;
+            int inProgress = 0;
+            int assignedTasks = 0;
+            for (int t = 0; t < taskCount; t++) {
+                Long assignee = random.nextDouble() < 0.7 ? members.get(random.nextInt(members.size())) : null;
+                String status = weighted(random, TASK_STATUSES, 0.4, 0.25);
+                taskRows.add(new Object[] {"Tâche " + (t + 1), "Tâche générée", weighted(random, PRIORITIES, 0.3, 0.5),
+                        status, storyId, assignee});
+                done += "DONE".equals(status) ? 1 : 0;
+                inProgress += "IN_PROGRESS".equals(status) ? 1 : 0;
+                assignedTasks += assignee != null ? 1 : 0;
+            }
+            if (taskCount > 0) {
+                counterRows.add(new Object[] {taskCount, done, inProgress, assignedTasks, storyId});
+            }
+        }
+        batchInsert("INSERT INTO user_story_assignees (user_story_id, user_id) VALUES (?, ?)", assigneeRows, batchSize);
+        batchInsert("INSERT INTO tasks (title, description, priority, status, user_story_id, assigned_to_user_id) VALUES (?, ?, ?, ?, ?, ?)",
+                taskRows, batchSize);
+        // Les insertions JDBC contournent TaskService : les compteurs de tâches sont posés ici
+        batchInsert("UPDATE user_stories SET task_count = ?, done_task_count = ?, in_progress_task_count = ?, assigned_task_count = ? "
+                + "WHERE id = ?", counterRows, batchSize);
+        increment(summary, "user_story_assignees", assigneeRows.size());
+        increment(summary, "tasks", taskRows.size());
+
+        // Modèle de lecture des tableaux, que les insertions JDBC n'alimentent pas
+        increment(summary, "board_entries", boardEntryRepository.insertForProject(projectId));
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows, int batchSize) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + batchSize)));
+        }
+    }
+
+    /**
+     * Tire une valeur entière selon une loi log-normale de moyenne {@code mean}.
+     * Produit une longue traîne : la plupart des valeurs sont proches de la moyenne, quelques-unes très au-dessus.
+     */
+    static int skewed(Random random, int mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        double sigma = 0.75;
+        double value = mean * Math.exp(sigma * random.nextGaussian() - sigma * sigma / 2);
+        return (int) Math.round(value);
+    }
+
+    /**
+     * Tire un statut de User Story : la majorité dans les colonnes par défaut, le reste dans les colonnes personnalisées.
+     */
+    private static String pickStoryStatus(Random random, List<String> statuses) {
+        List<String> custom = statuses.stream().filter(s -> !List.of(DEFAULT_STATUSES).contains(s)).toList();
+        if (!custom.isEmpty() && random.nextDouble() < 0.15) {
+            return custom.get(random.nextInt(custom.size()));
+        }
+        return weighted(random, DEFAULT_STATUSES, 0.4, 0.25);
+    }
+
+    /**
+     * Tire l'une des trois valeurs avec les probabilités {@code first}, {@code second} et le complément.
+     */
+    private static String weighted(Random random, String[] values, double first, double second) {
+        double draw = random.nextDouble();
+        if (draw < first) {
+            return values[0];
+        }
+        return draw < first + second ? values[1] : values[2];
+    }
+
+    private static void increment(Map<String, Integer> summary, String table, int count) {
+        summary.merge(table, count, Integer::sum);
+    }
+
+    /**
+     * Supprime les projets générés et leurs dépendances, puis les utilisateurs générés.
+     *
+     * @param properties Les paramètres ayant servi à la génération (seul le préfixe est utilisé).
+     */
+    public void purge(SyntheticDataProperties properties) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> projectIds = jdbcTemplate.queryForList(
+                    "SELECT id FROM projects WHERE name LIKE ?", Long.class, properties.getPrefix() + "_project_%");
+            if (!projectIds.isEmpty()) {
+                MapSqlParameterSource params = new MapSqlParameterSource("ids", projectIds);
+                String stories = "SELECT id FROM user_stories WHERE project_id IN (:ids)";
+                namedJdbcTemplate.update("DELETE FROM board_entries WHERE project_id IN (:ids)", params);
+                namedJdbcTemplate.update("DELETE FROM tasks WHERE user_story_id IN (" + stories + ")", params);
+                namedJdbcTemplate.update("DELETE FROM user_story_assignees WHERE user_story_id IN (" + stories + ")", params);
+                namedJdbcTemplate.update("DELETE FROM user_stories WHERE project_id IN (:ids)", params);
+                namedJdbcTemplate.update("DELETE FROM versions WHERE project_id IN (:ids)", params);
+                namedJdbcTemplate.update("DELETE FROM sprints WHERE project_id IN (:ids)", params);
+                namedJdbcTemplate.update("DELETE FROM kanban_columns WHERE project_id IN (:ids)", params);
+                namedJdbcTemplate.update("DELETE FROM project_members WHERE project_id IN (:ids)", params);
+                namedJdbcTemplate.update("DELETE FROM projects WHERE id IN (:ids)", params);
+            }
+            jdbcTemplate.update("DELETE FROM users WHERE username LIKE ?", properties.getPrefix() + "_user_%");
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskforge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Paramètres du générateur de données synthétiques ({@code taskforge.seed.*}).
+ * Les valeurs sont des moyennes : chaque projet tire ses propres volumes autour de ces moyennes
+ * afin de reproduire la dispersion observée en production (quelques gros projets, beaucoup de petits).
+ */
+@Data
+@ConfigurationProperties(prefix = "taskforge.seed")
+public class SyntheticDataProperties {
+
+    /** Active la génération au démarrage de l'application. */
+    private boolean enabled = false;
+
+    /** Graine aléatoire, pour obtenir un jeu de données reproductible. */
+    private long randomSeed = 42L;
+
+    /** Préfixe des noms d'utilisateurs et de projets générés. */
+    private String prefix = "load";
+
+    /** Mot de passe commun à tous les utilisateurs générés (utilisé par le harnais de charge). */
+    private String password = "load_password";
+
+    /** Nombre d'utilisateurs à créer. */
+    private int users = 200;
+
+    /** Nombre de projets à créer. */
+    private int projects = 50;
+
+    /** Nombre moyen de membres par projet (propriétaire inclus). */
+    private int membersPerProject = 8;
+
+    /** Nombre moyen de User Stories par projet. */
+    private int storiesPerProject = 120;
+
+    /** Nombre moyen de tâches par User Story. */
+    private int tasksPerStory = 4;
+
+    /** Nombre de sprints par projet. */
+    private int sprintsPerProject = 6;
+
+    /** Nombre de versions par projet. */
+    private int versionsPerProject = 3;
+
+    /** Nombre de colonnes Kanban personnalisées ajoutées aux trois colonnes par défaut. */
+    private int customColumnsPerProject = 2;
+
+    /** Taille des lots JDBC utilisés pour les insertions. */
+    private int batchSize = 500;
+}
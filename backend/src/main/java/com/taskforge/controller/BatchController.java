@@ -0,0 +1,44 @@
+package com.taskforge.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.taskforge.batch.BatchExecutor;
+import com.taskforge.dto.BatchRequest;
+import com.taskforge.dto.BatchResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@RestController
+@RequestMapping("/api/batch")
+@Tag(name = "Lots", description = "API d'exécution de plusieurs opérations en une seule requête")
+public class BatchController {
+
+    @Autowired
+    private BatchExecutor batchExecutor;
+
+    @PostMapping
+    @Operation(summary = "Exécuter un lot d'opérations, dans l'ordre, de façon indépendante ou dans une seule transaction",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lot exécuté ; chaque opération porte son propre statut"),
+        @ApiResponse(responseCode = "400", description = "Lot vide, trop long ou opération invalide"),
+        @ApiResponse(responseCode = "401", description = "Non authentifié")
+    })
+    public ResponseEntity<BatchResponse> execute(
+            @RequestBody BatchRequest batch,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        return ResponseEntity.ok(batchExecutor.execute(batch, request, response));
+    }
+}
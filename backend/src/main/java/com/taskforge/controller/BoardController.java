@@ -0,0 +1,86 @@
+package com.taskforge.controller;
+
+import java.security.Principal;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.taskforge.dto.BoardColumn;
+import com.taskforge.dto.BoardStory;
+import com.taskforge.service.BoardService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/board")
+@Tag(name = "Tableaux", description = "API de lecture des tableaux et backlogs")
+public class BoardController {
+
+    @Autowired
+    private BoardService boardService;
+
+    @GetMapping("/project/{projectId}")
+    @Operation(summary = "Obtenir le tableau d'un projet", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tableau récupéré avec succès"),
+        @ApiResponse(responseCode = "401", description = "Non authentifié"),
+        @ApiResponse(responseCode = "404", description = "Projet non trouvé")
+    })
+    public ResponseEntity<List<BoardStory>> getProjectBoard(
+            @PathVariable Long projectId,
+            Principal principal) {
+        return ResponseEntity.ok(boardService.getProjectBoard(projectId, principal.getName()));
+    }
+
+    @GetMapping("/project/{projectId}/columns")
+    @Operation(summary = "Obtenir les colonnes Kanban du tableau d'un projet", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Colonnes récupérées avec succès"),
+        @ApiResponse(responseCode = "401", description = "Non authentifié"),
+        @ApiResponse(responseCode = "404", description = "Projet non trouvé")
+    })
+    public ResponseEntity<List<BoardColumn>> getColumns(
+            @PathVariable Long projectId,
+            Principal principal) {
+        return ResponseEntity.ok(boardService.getColumns(projectId, principal.getName()));
+    }
+
+    @GetMapping("/project/{projectId}/backlog")
+    @Operation(summary = "Obtenir le backlog priorisé d'un projet (user stories sans sprint), éventuellement par page", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Backlog récupéré avec succès"),
+        @ApiResponse(responseCode = "400", description = "Page invalide"),
+        @ApiResponse(responseCode = "401", description = "Non authentifié"),
+        @ApiResponse(responseCode = "404", description = "Projet non trouvé")
+    })
+    public ResponseEntity<List<BoardStory>> getBacklog(
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size,
+            Principal principal) {
+        return ResponseEntity.ok(boardService.getBacklog(projectId, page, size, principal.getName()));
+    }
+
+    @GetMapping("/sprint/{sprintId}")
+    @Operation(summary = "Obtenir le tableau d'un sprint", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tableau du sprint récupéré avec succès"),
+        @ApiResponse(responseCode = "401", description = "Non authentifié"),
+        @ApiResponse(responseCode = "404", description = "Sprint non trouvé")
+    })
+    public ResponseEntity<List<BoardStory>> getSprintBoard(
+            @PathVariable Long sprintId,
+            Principal principal) {
+        return ResponseEntity.ok(boardService.getSprintBoard(sprintId, principal.getName()));
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.taskforge.dto.CreateKanbanColumnRequest;
+import com.taskforge.dto.MoveKanbanColumnRequest;
 import com.taskforge.models.KanbanColumn;
 import com.taskforge.service.KanbanColumnService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,7 +26,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 
 /**
  * Contrôleur REST pour la gestion des colonnes Kanban.
- * Permet de créer, récupérer, mettre à jour et supprimer des colonnes personnalisées.
+ * Permet de créer, récupérer, mettre à jour, déplacer et supprimer des colonnes personnalisées.
  */
 @RestController
 @RequestMapping("/api/kanban-columns")
@@ -65,7 +66,7 @@ public class KanbanColumnController {
      *
      * @param projectId L'identifiant du projet.
      * @param principal L'utilisateur authentifié.
-     * @return La liste des colonnes triées par ordre.
+     * @return La liste des colonnes triées par rang.
      */
     @Operation(summary = "Récupérer les colonnes Kanban d'un projet")
     @ApiResponses(value = {
@@ -110,6 +111,33 @@ public class KanbanColumnController {
         return ResponseEntity.ok(column);
     }
     
+    /**
+     * Déplace une colonne Kanban entre deux colonnes voisines.
+     *
+     * @param columnId  L'identifiant de la colonne.
+     * @param request   Les voisines de la colonne à sa nouvelle place.
+     * @param principal L'utilisateur authentifié.
+     * @return La colonne déplacée.
+     */
+    @Operation(summary = "Déplacer une colonne Kanban")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Colonne Kanban déplacée avec succès"),
+        @ApiResponse(responseCode = "400", description = "Voisines invalides ou tableau périmé"),
+        @ApiResponse(responseCode = "403", description = "Accès refusé"),
+        @ApiResponse(responseCode = "404", description = "Colonne non trouvée")
+    })
+    @PutMapping("/{columnId}/move")
+    public ResponseEntity<KanbanColumn> moveKanbanColumn(
+            @PathVariable Long columnId,
+            @RequestBody MoveKanbanColumnRequest request,
+            Principal principal) {
+        if (principal == null) {
+            return ResponseEntity.status(403).build();
+        }
+        KanbanColumn column = kanbanColumnService.moveKanbanColumn(columnId, request, principal.getName());
+        return ResponseEntity.ok(column);
+    }
+    
     /**
      * Supprime une colonne Kanban personnalisée.
      *
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.taskforge.dto.CreateProjectRequest;
+import com.taskforge.dto.ProjectSummary;
 import com.taskforge.models.Project;
 import com.taskforge.service.ProjectService;
 
@@ -107,10 +108,10 @@ public class ProjectController {
     }
 
     /**
-     * Récupère tous les projets associés à l'utilisateur connecté.
+     * Récupère le résumé de tous les projets associés à l'utilisateur connecté.
      *
      * @param principal L'utilisateur authentifié.
-     * @return Une liste de projets.
+     * @return Une liste de résumés de projets (rôle de l'utilisateur, nombre de membres et de User Stories).
      */
     @Operation(summary = "Récupérer tous les projets de l'utilisateur", description="Récupère tous les projets associés à l'utilisateur authentifié.")
     @ApiResponses(value = {
@@ -118,11 +119,11 @@ public class ProjectController {
         @ApiResponse(responseCode = "403", description = "Accès refusé")
     })
     @GetMapping("/myprojects")
-    public ResponseEntity<List<Project>> getMyProjects(Principal principal) {
+    public ResponseEntity<List<ProjectSummary>> getMyProjects(Principal principal) {
         if(principal == null) {
             return ResponseEntity.status(403).build(); // Forbidden
         }
-        List<Project> projects = projectService.getProjectsByUsername(principal.getName());
+        List<ProjectSummary> projects = projectService.getProjectSummaries(principal.getName());
         return ResponseEntity.ok(projects);
     }
 
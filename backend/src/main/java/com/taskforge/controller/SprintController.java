@@ -14,6 +14,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.taskforge.dto.BulkUpdateResponse;
+import com.taskforge.dto.BulkUserStoriesRequest;
 import com.taskforge.dto.CreateSprintRequest;
 import com.taskforge.dto.SprintResponse;
 import com.taskforge.models.Sprint;
@@ -121,6 +123,37 @@ public class SprintController {
         return ResponseEntity.ok(userStory);
     }
     
+    @PostMapping("/{sprintId}/user-stories")
+    @Operation(summary = "Assigner plusieurs user stories à un sprint", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "User stories assignées avec succès"),
+        @ApiResponse(responseCode = "400", description = "User story inexistante ou d'un autre projet : aucune n'est assignée"),
+        @ApiResponse(responseCode = "401", description = "Non authentifié"),
+        @ApiResponse(responseCode = "404", description = "Sprint non trouvé")
+    })
+    public ResponseEntity<BulkUpdateResponse> assignUserStoriesToSprint(
+            @PathVariable Long sprintId,
+            @RequestBody BulkUserStoriesRequest request,
+            Principal principal) {
+        int updated = sprintService.assignUserStoriesToSprint(sprintId, request.getUserStoryIds(), principal.getName());
+        return ResponseEntity.ok(BulkUpdateResponse.builder().updated(updated).build());
+    }
+    
+    @DeleteMapping("/{sprintId}/user-stories")
+    @Operation(summary = "Retirer plusieurs user stories d'un sprint (retour au backlog)", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "User stories retirées du sprint avec succès"),
+        @ApiResponse(responseCode = "401", description = "Non authentifié"),
+        @ApiResponse(responseCode = "404", description = "Sprint non trouvé")
+    })
+    public ResponseEntity<BulkUpdateResponse> removeUserStoriesFromSprint(
+            @PathVariable Long sprintId,
+            @RequestBody BulkUserStoriesRequest request,
+            Principal principal) {
+        int updated = sprintService.removeUserStoriesFromSprint(sprintId, request.getUserStoryIds(), principal.getName());
+        return ResponseEntity.ok(BulkUpdateResponse.builder().updated(updated).build());
+    }
+    
     @DeleteMapping("/user-stories/{userStoryId}/sprint")
     @Operation(summary = "Retirer une user story d'un sprint (retour au backlog)", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
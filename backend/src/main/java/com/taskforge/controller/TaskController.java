@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.taskforge.dto.CreateTaskRequest;
+import com.taskforge.dto.UpdateTaskRequest;
 import com.taskforge.exceptions.DuplicateTaskTitleException;
 import com.taskforge.exceptions.TaskNotFoundException;
 import com.taskforge.models.Task;
@@ -135,6 +136,52 @@ public class TaskController {
         }
     }
     
+    /**
+     * Crée plusieurs tâches dans une seule transaction.
+     *
+     * @param requests       Les tâches à créer, éventuellement dans des User Stories différentes.
+     * @param authentication L'authentification de l'utilisateur courant.
+     * @return Les tâches créées avec le statut 201 (Created), ou une erreur 400 (Bad Request) : aucune n'est alors créée.
+     */
+    @Operation(summary = "Créer plusieurs tâches")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Tâches créées avec succès"),
+        @ApiResponse(responseCode = "400", description = "Requête invalide")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createTasks(@RequestBody List<CreateTaskRequest> requests, Authentication authentication) {
+        try {
+            List<Task> tasks = taskService.createTasks(requests, authentication.getName());
+            return ResponseEntity.status(HttpStatus.CREATED).body(tasks);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    /**
+     * Met à jour plusieurs tâches dans une seule transaction.
+     *
+     * @param requests       Les modifications, chacune portant l'identifiant de sa tâche.
+     * @param authentication L'authentification de l'utilisateur courant.
+     * @return Les tâches mises à jour, ou une erreur 400 (Bad Request) : aucune n'est alors modifiée.
+     */
+    @Operation(summary = "Mettre à jour plusieurs tâches")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tâches mises à jour avec succès"),
+        @ApiResponse(responseCode = "400", description = "Requête invalide")
+    })
+    @PutMapping("/bulk")
+    public ResponseEntity<?> updateTasks(@RequestBody List<UpdateTaskRequest> requests, Authentication authentication) {
+        try {
+            List<Task> tasks = taskService.updateTasks(requests, authentication.getName());
+            return ResponseEntity.ok(tasks);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
     /**
      * Supprime une tâche.
      *
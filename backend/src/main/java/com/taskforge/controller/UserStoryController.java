@@ -14,9 +14,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.taskforge.dto.BulkUpdateResponse;
+import com.taskforge.dto.BulkUserStoriesRequest;
+import com.taskforge.dto.BulkUserStoryStatusRequest;
 import com.taskforge.dto.CreateUserStoryRequest;
+import com.taskforge.dto.MoveInBacklogRequest;
+import com.taskforge.dto.MoveUserStoryRequest;
 import com.taskforge.dto.UpdateUserStoryStatusRequest;
 import com.taskforge.models.UserStory;
+import com.taskforge.service.StatusWriteCoalescer;
 import com.taskforge.service.UserStoryService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -38,6 +44,9 @@ public class UserStoryController {
     
     @Autowired
     private UserStoryService userStoryService;
+
+    @Autowired
+    private StatusWriteCoalescer statusWriteCoalescer;
     
     /**
      * Crée une nouvelle User Story.
@@ -158,15 +167,18 @@ public class UserStoryController {
     
     /**
      * Met à jour uniquement le statut d'une User Story (drag & drop).
+     * Avec le regroupement des changements de statut ({@code taskforge.status-coalescing.enabled}), le statut est
+     * accepté (202) et enregistré à la fin de la fenêtre de regroupement.
      *
      * @param userStoryId L'identifiant de la User Story.
      * @param request     Le nouveau statut.
      * @param principal   L'utilisateur authentifié.
-     * @return La User Story avec le statut mis à jour.
+     * @return La User Story avec le statut mis à jour, ou telle qu'elle sera enregistrée.
      */
     @Operation(summary = "Mettre à jour le statut d'une User Story")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Statut de la User Story mis à jour avec succès"),
+        @ApiResponse(responseCode = "202", description = "Statut accepté, enregistré à la fin de la fenêtre de regroupement"),
         @ApiResponse(responseCode = "403", description = "Non autorisé")
     })
     @PutMapping("/{userStoryId}/status")
@@ -177,7 +189,116 @@ public class UserStoryController {
         if (principal == null) {
             return ResponseEntity.status(403).build();
         }
+        if (statusWriteCoalescer.isEnabled()) {
+            return ResponseEntity.accepted()
+                    .body(userStoryService.submitUserStoryStatus(userStoryId, request.getStatus(), principal.getName()));
+        }
         UserStory userStory = userStoryService.updateUserStoryStatus(userStoryId, request.getStatus(), principal.getName());
         return ResponseEntity.ok(userStory);
     }
-}
\ No newline at end of file
+
+    /**
+     * Met à jour le statut de plusieurs User Stories en une seule requête.
+     *
+     * @param request   Les User Stories et leur nouveau statut.
+     * @param principal L'utilisateur authentifié.
+     * @return Le nombre de User Stories mises à jour.
+     */
+    @Operation(summary = "Mettre à jour le statut de plusieurs User Stories")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statuts des User Stories mis à jour avec succès"),
+        @ApiResponse(responseCode = "403", description = "Non autorisé"),
+        @ApiResponse(responseCode = "404", description = "User Story non trouvée : aucune n'est modifiée")
+    })
+    @PutMapping("/status")
+    public ResponseEntity<BulkUpdateResponse> updateUserStoriesStatus(
+            @RequestBody BulkUserStoryStatusRequest request,
+            Principal principal) {
+        if (principal == null) {
+            return ResponseEntity.status(403).build();
+        }
+        int updated = userStoryService.updateUserStoriesStatus(request.getUserStoryIds(), request.getStatus(), principal.getName());
+        return ResponseEntity.ok(BulkUpdateResponse.builder().updated(updated).build());
+    }
+
+    /**
+     * Déplace une User Story sur le tableau : colonne Kanban et place parmi ses voisines.
+     *
+     * @param userStoryId L'identifiant de la User Story.
+     * @param request     La colonne et les voisines de destination.
+     * @param principal   L'utilisateur authentifié.
+     * @return La User Story déplacée.
+     */
+    @Operation(summary = "Déplacer une User Story sur le tableau")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "User Story déplacée avec succès"),
+        @ApiResponse(responseCode = "400", description = "Colonne ou voisines invalides, ou tableau périmé"),
+        @ApiResponse(responseCode = "403", description = "Non autorisé"),
+        @ApiResponse(responseCode = "404", description = "User Story non trouvée")
+    })
+    @PutMapping("/{userStoryId}/move")
+    public ResponseEntity<UserStory> moveUserStory(
+            @PathVariable Long userStoryId,
+            @RequestBody MoveUserStoryRequest request,
+            Principal principal) {
+        if (principal == null) {
+            return ResponseEntity.status(403).build();
+        }
+        UserStory userStory = userStoryService.moveUserStory(userStoryId, request, principal.getName());
+        return ResponseEntity.ok(userStory);
+    }
+
+    /**
+     * Change la priorité d'une User Story dans le backlog : place parmi ses voisines.
+     *
+     * @param userStoryId L'identifiant de la User Story.
+     * @param request     Les voisines de destination.
+     * @param principal   L'utilisateur authentifié.
+     * @return La User Story déplacée.
+     */
+    @Operation(summary = "Déplacer une User Story dans le backlog priorisé")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "User Story déplacée avec succès"),
+        @ApiResponse(responseCode = "400", description = "Voisines invalides, ou backlog périmé"),
+        @ApiResponse(responseCode = "403", description = "Non autorisé"),
+        @ApiResponse(responseCode = "404", description = "User Story non trouvée")
+    })
+    @PutMapping("/{userStoryId}/backlog-position")
+    public ResponseEntity<UserStory> moveInBacklog(
+            @PathVariable Long userStoryId,
+            @RequestBody MoveInBacklogRequest request,
+            Principal principal) {
+        if (principal == null) {
+            return ResponseEntity.status(403).build();
+        }
+        UserStory userStory = userStoryService.moveInBacklog(userStoryId, request, principal.getName());
+        return ResponseEntity.ok(userStory);
+    }
+
+    /**
+     * Réordonne le backlog d'un projet en une seule requête (import) : les User Stories indiquées passent en tête.
+     *
+     * @param projectId L'identifiant du projet.
+     * @param request   Les User Stories, de la plus prioritaire à la moins prioritaire.
+     * @param principal L'utilisateur authentifié.
+     * @return Le nombre de User Stories placées en tête.
+     */
+    @Operation(summary = "Réordonner le backlog d'un projet")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Backlog réordonné avec succès"),
+        @ApiResponse(responseCode = "400", description = "User Story d'un autre projet : aucune n'est modifiée"),
+        @ApiResponse(responseCode = "403", description = "Non autorisé"),
+        @ApiResponse(responseCode = "404", description = "Projet non trouvé")
+    })
+    @PutMapping("/project/{projectId}/backlog-order")
+    public ResponseEntity<BulkUpdateResponse> reorderBacklog(
+            @PathVariable Long projectId,
+            @RequestBody BulkUserStoriesRequest request,
+            Principal principal) {
+        if (principal == null) {
+            return ResponseEntity.status(403).build();
+        }
+        int updated = userStoryService.reorderBacklog(projectId, request.getUserStoryIds(), principal.getName());
+        return ResponseEntity.ok(BulkUpdateResponse.builder().updated(updated).build());
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskforge.controller;
 
+import java.security.Principal;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
@@ -14,6 +15,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.taskforge.dto.BulkUpdateResponse;
+import com.taskforge.dto.BulkUserStoriesRequest;
 import com.taskforge.dto.CreateVersionRequest;
 import com.taskforge.models.UserStory;
 import com.taskforge.models.Version;
@@ -89,6 +92,26 @@ public class VersionController {
         return ResponseEntity.ok(versionService.removeUserStoryFromVersion(userStoryId));
     }
 
+    @PostMapping("/{versionId}/user-stories")
+    @Operation(summary = "Associer plusieurs User Stories à une version")
+    public ResponseEntity<BulkUpdateResponse> assignUserStoriesToVersion(
+            @PathVariable Long versionId,
+            @RequestBody BulkUserStoriesRequest request,
+            Principal principal) {
+        int updated = versionService.assignUserStoriesToVersion(versionId, request.getUserStoryIds(), principal.getName());
+        return ResponseEntity.ok(BulkUpdateResponse.builder().updated(updated).build());
+    }
+
+    @DeleteMapping("/{versionId}/user-stories")
+    @Operation(summary = "Retirer plusieurs User Stories d'une version")
+    public ResponseEntity<BulkUpdateResponse> removeUserStoriesFromVersion(
+            @PathVariable Long versionId,
+            @RequestBody BulkUserStoriesRequest request,
+            Principal principal) {
+        int updated = versionService.removeUserStoriesFromVersion(versionId, request.getUserStoryIds(), principal.getName());
+        return ResponseEntity.ok(BulkUpdateResponse.builder().updated(updated).build());
+    }
+
     @GetMapping("/{versionId}/user-stories")
     @Operation(summary = "Obtenir les User Stories d'une version")
     public ResponseEntity<List<UserStory>> getUserStoriesByVersion(@PathVariable Long versionId) {
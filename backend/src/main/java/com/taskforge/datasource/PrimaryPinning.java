@@ -0,0 +1,64 @@
+package com.taskforge.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mémorise les utilisateurs qui viennent d'écrire afin de servir leurs lectures depuis la base principale
+ * pendant une courte fenêtre (lecture de ses propres écritures).
+ * L'état est local à l'instance : derrière plusieurs instances du backend, la fenêtre doit couvrir
+ * le retard de réplication ou les requêtes d'un utilisateur doivent rester sur la même instance.
+ */
+public class PrimaryPinning {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Duration window;
+    private final Clock clock;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    /**
+     * @param window La durée de la fenêtre après chaque écriture.
+     * @param clock  L'horloge utilisée pour dater les écritures.
+     */
+    public PrimaryPinning(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    /**
+     * Épingle un utilisateur sur la base principale à partir de maintenant.
+     *
+     * @param username Le nom de l'utilisateur qui vient d'écrire.
+     */
+    public void pin(String username) {
+        long now = clock.millis();
+        if (pinnedUntil.size() > PURGE_THRESHOLD) {
+            pinnedUntil.values().removeIf(until -> until <= now);
+        }
+        pinnedUntil.put(username, now + window.toMillis());
+    }
+
+    /**
+     * Indique si les lectures d'un utilisateur doivent encore aller sur la base principale.
+     *
+     * @param username Le nom de l'utilisateur, ou null pour une requête anonyme.
+     * @return true si l'utilisateur a écrit pendant la fenêtre.
+     */
+    public boolean isPinned(String username) {
+        if (username == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(username);
+        if (until == null) {
+            return false;
+        }
+        if (until <= clock.millis()) {
+            pinnedUntil.remove(username, until);
+            return false;
+        }
+        return true;
+    }
+}
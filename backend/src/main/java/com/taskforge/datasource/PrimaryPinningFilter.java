@@ -0,0 +1,50 @@
+package com.taskforge.datasource;
+
+import java.io.IOException;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Épingle l'utilisateur authentifié sur la base principale après chaque requête d'écriture réussie
+ * (POST, PUT, PATCH, DELETE), pour que ses lectures suivantes voient ses modifications.
+ * Placé après la chaîne de sécurité afin de connaître l'utilisateur.
+ */
+public class PrimaryPinningFilter extends OncePerRequestFilter {
+
+    private final PrimaryPinning pinning;
+
+    public PrimaryPinningFilter(PrimaryPinning pinning) {
+        this.pinning = pinning;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (response.getStatus() < 400 && authentication != null
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                pinning.pin(authentication.getName());
+            }
+        }
+    }
+
+    /**
+     * Les lectures ne déplacent pas la fenêtre d'épinglage.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskforge.datasource;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Paramètres du réplica en lecture ({@code taskforge.datasource.replica.*}).
+ * Le routage n'est activé que si {@code url} est renseignée ; le pool se règle avec
+ * {@code taskforge.datasource.replica.hikari.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "taskforge.datasource.replica")
+public class ReplicaProperties {
+
+    /** URL JDBC du réplica. */
+    private String url;
+
+    /** Utilisateur du réplica ; celui de la base principale s'il est absent. */
+    private String username;
+
+    /** Mot de passe du réplica ; celui de la base principale s'il est absent. */
+    private String password;
+
+    /** Pilote JDBC ; déduit de l'URL s'il est absent. */
+    private String driverClassName;
+
+    /**
+     * Durée pendant laquelle les lectures d'un utilisateur restent sur la base principale après
+     * l'une de ses écritures, pour qu'il relise ses propres modifications malgré le retard de réplication.
+     */
+    private Duration pinWindow = Duration.ofSeconds(5);
+}
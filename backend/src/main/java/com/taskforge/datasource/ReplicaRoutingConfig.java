@@ -0,0 +1,127 @@
+package com.taskforge.datasource;
+
+import java.time.Clock;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Routage des transactions en lecture seule vers un réplica PostgreSQL.
+ * Actif uniquement si {@code taskforge.datasource.replica.url} est renseignée ; sinon Spring Boot crée
+ * la source de données habituelle et tout passe par la base principale.
+ *
+ * <p>La source de données de l'application est un {@link LazyConnectionDataSourceProxy} : la connexion
+ * physique n'est obtenue qu'à la première requête SQL, une fois la transaction marquée en lecture seule.
+ * {@link ReplicaRoutingDataSource} envoie alors les transactions {@code @Transactional(readOnly = true)}
+ * vers le réplica et toutes les autres vers la base principale.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(prefix = "taskforge.datasource.replica", name = "url")
+public class ReplicaRoutingConfig {
+
+    /**
+     * Pool de la base principale, configuré par {@code spring.datasource.*}.
+     *
+     * @param properties Les paramètres {@code spring.datasource}.
+     * @return Le pool Hikari de la base principale.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Pool du réplica ; identifiants de la base principale par défaut.
+     *
+     * @param replica    Les paramètres du réplica.
+     * @param properties Les paramètres {@code spring.datasource}.
+     * @return Le pool Hikari du réplica.
+     */
+    @Bean
+    @ConfigurationProperties("taskforge.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaProperties replica, DataSourceProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername() != null ? replica.getUsername() : properties.determineUsername())
+                .password(replica.getPassword() != null ? replica.getPassword() : properties.determinePassword())
+                .driverClassName(replica.getDriverClassName())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * @param replica Les paramètres du réplica.
+     * @return Les utilisateurs épinglés sur la base principale.
+     */
+    @Bean
+    public PrimaryPinning primaryPinning(ReplicaProperties replica) {
+        return new PrimaryPinning(replica.getPinWindow(), Clock.systemUTC());
+    }
+
+    /**
+     * Source de données utilisée par JPA et JDBC.
+     *
+     * @param primary  Le pool de la base principale.
+     * @param replica  Le pool du réplica.
+     * @param pinning  Les utilisateurs épinglés sur la base principale.
+     * @param registry Le registre Micrometer.
+     * @return Le proxy qui choisit la cible à la première requête SQL.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica, PrimaryPinning pinning, MeterRegistry registry) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, pinning, registry));
+    }
+
+    /**
+     * Rend la connexion au pool à la fin de chaque transaction. Sans cela, la session ouverte pour toute
+     * la requête HTTP (open-in-view) garderait la connexion obtenue par la première transaction : le choix
+     * de la cible ne serait fait qu'une fois par requête.
+     *
+     * @return La personnalisation des propriétés Hibernate.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    /**
+     * Enregistre le filtre d'épinglage après la chaîne de sécurité.
+     *
+     * @param pinning Les utilisateurs épinglés sur la base principale.
+     * @return L'enregistrement du filtre.
+     */
+    @Bean
+    public FilterRegistrationBean<PrimaryPinningFilter> primaryPinningFilter(PrimaryPinning pinning) {
+        FilterRegistrationBean<PrimaryPinningFilter> registration = new FilterRegistrationBean<>(new PrimaryPinningFilter(pinning));
+        registration.setOrder(0);
+        return registration;
+    }
+}
@@ -0,0 +1,86 @@
+package com.taskforge.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Source de données qui choisit la base principale ou le réplica au moment où la connexion physique est obtenue.
+ * Les transactions en lecture seule vont vers le réplica, sauf pendant une requête d'écriture (une lecture suivie
+ * d'une modification ne doit pas partir d'un état en retard) et pour un utilisateur épinglé sur la base principale
+ * après l'une de ses écritures. Tout le reste va vers la base principale.
+ * Le nombre de transactions en lecture seule servies par chaque cible est publié dans
+ * {@code taskforge.datasource.read.routing{target}}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String ROUTING_METRIC = "taskforge.datasource.read.routing";
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final PrimaryPinning pinning;
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+
+    /**
+     * @param primary  La base principale.
+     * @param replica  Le réplica en lecture.
+     * @param pinning  Les utilisateurs épinglés sur la base principale.
+     * @param registry Le registre Micrometer.
+     */
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, PrimaryPinning pinning, MeterRegistry registry) {
+        this.pinning = pinning;
+        this.primaryReads = counter(registry, PRIMARY);
+        this.replicaReads = counter(registry, REPLICA);
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        if (isWriteRequest() || pinning.isPinned(currentUsername())) {
+            primaryReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return REPLICA;
+    }
+
+    private static boolean isWriteRequest() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            String method = attributes.getRequest().getMethod();
+            return !"GET".equals(method) && !"HEAD".equals(method);
+        }
+        return false;
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static Counter counter(MeterRegistry registry, String target) {
+        return Counter.builder(ROUTING_METRIC)
+                .description("Connexions en lecture seule par cible (réplica, ou base principale pour un utilisateur épinglé)")
+                .tag("target", target)
+                .register(registry);
+    }
+}
@@ -0,0 +1,27 @@
+package com.taskforge.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Opération d'un lot : un appel à un endpoint de l'API.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOperation {
+    @Schema(description = "Méthode HTTP", example = "PUT")
+    private String method;
+
+    @Schema(description = "Chemin de l'endpoint, paramètres de requête compris", example = "/api/user-stories/12/status")
+    private String path;
+
+    @Schema(description = "Corps JSON de la requête, s'il y en a un", example = "{\"status\": \"DONE\"}")
+    private JsonNode body;
+}
@@ -0,0 +1,25 @@
+package com.taskforge.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lot d'opérations exécutées dans l'ordre par une seule requête HTTP.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequest {
+    @Schema(description = "Exécute toutes les opérations dans une seule transaction : la première en échec annule le lot",
+            example = "false")
+    private boolean atomic;
+
+    @Schema(description = "Opérations à exécuter, dans l'ordre")
+    private List<BatchOperation> operations;
+}
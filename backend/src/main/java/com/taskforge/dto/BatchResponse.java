@@ -0,0 +1,25 @@
+package com.taskforge.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Réponse à un lot : un résultat par opération, dans l'ordre de la requête.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse {
+    @Schema(description = "Faux si le lot atomique a été annulé : aucune de ses écritures n'a été conservée",
+            example = "true")
+    private boolean committed;
+
+    @Schema(description = "Résultats des opérations, dans l'ordre de la requête")
+    private List<BatchResult> results;
+}
@@ -0,0 +1,25 @@
+package com.taskforge.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Résultat d'une opération d'un lot : la réponse que l'endpoint aurait renvoyée seul.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResult {
+    @Schema(description = "Statut HTTP de l'opération ; 424 si elle n'a pas été exécutée après un échec du lot atomique",
+            example = "200")
+    private int status;
+
+    @Schema(description = "Corps JSON de la réponse de l'opération")
+    private JsonNode body;
+}
@@ -0,0 +1,40 @@
+package com.taskforge.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Colonne Kanban telle qu'affichée par un tableau : le projet est réduit à son identifiant.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardColumn {
+    @Schema(description = "Identifiant de la colonne Kanban", example = "1")
+    private Long id;
+
+    @Schema(description = "Nom de la colonne Kanban", example = "À faire")
+    private String name;
+
+    @Schema(description = "Statut associé à la colonne Kanban", example = "TODO")
+    private String status;
+
+    @Schema(description = "Ordre de la colonne Kanban dans le tableau", example = "1")
+    private Integer order;
+
+    @Schema(description = "Rang de la colonne Kanban : les colonnes s'affichent par rang croissant", example = "i")
+    private String rank;
+
+    @Schema(description = "Identifiant du projet", example = "1")
+    private Long projectId;
+
+    @Schema(description = "Indique si la colonne Kanban est une colonne par défaut", example = "false")
+    private Boolean isDefault;
+
+    @Schema(description = "Nombre maximal de User Stories dans la colonne (limite WIP), absent pour aucune limite", example = "5")
+    private Integer wipLimit;
+}
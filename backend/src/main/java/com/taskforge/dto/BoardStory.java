@@ -0,0 +1,80 @@
+package com.taskforge.dto;
+
+import java.util.List;
+
+import com.taskforge.models.UserStory.Priority;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * User Story telle qu'affichée par un tableau ou un backlog, lue depuis le modèle de lecture.
+ * Reprend la forme de l'entité {@code UserStory} pour les champs affichés : sprint, version et colonne
+ * réduits à leur identifiant et leur nom, assignés réduits à leur nom d'utilisateur, tâches remplacées
+ * par leurs compteurs.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardStory {
+    @Schema(description = "ID de la User Story", example = "1")
+    private Long id;
+
+    @Schema(description = "Titre de la User Story", example = "En tant qu'utilisateur, je veux pouvoir m'authentifier")
+    private String title;
+
+    @Schema(description = "Description de la User Story")
+    private String description;
+
+    @Schema(description = "Priorité de la User Story", example = "HIGH")
+    private Priority priority;
+
+    @Schema(description = "Statut de la User Story", example = "TODO")
+    private String status;
+
+    @Schema(description = "Rang de la User Story dans sa colonne Kanban", example = "i")
+    private String rank;
+
+    @Schema(description = "Rang de la User Story dans le backlog du projet", example = "i")
+    private String backlogRank;
+
+    @Schema(description = "Sprint de la User Story, absent si elle est dans le backlog")
+    private SprintRef sprint;
+
+    @Schema(description = "Version de la User Story")
+    private VersionRef version;
+
+    @Schema(description = "Colonne Kanban de la User Story")
+    private ColumnRef kanbanColumn;
+
+    @Schema(description = "Utilisateurs assignés")
+    private List<Assignee> assignedTo;
+
+    @Schema(description = "Nombre de tâches", example = "5")
+    private int taskCount;
+
+    @Schema(description = "Nombre de tâches terminées", example = "2")
+    private int doneTaskCount;
+
+    @Schema(description = "Nombre de tâches en cours", example = "1")
+    private int inProgressTaskCount;
+
+    @Schema(description = "Nombre de tâches assignées à un utilisateur", example = "4")
+    private int assignedTaskCount;
+
+    public record SprintRef(Long id, String name) {
+    }
+
+    public record VersionRef(Long id, String title, String versionNumber) {
+    }
+
+    public record ColumnRef(Long id, String name) {
+    }
+
+    public record Assignee(String username) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskforge.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Résultat d'une modification groupée de User Stories.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateResponse {
+    @Schema(description = "Nombre de User Stories modifiées", example = "30")
+    private int updated;
+}
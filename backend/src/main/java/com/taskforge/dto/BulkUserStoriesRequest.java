@@ -0,0 +1,21 @@
+package com.taskforge.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ensemble de User Stories à associer à un sprint ou une version, ou à en retirer, en une seule requête.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserStoriesRequest {
+    @Schema(description = "Identifiants des User Stories concernées", example = "[1, 2, 3]")
+    private List<Long> userStoryIds;
+}
@@ -0,0 +1,24 @@
+package com.taskforge.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Nouveau statut à appliquer à plusieurs User Stories, éventuellement de projets différents.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserStoryStatusRequest {
+    @Schema(description = "Identifiants des User Stories concernées", example = "[1, 2, 3]")
+    private List<Long> userStoryIds;
+
+    @Schema(description = "Nouveau statut, qui détermine aussi la colonne Kanban de chaque projet", example = "IN_PROGRESS")
+    private String status;
+}
@@ -7,5 +7,6 @@ public class CreateKanbanColumnRequest {
     private String name;
     private String status;
     private Integer order;
+    private Integer wipLimit;
     private Long projectId;
 }
@@ -0,0 +1,23 @@
+package com.taskforge.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Nouvelle place d'une User Story dans le backlog priorisé du projet, donnée par ses voisines.
+ * Sans voisine, la User Story passe en dernier ; avec une seule, l'autre est celle qui la suit ou la précède.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveInBacklogRequest {
+    @Schema(description = "User Story qui précédera la User Story déplacée (plus prioritaire)", example = "4")
+    private Long afterId;
+
+    @Schema(description = "User Story qui suivra la User Story déplacée (moins prioritaire)", example = "7")
+    private Long beforeId;
+}
@@ -0,0 +1,23 @@
+package com.taskforge.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Nouvelle place d'une colonne Kanban, donnée par ses voisines dans l'ordre affiché.
+ * Sans voisine, la colonne passe en dernier ; avec une seule, l'autre est celle qui la suit ou la précède.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveKanbanColumnRequest {
+    @Schema(description = "Colonne qui précédera la colonne déplacée", example = "1")
+    private Long afterId;
+
+    @Schema(description = "Colonne qui suivra la colonne déplacée", example = "2")
+    private Long beforeId;
+}
@@ -0,0 +1,26 @@
+package com.taskforge.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Nouvelle place d'une User Story sur le tableau : sa colonne Kanban et ses voisines dans cette colonne.
+ * Sans voisine, la User Story passe en dernier ; avec une seule, l'autre est celle qui la suit ou la précède.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveUserStoryRequest {
+    @Schema(description = "Colonne Kanban de destination, absente pour rester dans la colonne courante", example = "2")
+    private Long kanbanColumnId;
+
+    @Schema(description = "User Story qui précédera la User Story déplacée", example = "4")
+    private Long afterId;
+
+    @Schema(description = "User Story qui suivra la User Story déplacée", example = "7")
+    private Long beforeId;
+}
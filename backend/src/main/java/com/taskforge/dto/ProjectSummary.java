@@ -0,0 +1,47 @@
+package com.taskforge.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Résumé d'un projet pour la liste « Mes projets ».
+ * Construit directement par la requête JPQL, sans charger les entités ni leurs membres.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSummary {
+    @Schema(description = "ID du projet", example = "1")
+    private Long id;
+
+    @Schema(description = "Nom du projet", example = "Projet Alpha")
+    private String name;
+
+    @Schema(description = "Description du projet", example = "Ce projet concerne le développement de l'application Alpha.")
+    private String description;
+
+    @Schema(description = "Rôle de l'utilisateur dans le projet", example = "OWNER")
+    private Role role;
+
+    @Schema(description = "Nombre de membres du projet, propriétaire compris", example = "4")
+    private long memberCount;
+
+    @Schema(description = "Nombre de User Stories du projet", example = "25")
+    private long userStoryCount;
+
+    @Schema(description = "Rôle de l'utilisateur dans le projet", example = "OWNER")
+    public enum Role {
+        OWNER, MEMBER
+    }
+
+    /**
+     * Constructeur utilisé par l'expression {@code SELECT new} de la requête JPQL.
+     */
+    public ProjectSummary(Long id, String name, String description, boolean owner, long memberCount, long userStoryCount) {
+        this(id, name, description, owner ? Role.OWNER : Role.MEMBER, memberCount, userStoryCount);
+    }
+}
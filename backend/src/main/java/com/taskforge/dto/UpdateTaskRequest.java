@@ -0,0 +1,14 @@
+package com.taskforge.dto;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Modification d'une tâche dans une mise à jour groupée : les champs de {@link CreateTaskRequest}
+ * et l'identifiant de la tâche ({@code userStoryId} est ignoré, une tâche ne change pas de User Story).
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class UpdateTaskRequest extends CreateTaskRequest {
+    private Long taskId;
+}
@@ -0,0 +1,12 @@
+package com.taskforge.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * La requête enfreint une règle métier (transition de statut interdite, dates incohérentes, rattachement invalide).
+ */
+public class BusinessRuleException extends TaskForgeException {
+    public BusinessRuleException(String message) {
+        super(message, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskforge.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Une colonne Kanban a atteint sa limite WIP : aucune User Story ne peut y entrer tant qu'une autre n'en est pas sortie.
+ */
+public class ColumnFullException extends TaskForgeException {
+    public ColumnFullException(String message) {
+        super(message, HttpStatus.CONFLICT);
+    }
+}
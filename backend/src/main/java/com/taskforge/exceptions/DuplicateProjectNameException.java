@@ -1,6 +1,6 @@
 package com.taskforge.exceptions;
 
-public class DuplicateProjectNameException extends RuntimeException {
+public class DuplicateProjectNameException extends DuplicateResourceException {
     public DuplicateProjectNameException(String message) {
         super(message);
     }
@@ -0,0 +1,12 @@
+package com.taskforge.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Une ressource portant le même nom ou le même titre existe déjà dans son périmètre.
+ */
+public class DuplicateResourceException extends TaskForgeException {
+    public DuplicateResourceException(String message) {
+        super(message, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -1,6 +1,6 @@
 package com.taskforge.exceptions;
 
-public class DuplicateSprintNameException extends RuntimeException {
+public class DuplicateSprintNameException extends DuplicateResourceException {
     public DuplicateSprintNameException(String message) {
         super(message);
     }
@@ -1,6 +1,6 @@
 package com.taskforge.exceptions;
 
-public class DuplicateTaskTitleException extends RuntimeException {
+public class DuplicateTaskTitleException extends DuplicateResourceException {
     public DuplicateTaskTitleException(String message) {
         super(message);
     }
@@ -1,6 +1,6 @@
 package com.taskforge.exceptions;
 
-public class DuplicateUserStoryTitleException extends RuntimeException {
+public class DuplicateUserStoryTitleException extends DuplicateResourceException {
     public DuplicateUserStoryTitleException(String message) {
         super(message);
     }
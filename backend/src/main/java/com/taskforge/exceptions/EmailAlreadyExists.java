@@ -1,6 +1,6 @@
 package com.taskforge.exceptions;
 
-public class EmailAlreadyExists extends RuntimeException {
+public class EmailAlreadyExists extends DuplicateResourceException {
     public EmailAlreadyExists(String message) {
         super(message);
     }
@@ -0,0 +1,12 @@
+package com.taskforge.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * L'utilisateur n'a pas le droit d'effectuer l'opération (non-membre du projet, action réservée au propriétaire).
+ */
+public class ForbiddenOperationException extends TaskForgeException {
+    public ForbiddenOperationException(String message) {
+        super(message, HttpStatus.FORBIDDEN);
+    }
+}
@@ -1,105 +1,74 @@
 package com.taskforge.exceptions;
 
-import java.util.Map;
+import java.net.URI;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
 
+/**
+ * Traduit les exceptions en réponses RFC 7807 ({@link ProblemDetail}).
+ * Le statut est porté par l'exception métier elle-même ; le type de problème est calculé une seule fois
+ * par classe d'exception puis servi depuis une table indexée par classe.
+ * Chaque réponse conserve une propriété {@code message} pour les clients existants.
+ */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
-    @ExceptionHandler(UsernameAlreadyExists.class)
-    public ResponseEntity<?> handleUsernameExists(UsernameAlreadyExists ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-            .body(Map.of("message", ex.getMessage()));
-    }
-
-    @ExceptionHandler(EmailAlreadyExists.class)
-    public ResponseEntity<?> handleEmailExists(EmailAlreadyExists ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-            .body(Map.of("message", ex.getMessage()));
-    }
-
-    @ExceptionHandler(InvalidCredentialsException.class)
-    public ResponseEntity<?> handleInvalidCredentials(InvalidCredentialsException ex) {
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-            .body(Map.of("message", ex.getMessage()));
-    }
 
-    @ExceptionHandler(DuplicateUserStoryTitleException.class)
-    public ResponseEntity<?> handleDuplicateUserStoryTitle(DuplicateUserStoryTitleException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-            .body(Map.of("message", ex.getMessage()));
-    }
-
-    @ExceptionHandler(DuplicateProjectNameException.class)
-    public ResponseEntity<?> handleDuplicateProjectName(DuplicateProjectNameException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-            .body(Map.of("message", ex.getMessage()));
-    }
-
-    @ExceptionHandler(ProjectSuppressionException.class)
-    public ResponseEntity<?> handleProjectSuppression(ProjectSuppressionException ex) {
-        return ResponseEntity.status(HttpStatus.FORBIDDEN)
-            .body(Map.of("message", ex.getMessage()));
-    }
+    static final String MESSAGE_PROPERTY = "message";
 
-    @ExceptionHandler(UpdateProjectException.class)
-    public ResponseEntity<?> handleUpdateProject(UpdateProjectException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-            .body(Map.of("message", ex.getMessage()));
-    }
+    /**
+     * Type de problème par classe d'exception, ex. {@code urn:taskforge:problem:resource-not-found}.
+     */
+    private static final ClassValue<URI> PROBLEM_TYPES = new ClassValue<>() {
+        @Override
+        protected URI computeValue(Class<?> type) {
+            String name = type.getSimpleName().replaceFirst("Exception$", "");
+            return URI.create("urn:taskforge:problem:" + name.replaceAll("([a-z])([A-Z])", "$1-$2").toLowerCase());
+        }
+    };
 
-    @ExceptionHandler(DuplicateSprintNameException.class)
-    public ResponseEntity<?> handleDuplicateSprintName(DuplicateSprintNameException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-            .body(Map.of("message", ex.getMessage()));
+    /**
+     * Gère toutes les exceptions métier avec le statut qu'elles portent.
+     *
+     * @param ex L'exception métier levée par un service.
+     * @return La réponse ProblemDetail correspondante.
+     */
+    @ExceptionHandler(TaskForgeException.class)
+    public ResponseEntity<ProblemDetail> handleTaskForgeException(TaskForgeException ex) {
+        return problem(ex.getStatus(), ex.getMessage(), PROBLEM_TYPES.get(ex.getClass()));
     }
 
-    @ExceptionHandler(InvalidSprintDateException.class)
-    public ResponseEntity<?> handleInvalidSprintDate(InvalidSprintDateException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-            .body(Map.of("message", ex.getMessage()));
+    /**
+     * Gère les ResponseStatusException en conservant le statut qu'elles déclarent.
+     *
+     * @param ex L'exception levée.
+     * @return La réponse ProblemDetail correspondante.
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ProblemDetail> handleResponseStatusException(ResponseStatusException ex) {
+        return problem(ex.getStatusCode(), ex.getReason(), URI.create("about:blank"));
     }
 
     /**
-     * Gère les RuntimeException génériques et les mappe vers les codes HTTP appropriés.
+     * Gère les RuntimeException non typées : toute erreur attendue doit passer par une exception métier,
+     * ce qui reste est une erreur serveur.
      */
     @ExceptionHandler(RuntimeException.class)
-    public ResponseEntity<?> handleRuntimeException(RuntimeException ex) {
+    public ResponseEntity<ProblemDetail> handleRuntimeException(RuntimeException ex) {
         String message = ex.getMessage();
-        
-        // Mapper les messages d'erreur aux codes HTTP appropriés
-        if (message != null) {
-            if (message.contains("User is not a member of this project") 
-                || message.contains("Vous n'avez pas accès à ce projet")
-                || message.contains("Only project owner")
-                || message.contains("Les colonnes par défaut ne peuvent pas être supprimées")) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                    .body(Map.of("message", message));
-            }
-            
-            if (message.contains("not found") 
-                || message.contains("non trouvé")
-                || message.contains("n'existe pas")) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(Map.of("message", message));
-            }
-            
-            if (message.contains("existe déjà") 
-                || message.contains("already exists")
-                || message.contains("Invalid")
-                || message.contains("Cannot start sprint")
-                || message.contains("Only PLANNED sprints")
-                || message.contains("Only ACTIVE sprints")) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(Map.of("message", message));
-            }
-        }
+        return problem(HttpStatus.INTERNAL_SERVER_ERROR, message != null ? message : "Internal server error",
+                URI.create("about:blank"));
+    }
 
-        // Par défaut, renvoyer une erreur 500
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-            .body(Map.of("message", message != null ? message : "Internal server error"));
+    private static ResponseEntity<ProblemDetail> problem(HttpStatusCode status, String message, URI type) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(status, message);
+        problem.setType(type);
+        problem.setProperty(MESSAGE_PROPERTY, message);
+        return ResponseEntity.status(status).body(problem);
     }
-}
\ No newline at end of file
+}
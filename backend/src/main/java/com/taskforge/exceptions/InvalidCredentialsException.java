@@ -1,7 +1,9 @@
 package com.taskforge.exceptions;
 
-public class InvalidCredentialsException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+public class InvalidCredentialsException extends TaskForgeException {
     public InvalidCredentialsException(String message) {
-        super(message);
+        super(message, HttpStatus.UNAUTHORIZED);
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,6 @@
 package com.taskforge.exceptions;
 
-public class InvalidSprintDateException extends RuntimeException {
+public class InvalidSprintDateException extends BusinessRuleException {
     public InvalidSprintDateException(String message) {
         super(message);
     }
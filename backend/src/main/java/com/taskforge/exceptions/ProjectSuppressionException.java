@@ -1,6 +1,6 @@
 package com.taskforge.exceptions;
 
-public class ProjectSuppressionException extends RuntimeException {
+public class ProjectSuppressionException extends ForbiddenOperationException {
     public ProjectSuppressionException(String message) {
         super(message);
     }
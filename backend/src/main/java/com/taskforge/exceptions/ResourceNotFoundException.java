@@ -0,0 +1,12 @@
+package com.taskforge.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * La ressource demandée (projet, User Story, tâche, sprint, version, colonne, utilisateur) n'existe pas.
+ */
+public class ResourceNotFoundException extends TaskForgeException {
+    public ResourceNotFoundException(String message) {
+        super(message, HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskforge.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Racine des exceptions métier de l'application.
+ * Chaque exception porte le statut HTTP à renvoyer et n'enregistre pas de pile d'appels :
+ * ces erreurs font partie du fonctionnement normal (ressource absente, droit insuffisant, doublon)
+ * et capturer la pile à chaque levée coûterait cher sans rien apporter au diagnostic.
+ */
+public abstract class TaskForgeException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    protected TaskForgeException(String message, HttpStatus status) {
+        super(message, null, false, false);
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
@@ -1,6 +1,6 @@
 package com.taskforge.exceptions;
 
-public class TaskNotFoundException extends RuntimeException {
+public class TaskNotFoundException extends ResourceNotFoundException {
     public TaskNotFoundException(String message) {
         super(message);
     }
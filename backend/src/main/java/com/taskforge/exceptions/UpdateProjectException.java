@@ -1,6 +1,6 @@
 package com.taskforge.exceptions;
 
-public class UpdateProjectException extends RuntimeException {
+public class UpdateProjectException extends BusinessRuleException {
     public UpdateProjectException(String message) {
         super(message);
     }
@@ -1,6 +1,6 @@
 package com.taskforge.exceptions;
 
-public class UsernameAlreadyExists extends RuntimeException {
+public class UsernameAlreadyExists extends DuplicateResourceException {
     public UsernameAlreadyExists(String message) {
         super(message);
     }
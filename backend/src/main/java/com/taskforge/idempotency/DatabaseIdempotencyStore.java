@@ -0,0 +1,114 @@
+package com.taskforge.idempotency;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskforge.models.IdempotencyRecord;
+import com.taskforge.repositories.IdempotencyRecordRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Clés d'idempotence enregistrées dans la table {@code idempotency_keys}, partagées par toutes les instances.
+ * La contrainte d'unicité sur (utilisateur, clé) garantit qu'une seule instance réserve une clé ; les autres
+ * voient la requête en cours ou sa réponse. Les lignes expirées sont supprimées à la réservation suivante de la
+ * même clé et par une purge périodique ({@code taskforge.idempotency.purge-interval}).
+ */
+@Slf4j
+public class DatabaseIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyRecordRepository repository;
+    private final TransactionTemplate transaction;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+    private final Clock clock;
+
+    /**
+     * @param repository  Le dépôt des clés.
+     * @param transaction Le modèle de transaction ; chaque opération est validée immédiatement.
+     * @param properties  Les paramètres des clés d'idempotence.
+     * @param clock       L'horloge des réservations et des expirations.
+     */
+    public DatabaseIdempotencyStore(IdempotencyRecordRepository repository, TransactionTemplate transaction,
+            IdempotencyProperties properties, Clock clock) {
+        this.repository = repository;
+        this.transaction = transaction;
+        this.ttl = properties.getTtl();
+        this.inProgressTimeout = properties.getInProgressTimeout();
+        this.clock = clock;
+    }
+
+    @Override
+    public Claim claim(Key key, String fingerprint) {
+        Instant now = clock.instant();
+        try {
+            return transaction.execute(status -> {
+                repository.deleteExpired(key.username(), key.idempotencyKey(), now);
+                return repository.findByUsernameAndIdempotencyKey(key.username(), key.idempotencyKey())
+                        .map(existing -> evaluate(existing, fingerprint, now))
+                        .orElseGet(() -> {
+                            repository.saveAndFlush(IdempotencyRecord.builder()
+                                    .username(key.username())
+                                    .idempotencyKey(key.idempotencyKey())
+                                    .fingerprint(fingerprint)
+                                    .claimedAt(now)
+                                    .expiresAt(now.plus(ttl))
+                                    .build());
+                            return Claim.ACQUIRED;
+                        });
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Une autre instance a réservé la clé entre la lecture et l'insertion
+            return transaction.execute(status -> repository
+                    .findByUsernameAndIdempotencyKey(key.username(), key.idempotencyKey())
+                    .map(existing -> evaluate(existing, fingerprint, now))
+                    .orElse(Claim.IN_PROGRESS));
+        }
+    }
+
+    @Override
+    public void complete(Key key, StoredResponse response) {
+        transaction.executeWithoutResult(status -> repository.complete(key.username(), key.idempotencyKey(),
+                response.status(), response.contentType(), response.location(), response.body(),
+                clock.instant().plus(ttl)));
+    }
+
+    @Override
+    public void release(Key key) {
+        transaction.executeWithoutResult(status -> repository.release(key.username(), key.idempotencyKey()));
+    }
+
+    /**
+     * Supprime les clés expirées.
+     *
+     * @return Le nombre de clés supprimées.
+     */
+    @Scheduled(fixedDelayString = "${taskforge.idempotency.purge-interval:1h}",
+            initialDelayString = "${taskforge.idempotency.purge-interval:1h}")
+    public int purge() {
+        Integer count = transaction.execute(status -> repository.deleteAllExpired(clock.instant()));
+        if (count != null && count > 0) {
+            log.debug("{} clés d'idempotence expirées supprimées", count);
+        }
+        return count == null ? 0 : count;
+    }
+
+    private Claim evaluate(IdempotencyRecord existing, String fingerprint, Instant now) {
+        if (!existing.getFingerprint().equals(fingerprint)) {
+            return Claim.MISMATCH;
+        }
+        if (existing.getStatus() != null) {
+            return Claim.completed(new StoredResponse(existing.getStatus(), existing.getContentType(),
+                    existing.getLocation(), existing.getBody() == null ? new byte[0] : existing.getBody()));
+        }
+        if (repository.takeOver(existing.getId(), now, now.plus(ttl), now.minus(inProgressTimeout)) == 1) {
+            return Claim.ACQUIRED;
+        }
+        return Claim.IN_PROGRESS;
+    }
+}
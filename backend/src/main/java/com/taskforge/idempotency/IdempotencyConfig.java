@@ -0,0 +1,72 @@
+package com.taskforge.idempotency;
+
+import java.time.Clock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskforge.repositories.IdempotencyRecordRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration des clés d'idempotence des requêtes d'écriture.
+ * Le stockage est choisi par {@code taskforge.idempotency.store} : {@code memory} (par défaut) pour une instance
+ * seule, {@code database} dès que plusieurs instances servent les mêmes clients.
+ * Désactivable avec {@code taskforge.idempotency.enabled=false}.
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+@ConditionalOnProperty(prefix = "taskforge.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    /**
+     * @param properties Les paramètres des clés d'idempotence.
+     * @param registry   Le registre Micrometer.
+     * @return Le stockage en mémoire, borné en octets.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "taskforge.idempotency", name = "store", havingValue = "memory",
+            matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore(IdempotencyProperties properties, MeterRegistry registry) {
+        return new InMemoryIdempotencyStore(properties, Clock.systemUTC(), registry);
+    }
+
+    /**
+     * @param repository  Le dépôt des clés.
+     * @param transaction Le modèle de transaction de l'application.
+     * @param properties  Les paramètres des clés d'idempotence.
+     * @return Le stockage partagé en base.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "taskforge.idempotency", name = "store", havingValue = "database")
+    public IdempotencyStore databaseIdempotencyStore(IdempotencyRecordRepository repository,
+            TransactionTemplate transaction, IdempotencyProperties properties) {
+        return new DatabaseIdempotencyStore(repository, transaction, properties, Clock.systemUTC());
+    }
+
+    /**
+     * Enregistre le filtre juste après la sécurité : l'utilisateur auquel appartient la clé est connu, et une
+     * requête refusée par la sécurité ne réserve aucune clé.
+     *
+     * @param properties   Les paramètres des clés d'idempotence.
+     * @param store        Le stockage des clés.
+     * @param objectMapper Le sérialiseur des réponses d'erreur.
+     * @param registry     Le registre Micrometer.
+     * @return L'enregistrement du filtre.
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyProperties properties,
+            IdempotencyStore store, ObjectMapper objectMapper, MeterRegistry registry) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(properties, store, objectMapper, registry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 5);
+        return registration;
+    }
+}
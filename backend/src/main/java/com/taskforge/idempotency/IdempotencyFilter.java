@@ -0,0 +1,261 @@
+package com.taskforge.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Idempotence des requêtes d'écriture (POST, PUT, PATCH, DELETE) qui portent un en-tête {@code Idempotency-Key}.
+ * La première requête sous une clé est exécutée et sa réponse enregistrée pour l'utilisateur authentifié ; une
+ * nouvelle tentative avec la même clé et la même requête reçoit cette réponse, avec l'en-tête
+ * {@code Idempotent-Replayed: true}, sans être exécutée de nouveau.
+ *
+ * <p>Une tentative pendant que la première est en cours reçoit un 409 ; une clé réutilisée pour une autre requête
+ * (méthode, chemin ou corps différents) reçoit un 422. Les erreurs serveur (5xx) ne sont pas enregistrées : la
+ * clé est libérée et la tentative suivante exécute la requête. Une réponse plus lourde que
+ * {@code max-response-bytes} n'est enregistrée que par son statut et son en-tête {@code Location} : la tentative
+ * suivante reçoit ce statut sans corps plutôt que d'exécuter de nouveau l'écriture, et relit la ressource si elle
+ * en a besoin. Les requêtes sans en-tête, ou anonymes, passent sans traitement.
+ *
+ * <p>Métriques : {@code taskforge.idempotency{result=executed|replayed|conflict|mismatch}}.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    static final String REPLAYED = "Idempotent-Replayed";
+
+    static final String METRIC = "taskforge.idempotency";
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final IdempotencyProperties properties;
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter conflicts;
+    private final Counter mismatches;
+
+    public IdempotencyFilter(IdempotencyProperties properties, IdempotencyStore store, ObjectMapper objectMapper,
+            MeterRegistry registry) {
+        this.properties = properties;
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.executed = counter(registry, "executed");
+        this.replayed = counter(registry, "replayed");
+        this.conflicts = counter(registry, "conflict");
+        this.mismatches = counter(registry, "mismatch");
+    }
+
+    /**
+     * Rejoue la réponse enregistrée sous la clé, ou exécute la requête et enregistre sa réponse.
+     *
+     * @param request  La requête HTTP entrante.
+     * @param response La réponse HTTP sortante.
+     * @param chain    La chaîne de filtres à poursuivre.
+     * @throws ServletException En cas d'erreur de servlet.
+     * @throws IOException      En cas d'erreur d'entrée/sortie.
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            chain.doFilter(request, response);
+            return;
+        }
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            problem(response, HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key must contain between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        BufferedRequest buffered = new BufferedRequest(request, request.getInputStream().readAllBytes());
+        IdempotencyStore.Key key = new IdempotencyStore.Key(authentication.getName(), idempotencyKey);
+        IdempotencyStore.Claim claim = store.claim(key, fingerprint(buffered));
+        switch (claim.outcome()) {
+            case COMPLETED -> {
+                replayed.increment();
+                replay(claim.response(), response);
+            }
+            case IN_PROGRESS -> {
+                conflicts.increment();
+                problem(response, HttpStatus.CONFLICT,
+                        "A request with this Idempotency-Key is still being processed");
+            }
+            case MISMATCH -> {
+                mismatches.increment();
+                problem(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        "This Idempotency-Key was already used for a different request");
+            }
+            case ACQUIRED -> {
+                executed.increment();
+                execute(key, buffered, response, chain);
+            }
+        }
+    }
+
+    /**
+     * Seules les écritures portant l'en-tête {@code Idempotency-Key} passent par le filtre.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !METHODS.contains(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY) == null;
+    }
+
+    private void execute(IdempotencyStore.Key key, HttpServletRequest request, HttpServletResponse response,
+            FilterChain chain) throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, buffered);
+        } catch (ServletException | IOException | RuntimeException e) {
+            store.release(key);
+            throw e;
+        }
+        int status = buffered.getStatus();
+        byte[] body = buffered.getContentAsByteArray();
+        String location = buffered.getHeader(HttpHeaders.LOCATION);
+        if (status >= 500) {
+            store.release(key);
+        } else if (body.length <= properties.getMaxResponseBytes()) {
+            store.complete(key, new StoredResponse(status, buffered.getContentType(), location, body));
+        } else {
+            // L'écriture a eu lieu : la clé reste acquittée, sans le corps trop lourd pour être conservé
+            store.complete(key, new StoredResponse(status, null, location, new byte[0]));
+        }
+        buffered.copyBodyToResponse();
+    }
+
+    private static void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED, "true");
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void problem(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(status, message);
+        problem.setProperty("message", message);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problem);
+    }
+
+    /**
+     * @return L'empreinte SHA-256 de la méthode, du chemin, des paramètres et du corps de la requête.
+     */
+    static String fingerprint(BufferedRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            return HexFormat.of().formatHex(digest.digest(request.body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder(METRIC)
+                .description("Écritures avec clé d'idempotence : exécutées, rejouées, refusées car en cours (409) "
+                        + "ou refusées car la clé a servi à une autre requête (422)")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Requête dont le corps, lu une fois pour l'empreinte, est relu depuis la mémoire par le contrôleur.
+     */
+    static class BufferedRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        BufferedRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), charset));
+        }
+    }
+}
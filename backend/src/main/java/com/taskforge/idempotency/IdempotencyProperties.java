@@ -0,0 +1,42 @@
+package com.taskforge.idempotency;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Paramètres des clés d'idempotence ({@code taskforge.idempotency.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "taskforge.idempotency")
+public class IdempotencyProperties {
+
+    /** Stockage des réponses : {@code memory} pour une instance seule, {@code database} si plusieurs la partagent. */
+    public enum Store { MEMORY, DATABASE }
+
+    /** Active l'en-tête {@code Idempotency-Key} sur les requêtes d'écriture. */
+    private boolean enabled = true;
+
+    /** Stockage des réponses enregistrées. */
+    private Store store = Store.MEMORY;
+
+    /** Durée pendant laquelle une clé rejoue la première réponse obtenue. */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Durée au-delà de laquelle une requête encore en cours sous une clé est tenue pour abandonnée (instance
+     * arrêtée en pleine exécution) : une nouvelle tentative peut alors reprendre la clé.
+     */
+    private Duration inProgressTimeout = Duration.ofMinutes(1);
+
+    /** Taille maximale cumulée (en octets) des réponses conservées par le stockage {@code memory}. */
+    private long memoryMaxBytes = 32L * 1024 * 1024;
+
+    /** Taille maximale (en octets) d'une réponse enregistrée ; au-delà, seul son statut est rejoué, sans corps. */
+    private int maxResponseBytes = 1024 * 1024;
+
+    /** Intervalle de purge des clés expirées du stockage {@code database}. */
+    private Duration purgeInterval = Duration.ofHours(1);
+}
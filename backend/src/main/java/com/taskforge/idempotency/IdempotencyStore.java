@@ -0,0 +1,72 @@
+package com.taskforge.idempotency;
+
+/**
+ * Stockage des clés d'idempotence et de la première réponse obtenue sous chacune d'elles.
+ * Une clé appartient à un utilisateur : deux utilisateurs peuvent employer la même valeur sans se gêner.
+ * Le stockage retient aussi l'empreinte de la requête (méthode, chemin, corps) pour refuser la réutilisation
+ * d'une clé sur une autre requête.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Clé d'idempotence d'un utilisateur.
+     */
+    record Key(String username, String idempotencyKey) {
+    }
+
+    /**
+     * État d'une clé au moment de la réservation.
+     */
+    enum Outcome {
+        /** Clé réservée par l'appelant : la requête doit être exécutée puis {@link #complete} ou {@link #release}. */
+        ACQUIRED,
+        /** Une requête de même empreinte est en cours sous cette clé. */
+        IN_PROGRESS,
+        /** La requête a déjà été exécutée : {@link Claim#response()} est à rejouer. */
+        COMPLETED,
+        /** La clé a servi à une requête différente. */
+        MISMATCH
+    }
+
+    /**
+     * Résultat d'une réservation.
+     *
+     * @param outcome  L'état de la clé.
+     * @param response La réponse enregistrée si {@code outcome} vaut {@link Outcome#COMPLETED}, null sinon.
+     */
+    record Claim(Outcome outcome, StoredResponse response) {
+
+        static final Claim ACQUIRED = new Claim(Outcome.ACQUIRED, null);
+        static final Claim IN_PROGRESS = new Claim(Outcome.IN_PROGRESS, null);
+        static final Claim MISMATCH = new Claim(Outcome.MISMATCH, null);
+
+        static Claim completed(StoredResponse response) {
+            return new Claim(Outcome.COMPLETED, response);
+        }
+    }
+
+    /**
+     * Réserve la clé si elle est libre (ou expirée, ou abandonnée en cours d'exécution).
+     *
+     * @param key         La clé de l'utilisateur.
+     * @param fingerprint L'empreinte de la requête.
+     * @return L'état de la clé.
+     */
+    Claim claim(Key key, String fingerprint);
+
+    /**
+     * Enregistre la réponse d'une requête exécutée sous une clé réservée.
+     *
+     * @param key      La clé réservée.
+     * @param response La réponse à rejouer.
+     */
+    void complete(Key key, StoredResponse response);
+
+    /**
+     * Libère une clé réservée sans enregistrer de réponse (erreur serveur) :
+     * une nouvelle tentative exécutera la requête.
+     *
+     * @param key La clé réservée.
+     */
+    void release(Key key);
+}
@@ -0,0 +1,89 @@
+package com.taskforge.idempotency;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Clés d'idempotence tenues en mémoire, pour une instance seule.
+ * Les entrées expirent après la durée de vie configurée et le cache est borné en octets : sous pression, les
+ * réponses les moins utilisées sont évincées avant leur expiration, et une nouvelle tentative sous une clé
+ * évincée exécute de nouveau la requête.
+ *
+ * <p>Métriques : {@code cache_gets_total{cache="idempotencyKeys"}} et associées.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    static final String CACHE_NAME = "idempotencyKeys";
+
+    private final Cache<Key, Entry> entries;
+    private final Duration inProgressTimeout;
+    private final Clock clock;
+
+    /**
+     * Réservation d'une clé : réponse null tant que la requête est en cours.
+     */
+    private record Entry(String fingerprint, StoredResponse response, Instant claimedAt) {
+
+        int weight() {
+            return 128 + fingerprint.length() + (response == null ? 0 : response.weight());
+        }
+    }
+
+    /**
+     * @param properties Les paramètres des clés d'idempotence.
+     * @param clock      L'horloge des réservations.
+     * @param registry   Le registre Micrometer.
+     */
+    public InMemoryIdempotencyStore(IdempotencyProperties properties, Clock clock, MeterRegistry registry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(properties.getMemoryMaxBytes())
+                .weigher((Key key, Entry entry) -> key.username().length() + key.idempotencyKey().length()
+                        + entry.weight())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        this.inProgressTimeout = properties.getInProgressTimeout();
+        this.clock = clock;
+        CaffeineCacheMetrics.monitor(registry, entries, CACHE_NAME);
+    }
+
+    @Override
+    public Claim claim(Key key, String fingerprint) {
+        ConcurrentMap<Key, Entry> map = entries.asMap();
+        Instant now = clock.instant();
+        Entry claimed = new Entry(fingerprint, null, now);
+        Entry existing = map.putIfAbsent(key, claimed);
+        if (existing == null) {
+            return Claim.ACQUIRED;
+        }
+        if (!existing.fingerprint().equals(fingerprint)) {
+            return Claim.MISMATCH;
+        }
+        if (existing.response() != null) {
+            return Claim.completed(existing.response());
+        }
+        if (existing.claimedAt().plus(inProgressTimeout).isBefore(now) && map.replace(key, existing, claimed)) {
+            return Claim.ACQUIRED;
+        }
+        return Claim.IN_PROGRESS;
+    }
+
+    @Override
+    public void complete(Key key, StoredResponse response) {
+        entries.asMap().computeIfPresent(key,
+                (k, entry) -> new Entry(entry.fingerprint(), response, entry.claimedAt()));
+    }
+
+    @Override
+    public void release(Key key) {
+        entries.asMap().computeIfPresent(key, (k, entry) -> entry.response() == null ? null : entry);
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskforge.idempotency;
+
+/**
+ * Première réponse obtenue sous une clé d'idempotence, rejouée telle quelle aux tentatives suivantes.
+ *
+ * @param status      Le statut HTTP.
+ * @param contentType Le type de contenu, ou null si la réponse n'a pas de corps.
+ * @param location    L'en-tête {@code Location}, ou null.
+ * @param body        Le corps de la réponse.
+ */
+public record StoredResponse(int status, String contentType, String location, byte[] body) {
+
+    /**
+     * @return Le poids approximatif de la réponse en mémoire, en octets.
+     */
+    int weight() {
+        return 128 + body.length + (contentType == null ? 0 : contentType.length())
+                + (location == null ? 0 : location.length());
+    }
+}
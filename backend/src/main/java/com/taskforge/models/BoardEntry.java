@@ -0,0 +1,105 @@
+package com.taskforge.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Ligne du modèle de lecture des tableaux et backlogs : une User Story dénormalisée avec sa colonne, son sprint,
+ * sa version, les noms de ses assignés et ses compteurs de tâches.
+ * La table n'est jamais écrite par les services métier : elle est recalculée depuis les tables sources à chaque
+ * événement de changement ({@code BoardProjection}) et peut être reconstruite entièrement.
+ */
+@Entity
+@Table(name = "board_entries", indexes = {
+    @Index(name = "idx_board_entries_project_rank", columnList = "project_id, story_rank, user_story_id"),
+    @Index(name = "idx_board_entries_project_sprint_backlog_rank", columnList = "project_id, sprint_id, backlog_rank, user_story_id"),
+    @Index(name = "idx_board_entries_sprint_rank", columnList = "sprint_id, story_rank, user_story_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardEntry {
+
+    @Schema(description = "Identifiant de la User Story", example = "1")
+    @Id
+    @Column(name = "user_story_id")
+    private Long userStoryId;
+
+    @Schema(description = "Identifiant du projet", example = "1")
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Schema(description = "Titre de la User Story", example = "En tant qu'utilisateur, je veux pouvoir m'authentifier")
+    @Column(nullable = false)
+    private String title;
+
+    @Schema(description = "Description de la User Story")
+    @Column(length = 2000)
+    private String description;
+
+    @Schema(description = "Priorité de la User Story", example = "HIGH")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UserStory.Priority priority;
+
+    @Schema(description = "Statut de la User Story", example = "TODO")
+    @Column(nullable = false)
+    private String status;
+
+    @Schema(description = "Rang de la User Story dans sa colonne Kanban", example = "i")
+    @Column(name = "story_rank")
+    private String rank;
+
+    @Schema(description = "Rang de la User Story dans le backlog du projet", example = "i")
+    @Column(name = "backlog_rank")
+    private String backlogRank;
+
+    @Column(name = "kanban_column_id")
+    private Long kanbanColumnId;
+
+    @Column(name = "kanban_column_name")
+    private String kanbanColumnName;
+
+    @Column(name = "sprint_id")
+    private Long sprintId;
+
+    @Column(name = "sprint_name")
+    private String sprintName;
+
+    @Column(name = "version_id")
+    private Long versionId;
+
+    @Column(name = "version_title")
+    private String versionTitle;
+
+    @Column(name = "version_number")
+    private String versionNumber;
+
+    @Schema(description = "Noms des utilisateurs assignés, triés, un par ligne", example = "alice\nbob")
+    @Column(length = 2000)
+    private String assignees;
+
+    @Column(name = "task_count", nullable = false)
+    private int taskCount;
+
+    @Column(name = "done_task_count", nullable = false)
+    private int doneTaskCount;
+
+    @Column(name = "in_progress_task_count", nullable = false)
+    private int inProgressTaskCount;
+
+    @Column(name = "assigned_task_count", nullable = false)
+    private int assignedTaskCount;
+}
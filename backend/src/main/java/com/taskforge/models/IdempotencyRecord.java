@@ -0,0 +1,66 @@
+package com.taskforge.models;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Clé d'idempotence d'un utilisateur et première réponse obtenue sous cette clé, partagées entre les instances
+ * ({@code taskforge.idempotency.store=database}).
+ * Tant que la requête est en cours, {@code status} est null ; la ligne est supprimée à son expiration.
+ */
+@Entity
+@Table(name = "idempotency_keys", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_idempotency_key_user", columnNames = {"username", "idempotency_key"})
+}, indexes = {
+    @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(name = "idempotency_key", nullable = false)
+    private String idempotencyKey;
+
+    /** Empreinte SHA-256 (hexadécimale) de la méthode, du chemin et du corps de la requête. */
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    @Column(name = "claimed_at", nullable = false)
+    private Instant claimedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /** Statut HTTP de la réponse enregistrée ; null tant que la requête est en cours. */
+    private Integer status;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(length = 2048)
+    private String location;
+
+    @Column(length = 1024 * 1024)
+    private byte[] body;
+}
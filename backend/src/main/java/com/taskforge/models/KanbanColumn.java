@@ -2,9 +2,11 @@ package com.taskforge.models;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -13,6 +15,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -20,10 +23,17 @@ import io.swagger.v3.oas.annotations.media.Schema;
  * Entité représentant une colonne personnalisée du tableau Kanban.
  * Permet aux utilisateurs de créer des colonnes avec des statuts personnalisés
  * pour organiser leurs User Stories selon leur workflow.
+ * Les colonnes d'un projet sont ordonnées par rang lexicographique : déplacer une colonne ne modifie que sa ligne.
+ *
+ * <p>Le nombre de User Stories de la colonne est maintenu par la base : {@code WipLimits} l'ajuste par une mise à
+ * jour relative à chaque entrée ou sortie d'une User Story, conditionnelle à la limite WIP pour une entrée, et le
+ * recalcule périodiquement. Il n'est jamais écrit par l'enregistrement de l'entité.
  */
 @Entity
 @Table(name = "kanban_columns", uniqueConstraints = {
     @UniqueConstraint(name = "uk_status_project", columnNames = {"status", "project_id"})
+}, indexes = {
+    @Index(name = "idx_kanban_columns_project_rank", columnList = "project_id, column_rank")
 })
 @Data
 @Builder
@@ -44,12 +54,27 @@ public class KanbanColumn {
     @Column(nullable = false)
     private String status;
     
-    @Schema(description = "Ordre de la colonne Kanban dans le tableau", example = "1")
+    @Schema(description = "Ordre indiqué à la création ou à la modification ; il place la colonne parmi les autres, "
+            + "l'ordre d'affichage est celui de rank", example = "1")
     @Column(name = "column_order", nullable = false)
     private Integer order;
+
+    @Schema(description = "Rang lexicographique de la colonne : les colonnes s'affichent par rang croissant", example = "i")
+    @Column(name = "column_rank")
+    private String rank;
+    
+    @Schema(description = "Nombre maximal de User Stories dans la colonne (limite WIP), absent pour aucune limite", example = "5")
+    @Column(name = "wip_limit")
+    private Integer wipLimit;
+
+    @Schema(description = "Nombre de User Stories dans la colonne", example = "3")
+    @Column(name = "story_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int storyCount = 0;
     
     @Schema(description = "Projet auquel appartient la colonne Kanban")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
     
@@ -33,7 +33,7 @@ public class Project {
     private String description;
 
     @Schema(description = "Propriétaire du projet", implementation = User.class)
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="owner_id", nullable=false, foreignKey = @ForeignKey(name = "fk_project_owner"))
     private User owner;
 
@@ -42,7 +42,8 @@ public class Project {
     @JoinTable(
         name = "project_members",
         joinColumns = @JoinColumn(name = "project_id"),
-        inverseJoinColumns = @JoinColumn(name = "user_id"))
+        inverseJoinColumns = @JoinColumn(name = "user_id"),
+        indexes = @Index(name = "idx_project_members_user", columnList = "user_id"))
     private Set<User> members;
 
 }
\ No newline at end of file
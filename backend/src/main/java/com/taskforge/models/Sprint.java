@@ -8,19 +8,23 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.ForeignKey;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "sprints")
+@Table(name = "sprints", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_sprint_name_project", columnNames = {"project_id", "name"})
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -50,7 +54,7 @@ public class Sprint {
     private Status status;
 
     @Schema(description = "Projet auquel appartient le sprint", implementation = Project.class)
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false, foreignKey = @ForeignKey(name = "fk_sprint_project"))
     private Project project;
 
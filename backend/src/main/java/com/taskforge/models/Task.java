@@ -7,12 +7,14 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -26,7 +28,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
  * Elle possède un statut, une priorité et peut être assignée à un utilisateur.
  */
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_task_title_user_story", columnNames = {"user_story_id", "title"})
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -57,13 +61,13 @@ public class Task {
     private Status status;
     
     @Schema(description = "User Story associée à la tâche")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_story_id", nullable = false)
     @JsonBackReference
     private UserStory userStory;
     
     @Schema(description = "Utilisateur assigné à la tâche", example = "john.doe")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_to_user_id")
     @JsonIgnore
     private User assignedTo;
@@ -9,19 +9,24 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
@@ -31,9 +36,26 @@ import io.swagger.v3.oas.annotations.media.Schema;
  * Entité représentant une User Story.
  * Une User Story décrit une fonctionnalité ou un besoin du point de vue de l'utilisateur final.
  * Elle est liée à un projet et peut être décomposée en plusieurs tâches techniques.
+ *
+ * <p>Les compteurs de tâches sont maintenus par la base : {@code TaskService} les incrémente à chaque écriture
+ * de tâche par une mise à jour relative, et {@code TaskCounterReconciler} corrige périodiquement les écarts.
+ * Ils ne sont jamais écrits par l'enregistrement de l'entité.
+ *
+ * <p>Le rang ordonne les User Stories d'une même colonne Kanban. Les rangs d'un projet forment une seule suite,
+ * chaque colonne en lisant les siens dans l'ordre : un changement de statut conserve le rang, et la User Story prend
+ * dans sa nouvelle colonne la place que ce rang lui donne, jusqu'à ce qu'elle y soit déplacée.
+ *
+ * <p>Le rang de backlog, distinct, ordonne le backlog du projet par priorité. Il forme lui aussi une seule suite
+ * par projet, User Stories des sprints comprises : une User Story retirée d'un sprint retrouve sa place.
  */
 @Entity
-@Table(name = "user_stories")
+@Table(name = "user_stories", indexes = {
+    @Index(name = "idx_user_stories_project", columnList = "project_id"),
+    @Index(name = "idx_user_stories_project_rank", columnList = "project_id, story_rank"),
+    @Index(name = "idx_user_stories_project_backlog_rank", columnList = "project_id, backlog_rank")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_user_story_title_project", columnNames = {"project_id", "title"})
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -62,13 +84,21 @@ public class UserStory {
     @Column(nullable = false)
     private String status;
     
+    @Schema(description = "Rang lexicographique de la User Story dans sa colonne Kanban", example = "i")
+    @Column(name = "story_rank")
+    private String rank;
+
+    @Schema(description = "Rang lexicographique de la User Story dans le backlog du projet", example = "i")
+    @Column(name = "backlog_rank")
+    private String backlogRank;
+
     @Schema(description = "Projet auquel appartient la User Story")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
     
     @Schema(description = "Sprint auquel appartient la User Story")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sprint_id", nullable = true)
     private Sprint sprint;
     
@@ -86,14 +116,38 @@ public class UserStory {
     @JsonManagedReference
     private List<Task> tasks;
 
+    @Schema(description = "Nombre de tâches de la User Story", example = "5")
+    @Column(name = "task_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int taskCount = 0;
+
+    @Schema(description = "Nombre de tâches terminées", example = "2")
+    @Column(name = "done_task_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int doneTaskCount = 0;
+
+    @Schema(description = "Nombre de tâches en cours", example = "1")
+    @Column(name = "in_progress_task_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int inProgressTaskCount = 0;
+
+    @Schema(description = "Nombre de tâches assignées à un utilisateur", example = "4")
+    @Column(name = "assigned_task_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int assignedTaskCount = 0;
+
     @Schema(description = "Version associée à la User Story")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "version_id", nullable = true)
     @JsonIgnoreProperties({"userStories", "project"})
     private Version version;
 
     @Schema(description = "Colonne Kanban dans laquelle se trouve la User Story")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "kanban_column_id", nullable = true)
     @JsonIgnoreProperties({"project"})
     private KanbanColumn kanbanColumn;
@@ -12,6 +12,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -20,6 +21,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -33,7 +35,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
  * Une version regroupe un ensemble de User Stories planifiées pour une période donnée.
  */
 @Entity
-@Table(name = "versions")
+@Table(name = "versions", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_version_title_project", columnNames = {"project_id", "title"}),
+    @UniqueConstraint(name = "uk_version_number_project", columnNames = {"project_id", "version_number"})
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -76,7 +81,7 @@ public class Version {
     private VersionStatus status = VersionStatus.PLANNED;
 
     @Schema(description = "Projet auquel appartient la version")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     @JsonIgnore
     private Project project;
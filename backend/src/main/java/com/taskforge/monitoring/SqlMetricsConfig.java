@@ -0,0 +1,67 @@
+package com.taskforge.monitoring;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Configuration de l'instrumentation SQL par requête HTTP.
+ * Enveloppe la source de données dans un proxy qui compte les requêtes et mesure leur durée,
+ * et enregistre le filtre qui publie ces mesures (journal d'accès, en-têtes, budgets par endpoint).
+ * Désactivable avec {@code taskforge.sql.enabled=false}.
+ */
+@Configuration
+@EnableConfigurationProperties(SqlMetricsProperties.class)
+@ConditionalOnProperty(prefix = "taskforge.sql", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMetricsConfig {
+
+    /**
+     * Enveloppe chaque DataSource du contexte dans un proxy datasource-proxy.
+     * Les sources déléguées (routage vers le réplica) ne sont pas enveloppées : leurs cibles le sont déjà.
+     * Déclaré statique pour être instancié avant les autres beans ; les propriétés sont résolues paresseusement.
+     *
+     * @param properties Les paramètres de l'instrumentation.
+     * @return Le post-processeur d'enveloppe.
+     */
+    @Bean
+    public static BeanPostProcessor sqlMetricsDataSourcePostProcessor(ObjectProvider<SqlMetricsProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                        && !(bean instanceof DelegatingDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new SqlStatementListener(properties.getObject()))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Enregistre le filtre de mesure juste après le filtre d'observation, avant la sécurité,
+     * afin d'inclure le chargement de l'utilisateur authentifié dans le décompte.
+     *
+     * @param properties Les paramètres de l'instrumentation.
+     * @return L'enregistrement du filtre.
+     */
+    @Bean
+    public FilterRegistrationBean<SqlMetricsFilter> sqlMetricsFilter(SqlMetricsProperties properties) {
+        FilterRegistrationBean<SqlMetricsFilter> registration = new FilterRegistrationBean<>(new SqlMetricsFilter(properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
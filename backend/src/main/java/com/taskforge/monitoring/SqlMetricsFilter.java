@@ -0,0 +1,94 @@
+package com.taskforge.monitoring;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Filtre qui mesure les requêtes SQL exécutées pendant chaque requête HTTP.
+ * Il écrit une ligne de journal d'accès avec le nombre de requêtes et leur durée cumulée,
+ * signale les endpoints qui dépassent leur budget et, hors production, expose ces mesures
+ * dans les en-têtes de réponse.
+ */
+@Slf4j
+public class SqlMetricsFilter extends OncePerRequestFilter {
+
+    public static final String SQL_COUNT_HEADER = "X-SQL-Count";
+    public static final String SQL_TIME_HEADER = "X-SQL-Time-Ms";
+    public static final String SQL_BUDGET_EXCEEDED_HEADER = "X-SQL-Budget-Exceeded";
+
+    private final SqlMetricsProperties properties;
+
+    public SqlMetricsFilter(SqlMetricsProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Ouvre les compteurs SQL, exécute la chaîne puis publie les mesures.
+     * Lorsque les en-têtes sont exposés, le corps est mis en mémoire tampon afin de pouvoir
+     * ajouter les en-têtes une fois le traitement terminé.
+     *
+     * @param request  La requête HTTP entrante.
+     * @param response La réponse HTTP sortante.
+     * @param chain    La chaîne de filtres à poursuivre.
+     * @throws ServletException En cas d'erreur de servlet.
+     * @throws IOException      En cas d'erreur d'entrée/sortie.
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        SqlRequestStats stats = SqlRequestStats.begin();
+        ContentCachingResponseWrapper buffered = properties.isExposeHeaders() ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            chain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            SqlRequestStats.end();
+            String endpoint = endpoint(request);
+            int budget = properties.budgetFor(endpoint);
+            boolean overBudget = stats.getStatementCount() > budget;
+
+            if (overBudget) {
+                log.warn("Budget SQL dépassé pour {} : {} requêtes (budget {})", endpoint, stats.getStatementCount(), budget);
+            }
+            if (properties.isAccessLog() && log.isInfoEnabled()) {
+                log.info("{} {} -> {} en {} ms (SQL : {} requêtes, {} ms)", request.getMethod(), request.getRequestURI(),
+                        response.getStatus(), (System.nanoTime() - start) / 1_000_000,
+                        stats.getStatementCount(), stats.getElapsedMillis());
+            }
+            if (buffered != null) {
+                buffered.setHeader(SQL_COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+                buffered.setHeader(SQL_TIME_HEADER, String.valueOf(stats.getElapsedMillis()));
+                if (overBudget) {
+                    buffered.setHeader(SQL_BUDGET_EXCEEDED_HEADER, String.valueOf(budget));
+                }
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    /**
+     * Les endpoints Actuator (sondes, scrape Prometheus) ne sont ni mesurés ni journalisés.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    /**
+     * Construit la clé "MÉTHODE gabarit" de l'endpoint, à partir du gabarit de route résolu par Spring MVC
+     * ou, à défaut (404, ressource statique), de l'URI brute.
+     */
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+}
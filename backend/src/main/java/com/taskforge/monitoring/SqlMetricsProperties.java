@@ -0,0 +1,47 @@
+package com.taskforge.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Paramètres de l'instrumentation SQL par requête HTTP ({@code taskforge.sql.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "taskforge.sql")
+public class SqlMetricsProperties {
+
+    /** Active l'enveloppe de la source de données et le comptage des requêtes. */
+    private boolean enabled = true;
+
+    /** Ajoute les en-têtes X-SQL-Count / X-SQL-Time-Ms aux réponses (à réserver aux environnements hors production). */
+    private boolean exposeHeaders = false;
+
+    /** Écrit une ligne de journal d'accès par requête HTTP avec le nombre de requêtes SQL et leur durée. */
+    private boolean accessLog = true;
+
+    /** Durée (en millisecondes) au-delà de laquelle une requête SQL est journalisée avec ses paramètres. */
+    private long slowQueryThresholdMs = 200;
+
+    /** Budget de requêtes SQL appliqué aux endpoints absents de {@link #budgets}. */
+    private int defaultBudget = 30;
+
+    /**
+     * Budgets par endpoint, indexés par "MÉTHODE gabarit" (ex. "GET /api/projects/{id}").
+     * Une requête qui dépasse son budget est signalée dans les journaux.
+     */
+    private Map<String, Integer> budgets = new LinkedHashMap<>();
+
+    /**
+     * Retourne le budget applicable à un endpoint.
+     *
+     * @param endpoint L'endpoint au format "MÉTHODE gabarit".
+     * @return Le budget spécifique s'il existe, sinon le budget par défaut.
+     */
+    public int budgetFor(String endpoint) {
+        return budgets.getOrDefault(endpoint, defaultBudget);
+    }
+}
@@ -0,0 +1,57 @@
+package com.taskforge.monitoring;
+
+/**
+ * Compteurs SQL de la requête HTTP en cours, portés par le thread qui la traite.
+ * Ouverts par {@link SqlMetricsFilter} et alimentés par {@link SqlStatementListener}.
+ * Les requêtes SQL exécutées hors d'une requête HTTP (tâches planifiées, démarrage) ne sont pas comptées.
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long elapsedMillis;
+
+    private SqlRequestStats() {
+    }
+
+    /**
+     * Ouvre les compteurs pour le thread courant.
+     *
+     * @return Les compteurs ouverts.
+     */
+    public static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Retourne les compteurs du thread courant.
+     *
+     * @return Les compteurs, ou null si aucune requête HTTP n'est en cours sur ce thread.
+     */
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Ferme les compteurs du thread courant.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void record(long elapsedMillis) {
+        this.statementCount++;
+        this.elapsedMillis += elapsedMillis;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskforge.monitoring;
+
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.logging.DefaultQueryLogEntryCreator;
+
+/**
+ * Écouteur branché sur la source de données instrumentée.
+ * Chaque exécution (y compris un lot JDBC, compté comme un aller-retour) incrémente les compteurs
+ * de la requête HTTP en cours ; les exécutions plus lentes que le seuil configuré sont journalisées
+ * avec leurs paramètres liés.
+ */
+@Slf4j
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private final SqlMetricsProperties properties;
+    private final DefaultQueryLogEntryCreator logEntryCreator = new DefaultQueryLogEntryCreator();
+
+    public SqlStatementListener(SqlMetricsProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // Rien à faire avant l'exécution : la durée est mesurée par le proxy.
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.record(execInfo.getElapsedTime());
+        }
+        if (execInfo.getElapsedTime() >= properties.getSlowQueryThresholdMs() && log.isWarnEnabled()) {
+            log.warn("Requête SQL lente ({} ms) : {}", execInfo.getElapsedTime(),
+                    logEntryCreator.getLogEntry(execInfo, queryInfoList, true, true, false));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.taskforge.repositories;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.taskforge.models.BoardEntry;
+
+public interface BoardEntryRepository extends JpaRepository<BoardEntry, Long> {
+
+    // Calcul des lignes du modèle de lecture depuis les tables sources, complété par une clause WHERE sur us
+    String PROJECTION = "INSERT INTO board_entries (user_story_id, project_id, title, description, priority, status, story_rank, backlog_rank, "
+            + "kanban_column_id, kanban_column_name, sprint_id, sprint_name, version_id, version_title, version_number, "
+            + "assignees, task_count, done_task_count, in_progress_task_count, assigned_task_count) "
+            + "SELECT us.id, us.project_id, us.title, us.description, us.priority, us.status, us.story_rank, us.backlog_rank, "
+            + "kc.id, kc.name, s.id, s.name, v.id, v.title, v.version_number, "
+            + "(SELECT STRING_AGG(u.username, CHR(10) ORDER BY u.username) FROM user_story_assignees a "
+            + "JOIN users u ON u.id = a.user_id WHERE a.user_story_id = us.id), "
+            + "us.task_count, us.done_task_count, us.in_progress_task_count, us.assigned_task_count "
+            + "FROM user_stories us "
+            + "LEFT JOIN kanban_columns kc ON kc.id = us.kanban_column_id "
+            + "LEFT JOIN sprints s ON s.id = us.sprint_id "
+            + "LEFT JOIN versions v ON v.id = us.version_id ";
+
+    // Lectures par rang, servies dans l'ordre par les index (…, story_rank, user_story_id) et
+    // (project_id, sprint_id, backlog_rank, user_story_id) : une page du backlog ne lit que ses lignes
+
+    @Query("SELECT e FROM BoardEntry e WHERE e.projectId = :projectId ORDER BY e.rank NULLS LAST, e.userStoryId")
+    List<BoardEntry> findByProjectIdOrderByRank(@Param("projectId") Long projectId);
+
+    @Query("SELECT e FROM BoardEntry e WHERE e.projectId = :projectId AND e.sprintId IS NULL "
+            + "ORDER BY e.backlogRank NULLS LAST, e.userStoryId")
+    List<BoardEntry> findBacklogByProjectIdOrderByBacklogRank(@Param("projectId") Long projectId, Pageable pageable);
+
+    @Query("SELECT e FROM BoardEntry e WHERE e.sprintId = :sprintId ORDER BY e.rank NULLS LAST, e.userStoryId")
+    List<BoardEntry> findBySprintIdOrderByRank(@Param("sprintId") Long sprintId);
+
+    @Modifying
+    @Query(value = "DELETE FROM board_entries WHERE user_story_id = :userStoryId", nativeQuery = true)
+    int deleteForStory(@Param("userStoryId") Long userStoryId);
+
+    @Modifying
+    @Query(value = PROJECTION + "WHERE us.id = :userStoryId", nativeQuery = true)
+    int insertForStory(@Param("userStoryId") Long userStoryId);
+
+    @Modifying
+    @Query(value = "DELETE FROM board_entries WHERE project_id = :projectId", nativeQuery = true)
+    int deleteForProject(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query(value = PROJECTION + "WHERE us.project_id = :projectId", nativeQuery = true)
+    int insertForProject(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query(value = "DELETE FROM board_entries", nativeQuery = true)
+    int deleteAllEntries();
+
+    @Modifying
+    @Query(value = PROJECTION, nativeQuery = true)
+    int insertAllEntries();
+}
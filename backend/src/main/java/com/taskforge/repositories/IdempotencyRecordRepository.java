@@ -0,0 +1,46 @@
+package com.taskforge.repositories;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.taskforge.models.IdempotencyRecord;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByUsernameAndIdempotencyKey(String username, String idempotencyKey);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.username = :username AND r.idempotencyKey = :idempotencyKey "
+            + "AND r.expiresAt < :now")
+    int deleteExpired(@Param("username") String username, @Param("idempotencyKey") String idempotencyKey,
+            @Param("now") Instant now);
+
+    // Reprend une clé dont la requête a été abandonnée en cours d'exécution ; 0 si une autre instance l'a reprise
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.claimedAt = :now, r.expiresAt = :expiresAt "
+            + "WHERE r.id = :id AND r.status IS NULL AND r.claimedAt < :staleBefore")
+    int takeOver(@Param("id") Long id, @Param("now") Instant now, @Param("expiresAt") Instant expiresAt,
+            @Param("staleBefore") Instant staleBefore);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = :status, r.contentType = :contentType, r.location = :location, "
+            + "r.body = :body, r.expiresAt = :expiresAt "
+            + "WHERE r.username = :username AND r.idempotencyKey = :idempotencyKey AND r.status IS NULL")
+    int complete(@Param("username") String username, @Param("idempotencyKey") String idempotencyKey,
+            @Param("status") Integer status, @Param("contentType") String contentType,
+            @Param("location") String location, @Param("body") byte[] body, @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.username = :username AND r.idempotencyKey = :idempotencyKey "
+            + "AND r.status IS NULL")
+    int release(@Param("username") String username, @Param("idempotencyKey") String idempotencyKey);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteAllExpired(@Param("now") Instant now);
+}
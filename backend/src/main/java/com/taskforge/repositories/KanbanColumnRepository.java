@@ -3,15 +3,73 @@ package com.taskforge.repositories;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.taskforge.dto.BoardColumn;
 import com.taskforge.models.KanbanColumn;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface KanbanColumnRepository extends JpaRepository<KanbanColumn, Long> {
-    List<KanbanColumn> findByProjectIdOrderByOrderAsc(Long projectId);
+    @Override
+    @EntityGraph(attributePaths = {"project", "project.owner", "project.members"})
+    Optional<KanbanColumn> findById(Long id);
+
+    @EntityGraph(attributePaths = {"project", "project.owner", "project.members"})
+    @Query("SELECT c FROM KanbanColumn c WHERE c.project.id = :projectId ORDER BY c.rank NULLS LAST, c.id")
+    List<KanbanColumn> findByProjectIdOrderByRank(@Param("projectId") Long projectId);
     Optional<KanbanColumn> findByStatusAndProjectId(String status, Long projectId);
-    boolean existsByStatusAndProjectId(String status, Long projectId);
+
+    @Query("""
+            SELECT new com.taskforge.dto.BoardColumn(c.id, c.name, c.status, c.order, c.rank, c.project.id, c.isDefault,
+                    c.wipLimit)
+            FROM KanbanColumn c
+            WHERE c.project.id = :projectId
+            ORDER BY c.rank NULLS LAST, c.id
+            """)
+    List<BoardColumn> findBoardColumns(Long projectId);
+
+    // Verrouille les colonnes du projet, par rang : les déplacements et redistributions du projet s'exécutent l'un après l'autre
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM KanbanColumn c WHERE c.project.id = :projectId ORDER BY c.rank NULLS LAST, c.id")
+    List<KanbanColumn> lockByProjectIdOrderByRank(@Param("projectId") Long projectId);
+
+    @Query("SELECT DISTINCT c.project.id FROM KanbanColumn c WHERE c.rank IS NULL")
+    List<Long> findProjectIdsWithUnrankedColumns();
+
     void deleteAllByProjectId(Long projectId);
+
+    // Compteurs de User Stories : mises à jour relatives, celle qui fait entrer des User Stories dans une colonne
+    // n'a lieu que si la limite WIP le permet. La ligne reste verrouillée jusqu'à la fin de la transaction.
+
+    /**
+     * @return 1 si les User Stories sont entrées dans la colonne, 0 si sa limite WIP l'interdit.
+     */
+    @Modifying
+    @Query(value = "UPDATE kanban_columns SET story_count = story_count + :count "
+            + "WHERE id = :columnId AND (wip_limit IS NULL OR story_count + :count <= wip_limit)", nativeQuery = true)
+    int addStoriesWithinLimit(@Param("columnId") Long columnId, @Param("count") int count);
+
+    @Modifying
+    @Query(value = "UPDATE kanban_columns SET story_count = story_count + :delta WHERE id = :columnId", nativeQuery = true)
+    int adjustStoryCount(@Param("columnId") Long columnId, @Param("delta") int delta);
+
+    /**
+     * Recalcule depuis la table des User Stories les compteurs des colonnes qui s'en écartent.
+     *
+     * @return Le nombre de colonnes corrigées.
+     */
+    @Modifying
+    @Query(value = "UPDATE kanban_columns kc SET "
+            + "story_count = (SELECT COUNT(*) FROM user_stories us WHERE us.kanban_column_id = kc.id) "
+            + "WHERE kc.story_count <> (SELECT COUNT(*) FROM user_stories us WHERE us.kanban_column_id = kc.id)",
+            nativeQuery = true)
+    int reconcileStoryCounts();
 }
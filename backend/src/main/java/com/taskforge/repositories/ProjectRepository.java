@@ -3,14 +3,34 @@ package com.taskforge.repositories;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import com.taskforge.dto.ProjectSummary;
 import com.taskforge.models.Project;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+    @Override
+    @EntityGraph(attributePaths = {"owner", "members"})
+    Optional<Project> findById(Long id);
+
     Optional<Project> findByName(String name);
 
-    @Query("SELECT p FROM Project p WHERE p.owner.username = :username OR :username IN (SELECT m.username FROM p.members m)")
-    List<Project> findAllByOwnerOrMember(String username);
+    @Query("""
+            SELECT new com.taskforge.dto.ProjectSummary(p.id, p.name, p.description,
+                CASE WHEN p.owner.id = :userId THEN true ELSE false END,
+                (SELECT COUNT(m) FROM p.members m),
+                (SELECT COUNT(us) FROM UserStory us WHERE us.project = p))
+            FROM Project p JOIN p.members pm
+            WHERE pm.id = :userId
+            ORDER BY p.id
+            """)
+    List<ProjectSummary> findSummariesByMemberId(Long userId);
+
+    @Query("SELECT p.id FROM Project p JOIN p.members pm WHERE pm.id = :userId")
+    List<Long> findIdsByMemberId(Long userId);
+
+    @Query("SELECT p.id FROM Project p WHERE p.owner.id = :userId")
+    List<Long> findIdsByOwnerId(Long userId);
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.taskforge.repositories;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,8 +11,10 @@ import com.taskforge.models.Sprint;
 
 @Repository
 public interface SprintRepository extends JpaRepository<Sprint, Long> {
+    @Override
+    @EntityGraph(attributePaths = {"project", "project.owner", "project.members"})
+    Optional<Sprint> findById(Long id);
+
     List<Sprint> findByProjectId(Long projectId);
-    boolean existsByNameAndProjectId(String name, Long projectId);
-    Sprint findByNameAndProjectId(String name, Long projectId);
     void deleteAllByProjectId(Long projectId);
 }
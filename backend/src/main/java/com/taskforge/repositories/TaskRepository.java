@@ -1,7 +1,10 @@
 package com.taskforge.repositories;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,8 +12,13 @@ import com.taskforge.models.Task;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
+    @Override
+    @EntityGraph(attributePaths = {"userStory", "userStory.project", "userStory.project.owner", "userStory.project.members"})
+    Optional<Task> findById(Long id);
+
+    @EntityGraph(attributePaths = {"userStory", "userStory.project", "userStory.project.owner", "userStory.project.members"})
+    List<Task> findByIdIn(Collection<Long> ids);
+
     List<Task> findAllByUserStoryId(Long userStoryId);
-    boolean existsByTitleAndUserStoryId(String title, Long userStoryId);
-    Task findByTitleAndUserStoryId(String title, Long userStoryId);
     void deleteAllByUserStoryId(Long userStoryId);
 }
\ No newline at end of file
@@ -3,11 +3,14 @@ package com.taskforge.repositories;
 import com.taskforge.models.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+    List<User> findByUsernameIn(Collection<String> usernames);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
 }
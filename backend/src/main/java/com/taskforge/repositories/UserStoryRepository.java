@@ -1,15 +1,169 @@
 package com.taskforge.repositories;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.taskforge.models.KanbanColumn;
+import com.taskforge.models.Sprint;
 import com.taskforge.models.UserStory;
+import com.taskforge.models.Version;
+
+import jakarta.persistence.LockModeType;
 
 public interface UserStoryRepository extends JpaRepository<UserStory, Long> {
+
+    // Compteurs de tâches de la User Story d'alias us, calculés depuis la table des tâches
+    String TASK_COUNT = "(SELECT COUNT(*) FROM tasks t WHERE t.user_story_id = us.id)";
+    String DONE_TASK_COUNT = "(SELECT COUNT(*) FROM tasks t WHERE t.user_story_id = us.id AND t.status = 'DONE')";
+    String IN_PROGRESS_TASK_COUNT = "(SELECT COUNT(*) FROM tasks t WHERE t.user_story_id = us.id AND t.status = 'IN_PROGRESS')";
+    String ASSIGNED_TASK_COUNT = "(SELECT COUNT(*) FROM tasks t WHERE t.user_story_id = us.id AND t.assigned_to_user_id IS NOT NULL)";
+
+    @Override
+    @EntityGraph(attributePaths = {"project", "project.owner", "sprint", "version", "kanbanColumn"})
+    Optional<UserStory> findById(Long id);
+
+    @EntityGraph(attributePaths = {"project", "project.owner", "sprint", "version", "kanbanColumn"})
     List<UserStory> findByProjectId(Long projectId);
-    boolean existsByTitleAndProjectId(String title, Long projectId);
-    UserStory findByTitleAndProjectId(String title, Long projectId);
+
     void deleteAllByProjectId(Long projectId);
+
+    @EntityGraph(attributePaths = {"project", "project.owner", "sprint", "version", "kanbanColumn"})
     List<UserStory> findByVersionId(Long versionId);
-}
\ No newline at end of file
+
+    @EntityGraph(attributePaths = {"project", "project.owner"})
+    List<UserStory> findByIdIn(Collection<Long> ids);
+
+    // Verrouille les lignes jusqu'à la fin de la transaction : les écritures concurrentes sur ces User Stories attendent
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT us FROM UserStory us WHERE us.id IN :ids")
+    List<UserStory> lockByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Rangs : les User Stories d'un projet forment une seule suite, lue par l'index (project_id, story_rank)
+
+    Optional<UserStory> findByIdAndProjectId(Long id, Long projectId);
+
+    @Query("SELECT MAX(us.rank) FROM UserStory us WHERE us.project.id = :projectId")
+    Optional<String> findMaxRank(@Param("projectId") Long projectId);
+
+    Optional<UserStory> findFirstByProjectIdAndRankGreaterThanAndIdNotOrderByRankAsc(Long projectId, String rank, Long id);
+
+    Optional<UserStory> findFirstByProjectIdAndRankLessThanAndIdNotOrderByRankDesc(Long projectId, String rank, Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT us FROM UserStory us WHERE us.project.id = :projectId ORDER BY us.rank NULLS LAST, us.id")
+    List<UserStory> lockByProjectIdOrderByRank(@Param("projectId") Long projectId);
+
+    @Query("SELECT DISTINCT us.project.id FROM UserStory us WHERE us.rank IS NULL")
+    List<Long> findProjectIdsWithUnrankedStories();
+
+    // Rangs de backlog : une seconde suite par projet, lue par l'index (project_id, backlog_rank)
+
+    @EntityGraph(attributePaths = {"project", "project.owner", "version", "kanbanColumn"})
+    @Query("SELECT us FROM UserStory us WHERE us.project.id = :projectId AND us.sprint IS NULL "
+            + "ORDER BY us.backlogRank NULLS LAST, us.id")
+    List<UserStory> findBacklogByProjectIdOrderByBacklogRank(@Param("projectId") Long projectId);
+
+    @Query("SELECT MAX(us.backlogRank) FROM UserStory us WHERE us.project.id = :projectId")
+    Optional<String> findMaxBacklogRank(@Param("projectId") Long projectId);
+
+    Optional<UserStory> findFirstByProjectIdAndBacklogRankGreaterThanAndIdNotOrderByBacklogRankAsc(Long projectId,
+            String backlogRank, Long id);
+
+    Optional<UserStory> findFirstByProjectIdAndBacklogRankLessThanAndIdNotOrderByBacklogRankDesc(Long projectId,
+            String backlogRank, Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT us FROM UserStory us WHERE us.project.id = :projectId ORDER BY us.backlogRank NULLS LAST, us.id")
+    List<UserStory> lockByProjectIdOrderByBacklogRank(@Param("projectId") Long projectId);
+
+    @Query("SELECT DISTINCT us.project.id FROM UserStory us WHERE us.backlogRank IS NULL")
+    List<Long> findProjectIdsWithUnrankedBacklog();
+
+    // Modifications groupées : une seule requête pour toutes les User Stories, limitée au projet donné.
+    // Le contexte de persistance est vidé ensuite pour que les lectures suivantes de la transaction voient la base.
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserStory us SET us.sprint = :sprint WHERE us.id IN :ids AND us.project.id = :projectId")
+    int assignSprint(@Param("ids") Collection<Long> ids, @Param("projectId") Long projectId,
+            @Param("sprint") Sprint sprint);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserStory us SET us.sprint = NULL WHERE us.id IN :ids AND us.sprint.id = :sprintId")
+    int removeSprint(@Param("ids") Collection<Long> ids, @Param("sprintId") Long sprintId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserStory us SET us.version = :version WHERE us.id IN :ids AND us.project.id = :projectId")
+    int assignVersion(@Param("ids") Collection<Long> ids, @Param("projectId") Long projectId,
+            @Param("version") Version version);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserStory us SET us.version = NULL WHERE us.id IN :ids AND us.version.id = :versionId")
+    int removeVersion(@Param("ids") Collection<Long> ids, @Param("versionId") Long versionId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserStory us SET us.status = :status WHERE us.id IN :ids AND us.project.id = :projectId")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("projectId") Long projectId,
+            @Param("status") String status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserStory us SET us.status = :status, us.kanbanColumn = :column "
+            + "WHERE us.id IN :ids AND us.project.id = :projectId")
+    int updateStatusAndColumn(@Param("ids") Collection<Long> ids, @Param("projectId") Long projectId,
+            @Param("status") String status, @Param("column") KanbanColumn column);
+
+    /**
+     * Applique des écarts aux compteurs de tâches d'une User Story, en une seule mise à jour relative :
+     * deux écritures concurrentes de tâches ne peuvent pas perdre l'incrément de l'autre.
+     *
+     * @return Le nombre de lignes modifiées.
+     */
+    @Modifying
+    @Query(value = "UPDATE user_stories SET task_count = task_count + :total, "
+            + "done_task_count = done_task_count + :done, "
+            + "in_progress_task_count = in_progress_task_count + :inProgress, "
+            + "assigned_task_count = assigned_task_count + :assigned "
+            + "WHERE id = :userStoryId", nativeQuery = true)
+    int adjustTaskCounters(@Param("userStoryId") Long userStoryId, @Param("total") int total,
+            @Param("done") int done, @Param("inProgress") int inProgress, @Param("assigned") int assigned);
+
+    /**
+     * Recalcule depuis la table des tâches, en une seule mise à jour, les compteurs des User Stories données.
+     * Les lignes doivent être verrouillées au préalable ({@link #lockByIdIn}) : une écriture concurrente de tâche
+     * a alors soit validé sa tâche, visible ici, soit attend ce verrou pour appliquer son écart.
+     *
+     * @return Le nombre de lignes modifiées.
+     */
+    @Modifying
+    @Query(value = "UPDATE user_stories us SET "
+            + "task_count = " + TASK_COUNT + ", "
+            + "done_task_count = " + DONE_TASK_COUNT + ", "
+            + "in_progress_task_count = " + IN_PROGRESS_TASK_COUNT + ", "
+            + "assigned_task_count = " + ASSIGNED_TASK_COUNT + " "
+            + "WHERE us.id IN (:ids)", nativeQuery = true)
+    int recomputeTaskCounters(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Recalcule depuis la table des tâches les compteurs des User Stories qui s'en écartent.
+     *
+     * @return Le nombre de User Stories corrigées.
+     */
+    @Modifying
+    @Query(value = "UPDATE user_stories us SET "
+            + "task_count = " + TASK_COUNT + ", "
+            + "done_task_count = " + DONE_TASK_COUNT + ", "
+            + "in_progress_task_count = " + IN_PROGRESS_TASK_COUNT + ", "
+            + "assigned_task_count = " + ASSIGNED_TASK_COUNT + " "
+            + "WHERE us.task_count <> " + TASK_COUNT
+            + " OR us.done_task_count <> " + DONE_TASK_COUNT
+            + " OR us.in_progress_task_count <> " + IN_PROGRESS_TASK_COUNT
+            + " OR us.assigned_task_count <> " + ASSIGNED_TASK_COUNT, nativeQuery = true)
+    int reconcileTaskCounters();
+}
@@ -3,6 +3,7 @@ package com.taskforge.repositories;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,9 +12,14 @@ import com.taskforge.models.Version;
 @Repository
 public interface VersionRepository extends JpaRepository<Version, Long> {
     
+    @Override
+    @EntityGraph(attributePaths = {"userStories", "userStories.project", "userStories.project.owner",
+            "userStories.sprint", "userStories.kanbanColumn"})
+    Optional<Version> findById(Long id);
+    
+    @EntityGraph(attributePaths = {"userStories", "userStories.project", "userStories.project.owner",
+            "userStories.sprint", "userStories.kanbanColumn"})
     List<Version> findByProjectIdOrderByIdDesc(Long projectId);
     
     Optional<Version> findByProjectIdAndVersionNumber(Long projectId, String versionNumber);
-    
-    boolean existsByProjectIdAndVersionNumber(Long projectId, String versionNumber);
 }
\ No newline at end of file
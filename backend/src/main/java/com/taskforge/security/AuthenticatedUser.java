@@ -0,0 +1,68 @@
+package com.taskforge.security;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.taskforge.dto.ProjectSummary;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Utilisateur authentifié reconstruit à partir des claims de son jeton JWT, sans accès à la base.
+ * Porte l'identifiant numérique de l'utilisateur et, si le jeton les contient et qu'elles sont à jour,
+ * ses appartenances aux projets avec son rôle dans chacun.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AuthenticatedUser implements Principal {
+
+    private final Long id;
+
+    private final String username;
+
+    /**
+     * Rôle par identifiant de projet, ou {@code null} si les appartenances sont absentes du jeton ou périmées.
+     */
+    private final Map<Long, ProjectSummary.Role> projects;
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    /**
+     * @return {@code true} si les appartenances du jeton sont présentes et à jour.
+     */
+    public boolean hasProjectClaims() {
+        return projects != null;
+    }
+
+    /**
+     * @param projectId L'identifiant du projet.
+     * @return {@code true} si le jeton atteste, à jour, que l'utilisateur est membre du projet.
+     */
+    public boolean isMemberOf(Long projectId) {
+        return projects != null && projects.containsKey(projectId);
+    }
+
+    /**
+     * Renvoie l'utilisateur authentifié par jeton de la requête courante, s'il correspond au nom d'utilisateur
+     * donné.
+     *
+     * @param username Le nom d'utilisateur transmis au service.
+     * @return Le principal JWT, ou vide pour une autre forme d'authentification.
+     */
+    public static Optional<AuthenticatedUser> current(String username) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user
+                && user.getUsername().equals(username)) {
+            return Optional.of(user);
+        }
+        return Optional.empty();
+    }
+}
@@ -13,11 +13,14 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Filtre de sécurité exécuté une fois par requête pour gérer l'authentification JWT.
  * Il intercepte les requêtes HTTP, extrait le jeton JWT de l'en-tête "Authorization",
  * valide le jeton et configure le contexte de sécurité Spring si l'utilisateur est authentifié.
+ * Le principal est un {@link AuthenticatedUser} construit à partir des claims du jeton ; seuls les jetons émis
+ * sans identifiant d'utilisateur chargent encore l'utilisateur en base.
  */
 @Component
 public class JwtFilter extends OncePerRequestFilter {
@@ -51,9 +54,15 @@ public class JwtFilter extends OncePerRequestFilter {
 
         try {
             final String token = authHeader.substring(7);
-            final String username = jwtService.extractUsername(token); 
+            final AuthenticatedUser authenticatedUser = jwtService.extractAuthenticatedUser(token);
+            final String username = authenticatedUser != null
+                    ? authenticatedUser.getUsername() : jwtService.extractUsername(token);
 
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (authenticatedUser != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                // Token avec identifiant : le principal est construit depuis les claims, sans accès à la base
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(authenticatedUser, null, List.of()));
+            } else if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
                 if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authToken =
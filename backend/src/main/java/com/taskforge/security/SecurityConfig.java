@@ -1,6 +1,9 @@
 package com.taskforge.security;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -89,6 +92,9 @@ public class SecurityConfig {
                     new AntPathRequestMatcher("/swagger-resources/**"),
                     new AntPathRequestMatcher("/api/versions/**")
                 ).permitAll()
+                // Sondes et métriques, lues par l'orchestrateur et Prometheus : sans authentification, elles ne doivent
+                // pas être joignables publiquement (nginx ne les relaie pas, mais le port 8080 l'est en docker-compose)
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class)).permitAll()
                 .anyRequest().authenticated()
             )
             .authenticationProvider(authenticationProvider())
@@ -115,7 +121,8 @@ public class SecurityConfig {
         ));
         
         configuration.setAllowedMethods(java.util.List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(java.util.List.of("Authorization", "Content-Type", "X-Requested-With"));
+        configuration.setAllowedHeaders(java.util.List.of("Authorization", "Content-Type", "X-Requested-With", "Idempotency-Key"));
+        configuration.setExposedHeaders(java.util.List.of("Idempotent-Replayed"));
         configuration.setAllowCredentials(true); // Important si tu ajoutes des cookies un jour
         
         org.springframework.web.cors.UrlBasedCorsConfigurationSource source = new org.springframework.web.cors.UrlBasedCorsConfigurationSource();
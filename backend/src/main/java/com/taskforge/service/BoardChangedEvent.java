@@ -0,0 +1,30 @@
+package com.taskforge.service;
+
+/**
+ * Événement publié par les services quand une donnée affichée par les tableaux et backlogs change.
+ * Porte soit une User Story (création, modification, suppression, tâches), soit un projet entier quand le
+ * changement touche plusieurs User Stories (sprint, version ou colonne renommés ou supprimés), soit seulement
+ * les colonnes Kanban d'un projet quand aucune User Story n'est touchée (colonne créée).
+ *
+ * @param projectId   Le projet concerné.
+ * @param userStoryId La User Story concernée, ou {@code null} pour tout le projet.
+ * @param scope       L'étendue du changement.
+ */
+public record BoardChangedEvent(Long projectId, Long userStoryId, Scope scope) {
+
+    public enum Scope {
+        STORY, PROJECT, COLUMNS
+    }
+
+    public static BoardChangedEvent story(Long projectId, Long userStoryId) {
+        return new BoardChangedEvent(projectId, userStoryId, Scope.STORY);
+    }
+
+    public static BoardChangedEvent project(Long projectId) {
+        return new BoardChangedEvent(projectId, null, Scope.PROJECT);
+    }
+
+    public static BoardChangedEvent columns(Long projectId) {
+        return new BoardChangedEvent(projectId, null, Scope.COLUMNS);
+    }
+}
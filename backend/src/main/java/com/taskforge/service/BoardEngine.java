@@ -0,0 +1,279 @@
+package com.taskforge.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskforge.dto.BoardColumn;
+import com.taskforge.dto.BoardStory;
+import com.taskforge.models.BoardEntry;
+import com.taskforge.repositories.BoardEntryRepository;
+import com.taskforge.repositories.KanbanColumnRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Tableaux des projets tenus en mémoire : colonnes Kanban et User Stories (assignés et compteurs de tâches
+ * compris), par identifiant de projet.
+ * Un tableau est chargé au premier accès, depuis la base principale pour ne pas mettre en cache l'état en retard
+ * d'un réplica, puis sert toutes les lectures du projet. Après la validation de chaque écriture, le
+ * {@link BoardChangedEvent} publié par le service met à jour le tableau s'il est en mémoire : la User Story
+ * concernée est relue et remplacée, ou tout le tableau est relu pour un changement de projet ou de colonnes.
+ * La relecture a lieu sous le verrou de l'entrée : deux écritures concurrentes sur le même projet s'appliquent
+ * dans l'ordre, et la dernière reflète l'état validé le plus récent.
+ *
+ * <p>Les tableaux sont évincés, les moins utilisés d'abord, au-delà d'un budget mémoire estimé
+ * ({@code taskforge.board-engine.max-memory}) ; la durée de vie n'est qu'un filet de sécurité. L'état est propre
+ * à chaque instance : avec plusieurs instances, désactiver le moteur ({@code taskforge.board-engine.enabled}).
+ *
+ * <p>Métriques : {@code cache_gets_total{cache="boards"}} et associées.
+ */
+@Component
+public class BoardEngine {
+
+    static final String CACHE_NAME = "boards";
+
+    // Estimation grossière de l'occupation mémoire : en-têtes d'objets et références, plus deux octets par caractère
+    private static final int BOARD_OVERHEAD = 128;
+    private static final int COLUMN_OVERHEAD = 96;
+    private static final int STORY_OVERHEAD = 320;
+    private static final int REF_OVERHEAD = 48;
+
+    private final boolean enabled;
+    private final Cache<Long, Board> cache;
+    private final BoardEntryRepository boardEntryRepository;
+    private final KanbanColumnRepository kanbanColumnRepository;
+    private final TransactionTemplate primaryTransaction;
+    private final TransactionTemplate freshTransaction;
+
+    public BoardEngine(
+            @Value("${taskforge.board-engine.enabled:true}") boolean enabled,
+            @Value("${taskforge.board-engine.max-memory:64MB}") DataSize maxMemory,
+            @Value("${taskforge.board-engine.ttl:30m}") Duration ttl,
+            BoardEntryRepository boardEntryRepository,
+            KanbanColumnRepository kanbanColumnRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry registry) {
+        this.enabled = enabled;
+        this.boardEntryRepository = boardEntryRepository;
+        this.kanbanColumnRepository = kanbanColumnRepository;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        // Après la validation, le contexte de persistance de la transaction validée est encore lié : il peut tenir
+        // les lignes du modèle de lecture telles qu'avant leur réécriture en SQL natif
+        this.freshTransaction = new TransactionTemplate(transactionManager);
+        this.freshTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxMemory.toBytes())
+                .weigher((Long projectId, Board board) -> board.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    // Ordre des User Stories d'un tableau, celui des requêtes du modèle de lecture : rang, sans rang en dernier, puis identifiant
+    static final Comparator<BoardStory> STORY_ORDER = Comparator
+            .comparing(BoardStory::getRank, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+            .thenComparing(BoardStory::getId);
+
+    // Ordre du backlog, celui de la requête du modèle de lecture : rang de backlog, sans rang en dernier, puis identifiant
+    static final Comparator<BoardStory> BACKLOG_ORDER = Comparator
+            .comparing(BoardStory::getBacklogRank, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+            .thenComparing(BoardStory::getId);
+
+    /**
+     * Tableau d'un projet : colonnes et User Stories par rang, et son backlog (User Stories sans sprint) par rang
+     * de backlog, trié une fois à chaque modification pour que ses pages se lisent sans tri.
+     * Les listes sont partagées entre les lecteurs et ne doivent pas être modifiées.
+     */
+    public record Board(List<BoardColumn> columns, List<BoardStory> stories, List<BoardStory> backlog, int weight) {
+
+        Board(List<BoardColumn> columns, List<BoardStory> stories) {
+            this(List.copyOf(columns), List.copyOf(stories), backlogOf(stories), weigh(columns, stories));
+        }
+
+        /**
+         * @return Une copie du tableau où la User Story d'identifiant {@code userStoryId} est remplacée par
+         *         {@code story} et placée à son rang, ou retirée si {@code story} est {@code null}.
+         */
+        Board withStory(Long userStoryId, BoardStory story) {
+            List<BoardStory> updated = new ArrayList<>(stories.size() + 1);
+            boolean placed = story == null;
+            for (BoardStory current : stories) {
+                if (!placed && !current.getId().equals(userStoryId) && STORY_ORDER.compare(current, story) > 0) {
+                    updated.add(story);
+                    placed = true;
+                }
+                if (!current.getId().equals(userStoryId)) {
+                    updated.add(current);
+                }
+            }
+            if (!placed) {
+                updated.add(story);
+            }
+            return new Board(columns, updated);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param projectId L'identifiant du projet, dont l'accès a déjà été vérifié.
+     * @return Le tableau du projet, chargé s'il n'est pas en mémoire.
+     */
+    public Board get(Long projectId) {
+        return enabled ? cache.get(projectId, this::loadFromPrimary) : load(projectId);
+    }
+
+    /**
+     * Applique une écriture validée au tableau du projet concerné, s'il est en mémoire, relue dans une
+     * transaction distincte de celle qui vient d'être validée.
+     *
+     * @param event Le changement publié par un service.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(BoardChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (!cache.asMap().containsKey(event.projectId())) {
+            return;
+        }
+        freshTransaction.executeWithoutResult(status -> cache.asMap().computeIfPresent(event.projectId(),
+                (projectId, board) -> switch (event.scope()) {
+                    case STORY -> board.withStory(event.userStoryId(),
+                            boardEntryRepository.findById(event.userStoryId()).map(BoardEngine::story).orElse(null));
+                    case PROJECT -> load(projectId);
+                    case COLUMNS -> new Board(kanbanColumnRepository.findBoardColumns(projectId), board.stories());
+                }));
+    }
+
+    /**
+     * Compare le tableau en mémoire d'un projet à son état en base.
+     *
+     * @param projectId L'identifiant du projet.
+     * @return Les écarts constatés, vide si le tableau est cohérent ou n'est pas en mémoire.
+     */
+    public List<String> verify(Long projectId) {
+        Board cached = cache.getIfPresent(projectId);
+        if (cached == null) {
+            return List.of();
+        }
+        Board stored = loadFromPrimary(projectId);
+        List<String> differences = new ArrayList<>();
+        if (!cached.columns().equals(stored.columns())) {
+            differences.add("colonnes : " + cached.columns() + " en mémoire, " + stored.columns() + " en base");
+        }
+        int size = Math.max(cached.stories().size(), stored.stories().size());
+        for (int i = 0; i < size; i++) {
+            BoardStory inMemory = i < cached.stories().size() ? cached.stories().get(i) : null;
+            BoardStory inDatabase = i < stored.stories().size() ? stored.stories().get(i) : null;
+            if (!Objects.equals(inMemory, inDatabase)) {
+                differences.add("User Story n°" + (i + 1) + " : " + inMemory + " en mémoire, " + inDatabase + " en base");
+            }
+        }
+        return differences;
+    }
+
+    /**
+     * Retire tous les tableaux de la mémoire, immédiatement puis après la validation de la transaction en cours.
+     */
+    public void clear() {
+        cache.invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll();
+                }
+            });
+        }
+    }
+
+    private Board loadFromPrimary(Long projectId) {
+        return primaryTransaction.execute(status -> load(projectId));
+    }
+
+    private Board load(Long projectId) {
+        return new Board(kanbanColumnRepository.findBoardColumns(projectId),
+                boardEntryRepository.findByProjectIdOrderByRank(projectId).stream().map(BoardEngine::story).toList());
+    }
+
+    static BoardStory story(BoardEntry entry) {
+        return BoardStory.builder()
+                .id(entry.getUserStoryId())
+                .title(entry.getTitle())
+                .description(entry.getDescription())
+                .priority(entry.getPriority())
+                .status(entry.getStatus())
+                .rank(entry.getRank())
+                .backlogRank(entry.getBacklogRank())
+                .sprint(entry.getSprintId() == null ? null
+                        : new BoardStory.SprintRef(entry.getSprintId(), entry.getSprintName()))
+                .version(entry.getVersionId() == null ? null
+                        : new BoardStory.VersionRef(entry.getVersionId(), entry.getVersionTitle(), entry.getVersionNumber()))
+                .kanbanColumn(entry.getKanbanColumnId() == null ? null
+                        : new BoardStory.ColumnRef(entry.getKanbanColumnId(), entry.getKanbanColumnName()))
+                .assignedTo(entry.getAssignees() == null || entry.getAssignees().isEmpty() ? List.of()
+                        : Arrays.stream(entry.getAssignees().split("\n")).map(BoardStory.Assignee::new).toList())
+                .taskCount(entry.getTaskCount())
+                .doneTaskCount(entry.getDoneTaskCount())
+                .inProgressTaskCount(entry.getInProgressTaskCount())
+                .assignedTaskCount(entry.getAssignedTaskCount())
+                .build();
+    }
+
+    private static List<BoardStory> backlogOf(List<BoardStory> stories) {
+        return stories.stream()
+                .filter(story -> story.getSprint() == null)
+                .sorted(BACKLOG_ORDER)
+                .toList();
+    }
+
+    private static int weigh(List<BoardColumn> columns, List<BoardStory> stories) {
+        long bytes = BOARD_OVERHEAD;
+        for (BoardColumn column : columns) {
+            bytes += COLUMN_OVERHEAD + chars(column.getName()) + chars(column.getStatus());
+        }
+        for (BoardStory story : stories) {
+            bytes += STORY_OVERHEAD + chars(story.getTitle()) + chars(story.getDescription()) + chars(story.getStatus())
+                    + chars(story.getRank()) + chars(story.getBacklogRank());
+            if (story.getSprint() != null) {
+                bytes += REF_OVERHEAD + chars(story.getSprint().name());
+            }
+            if (story.getVersion() != null) {
+                bytes += REF_OVERHEAD + chars(story.getVersion().title()) + chars(story.getVersion().versionNumber());
+            }
+            if (story.getKanbanColumn() != null) {
+                bytes += REF_OVERHEAD + chars(story.getKanbanColumn().name());
+            }
+            for (BoardStory.Assignee assignee : story.getAssignedTo()) {
+                bytes += REF_OVERHEAD + chars(assignee.username());
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static int chars(String value) {
+        return value == null ? 0 : 2 * value.length();
+    }
+}
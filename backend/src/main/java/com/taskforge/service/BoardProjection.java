@@ -0,0 +1,79 @@
+package com.taskforge.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.taskforge.repositories.BoardEntryRepository;
+import com.taskforge.repositories.UserStoryRepository;
+
+/**
+ * Maintien du modèle de lecture des tableaux et backlogs ({@code board_entries}).
+ * Chaque {@link BoardChangedEvent} remplace les lignes de la User Story ou du projet concerné par leur état
+ * recalculé depuis les tables sources. Le recalcul a lieu juste avant la validation de la transaction qui a publié
+ * l'événement, dans cette même transaction : le modèle de lecture est à jour dès que l'écriture est visible,
+ * et n'est pas modifié si elle échoue.
+ */
+@Component
+public class BoardProjection {
+
+    @Autowired
+    private BoardEntryRepository boardEntryRepository;
+
+    @Autowired
+    private UserStoryRepository userStoryRepository;
+
+    @Autowired
+    private BoardEngine boardEngine;
+
+    @Autowired
+    private ProjectChangeVersions projectChangeVersions;
+
+    /**
+     * Recalcule les lignes touchées par un changement.
+     *
+     * @param event Le changement publié par un service.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(BoardChangedEvent event) {
+        switch (event.scope()) {
+            case STORY -> {
+                boardEntryRepository.deleteForStory(event.userStoryId());
+                boardEntryRepository.insertForStory(event.userStoryId());
+            }
+            case PROJECT -> {
+                boardEntryRepository.deleteForProject(event.projectId());
+                boardEntryRepository.insertForProject(event.projectId());
+            }
+            case COLUMNS -> {
+                // Les lignes ne portent que la colonne de chaque User Story, inchangée
+            }
+        }
+    }
+
+    /**
+     * Reconstruit entièrement le modèle de lecture depuis les tables sources, vide les tableaux en mémoire et change
+     * la version de tous les projets.
+     *
+     * @return Le nombre de lignes écrites.
+     */
+    @Transactional
+    public int rebuild() {
+        boardEntryRepository.deleteAllEntries();
+        int written = boardEntryRepository.insertAllEntries();
+        boardEngine.clear();
+        projectChangeVersions.bumpAll();
+        return written;
+    }
+
+    /**
+     * @return {@code true} si le modèle de lecture est vide alors que des User Stories existent
+     *         (première mise en service, ou données importées sans passer par les services).
+     */
+    @Transactional(readOnly = true)
+    public boolean isMissing() {
+        return boardEntryRepository.count() == 0 && userStoryRepository.count() > 0;
+    }
+}
@@ -0,0 +1,142 @@
+package com.taskforge.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskforge.dto.BoardColumn;
+import com.taskforge.dto.BoardStory;
+import com.taskforge.exceptions.BusinessRuleException;
+import com.taskforge.models.BoardEntry;
+import com.taskforge.models.Sprint;
+import com.taskforge.repositories.BoardEntryRepository;
+import com.taskforge.repositories.KanbanColumnRepository;
+
+/**
+ * Service de lecture des tableaux et backlogs.
+ * Les tableaux sont servis par {@link BoardEngine}, en mémoire ; moteur désactivé, les User Stories sont lues
+ * depuis le modèle de lecture ({@link BoardEntry}), entretenu par {@link BoardProjection} : une lecture est alors
+ * un parcours d'index sur une seule table, sans jointure vers les colonnes, sprints, versions, assignés ni tâches.
+ * Les méthodes ne sont pas transactionnelles : la vérification d'accès et le chargement d'un tableau absent de la
+ * mémoire utilisent chacun leur propre transaction.
+ */
+@Service
+public class BoardService {
+
+    /** Taille maximale d'une page du backlog. */
+    static final int MAX_PAGE_SIZE = 500;
+
+    @Autowired
+    private BoardEngine boardEngine;
+
+    @Autowired
+    private BoardEntryRepository boardEntryRepository;
+
+    @Autowired
+    private KanbanColumnRepository kanbanColumnRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private SprintService sprintService;
+
+    /**
+     * Récupère le tableau d'un projet : toutes ses User Stories.
+     *
+     * @param projectId L'identifiant du projet.
+     * @param username  Le nom d'utilisateur effectuant la requête.
+     * @return Les User Stories du projet, par rang.
+     */
+    public List<BoardStory> getProjectBoard(Long projectId, String username) {
+        projectService.checkMembership(projectId, username);
+        if (useEngine()) {
+            return boardEngine.get(projectId).stories();
+        }
+        return toStories(boardEntryRepository.findByProjectIdOrderByRank(projectId));
+    }
+
+    /**
+     * Récupère les colonnes Kanban du tableau d'un projet.
+     *
+     * @param projectId L'identifiant du projet.
+     * @param username  Le nom d'utilisateur effectuant la requête.
+     * @return Les colonnes du projet, par rang.
+     */
+    public List<BoardColumn> getColumns(Long projectId, String username) {
+        projectService.checkMembership(projectId, username);
+        if (useEngine()) {
+            return boardEngine.get(projectId).columns();
+        }
+        return kanbanColumnRepository.findBoardColumns(projectId);
+    }
+
+    /**
+     * Récupère le backlog d'un projet : ses User Stories sans sprint, par priorité (rang de backlog).
+     * Avec une taille de page, seule cette page est lue : dans le backlog déjà trié du moteur, ou par un parcours
+     * de l'index (project_id, sprint_id, backlog_rank, user_story_id) du modèle de lecture arrêté à la fin de la page.
+     *
+     * @param projectId L'identifiant du projet.
+     * @param page      Le numéro de page, à partir de 0 ; ignoré sans taille de page.
+     * @param size      La taille de page, ou {@code null} pour tout le backlog.
+     * @param username  Le nom d'utilisateur effectuant la requête.
+     * @return Les User Stories de la page du backlog, par rang de backlog.
+     * @throws BusinessRuleException Si la page est négative ou la taille hors de [1, {@value #MAX_PAGE_SIZE}].
+     */
+    public List<BoardStory> getBacklog(Long projectId, int page, Integer size, String username) {
+        Pageable pageable = backlogPage(page, size);
+        projectService.checkMembership(projectId, username);
+        if (useEngine()) {
+            List<BoardStory> backlog = boardEngine.get(projectId).backlog();
+            if (pageable.isUnpaged()) {
+                return backlog;
+            }
+            int from = (int) Math.min(backlog.size(), pageable.getOffset());
+            return backlog.subList(from, Math.min(backlog.size(), from + pageable.getPageSize()));
+        }
+        return toStories(boardEntryRepository.findBacklogByProjectIdOrderByBacklogRank(projectId, pageable));
+    }
+
+    /**
+     * Récupère le tableau d'un sprint.
+     *
+     * @param sprintId L'identifiant du sprint.
+     * @param username Le nom d'utilisateur effectuant la requête.
+     * @return Les User Stories du sprint, par rang.
+     */
+    public List<BoardStory> getSprintBoard(Long sprintId, String username) {
+        Sprint sprint = sprintService.getSprintById(sprintId, username);
+        if (useEngine()) {
+            return boardEngine.get(sprint.getProject().getId()).stories().stream()
+                    .filter(story -> story.getSprint() != null && sprintId.equals(story.getSprint().id()))
+                    .toList();
+        }
+        return toStories(boardEntryRepository.findBySprintIdOrderByRank(sprintId));
+    }
+
+    /**
+     * Le moteur ne sert que les lectures hors transaction : dans un lot atomique, la lecture participe à la
+     * transaction du lot et ne doit pas charger en mémoire un état que le lot peut encore annuler.
+     */
+    private boolean useEngine() {
+        return boardEngine.isEnabled() && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private static Pageable backlogPage(int page, Integer size) {
+        if (size == null) {
+            return Pageable.unpaged();
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessRuleException("Page invalide : numéro à partir de 0, taille entre 1 et " + MAX_PAGE_SIZE);
+        }
+        return PageRequest.of(page, size);
+    }
+
+    private static List<BoardStory> toStories(List<BoardEntry> entries) {
+        return entries.stream().map(BoardEngine::story).toList();
+    }
+}
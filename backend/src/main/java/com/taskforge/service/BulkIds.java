@@ -0,0 +1,27 @@
+package com.taskforge.service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Identifiants reçus par les opérations groupées : doublons et valeurs nulles sont écartés, pour que le nombre de
+ * lignes modifiées par une requête groupée puisse être comparé au nombre d'identifiants demandés.
+ */
+final class BulkIds {
+
+    private BulkIds() {
+    }
+
+    /**
+     * @return Les identifiants distincts, dans l'ordre de la requête ; vide si {@code ids} est {@code null}.
+     */
+    static Set<Long> of(Collection<Long> ids) {
+        Set<Long> distinct = new LinkedHashSet<>();
+        if (ids != null) {
+            ids.stream().filter(Objects::nonNull).forEach(distinct::add);
+        }
+        return distinct;
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskforge.service;
+
+import com.taskforge.models.Project;
+import com.taskforge.models.User;
+import com.taskforge.security.AuthenticatedUser;
+
+/**
+ * Comparaisons entre l'utilisateur qui appelle un service et les utilisateurs des entités.
+ * Les services reçoivent un nom d'utilisateur ; quand la requête est authentifiée par jeton JWT,
+ * la comparaison se fait sur l'identifiant porté par le jeton, sinon sur le nom d'utilisateur.
+ */
+final class CurrentUser {
+
+    private CurrentUser() {
+    }
+
+    /**
+     * @return {@code true} si {@code user} est l'utilisateur appelant.
+     */
+    static boolean is(User user, String username) {
+        if (user == null) {
+            return false;
+        }
+        return AuthenticatedUser.current(username)
+                .map(authenticated -> authenticated.getId().equals(user.getId()))
+                .orElseGet(() -> user.getUsername().equals(username));
+    }
+
+    static boolean isOwner(Project project, String username) {
+        return is(project.getOwner(), username);
+    }
+
+    static boolean isMember(Project project, String username) {
+        return project.getMembers().stream().anyMatch(member -> is(member, username));
+    }
+
+    /**
+     * @return {@code true} si le jeton de l'appelant atteste, à jour, qu'il est membre du projet ;
+     *         {@code false} ne signifie pas qu'il ne l'est pas.
+     */
+    static boolean hasMembershipClaim(Long projectId, String username) {
+        return AuthenticatedUser.current(username)
+                .map(authenticated -> authenticated.isMemberOf(projectId))
+                .orElse(false);
+    }
+
+    /**
+     * @return L'identifiant porté par le jeton de l'appelant, ou {@code null} sans jeton.
+     */
+    static Long id(String username) {
+        return AuthenticatedUser.current(username).map(AuthenticatedUser::getId).orElse(null);
+    }
+}
@@ -0,0 +1,118 @@
+package com.taskforge.service;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+
+import com.taskforge.models.KanbanColumn;
+import com.taskforge.models.Project;
+import com.taskforge.models.Sprint;
+import com.taskforge.models.UserStory;
+import com.taskforge.models.Version;
+
+/**
+ * Plans de chargement des réponses de l'API.
+ * Les associations des entités sont paresseuses et la session Hibernate se ferme avec la transaction du service
+ * (open-in-view désactivé) : chaque méthode de service qui renvoie une entité charge ici, avant de rendre la main,
+ * exactement ce que sa représentation JSON contient. Les requêtes des repositories ramènent déjà les associations
+ * simples par jointure ({@code @EntityGraph}) ; les collections restantes sont chargées par lots
+ * ({@code hibernate.default_batch_fetch_size}), soit un nombre de requêtes indépendant du nombre d'éléments.
+ *
+ * <p>Chaque méthode est sans effet sur une association déjà chargée ou sur un objet non géré par Hibernate.
+ */
+final class FetchPlans {
+
+    private FetchPlans() {
+    }
+
+    /**
+     * Projet : propriétaire et membres.
+     */
+    static Project project(Project project) {
+        if (project != null) {
+            Hibernate.initialize(project);
+            Hibernate.initialize(project.getOwner());
+            Hibernate.initialize(project.getMembers());
+        }
+        return project;
+    }
+
+    /**
+     * Sprint : projet complet.
+     */
+    static Sprint sprint(Sprint sprint) {
+        if (sprint != null) {
+            Hibernate.initialize(sprint);
+            project(sprint.getProject());
+        }
+        return sprint;
+    }
+
+    /**
+     * Colonne Kanban : projet complet.
+     */
+    static KanbanColumn column(KanbanColumn column) {
+        if (column != null) {
+            Hibernate.initialize(column);
+            project(column.getProject());
+        }
+        return column;
+    }
+
+    static List<KanbanColumn> columns(List<KanbanColumn> columns) {
+        columns.forEach(FetchPlans::column);
+        return columns;
+    }
+
+    /**
+     * User Story : projet et sprint complets, version et colonne sans leurs propres associations,
+     * assignés et tâches.
+     */
+    static UserStory userStory(UserStory userStory) {
+        if (userStory != null) {
+            listedUserStory(userStory);
+            Hibernate.initialize(userStory.getTasks());
+        }
+        return userStory;
+    }
+
+    /**
+     * User Stories d'une liste : comme {@link #userStory(UserStory)}, sans les tâches. La progression s'affiche
+     * à partir des compteurs de tâches portés par la User Story ; les tâches restent non chargées et sont
+     * sérialisées à {@code null}.
+     */
+    static List<UserStory> userStories(List<UserStory> userStories) {
+        userStories.forEach(FetchPlans::listedUserStory);
+        return userStories;
+    }
+
+    private static UserStory listedUserStory(UserStory userStory) {
+        if (userStory != null) {
+            Hibernate.initialize(userStory);
+            project(userStory.getProject());
+            sprint(userStory.getSprint());
+            Hibernate.initialize(userStory.getVersion());
+            Hibernate.initialize(userStory.getKanbanColumn());
+            Hibernate.initialize(userStory.getAssignedTo());
+        }
+        return userStory;
+    }
+
+    /**
+     * Version : ses User Stories, selon {@link #userStories(List)}.
+     */
+    static Version version(Version version) {
+        if (version != null) {
+            Hibernate.initialize(version);
+            if (version.getUserStories() != null) {
+                userStories(version.getUserStories());
+            }
+        }
+        return version;
+    }
+
+    static List<Version> versions(List<Version> versions) {
+        versions.forEach(FetchPlans::version);
+        return versions;
+    }
+}
@@ -1,10 +1,20 @@
 package com.taskforge.service;
 
 import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+
+import com.taskforge.dto.ProjectSummary;
+import com.taskforge.models.User;
+import com.taskforge.repositories.ProjectRepository;
+import com.taskforge.security.AuthenticatedUser;
+
 import javax.crypto.SecretKey;
 import java.util.Map;
 import io.jsonwebtoken.security.Keys;
@@ -16,24 +26,60 @@ import io.jsonwebtoken.Jwts;
  * Service utilitaire pour la gestion des JSON Web Tokens (JWT).
  * Ce service permet de générer des tokens signés pour l'authentification,
  * ainsi que d'extraire des informations (claims) à partir de tokens existants.
+ *
+ * <p>Le token d'un utilisateur de l'application porte, en plus de son nom, son identifiant ({@value #CLAIM_USER_ID}) ;
+ * si {@code taskforge.membership-claims.enabled} est activé, il porte aussi ses projets avec son rôle dans chacun
+ * ({@value #CLAIM_PROJECTS}, {@code {"12":"O","15":"M"}}) et le tampon de version de ces appartenances
+ * ({@value #CLAIM_MEMBERSHIP_VERSION}, voir {@link MembershipVersions}).
+ * Au-delà de {@value #MAX_PROJECT_CLAIMS} projets, la liste est omise et les services vérifient l'accès en base.
+ *
+ * <p>Les tampons de version sont propres à chaque instance : un membre retiré d'un projet par une instance garderait
+ * son accès sur les autres jusqu'à l'expiration de son token. Ces claims sont donc désactivés par défaut, et ne sont
+ * à activer que sur une instance unique ; sans eux, l'accès aux projets est toujours vérifié en base.
  */
 @Service
 public class JwtService {
 
+    static final String CLAIM_USER_ID = "uid";
+
+    static final String CLAIM_PROJECTS = "pids";
+
+    static final String CLAIM_MEMBERSHIP_VERSION = "mv";
+
+    static final int MAX_PROJECT_CLAIMS = 256;
+
+    private static final String OWNER = "O";
+
+    private static final String MEMBER = "M";
+
     @Value("${security.jwt.expiration-ms}")
     private Long jwtExpirationMs;
 
     @Value("${security.jwt.secret}")
     private String jwtSecret;
 
+    @Value("${taskforge.membership-claims.enabled:false}")
+    private boolean membershipClaimsEnabled;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private MembershipVersions membershipVersions;
+
     /**
      * Génère un token JWT pour un utilisateur donné.
+     * Pour un utilisateur enregistré, le token porte aussi son identifiant et ses appartenances aux projets.
      *
      * @param userDetails Les détails de l'utilisateur pour lequel le token est généré.
      * @return La chaîne de caractères représentant le token JWT signé.
      */
     public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof User user && user.getId() != null) {
+            claims.putAll(membershipClaims(user.getId()));
+        }
+        return generateToken(claims, userDetails);
     }
 
     /**
@@ -66,6 +112,61 @@ public class JwtService {
                 .compact();
     }
 
+    /**
+     * Construit les claims d'identité et d'appartenance d'un utilisateur.
+     * Le tampon de version est lu avant les projets : une modification concurrente rend le token périmé
+     * plutôt que faussement à jour.
+     *
+     * @param userId L'identifiant de l'utilisateur.
+     * @return Les claims {@value #CLAIM_USER_ID}, {@value #CLAIM_MEMBERSHIP_VERSION} et, si la liste n'est pas
+     *         trop longue, {@value #CLAIM_PROJECTS} ; seulement {@value #CLAIM_USER_ID} si ces claims sont désactivés.
+     */
+    private Map<String, Object> membershipClaims(Long userId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, userId);
+        if (!membershipClaimsEnabled) {
+            return claims;
+        }
+        claims.put(CLAIM_MEMBERSHIP_VERSION, membershipVersions.current(userId));
+
+        List<Long> memberOf = projectRepository.findIdsByMemberId(userId);
+        if (memberOf.size() <= MAX_PROJECT_CLAIMS) {
+            Set<Long> ownerOf = Set.copyOf(projectRepository.findIdsByOwnerId(userId));
+            claims.put(CLAIM_PROJECTS, memberOf.stream().collect(Collectors.toMap(
+                    String::valueOf, projectId -> ownerOf.contains(projectId) ? OWNER : MEMBER)));
+        }
+        return claims;
+    }
+
+    /**
+     * Reconstruit l'utilisateur authentifié à partir des claims du token, sans accès à la base.
+     * Les appartenances ne sont retenues que si les claims d'appartenance sont activés et que le tampon de version
+     * du token est toujours le tampon courant.
+     *
+     * @param token Le token JWT.
+     * @return L'utilisateur authentifié, ou {@code null} pour un token sans identifiant.
+     * @throws io.jsonwebtoken.JwtException Si le token est invalide ou expiré.
+     */
+    public AuthenticatedUser extractAuthenticatedUser(String token) {
+        io.jsonwebtoken.Claims claims = extractAllClaims(token);
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        if (userId == null) {
+            return null;
+        }
+        Long id = userId.longValue();
+
+        Map<Long, ProjectSummary.Role> projects = null;
+        Number version = claims.get(CLAIM_MEMBERSHIP_VERSION, Number.class);
+        Object projectClaims = claims.get(CLAIM_PROJECTS);
+        if (membershipClaimsEnabled && version != null && version.longValue() == membershipVersions.current(id)
+                && projectClaims instanceof Map<?, ?> roles) {
+            projects = roles.entrySet().stream().collect(Collectors.toUnmodifiableMap(
+                    entry -> Long.valueOf(entry.getKey().toString()),
+                    entry -> OWNER.equals(entry.getValue()) ? ProjectSummary.Role.OWNER : ProjectSummary.Role.MEMBER));
+        }
+        return new AuthenticatedUser(id, claims.getSubject(), projects);
+    }
+
     /**
      * Récupère la clé cryptographique utilisée pour signer les tokens.
      * La clé est décodée depuis la configuration (Base64).
@@ -1,19 +1,31 @@
 package com.taskforge.service;
 
 import java.util.List;
+import java.util.Objects;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.taskforge.dto.CreateKanbanColumnRequest;
+import com.taskforge.dto.MoveKanbanColumnRequest;
+import com.taskforge.exceptions.BusinessRuleException;
+import com.taskforge.exceptions.DuplicateResourceException;
+import com.taskforge.exceptions.ForbiddenOperationException;
+import com.taskforge.exceptions.ResourceNotFoundException;
 import com.taskforge.models.KanbanColumn;
 import com.taskforge.models.Project;
 import com.taskforge.repositories.KanbanColumnRepository;
 
 /**
  * Service gérant la logique métier liée aux colonnes Kanban.
- * Permet de créer, récupérer, mettre à jour et supprimer des colonnes personnalisées.
+ * Permet de créer, récupérer, mettre à jour, déplacer et supprimer des colonnes personnalisées.
+ * Les colonnes d'un projet sont ordonnées par rang ({@link LexoRank}) : l'ordre indiqué à la création ou à la
+ * modification place la colonne parmi les autres, un déplacement ne modifie que le rang de la colonne déplacée.
+ * Les écritures de rang verrouillent les colonnes du projet, si bien que deux placements concurrents ne calculent
+ * jamais leur rang depuis les mêmes voisines ; les rangs des colonnes sont redistribués sous ce même verrou.
+ * Une colonne peut recevoir une limite WIP, appliquée par {@link WipLimits} aux User Stories qui y entrent.
  */
 @Service
 public class KanbanColumnService {
@@ -23,6 +35,9 @@ public class KanbanColumnService {
     
     @Autowired
     private ProjectService projectService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     
     /**
      * Crée une nouvelle colonne Kanban personnalisée.
@@ -30,40 +45,45 @@ public class KanbanColumnService {
      * @param request  Les détails de la colonne à créer.
      * @param username Le nom d'utilisateur effectuant la création.
      * @return La colonne Kanban créée.
+     * @throws BusinessRuleException Si la limite WIP indiquée est inférieure à 1.
      */
     @Transactional
     public KanbanColumn createKanbanColumn(CreateKanbanColumnRequest request, String username) {
         // Vérifier l'accès au projet
         Project project = projectService.getProjectById(request.getProjectId(), username);
         
-        // Vérifier que le statut n'existe pas déjà
-        if (kanbanColumnRepository.existsByStatusAndProjectId(request.getStatus(), project.getId())) {
-            throw new RuntimeException("Une colonne avec ce statut existe déjà pour ce projet");
-        }
-        
+        List<KanbanColumn> columns = kanbanColumnRepository.lockByProjectIdOrderByRank(project.getId());
         KanbanColumn column = KanbanColumn.builder()
                 .name(request.getName())
                 .status(request.getStatus().toUpperCase().replace(" ", "_"))
                 .order(request.getOrder())
+                .wipLimit(wipLimit(request))
+                .rank(rankAt(columns, indexForOrder(columns, request.getOrder())))
                 .project(project)
                 .isDefault(false)
                 .build();
         
-        return kanbanColumnRepository.save(column);
+        // L'unicité du statut dans le projet est vérifiée par la base
+        KanbanColumn saved = UniqueConstraints.save(() -> kanbanColumnRepository.saveAndFlush(column),
+                UniqueConstraints.COLUMN_STATUS,
+                () -> new DuplicateResourceException("Une colonne avec ce statut existe déjà pour ce projet"));
+        eventPublisher.publishEvent(BoardChangedEvent.columns(project.getId()));
+        return saved;
     }
     
     /**
-     * Récupère toutes les colonnes d'un projet, triées par ordre.
+     * Récupère toutes les colonnes d'un projet, triées par rang.
      *
      * @param projectId L'identifiant du projet.
      * @param username  Le nom d'utilisateur effectuant la requête.
      * @return La liste des colonnes Kanban.
      */
+    @Transactional(readOnly = true)
     public List<KanbanColumn> getColumnsByProject(Long projectId, String username) {
         // Vérifier l'accès au projet
-        projectService.getProjectById(projectId, username);
+        projectService.checkMembership(projectId, username);
         
-        return kanbanColumnRepository.findByProjectIdOrderByOrderAsc(projectId);
+        return FetchPlans.columns(kanbanColumnRepository.findByProjectIdOrderByRank(projectId));
     }
     
     /**
@@ -73,27 +93,67 @@ public class KanbanColumnService {
      * @param request  Les nouvelles informations de la colonne.
      * @param username Le nom d'utilisateur effectuant la modification.
      * @return La colonne mise à jour.
+     * @throws BusinessRuleException Si la limite WIP indiquée est inférieure à 1.
      */
     @Transactional
     public KanbanColumn updateKanbanColumn(Long columnId, CreateKanbanColumnRequest request, String username) {
         KanbanColumn column = kanbanColumnRepository.findById(columnId)
-                .orElseThrow(() -> new RuntimeException("Colonne Kanban non trouvée"));
+                .orElseThrow(() -> new ResourceNotFoundException("Colonne Kanban non trouvée"));
         
         // Vérifier l'accès au projet
-        projectService.getProjectById(column.getProject().getId(), username);
+        projectService.checkMembership(column.getProject().getId(), username);
         
-        // Toujours permettre la modification du nom
-        column.setName(request.getName());
-        
-        // Pour les colonnes par défaut, ne pas modifier le statut ni l'ordre
-        if (!column.getIsDefault()) {
+        // Pour les colonnes par défaut, ne pas modifier le statut ni l'ordre ; un nouvel ordre replace la colonne
+        if (!column.getIsDefault() && !Objects.equals(column.getOrder(), request.getOrder())) {
+            Long projectId = column.getProject().getId();
+            List<KanbanColumn> others = others(kanbanColumnRepository.lockByProjectIdOrderByRank(projectId), columnId);
             column.setOrder(request.getOrder());
+            column.setRank(rankAt(others, indexForOrder(others, request.getOrder())));
             // Le statut n'est pas modifié car il sert de clé
         }
+
+        // Toujours permettre la modification du nom et de la limite WIP, colonnes par défaut comprises
+        column.setName(request.getName());
+        column.setWipLimit(wipLimit(request));
         
-        return kanbanColumnRepository.save(column);
+        KanbanColumn saved = kanbanColumnRepository.save(column);
+        eventPublisher.publishEvent(BoardChangedEvent.project(saved.getProject().getId()));
+        return FetchPlans.column(saved);
     }
     
+    /**
+     * Déplace une colonne Kanban entre deux colonnes voisines ; seul son rang est modifié.
+     *
+     * @param columnId L'identifiant de la colonne.
+     * @param request  Les voisines de la colonne à sa nouvelle place.
+     * @param username Le nom d'utilisateur effectuant le déplacement.
+     * @return La colonne déplacée.
+     * @throws BusinessRuleException Si une voisine n'est pas une autre colonne du projet, ou si les deux voisines
+     *                               ne se suivent plus (tableau affiché périmé).
+     */
+    @Transactional
+    public KanbanColumn moveKanbanColumn(Long columnId, MoveKanbanColumnRequest request, String username) {
+        KanbanColumn column = kanbanColumnRepository.findById(columnId)
+                .orElseThrow(() -> new ResourceNotFoundException("Colonne Kanban non trouvée"));
+
+        // Vérifier l'accès au projet
+        Long projectId = column.getProject().getId();
+        projectService.checkMembership(projectId, username);
+
+        List<KanbanColumn> others = others(kanbanColumnRepository.lockByProjectIdOrderByRank(projectId), columnId);
+        int afterIndex = indexOf(others, request.getAfterId(), columnId);
+        int beforeIndex = indexOf(others, request.getBeforeId(), columnId);
+        if (afterIndex >= 0 && beforeIndex >= 0 && beforeIndex != afterIndex + 1) {
+            throw new BusinessRuleException("Les colonnes voisines ne se suivent plus : rechargez le tableau");
+        }
+        int index = afterIndex >= 0 ? afterIndex + 1 : beforeIndex >= 0 ? beforeIndex : others.size();
+        column.setRank(rankAt(others, index));
+
+        KanbanColumn saved = kanbanColumnRepository.save(column);
+        eventPublisher.publishEvent(BoardChangedEvent.columns(projectId));
+        return FetchPlans.column(saved);
+    }
+
     /**
      * Supprime une colonne Kanban personnalisée.
      *
@@ -103,17 +163,18 @@ public class KanbanColumnService {
     @Transactional
     public void deleteKanbanColumn(Long columnId, String username) {
         KanbanColumn column = kanbanColumnRepository.findById(columnId)
-                .orElseThrow(() -> new RuntimeException("Colonne Kanban non trouvée"));
+                .orElseThrow(() -> new ResourceNotFoundException("Colonne Kanban non trouvée"));
         
         // Vérifier l'accès au projet
-        projectService.getProjectById(column.getProject().getId(), username);
+        projectService.checkMembership(column.getProject().getId(), username);
         
         // Ne pas permettre la suppression des colonnes par défaut
         if (column.getIsDefault()) {
-            throw new RuntimeException("Les colonnes par défaut ne peuvent pas être supprimées");
+            throw new ForbiddenOperationException("Les colonnes par défaut ne peuvent pas être supprimées");
         }
         
         kanbanColumnRepository.delete(column);
+        eventPublisher.publishEvent(BoardChangedEvent.project(column.getProject().getId()));
     }
     
     /**
@@ -124,10 +185,12 @@ public class KanbanColumnService {
     @Transactional
     public void initializeDefaultColumns(Project project) {
         // Créer les trois colonnes par défaut : TODO, IN_PROGRESS, DONE
+        String[] ranks = LexoRank.spread(3);
         KanbanColumn todoColumn = KanbanColumn.builder()
                 .name("À faire")
                 .status("TODO")
                 .order(1)
+                .rank(ranks[0])
                 .project(project)
                 .isDefault(true)
                 .build();
@@ -136,6 +199,7 @@ public class KanbanColumnService {
                 .name("En cours")
                 .status("IN_PROGRESS")
                 .order(2)
+                .rank(ranks[1])
                 .project(project)
                 .isDefault(true)
                 .build();
@@ -144,6 +208,7 @@ public class KanbanColumnService {
                 .name("Terminé")
                 .status("DONE")
                 .order(3)
+                .rank(ranks[2])
                 .project(project)
                 .isDefault(true)
                 .build();
@@ -151,5 +216,86 @@ public class KanbanColumnService {
         kanbanColumnRepository.save(todoColumn);
         kanbanColumnRepository.save(inProgressColumn);
         kanbanColumnRepository.save(doneColumn);
+        eventPublisher.publishEvent(BoardChangedEvent.columns(project.getId()));
+    }
+
+    /**
+     * @return La limite WIP demandée, ou {@code null} pour une colonne sans limite.
+     * @throws BusinessRuleException Si elle est inférieure à 1.
+     */
+    private static Integer wipLimit(CreateKanbanColumnRequest request) {
+        if (request.getWipLimit() != null && request.getWipLimit() < 1) {
+            throw new BusinessRuleException("La limite WIP doit être d'au moins 1 User Story");
+        }
+        return request.getWipLimit();
+    }
+
+    /**
+     * @return Les colonnes, sans celle d'identifiant {@code columnId}.
+     */
+    private static List<KanbanColumn> others(List<KanbanColumn> columns, Long columnId) {
+        return columns.stream().filter(column -> !column.getId().equals(columnId)).toList();
+    }
+
+    /**
+     * @return La place d'une colonne d'ordre {@code order} : après les colonnes d'ordre inférieur ou égal.
+     */
+    private static int indexForOrder(List<KanbanColumn> columns, Integer order) {
+        if (order == null) {
+            return columns.size();
+        }
+        int index = 0;
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).getOrder() != null && columns.get(i).getOrder() <= order) {
+                index = i + 1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @return La position de la voisine {@code neighbourId} parmi les colonnes, ou -1 si elle n'est pas indiquée.
+     * @throws BusinessRuleException Si la voisine n'est pas une autre colonne du projet.
+     */
+    private static int indexOf(List<KanbanColumn> columns, Long neighbourId, Long columnId) {
+        if (neighbourId == null) {
+            return -1;
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).getId().equals(neighbourId)) {
+                return i;
+            }
+        }
+        throw new BusinessRuleException(neighbourId.equals(columnId)
+                ? "Une colonne ne peut pas être sa propre voisine"
+                : "La colonne voisine " + neighbourId + " n'appartient pas à ce projet");
+    }
+
+    /**
+     * Rang d'une colonne placée à la position {@code index} parmi les colonnes, entre ses deux voisines.
+     * Les colonnes d'un projet sont peu nombreuses et déjà verrouillées : quand les rangs des voisines ne laissent
+     * pas de place (colonnes sans rang, rangs égaux ou trop longs), elles sont redistribuées sur-le-champ.
+     */
+    private static String rankAt(List<KanbanColumn> columns, int index) {
+        String lower = index > 0 ? columns.get(index - 1).getRank() : null;
+        String upper = index < columns.size() ? columns.get(index).getRank() : null;
+        boolean unranked = (index > 0 && lower == null) || (index < columns.size() && upper == null);
+        if (unranked || (lower != null && upper != null && lower.compareTo(upper) >= 0)) {
+            respread(columns);
+            return rankAt(columns, index);
+        }
+        String rank = LexoRank.between(lower, upper);
+        if (LexoRank.needsRebalance(rank)) {
+            respread(columns);
+            return rankAt(columns, index);
+        }
+        return rank;
+    }
+
+    private static void respread(List<KanbanColumn> columns) {
+        String[] ranks = LexoRank.spread(columns.size());
+        for (int i = 0; i < ranks.length; i++) {
+            columns.get(i).setRank(ranks[i]);
+        }
     }
 }
@@ -0,0 +1,121 @@
+package com.taskforge.service;
+
+/**
+ * Rangs lexicographiques : l'ordre des éléments est celui de leurs rangs comparés comme des chaînes.
+ * Un rang s'écrit en base 36 (chiffres puis minuscules, même ordre en binaire et dans les collations usuelles) et
+ * se lit comme la partie fractionnaire d'un nombre ; il ne se termine jamais par {@code 0}, si bien qu'il existe
+ * toujours un rang entre deux rangs distincts. Placer un élément entre deux voisins ne modifie donc que sa ligne.
+ *
+ * <p>Les rangs s'allongent quand on insère souvent au même endroit ; au-delà de {@link #REBALANCE_LENGTH}
+ * caractères, la liste est redistribuée ({@link #spread}) : en tâche de fond par {@link RankRebalancer} pour les
+ * User Stories, sur-le-champ par {@link KanbanColumnService} pour les colonnes.
+ */
+final class LexoRank {
+
+    static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+    private static final int BASE = DIGITS.length();
+
+    /** Longueur à partir de laquelle les rangs d'une liste sont redistribués. */
+    static final int REBALANCE_LENGTH = 10;
+
+    private LexoRank() {
+    }
+
+    /**
+     * @param lower Le rang précédent, ou {@code null} pour placer en tête.
+     * @param upper Le rang suivant, ou {@code null} pour placer en fin.
+     * @return Un rang strictement compris entre les deux, aussi court que possible.
+     * @throws IllegalArgumentException Si {@code lower} n'est pas avant {@code upper}.
+     */
+    static String between(String lower, String upper) {
+        String a = lower == null ? "" : lower;
+        if (upper != null && a.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("Rangs non ordonnés : " + lower + " / " + upper);
+        }
+        return midpoint(a, upper);
+    }
+
+    /**
+     * @return Le rang qui place un élément après {@code last}, ou le premier rang d'une liste vide.
+     */
+    static String after(String last) {
+        return between(last, null);
+    }
+
+    /**
+     * Rangs de même longueur, également espacés, pour {@code count} éléments : chaque intervalle laisse de la place
+     * pour plusieurs insertions avant que les rangs ne s'allongent.
+     *
+     * @param count Le nombre d'éléments.
+     * @return Les rangs, dans l'ordre croissant.
+     */
+    static String[] spread(int count) {
+        int width = 1;
+        long capacity = BASE;
+        while (capacity < (count + 1L) * BASE) {
+            width++;
+            capacity *= BASE;
+        }
+        long step = capacity / (count + 1L);
+        String[] ranks = new String[count];
+        for (int i = 0; i < count; i++) {
+            ranks[i] = format(step * (i + 1), width);
+        }
+        return ranks;
+    }
+
+    /**
+     * @return {@code true} si le rang est assez long pour que sa liste doive être redistribuée.
+     */
+    static boolean needsRebalance(String rank) {
+        return rank != null && rank.length() > REBALANCE_LENGTH;
+    }
+
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            // Préfixe commun, a étant complété par des zéros
+            int n = 0;
+            while (n < b.length() && charAt(a, n) == b.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return b.substring(0, n) + midpoint(n < a.length() ? a.substring(n) : "", b.substring(n));
+            }
+        }
+        int digitA = a.isEmpty() ? 0 : digit(a.charAt(0));
+        int digitB = b == null ? BASE : digit(b.charAt(0));
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB + 1) / 2));
+        }
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    private static String format(long value, int width) {
+        char[] digits = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            digits[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        int length = width;
+        while (length > 1 && digits[length - 1] == '0') {
+            length--;
+        }
+        return new String(digits, 0, length);
+    }
+
+    private static char charAt(String value, int index) {
+        return index < value.length() ? value.charAt(index) : '0';
+    }
+
+    private static int digit(char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Caractère de rang invalide : " + c);
+        }
+        return digit;
+    }
+}
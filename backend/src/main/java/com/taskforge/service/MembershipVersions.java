@@ -0,0 +1,89 @@
+package com.taskforge.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskforge.models.Project;
+import com.taskforge.models.User;
+
+/**
+ * Tampons de version des appartenances aux projets, par utilisateur.
+ * Un jeton JWT embarque le tampon courant de son titulaire au moment de l'émission ; tant que le tampon n'a pas
+ * changé, la liste de projets du jeton est à jour et les services s'y fient sans interroger la base.
+ * Le tampon d'un utilisateur change dès qu'un projet dont il est (ou était) membre est créé, change de membres
+ * ou est supprimé, puis de nouveau après la validation de la transaction : un jeton émis pendant l'écriture
+ * ne peut pas être considéré comme à jour.
+ *
+ * <p>Les tampons vivent en mémoire. Ceux d'un utilisateur jamais modifié valent l'époque de démarrage de
+ * l'instance : après un redémarrage, tous les jetons émis auparavant sont considérés comme périmés. L'état est propre
+ * à chaque instance : une appartenance modifiée par une instance ne périme pas les jetons aux yeux des autres. Les claims
+ * d'appartenance ({@code taskforge.membership-claims.enabled}) ne sont donc à activer que sur une instance unique.
+ */
+@Component
+public class MembershipVersions {
+
+    private final long epoch = System.currentTimeMillis();
+
+    private final AtomicLong clock = new AtomicLong(epoch);
+
+    private final Map<Long, Long> stamps = new ConcurrentHashMap<>();
+
+    /**
+     * @param userId L'identifiant de l'utilisateur.
+     * @return Le tampon courant de ses appartenances.
+     */
+    public long current(Long userId) {
+        return stamps.getOrDefault(userId, epoch);
+    }
+
+    /**
+     * Périme les appartenances du propriétaire et des membres d'un projet.
+     *
+     * @param project Le projet modifié.
+     */
+    public void bumpMembersOf(Project project) {
+        if (project == null) {
+            return;
+        }
+        Set<Long> userIds = project.getMembers() == null ? new HashSet<>()
+                : project.getMembers().stream().map(User::getId).collect(Collectors.toCollection(HashSet::new));
+        if (project.getOwner() != null) {
+            userIds.add(project.getOwner().getId());
+        }
+        bump(userIds);
+    }
+
+    /**
+     * Périme les appartenances des utilisateurs donnés, immédiatement puis après la validation de la transaction
+     * en cours.
+     *
+     * @param userIds Les identifiants des utilisateurs.
+     */
+    public void bump(Collection<Long> userIds) {
+        List<Long> keys = userIds.stream().filter(Objects::nonNull).toList();
+        advance(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    advance(keys);
+                }
+            });
+        }
+    }
+
+    private void advance(List<Long> userIds) {
+        userIds.forEach(userId -> stamps.put(userId, clock.incrementAndGet()));
+    }
+}
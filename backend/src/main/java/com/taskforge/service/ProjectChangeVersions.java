@@ -0,0 +1,82 @@
+package com.taskforge.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Versions de modification des projets, strictement croissantes.
+ * La version d'un projet change à chaque écriture sur ses données (User Stories, tâches, sprints, versions,
+ * colonnes, projet lui-même), puis de nouveau après la validation de la transaction : une lecture qui a pu voir
+ * l'état précédant l'écriture est associée à une version qui n'est plus jamais courante ensuite.
+ * Les écritures qui publient un {@link BoardChangedEvent} sont prises en compte par écoute de l'événement,
+ * les autres appellent {@link #bump(Long)}.
+ *
+ * <p>Les versions vivent en mémoire et partent de l'époque de démarrage de l'instance. Elles sont propres à chaque
+ * instance : une écriture traitée par une autre instance ne les fait pas avancer. Avec plusieurs instances, désactiver
+ * le cache des lectures d'un projet qui s'appuie dessus ({@code taskforge.compression.project-cache-enabled}).
+ */
+@Component
+public class ProjectChangeVersions {
+
+    private final AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+
+    private final Map<Long, Long> stamps = new ConcurrentHashMap<>();
+
+    private volatile long epoch = clock.get();
+
+    /**
+     * @param projectId L'identifiant du projet.
+     * @return La version courante du projet.
+     */
+    public long current(Long projectId) {
+        return stamps.getOrDefault(projectId, epoch);
+    }
+
+    /**
+     * Change la version d'un projet, immédiatement puis après la validation de la transaction en cours.
+     *
+     * @param projectId L'identifiant du projet modifié.
+     */
+    public void bump(Long projectId) {
+        if (projectId == null) {
+            return;
+        }
+        advance(projectId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    advance(projectId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Change la version de tous les projets, après une écriture de masse faite hors des services.
+     */
+    public void bumpAll() {
+        epoch = clock.incrementAndGet();
+        stamps.clear();
+    }
+
+    /**
+     * Publié pendant la transaction de l'écriture, l'événement change la version avant sa validation.
+     *
+     * @param event Le changement publié par un service.
+     */
+    @EventListener
+    public void on(BoardChangedEvent event) {
+        bump(event.projectId());
+    }
+
+    private void advance(Long projectId) {
+        stamps.put(projectId, clock.incrementAndGet());
+    }
+}
@@ -5,11 +5,16 @@ import java.util.List;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.taskforge.dto.CreateProjectRequest;
+import com.taskforge.dto.ProjectSummary;
 import com.taskforge.exceptions.DuplicateProjectNameException;
+import com.taskforge.exceptions.ForbiddenOperationException;
 import com.taskforge.exceptions.ProjectSuppressionException;
+import com.taskforge.exceptions.ResourceNotFoundException;
 import com.taskforge.exceptions.UpdateProjectException;
 import com.taskforge.models.Project;
 import com.taskforge.models.User;
@@ -21,8 +26,6 @@ import com.taskforge.repositories.TaskRepository;
 import com.taskforge.repositories.UserRepository;
 import com.taskforge.repositories.UserStoryRepository;
 
-import jakarta.transaction.Transactional;
-
 /**
  * Service gérant la logique métier liée aux projets.
  * Permet de créer, récupérer, mettre à jour et supprimer des projets,
@@ -37,6 +40,12 @@ public class ProjectService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ProjectSummaryCache projectSummaryCache;
+
+    @Autowired
+    private MembershipVersions membershipVersions;
+
     @Autowired
     private UserStoryRepository userStoryRepository;
 
@@ -48,6 +57,12 @@ public class ProjectService {
     
     @Autowired
     private KanbanColumnRepository kanbanColumnRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ProjectChangeVersions projectChangeVersions;
   
     /**
      * Crée un nouveau projet.
@@ -60,7 +75,7 @@ public class ProjectService {
     @Transactional
     public Project createProject(CreateProjectRequest createProjectRequest) {
         User owner = userRepository.findByUsername(createProjectRequest.getUser().getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         
         // Create the project
         Project project = Project.builder()
@@ -74,7 +89,7 @@ public class ProjectService {
         if(createProjectRequest.getMembers() != null) {
             for (var memberDto : createProjectRequest.getMembers()) {
                 User member = userRepository.findByUsername(memberDto.getUsername())
-                        .orElseThrow(() -> new RuntimeException("User not found: " + memberDto.getUsername()));
+                        .orElseThrow(() -> new ResourceNotFoundException("User not found: " + memberDto.getUsername()));
                 members.add(member);
             }
         }
@@ -88,6 +103,9 @@ public class ProjectService {
         
         // Initialize default Kanban columns
         initializeDefaultKanbanColumns(savedProject);
+
+        projectSummaryCache.evictMembersOf(savedProject);
+        membershipVersions.bumpMembersOf(savedProject);
         
         return savedProject;
     }
@@ -100,18 +118,33 @@ public class ProjectService {
      * @return Le projet trouvé.
      * @throws RuntimeException Si le projet n'existe pas ou si l'utilisateur n'est pas membre.
      */
+    @Transactional(readOnly = true)
     public Project getProjectById(Long projectId, String username) {
         Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
-
-        boolean isMember = project.getMembers().stream()
-                .anyMatch(member -> member.getUsername().equals(username));
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
 
-        if (!isMember) {
-            throw new RuntimeException("User is not a member of this project");
+        if (!CurrentUser.isMember(project, username)) {
+            throw new ForbiddenOperationException("User is not a member of this project");
         }
 
-        return project;
+        return FetchPlans.project(project);
+    }
+
+    /**
+     * Vérifie que l'utilisateur demandeur est membre d'un projet, sans renvoyer le projet.
+     * Si le jeton de l'utilisateur atteste, à jour, son appartenance, aucune requête n'est émise ;
+     * sinon la vérification est celle de {@link #getProjectById(Long, String)}.
+     *
+     * @param projectId L'identifiant du projet.
+     * @param username  Le nom d'utilisateur de la personne effectuant la requête.
+     * @throws ResourceNotFoundException   Si le projet n'existe pas.
+     * @throws ForbiddenOperationException Si l'utilisateur n'est pas membre.
+     */
+    @Transactional(readOnly = true)
+    public void checkMembership(Long projectId, String username) {
+        if (!CurrentUser.hasMembershipClaim(projectId, username)) {
+            getProjectById(projectId, username);
+        }
     }
 
     /**
@@ -126,6 +159,7 @@ public class ProjectService {
      * @throws UpdateProjectException        Si l'utilisateur n'est pas le propriétaire.
      * @throws RuntimeException              Si un membre spécifié n'existe pas.
      */
+    @Transactional
     public Project updateProject(Long projectId, String username, CreateProjectRequest updateRequest) {
         Project project = getProjectById(projectId, username);
 
@@ -136,7 +170,7 @@ public class ProjectService {
             });
 
         // Vérifier si l'utilisateur est le propriétaire du projet
-        boolean isOwner = project.getOwner().getUsername().equals(username);
+        boolean isOwner = CurrentUser.isOwner(project, username);
         
         if (!isOwner) {
             throw new UpdateProjectException("Seul le propriétaire du projet peut le mettre à jour.");
@@ -145,18 +179,24 @@ public class ProjectService {
         if(updateRequest.getMembers() != null) {
             for (var memberDto : updateRequest.getMembers()) {
                 User member = userRepository.findByUsername(memberDto.getUsername())
-                        .orElseThrow(() -> new RuntimeException("User not found: " + memberDto.getUsername()));
+                        .orElseThrow(() -> new ResourceNotFoundException("User not found: " + memberDto.getUsername()));
                 members.add(member);
             }
         }
         // Ensure owner is still a member
         members.add(project.getOwner());
         
+        // Membres retirés et membres ajoutés voient tous deux leur liste changer
+        projectSummaryCache.evictMembersOf(project);
+        membershipVersions.bumpMembersOf(project);
         project.setName(updateRequest.getName());
         project.setDescription(updateRequest.getDescription());
         project.setMembers(members);
+        projectSummaryCache.evictMembersOf(project);
+        membershipVersions.bumpMembersOf(project);
+        projectChangeVersions.bump(projectId);
         
-        return projectRepository.save(project);
+        return FetchPlans.project(projectRepository.save(project));
     }
 
     /**
@@ -170,7 +210,7 @@ public class ProjectService {
     @Transactional
     public void deleteProject(Long projectId, String username) {
         Project project = getProjectById(projectId, username);
-        if (!project.getOwner().getUsername().equals(username)) {
+        if (!CurrentUser.isOwner(project, username)) {
             throw new ProjectSuppressionException("Uniquement le propriétaire du projet peut le supprimer.");
         }
 
@@ -191,16 +231,29 @@ public class ProjectService {
         kanbanColumnRepository.deleteAllByProjectId(projectId);
 
         projectRepository.deleteById(projectId);
+        projectSummaryCache.evictMembersOf(project);
+        membershipVersions.bumpMembersOf(project);
+        eventPublisher.publishEvent(BoardChangedEvent.project(projectId));
     }   
 
     /**
-     * Récupère la liste de tous les projets dont l'utilisateur est propriétaire ou membre.
+     * Récupère le résumé de tous les projets dont l'utilisateur est membre (le propriétaire l'est toujours).
+     * La liste est servie depuis {@link ProjectSummaryCache} et recalculée après chaque changement des projets
+     * de l'utilisateur.
      *
      * @param username Le nom d'utilisateur.
-     * @return Une liste de projets associés à cet utilisateur.
+     * @return Les résumés des projets associés à cet utilisateur, par identifiant croissant.
+     * @throws ResourceNotFoundException Si l'utilisateur n'existe pas.
      */
-    public List<Project> getProjectsByUsername(String username) {
-        return projectRepository.findAllByOwnerOrMember(username);
+    @Transactional(readOnly = true)
+    public List<ProjectSummary> getProjectSummaries(String username) {
+        Long userId = CurrentUser.id(username);
+        if (userId == null) {
+            userId = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found"))
+                    .getId();
+        }
+        return projectSummaryCache.get(userId, projectRepository::findSummariesByMemberId);
     }
     
     /**
@@ -209,10 +262,12 @@ public class ProjectService {
      * @param project Le projet pour lequel créer les colonnes.
      */
     private void initializeDefaultKanbanColumns(Project project) {
+        String[] ranks = LexoRank.spread(3);
         com.taskforge.models.KanbanColumn todoColumn = com.taskforge.models.KanbanColumn.builder()
                 .name("À faire")
                 .status("TODO")
                 .order(1)
+                .rank(ranks[0])
                 .project(project)
                 .isDefault(true)
                 .build();
@@ -221,6 +276,7 @@ public class ProjectService {
                 .name("En cours")
                 .status("IN_PROGRESS")
                 .order(2)
+                .rank(ranks[1])
                 .project(project)
                 .isDefault(true)
                 .build();
@@ -229,6 +285,7 @@ public class ProjectService {
                 .name("Terminé")
                 .status("DONE")
                 .order(3)
+                .rank(ranks[2])
                 .project(project)
                 .isDefault(true)
                 .build();
@@ -0,0 +1,98 @@
+package com.taskforge.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskforge.dto.ProjectSummary;
+import com.taskforge.models.Project;
+import com.taskforge.models.User;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache des listes « Mes projets », indexé par identifiant d'utilisateur.
+ * Une entrée est invalidée pour chaque membre d'un projet créé, modifié (membres avant et après) ou supprimé,
+ * et quand le nombre de User Stories du projet change. L'invalidation est rejouée après la validation de la
+ * transaction : une lecture concurrente ne peut pas remettre en cache l'état précédant l'écriture.
+ * La durée de vie des entrées ne sert que de filet de sécurité.
+ *
+ * <p>Métriques : {@code cache_gets_total{cache="projectSummaries"}} et associées.
+ */
+@Component
+public class ProjectSummaryCache {
+
+    static final String CACHE_NAME = "projectSummaries";
+
+    private final Cache<Long, List<ProjectSummary>> cache;
+
+    public ProjectSummaryCache(
+            @Value("${taskforge.project-summaries.max-users:10000}") long maxUsers,
+            @Value("${taskforge.project-summaries.ttl:10m}") Duration ttl,
+            MeterRegistry registry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    /**
+     * @param userId L'identifiant de l'utilisateur.
+     * @param loader Le calcul de la liste en cas d'absence.
+     * @return La liste des projets de l'utilisateur.
+     */
+    public List<ProjectSummary> get(Long userId, Function<Long, List<ProjectSummary>> loader) {
+        return cache.get(userId, loader);
+    }
+
+    /**
+     * Invalide les listes du propriétaire et des membres d'un projet.
+     *
+     * @param project Le projet modifié.
+     */
+    public void evictMembersOf(Project project) {
+        if (project == null) {
+            return;
+        }
+        Set<Long> userIds = project.getMembers() == null ? new HashSet<>()
+                : project.getMembers().stream().map(User::getId).collect(Collectors.toCollection(HashSet::new));
+        if (project.getOwner() != null) {
+            userIds.add(project.getOwner().getId());
+        }
+        evict(userIds);
+    }
+
+    /**
+     * Invalide les listes des utilisateurs donnés, immédiatement puis après la validation de la transaction
+     * en cours.
+     *
+     * @param userIds Les identifiants des utilisateurs.
+     */
+    public void evict(Collection<Long> userIds) {
+        List<Long> keys = userIds.stream().filter(Objects::nonNull).toList();
+        cache.invalidateAll(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(keys);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.taskforge.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskforge.models.KanbanColumn;
+import com.taskforge.models.UserStory;
+import com.taskforge.repositories.KanbanColumnRepository;
+import com.taskforge.repositories.UserStoryRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redistribution en tâche de fond des rangs lexicographiques des User Stories ({@link LexoRank}), sur le tableau
+ * et dans le backlog. Un déplacement qui produit un rang trop long signale son projet ; toutes les
+ * {@code taskforge.ranks.rebalance-interval}, les User Stories des projets signalés reçoivent des rangs courts et
+ * également espacés, dans leur ordre courant. Chaque projet est traité dans sa propre transaction, ses lignes
+ * verrouillées : un déplacement concurrent attend la fin de la redistribution. Les colonnes, peu nombreuses, sont
+ * redistribuées sur-le-champ par {@link KanbanColumnService}.
+ *
+ * <p>Au démarrage, les projets dont des User Stories ou des colonnes n'ont pas encore de rang ou de rang de backlog (données antérieures
+ * aux rangs, génération de données) sont traités de la même façon, par identifiant croissant pour les lignes
+ * sans rang. L'état est propre à chaque instance.
+ *
+ * <p>Métriques : {@code taskforge.ranks.rebalanced{scope=stories|backlog|columns}}, le nombre de projets traités.
+ */
+@Slf4j
+@Component
+public class RankRebalancer {
+
+    static final String METRIC = "taskforge.ranks.rebalanced";
+
+    private final UserStoryRepository userStoryRepository;
+    private final KanbanColumnRepository kanbanColumnRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transaction;
+    private final Counter storiesRebalanced;
+    private final Counter backlogRebalanced;
+    private final Counter columnsRebalanced;
+
+    private final Set<Long> pendingStories = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingBacklog = ConcurrentHashMap.newKeySet();
+
+    public RankRebalancer(UserStoryRepository userStoryRepository, KanbanColumnRepository kanbanColumnRepository,
+            ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+            MeterRegistry registry) {
+        this.userStoryRepository = userStoryRepository;
+        this.kanbanColumnRepository = kanbanColumnRepository;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.storiesRebalanced = counter(registry, "stories");
+        this.backlogRebalanced = counter(registry, "backlog");
+        this.columnsRebalanced = counter(registry, "columns");
+    }
+
+    /**
+     * Signale un projet dont les rangs de User Stories doivent être redistribués.
+     */
+    public void scheduleStories(Long projectId) {
+        pendingStories.add(projectId);
+    }
+
+    /**
+     * Signale un projet dont les rangs de backlog doivent être redistribués.
+     */
+    public void scheduleBacklog(Long projectId) {
+        pendingBacklog.add(projectId);
+    }
+
+    /**
+     * Redistribue sur-le-champ les rangs des User Stories d'un projet, dans la transaction en cours s'il y en a une.
+     */
+    public void rebalance(Long projectId) {
+        transaction.executeWithoutResult(status -> rebalanceStories(projectId));
+        storiesRebalanced.increment();
+    }
+
+    /**
+     * Redistribue sur-le-champ les rangs de backlog d'un projet, dans la transaction en cours s'il y en a une.
+     */
+    public void rebalanceBacklog(Long projectId) {
+        transaction.executeWithoutResult(status -> rebalanceBacklogRanks(projectId));
+        backlogRebalanced.increment();
+    }
+
+    /**
+     * Donne un rang aux User Stories et aux colonnes qui n'en ont pas encore.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        for (Long projectId : kanbanColumnRepository.findProjectIdsWithUnrankedColumns()) {
+            run(projectId, "colonnes", () -> rebalanceColumns(projectId), columnsRebalanced);
+        }
+        pendingStories.addAll(userStoryRepository.findProjectIdsWithUnrankedStories());
+        pendingBacklog.addAll(userStoryRepository.findProjectIdsWithUnrankedBacklog());
+        rebalancePending();
+    }
+
+    /**
+     * Redistribue les rangs des projets signalés.
+     */
+    @Scheduled(fixedDelayString = "${taskforge.ranks.rebalance-interval:5s}")
+    public void rebalancePending() {
+        for (Long projectId : List.copyOf(pendingStories)) {
+            pendingStories.remove(projectId);
+            run(projectId, "User Stories", () -> rebalanceStories(projectId), storiesRebalanced);
+        }
+        for (Long projectId : List.copyOf(pendingBacklog)) {
+            pendingBacklog.remove(projectId);
+            run(projectId, "backlog", () -> rebalanceBacklogRanks(projectId), backlogRebalanced);
+        }
+    }
+
+    private void run(Long projectId, String scope, Runnable rebalance, Counter counter) {
+        try {
+            transaction.executeWithoutResult(status -> rebalance.run());
+            counter.increment();
+        } catch (RuntimeException e) {
+            log.error("Redistribution des rangs ({}) du projet {} impossible", scope, projectId, e);
+        }
+    }
+
+    private void rebalanceStories(Long projectId) {
+        List<UserStory> stories = userStoryRepository.lockByProjectIdOrderByRank(projectId);
+        String[] ranks = LexoRank.spread(stories.size());
+        for (int i = 0; i < ranks.length; i++) {
+            stories.get(i).setRank(ranks[i]);
+        }
+        userStoryRepository.flush();
+        eventPublisher.publishEvent(BoardChangedEvent.project(projectId));
+    }
+
+    private void rebalanceBacklogRanks(Long projectId) {
+        List<UserStory> stories = userStoryRepository.lockByProjectIdOrderByBacklogRank(projectId);
+        String[] ranks = LexoRank.spread(stories.size());
+        for (int i = 0; i < ranks.length; i++) {
+            stories.get(i).setBacklogRank(ranks[i]);
+        }
+        userStoryRepository.flush();
+        eventPublisher.publishEvent(BoardChangedEvent.project(projectId));
+    }
+
+    private void rebalanceColumns(Long projectId) {
+        List<KanbanColumn> columns = kanbanColumnRepository.lockByProjectIdOrderByRank(projectId);
+        String[] ranks = LexoRank.spread(columns.size());
+        for (int i = 0; i < ranks.length; i++) {
+            columns.get(i).setRank(ranks[i]);
+        }
+        kanbanColumnRepository.flush();
+        eventPublisher.publishEvent(BoardChangedEvent.columns(projectId));
+    }
+
+    private static Counter counter(MeterRegistry registry, String scope) {
+        return Counter.builder(METRIC)
+                .description("Projets dont les rangs ont été redistribués")
+                .tag("scope", scope)
+                .register(registry);
+    }
+}
@@ -0,0 +1,108 @@
+package com.taskforge.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Regroupement des lectures identiques concurrentes d'un projet.
+ * Les appels simultanés d'une même lecture (même requête, même projet, même version de modification du projet)
+ * partagent une seule exécution en base et son résultat : le premier appelant l'exécute, les suivants attendent
+ * son résultat. Rien n'est conservé une fois l'exécution terminée.
+ *
+ * <p>Le contrôle d'accès reste à la charge de chaque appelant, avant l'appel. Comme la version du projet change
+ * à chaque écriture, une lecture commencée avant une écriture n'est jamais partagée avec une lecture commencée
+ * après. Une lecture faite dans une transaction d'écriture n'est pas partagée : elle doit voir les écritures de
+ * sa transaction.
+ *
+ * <p>Le résultat passe d'un thread à l'autre : seuls des DTO immuables peuvent être partagés. Des entités JPA
+ * appartiendraient au contexte de persistance de l'appelant qui a exécuté la lecture, et ne peuvent pas être
+ * manipulées depuis d'autres requêtes.
+ *
+ * <p>Métriques : {@code taskforge.read.single_flight{query, role=leader|follower}} ; le rapport entre les deux
+ * rôles donne le taux de regroupement.
+ */
+@Component
+public class SingleFlight {
+
+    static final String METRIC = "taskforge.read.single_flight";
+
+    private final Map<Key, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+
+    private final ProjectChangeVersions projectChangeVersions;
+
+    private final MeterRegistry registry;
+
+    record Key(String query, Long projectId, long projectVersion) {
+    }
+
+    public SingleFlight(ProjectChangeVersions projectChangeVersions, MeterRegistry registry) {
+        this.projectChangeVersions = projectChangeVersions;
+        this.registry = registry;
+    }
+
+    /**
+     * Exécute une lecture, ou attend le résultat de la même lecture déjà en cours.
+     *
+     * @param query     Le nom de la lecture.
+     * @param projectId L'identifiant du projet lu.
+     * @param loader    L'exécution de la lecture.
+     * @return Le résultat de la lecture, éventuellement partagé avec d'autres appelants.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T share(String query, Long projectId, Supplier<T> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // Lecture dans une transaction d'écriture (lot atomique) : elle doit voir les écritures de sa transaction
+            return loader.get();
+        }
+        Key key = new Key(query, projectId, projectChangeVersions.current(projectId));
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = flights.putIfAbsent(key, flight);
+        if (running != null) {
+            counter(query, "follower").increment();
+            return (T) await(running);
+        }
+        counter(query, "leader").increment();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(String query, String role) {
+        return Counter.builder(METRIC)
+                .description("Lectures d'un projet exécutées en base (leader) ou partagées avec une exécution en cours (follower)")
+                .tag("query", query)
+                .tag("role", role)
+                .register(registry);
+    }
+}
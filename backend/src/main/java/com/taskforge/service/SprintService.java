@@ -1,23 +1,28 @@
 package com.taskforge.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.taskforge.dto.CreateSprintRequest;
 import com.taskforge.dto.SprintResponse;
+import com.taskforge.exceptions.BusinessRuleException;
 import com.taskforge.exceptions.DuplicateSprintNameException;
+import com.taskforge.exceptions.ForbiddenOperationException;
 import com.taskforge.exceptions.InvalidSprintDateException;
+import com.taskforge.exceptions.ResourceNotFoundException;
 import com.taskforge.models.Project;
 import com.taskforge.models.Sprint;
 import com.taskforge.models.UserStory;
 import com.taskforge.repositories.SprintRepository;
 import com.taskforge.repositories.UserStoryRepository;
 
-import jakarta.transaction.Transactional;
-
 @Service
 public class SprintService {
     
@@ -29,13 +34,23 @@ public class SprintService {
     
     @Autowired
     private UserStoryRepository userStoryRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ProjectChangeVersions projectChangeVersions;
+
+    @Autowired
+    private SingleFlight singleFlight;
     
+    @Transactional
     public Sprint createSprint(CreateSprintRequest request, String username) {
         // Verify user has access to project and is owner
         Project project = projectService.getProjectById(request.getProjectId(), username);
         
-        if (!project.getOwner().getUsername().equals(username)) {
-            throw new RuntimeException("Only project owner can create sprints");
+        if (!CurrentUser.isOwner(project, username)) {
+            throw new ForbiddenOperationException("Only project owner can create sprints");
         }
         
         // Validate dates
@@ -43,11 +58,6 @@ public class SprintService {
             throw new InvalidSprintDateException("La date de fin doit être après la date de début");
         }
         
-        // Check for duplicate sprint name in project
-        if (sprintRepository.existsByNameAndProjectId(request.getName(), project.getId())) {
-            throw new DuplicateSprintNameException("Un sprint avec ce nom existe déjà dans ce projet.");
-        }
-        
         Sprint sprint = Sprint.builder()
                 .name(request.getName())
                 .startDate(request.getStartDate())
@@ -56,34 +66,39 @@ public class SprintService {
                 .project(project)
                 .build();
         
-        return sprintRepository.save(sprint);
+        Sprint saved = saveUnique(sprint);
+        projectChangeVersions.bump(project.getId());
+        return FetchPlans.sprint(saved);
     }
     
+    @Transactional(readOnly = true)
     public List<SprintResponse> getSprintsByProject(Long projectId, String username) {
         // Verify user has access to project
-        projectService.getProjectById(projectId, username);
+        projectService.checkMembership(projectId, username);
         
-        return sprintRepository.findByProjectId(projectId).stream()
+        return singleFlight.share("sprintsByProject", projectId, () -> sprintRepository.findByProjectId(projectId).stream()
                 .map(this::convertToResponse)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
     
+    @Transactional(readOnly = true)
     public Sprint getSprintById(Long sprintId, String username) {
         Sprint sprint = sprintRepository.findById(sprintId)
-                .orElseThrow(() -> new RuntimeException("Sprint not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("Sprint not found"));
         
         // Verify user has access to project
-        projectService.getProjectById(sprint.getProject().getId(), username);
+        projectService.checkMembership(sprint.getProject().getId(), username);
         
-        return sprint;
+        return FetchPlans.sprint(sprint);
     }
     
+    @Transactional
     public Sprint updateSprint(Long sprintId, CreateSprintRequest request, String username) {
         Sprint sprint = getSprintById(sprintId, username);
         
         // Only project owner can update sprint
-        if (!sprint.getProject().getOwner().getUsername().equals(username)) {
-            throw new RuntimeException("Only project owner can update sprints");
+        if (!CurrentUser.isOwner(sprint.getProject(), username)) {
+            throw new ForbiddenOperationException("Only project owner can update sprints");
         }
         
         // Validate dates
@@ -91,20 +106,14 @@ public class SprintService {
             throw new InvalidSprintDateException("La date de fin doit être après la date de début");
         }
         
-        // Check for duplicate name (excluding current sprint)
-        if (sprintRepository.existsByNameAndProjectId(request.getName(), sprint.getProject().getId())) {
-            Sprint existing = sprintRepository.findByNameAndProjectId(request.getName(), sprint.getProject().getId());
-            if (existing != null && !existing.getId().equals(sprintId)) {
-                throw new DuplicateSprintNameException("Un sprint avec ce nom existe déjà dans ce projet.");
-            }
-        }
-        
         sprint.setName(request.getName());
         sprint.setStartDate(request.getStartDate());
         sprint.setEndDate(request.getEndDate());
         sprint.setStatus(request.getStatus());
         
-        return sprintRepository.save(sprint);
+        Sprint saved = saveUnique(sprint);
+        eventPublisher.publishEvent(BoardChangedEvent.project(saved.getProject().getId()));
+        return FetchPlans.sprint(saved);
     }
     
     @Transactional
@@ -112,8 +121,8 @@ public class SprintService {
         Sprint sprint = getSprintById(sprintId, username);
         
         // Only project owner can delete sprint
-        if (!sprint.getProject().getOwner().getUsername().equals(username)) {
-            throw new RuntimeException("Only project owner can delete sprints");
+        if (!CurrentUser.isOwner(sprint.getProject(), username)) {
+            throw new ForbiddenOperationException("Only project owner can delete sprints");
         }
         
         // Remove sprint from all user stories (move them to backlog)
@@ -126,53 +135,107 @@ public class SprintService {
         }
         
         sprintRepository.deleteById(sprintId);
+        eventPublisher.publishEvent(BoardChangedEvent.project(sprint.getProject().getId()));
     }
     
     @Transactional
     public UserStory assignUserStoryToSprint(Long userStoryId, Long sprintId, String username) {
         Sprint sprint = getSprintById(sprintId, username);
         UserStory userStory = userStoryRepository.findById(userStoryId)
-                .orElseThrow(() -> new RuntimeException("User story not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("User story not found"));
         
         // Verify user story belongs to same project as sprint
         if (!userStory.getProject().getId().equals(sprint.getProject().getId())) {
-            throw new RuntimeException("User story and sprint must belong to the same project");
+            throw new BusinessRuleException("User story and sprint must belong to the same project");
         }
         
         // Verify user has access to project
-        projectService.getProjectById(sprint.getProject().getId(), username);
+        projectService.checkMembership(sprint.getProject().getId(), username);
         
         userStory.setSprint(sprint);
-        return userStoryRepository.save(userStory);
+        UserStory saved = userStoryRepository.save(userStory);
+        eventPublisher.publishEvent(BoardChangedEvent.story(saved.getProject().getId(), saved.getId()));
+        return FetchPlans.userStory(saved);
     }
     
     @Transactional
     public UserStory removeUserStoryFromSprint(Long userStoryId, String username) {
         UserStory userStory = userStoryRepository.findById(userStoryId)
-                .orElseThrow(() -> new RuntimeException("User story not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("User story not found"));
         
         // Verify user has access to project
-        projectService.getProjectById(userStory.getProject().getId(), username);
+        projectService.checkMembership(userStory.getProject().getId(), username);
         
         userStory.setSprint(null);
-        return userStoryRepository.save(userStory);
+        UserStory saved = userStoryRepository.save(userStory);
+        eventPublisher.publishEvent(BoardChangedEvent.story(saved.getProject().getId(), saved.getId()));
+        return FetchPlans.userStory(saved);
     }
     
+    /**
+     * Assigne plusieurs User Stories à un sprint par une seule mise à jour en base, après un seul contrôle d'accès.
+     *
+     * @return Le nombre de User Stories assignées.
+     * @throws BusinessRuleException Si une User Story n'existe pas ou n'appartient pas au projet du sprint ;
+     *                               aucune n'est alors assignée.
+     */
+    @Transactional
+    public int assignUserStoriesToSprint(Long sprintId, Collection<Long> userStoryIds, String username) {
+        Sprint sprint = getSprintById(sprintId, username);
+        Long projectId = sprint.getProject().getId();
+        Set<Long> ids = BulkIds.of(userStoryIds);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        
+        int updated = userStoryRepository.assignSprint(ids, projectId, sprint);
+        if (updated != ids.size()) {
+            throw new BusinessRuleException("User stories and sprint must belong to the same project");
+        }
+        eventPublisher.publishEvent(BoardChangedEvent.project(projectId));
+        return updated;
+    }
+    
+    /**
+     * Renvoie au backlog plusieurs User Stories d'un sprint par une seule mise à jour en base.
+     * Les User Stories qui ne sont pas dans ce sprint sont ignorées.
+     *
+     * @return Le nombre de User Stories retirées du sprint.
+     */
+    @Transactional
+    public int removeUserStoriesFromSprint(Long sprintId, Collection<Long> userStoryIds, String username) {
+        Sprint sprint = getSprintById(sprintId, username);
+        Long projectId = sprint.getProject().getId();
+        Set<Long> ids = BulkIds.of(userStoryIds);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        
+        int updated = userStoryRepository.removeSprint(ids, sprintId);
+        if (updated > 0) {
+            eventPublisher.publishEvent(BoardChangedEvent.project(projectId));
+        }
+        return updated;
+    }
+    
+    @Transactional(readOnly = true)
     public List<UserStory> getUserStoriesBySprint(Long sprintId, String username) {
         Sprint sprint = getSprintById(sprintId, username);
         
-        return userStoryRepository.findByProjectId(sprint.getProject().getId()).stream()
+        return FetchPlans.userStories(userStoryRepository.findByProjectId(sprint.getProject().getId()).stream()
                 .filter(us -> us.getSprint() != null && us.getSprint().getId().equals(sprintId))
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
     
+    /**
+     * Récupère le backlog d'un projet : ses User Stories sans sprint, par priorité (rang de backlog).
+     */
+    @Transactional(readOnly = true)
     public List<UserStory> getBacklogUserStories(Long projectId, String username) {
         // Verify user has access to project
-        projectService.getProjectById(projectId, username);
+        projectService.checkMembership(projectId, username);
         
-        return userStoryRepository.findByProjectId(projectId).stream()
-                .filter(us -> us.getSprint() == null)
-                .collect(Collectors.toList());
+        return FetchPlans.userStories(userStoryRepository.findBacklogByProjectIdOrderByBacklogRank(projectId));
     }
     
     @Transactional
@@ -180,13 +243,13 @@ public class SprintService {
         Sprint sprint = getSprintById(sprintId, username);
         
         // Only project owner can start sprint
-        if (!sprint.getProject().getOwner().getUsername().equals(username)) {
-            throw new RuntimeException("Only project owner can start sprints");
+        if (!CurrentUser.isOwner(sprint.getProject(), username)) {
+            throw new ForbiddenOperationException("Only project owner can start sprints");
         }
         
         // Validate sprint is in PLANNED status
         if (sprint.getStatus() != Sprint.Status.PLANNED) {
-            throw new RuntimeException("Only PLANNED sprints can be started");
+            throw new BusinessRuleException("Only PLANNED sprints can be started");
         }
         
         // Check if there's already an active sprint in the project
@@ -195,12 +258,13 @@ public class SprintService {
                 .collect(Collectors.toList());
         
         if (!activeSprints.isEmpty()) {
-            throw new RuntimeException("Cannot start sprint. There is already an active sprint in this project.");
+            throw new BusinessRuleException("Cannot start sprint. There is already an active sprint in this project.");
         }
         
         // Update sprint status to ACTIVE
         sprint.setStatus(Sprint.Status.ACTIVE);
-        return sprintRepository.save(sprint);
+        projectChangeVersions.bump(sprint.getProject().getId());
+        return FetchPlans.sprint(sprintRepository.save(sprint));
     }
     
     @Transactional
@@ -208,18 +272,19 @@ public class SprintService {
         Sprint sprint = getSprintById(sprintId, username);
         
         // Only project owner can complete sprint
-        if (!sprint.getProject().getOwner().getUsername().equals(username)) {
-            throw new RuntimeException("Only project owner can complete sprints");
+        if (!CurrentUser.isOwner(sprint.getProject(), username)) {
+            throw new ForbiddenOperationException("Only project owner can complete sprints");
         }
         
         // Validate sprint is in ACTIVE status
         if (sprint.getStatus() != Sprint.Status.ACTIVE) {
-            throw new RuntimeException("Only ACTIVE sprints can be completed");
+            throw new BusinessRuleException("Only ACTIVE sprints can be completed");
         }
         
         // Update sprint status to COMPLETED
         sprint.setStatus(Sprint.Status.COMPLETED);
-        return sprintRepository.save(sprint);
+        projectChangeVersions.bump(sprint.getProject().getId());
+        return FetchPlans.sprint(sprintRepository.save(sprint));
     }
     
     private SprintResponse convertToResponse(Sprint sprint) {
@@ -232,4 +297,14 @@ public class SprintService {
                 .projectId(sprint.getProject().getId())
                 .build();
     }
+
+    /**
+     * Enregistre un sprint ; l'unicité du nom dans le projet est vérifiée par la base.
+     *
+     * @throws DuplicateSprintNameException Si le nom est déjà utilisé dans le projet.
+     */
+    private Sprint saveUnique(Sprint sprint) {
+        return UniqueConstraints.save(() -> sprintRepository.saveAndFlush(sprint), UniqueConstraints.SPRINT_NAME,
+                () -> new DuplicateSprintNameException("Un sprint avec ce nom existe déjà dans ce projet."));
+    }
 }
@@ -0,0 +1,281 @@
+package com.taskforge.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskforge.models.KanbanColumn;
+import com.taskforge.models.UserStory;
+import com.taskforge.repositories.KanbanColumnRepository;
+import com.taskforge.repositories.UserStoryRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Regroupement des changements de statut rapides d'une User Story (glisser-déposer à travers plusieurs colonnes).
+ * Actif avec {@code taskforge.status-coalescing.enabled=true} : chaque changement est acquitté dès qu'il est
+ * accepté, seul le dernier statut de chaque User Story est conservé pendant la fenêtre
+ * {@code taskforge.status-coalescing.window}, puis tous les statuts en attente sont enregistrés dans une seule
+ * transaction, une mise à jour par projet et par statut.
+ *
+ * <p>Ordre : pour une User Story, le dernier statut accepté l'emporte sur les précédents. Une écriture synchrone
+ * du statut de la même User Story (modification complète, statut groupé, suppression) annule le statut en attente
+ * et reste la dernière écrite, même si l'enregistrement groupé est déjà en cours : celui-ci verrouille les lignes
+ * puis ignore les User Stories annulées entre-temps. Si l'écriture synchrone échoue, le statut en attente est
+ * rétabli, sauf s'il était déjà en cours d'enregistrement.
+ *
+ * <p>Limites WIP : la place dans la colonne est vérifiée à l'acquittement, d'après le compteur lu ({@link WipLimits}),
+ * puis réservée à l'enregistrement, une fois par projet et par statut. Si la colonne s'est remplie entre-temps, les
+ * User Stories de ce statut gardent leur statut enregistré ; le refus est journalisé.
+ *
+ * <p>Durabilité : un statut acquitté n'est écrit qu'à la fin de la fenêtre ; jusque-là, les lectures renvoient
+ * l'ancien statut. Les statuts en attente sont enregistrés à l'arrêt normal de l'instance, mais perdus si elle
+ * s'arrête brutalement ou si l'enregistrement échoue (colonne supprimée entre-temps, base indisponible) ; l'échec
+ * est journalisé. L'état est propre à chaque instance.
+ *
+ * <p>Métriques :
+ * {@code taskforge.user_story.status_coalescing{result=accepted|persisted|superseded|rejected|failed}} ;
+ * l'écart entre {@code accepted} et les autres résultats compte les changements remplacés avant d'être écrits.
+ */
+@Slf4j
+@Component
+public class StatusWriteCoalescer {
+
+    static final String METRIC = "taskforge.user_story.status_coalescing";
+
+    private record Pending(Long projectId, String status) {
+    }
+
+    private final boolean enabled;
+    private final Duration window;
+    private final UserStoryRepository userStoryRepository;
+    private final KanbanColumnRepository kanbanColumnRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WipLimits wipLimits;
+    private final TransactionTemplate transaction;
+    private final ScheduledExecutorService scheduler;
+    private final Counter accepted;
+    private final Counter persisted;
+    private final Counter superseded;
+    private final Counter rejected;
+    private final Counter failed;
+
+    // Protégés par le verrou de l'instance
+    private final Map<Long, Pending> pending = new LinkedHashMap<>();
+    private final Set<Long> inFlight = new HashSet<>();
+    private final Set<Long> supersededInFlight = new HashSet<>();
+    private boolean flushScheduled;
+
+    public StatusWriteCoalescer(
+            @Value("${taskforge.status-coalescing.enabled:false}") boolean enabled,
+            @Value("${taskforge.status-coalescing.window:50ms}") Duration window,
+            UserStoryRepository userStoryRepository,
+            KanbanColumnRepository kanbanColumnRepository,
+            ApplicationEventPublisher eventPublisher,
+            WipLimits wipLimits,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry registry) {
+        this.enabled = enabled;
+        this.window = window;
+        this.userStoryRepository = userStoryRepository;
+        this.kanbanColumnRepository = kanbanColumnRepository;
+        this.eventPublisher = eventPublisher;
+        this.wipLimits = wipLimits;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.scheduler = enabled
+                ? Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("status-coalescer").daemon().factory())
+                : null;
+        this.accepted = counter(registry, "accepted");
+        this.persisted = counter(registry, "persisted");
+        this.superseded = counter(registry, "superseded");
+        this.rejected = counter(registry, "rejected");
+        this.failed = counter(registry, "failed");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Met en attente le statut d'une User Story dont l'accès a été vérifié ; il remplace le statut déjà en attente.
+     *
+     * @param userStoryId L'identifiant de la User Story.
+     * @param projectId   Le projet de la User Story.
+     * @param status      Le nouveau statut.
+     */
+    public synchronized void submit(Long userStoryId, Long projectId, String status) {
+        pending.put(userStoryId, new Pending(projectId, status));
+        accepted.increment();
+        if (!flushScheduled) {
+            flushScheduled = true;
+            scheduler.schedule(this::flush, window.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Annule les statuts en attente des User Stories qu'une écriture synchrone va modifier.
+     * À appeler dans la transaction de cette écriture, avant toute modification : si elle est annulée, les statuts
+     * retirés sont remis en attente.
+     *
+     * @param userStoryIds Les User Stories modifiées.
+     */
+    public void supersede(Collection<Long> userStoryIds) {
+        if (!enabled) {
+            return;
+        }
+        Map<Long, Pending> removed = new HashMap<>();
+        synchronized (this) {
+            for (Long userStoryId : userStoryIds) {
+                Pending previous = pending.remove(userStoryId);
+                if (previous != null) {
+                    removed.put(userStoryId, previous);
+                } else if (inFlight.contains(userStoryId)) {
+                    supersededInFlight.add(userStoryId);
+                }
+            }
+        }
+        if (removed.isEmpty()) {
+            return;
+        }
+        superseded.increment(removed.size());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        restore(removed);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Enregistre immédiatement tous les statuts en attente.
+     */
+    public void flush() {
+        Map<Long, Pending> batch;
+        synchronized (this) {
+            flushScheduled = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new LinkedHashMap<>(pending);
+            pending.clear();
+            inFlight.addAll(batch.keySet());
+        }
+        Set<Long> ids = Set.copyOf(batch.keySet());
+        try {
+            Integer count = transaction.execute(status -> persist(batch));
+            persisted.increment(count == null ? 0 : count);
+        } catch (RuntimeException e) {
+            failed.increment(ids.size());
+            log.error("Statuts de {} User Stories non enregistrés : {}", ids.size(), ids, e);
+        } finally {
+            synchronized (this) {
+                inFlight.removeAll(ids);
+                supersededInFlight.removeAll(ids);
+            }
+        }
+    }
+
+    /**
+     * Enregistre les statuts en attente à l'arrêt de l'instance.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            flush();
+        }
+    }
+
+    private int persist(Map<Long, Pending> batch) {
+        // Une écriture synchrone en cours sur ces lignes se termine d'abord ; celles qui suivent attendent celle-ci
+        Map<Long, UserStory> locked = userStoryRepository.lockByIdIn(batch.keySet()).stream()
+                .collect(Collectors.toMap(UserStory::getId, Function.identity()));
+        synchronized (this) {
+            int skipped = 0;
+            for (Long userStoryId : supersededInFlight) {
+                if (batch.remove(userStoryId) != null) {
+                    skipped++;
+                }
+            }
+            superseded.increment(skipped);
+        }
+
+        Map<Long, Map<String, List<Long>>> byProject = new LinkedHashMap<>();
+        batch.forEach((userStoryId, change) -> byProject
+                .computeIfAbsent(change.projectId(), projectId -> new LinkedHashMap<>())
+                .computeIfAbsent(change.status(), status -> new ArrayList<>())
+                .add(userStoryId));
+
+        int updated = 0;
+        for (Map.Entry<Long, Map<String, List<Long>>> project : byProject.entrySet()) {
+            Long projectId = project.getKey();
+            List<Long> projectStories = new ArrayList<>();
+            for (Map.Entry<String, List<Long>> change : project.getValue().entrySet()) {
+                Optional<KanbanColumn> column = kanbanColumnRepository.findByStatusAndProjectId(change.getKey(), projectId);
+                if (column.isPresent() && !wipLimits.tryMoveAll(change.getValue().stream()
+                        .map(locked::get).filter(Objects::nonNull).toList(), column.get())) {
+                    rejected.increment(change.getValue().size());
+                    log.warn("Statut {} des User Stories {} non enregistré : colonne pleine", change.getKey(),
+                            change.getValue());
+                    continue;
+                }
+                updated += column.isPresent()
+                        ? userStoryRepository.updateStatusAndColumn(change.getValue(), projectId, change.getKey(), column.get())
+                        : userStoryRepository.updateStatus(change.getValue(), projectId, change.getKey());
+                projectStories.addAll(change.getValue());
+            }
+            if (projectStories.isEmpty()) {
+                continue;
+            }
+            eventPublisher.publishEvent(projectStories.size() == 1
+                    ? BoardChangedEvent.story(projectId, projectStories.get(0))
+                    : BoardChangedEvent.project(projectId));
+        }
+        return updated;
+    }
+
+    private synchronized void restore(Map<Long, Pending> removed) {
+        removed.forEach(pending::putIfAbsent);
+        if (!pending.isEmpty() && !flushScheduled) {
+            flushScheduled = true;
+            scheduler.schedule(this::flush, window.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder(METRIC)
+                .description("Changements de statut regroupés : acceptés, enregistrés, annulés par une écriture "
+                        + "synchrone, refusés par une limite WIP ou perdus sur un échec d'enregistrement")
+                .tag("result", result)
+                .register(registry);
+    }
+}
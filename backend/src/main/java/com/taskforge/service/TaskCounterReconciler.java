@@ -0,0 +1,60 @@
+package com.taskforge.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskforge.repositories.UserStoryRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Réconciliation périodique des compteurs de tâches des User Stories.
+ * Les compteurs sont tenus à jour par {@link TaskService} ; une écriture faite hors du service (import SQL,
+ * script de maintenance, génération de données) les fait dériver. Le job les recalcule depuis la table des tâches,
+ * uniquement pour les User Stories qui s'en écartent, toutes les {@code taskforge.task-counters.reconcile-interval}.
+ *
+ * <p>Le nombre de User Stories corrigées est publié dans {@code taskforge.task_counters.repaired}.
+ */
+@Slf4j
+@Component
+public class TaskCounterReconciler {
+
+    static final String REPAIRED_METRIC = "taskforge.task_counters.repaired";
+
+    private final UserStoryRepository userStoryRepository;
+
+    private final BoardProjection boardProjection;
+
+    private final Counter repaired;
+
+    public TaskCounterReconciler(UserStoryRepository userStoryRepository, BoardProjection boardProjection,
+            MeterRegistry registry) {
+        this.userStoryRepository = userStoryRepository;
+        this.boardProjection = boardProjection;
+        this.repaired = Counter.builder(REPAIRED_METRIC)
+                .description("User Stories dont les compteurs de tâches ont été recalculés")
+                .register(registry);
+    }
+
+    /**
+     * Recalcule les compteurs qui ont dérivé. Le modèle de lecture des tableaux, qui recopie les compteurs,
+     * est alors reconstruit.
+     *
+     * @return Le nombre de User Stories corrigées.
+     */
+    @Scheduled(fixedDelayString = "${taskforge.task-counters.reconcile-interval:1h}",
+            initialDelayString = "${taskforge.task-counters.reconcile-interval:1h}")
+    @Transactional
+    public int reconcile() {
+        int count = userStoryRepository.reconcileTaskCounters();
+        if (count > 0) {
+            repaired.increment(count);
+            log.warn("Compteurs de tâches corrigés pour {} User Stories", count);
+            boardProjection.rebuild();
+        }
+        return count;
+    }
+}
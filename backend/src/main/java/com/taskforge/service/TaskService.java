@@ -1,25 +1,37 @@
 package com.taskforge.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.taskforge.dto.CreateTaskRequest;
+import com.taskforge.dto.UpdateTaskRequest;
+import com.taskforge.exceptions.BusinessRuleException;
 import com.taskforge.exceptions.DuplicateTaskTitleException;
+import com.taskforge.exceptions.ResourceNotFoundException;
 import com.taskforge.exceptions.TaskNotFoundException;
 import com.taskforge.models.Task;
 import com.taskforge.models.User;
 import com.taskforge.models.UserStory;
 import com.taskforge.repositories.TaskRepository;
 import com.taskforge.repositories.UserRepository;
-
-import jakarta.transaction.Transactional;
+import com.taskforge.repositories.UserStoryRepository;
 
 /**
  * Service gérant la logique métier liée aux tâches techniques.
  * Permet de créer, lire, mettre à jour et supprimer des tâches,
  * ainsi que de gérer leur assignation aux utilisateurs.
+ * Chaque écriture répercute son effet sur les compteurs de tâches de la User Story.
  */
 @Service
 public class TaskService {
@@ -32,6 +44,15 @@ public class TaskService {
     
     @Autowired
     private UserRepository userRepository;
+
+    @Autowired
+    private UserStoryRepository userStoryRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     
     /**
      * Crée une nouvelle tâche associée à une User Story.
@@ -44,14 +65,10 @@ public class TaskService {
      * @throws DuplicateTaskTitleException Si une tâche avec le même titre existe déjà dans l'US.
      * @throws RuntimeException            Si l'utilisateur assigné n'est pas trouvé ou n'est pas membre.
      */
+    @Transactional
     public Task createTask(CreateTaskRequest request, String username) {
         // Vérifier que l'utilisateur a accès à la user story
-        UserStory userStory = userStoryService.getUserStoryById(request.getUserStoryId(), username);
-        
-        // Vérifier que le titre est unique dans cette US
-        if (taskRepository.existsByTitleAndUserStoryId(request.getTitle(), userStory.getId())) {
-            throw new DuplicateTaskTitleException("Une tâche avec ce titre existe déjà dans cette user story.");
-        }
+        UserStory userStory = userStoryService.findAccessibleUserStory(request.getUserStoryId(), username);
         
         Task task = Task.builder()
                 .title(request.getTitle())
@@ -64,17 +81,19 @@ public class TaskService {
         // Assigner à un utilisateur si spécifié
         if (request.getAssignedToUsername() != null && !request.getAssignedToUsername().isEmpty()) {
             User assignedUser = userRepository.findByUsername(request.getAssignedToUsername())
-                    .orElseThrow(() -> new RuntimeException("Utilisateur non trouvé: " + request.getAssignedToUsername()));
+                    .orElseThrow(() -> new ResourceNotFoundException("Utilisateur non trouvé: " + request.getAssignedToUsername()));
             
             // Vérifier que l'utilisateur est membre du projet
             if (!userStory.getProject().getMembers().contains(assignedUser)) {
-                throw new RuntimeException("L'utilisateur doit être membre du projet pour être assigné à une tâche.");
+                throw new BusinessRuleException("L'utilisateur doit être membre du projet pour être assigné à une tâche.");
             }
             
             task.setAssignedTo(assignedUser);
         }
         
-        return taskRepository.save(task);
+        Task saved = saveUnique(task);
+        adjustCounters(userStory, Counters.NONE, Counters.of(saved));
+        return saved;
     }
     
     /**
@@ -86,12 +105,13 @@ public class TaskService {
      * @return La tâche trouvée.
      * @throws TaskNotFoundException Si la tâche n'existe pas.
      */
+    @Transactional(readOnly = true)
     public Task getTaskById(Long taskId, String username) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Tâche non trouvée"));
         
         // Vérifier que l'utilisateur a accès au projet
-        userStoryService.getUserStoryById(task.getUserStory().getId(), username);
+        userStoryService.findAccessibleUserStory(task.getUserStory().getId(), username);
         
         return task;
     }
@@ -103,9 +123,10 @@ public class TaskService {
      * @param username    Le nom d'utilisateur effectuant la requête.
      * @return Une liste de tâches.
      */
+    @Transactional(readOnly = true)
     public List<Task> getTasksByUserStoryId(Long userStoryId, String username) {
         // Vérifier que l'utilisateur a accès à la user story
-        userStoryService.getUserStoryById(userStoryId, username);
+        userStoryService.findAccessibleUserStory(userStoryId, username);
         
         return taskRepository.findAllByUserStoryId(userStoryId);
     }
@@ -121,17 +142,10 @@ public class TaskService {
      * @throws DuplicateTaskTitleException Si le nouveau titre est déjà utilisé dans l'US.
      * @throws RuntimeException            Si l'utilisateur assigné n'est pas valide.
      */
+    @Transactional
     public Task updateTask(Long taskId, CreateTaskRequest request, String username) {
         Task task = getTaskById(taskId, username);
-        
-        // Vérifier l'unicité du titre si changé
-        if (!task.getTitle().equals(request.getTitle()) && 
-            taskRepository.existsByTitleAndUserStoryId(request.getTitle(), task.getUserStory().getId())) {
-            Task existing = taskRepository.findByTitleAndUserStoryId(request.getTitle(), task.getUserStory().getId());
-            if (existing != null && !existing.getId().equals(taskId)) {
-                throw new DuplicateTaskTitleException("Une tâche avec ce titre existe déjà dans cette user story.");
-            }
-        }
+        Counters before = Counters.of(task);
         
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
@@ -141,10 +155,10 @@ public class TaskService {
         // Gérer l'assignation
         if (request.getAssignedToUsername() != null && !request.getAssignedToUsername().isEmpty()) {
             User assignedUser = userRepository.findByUsername(request.getAssignedToUsername())
-                    .orElseThrow(() -> new RuntimeException("Utilisateur non trouvé: " + request.getAssignedToUsername()));
+                    .orElseThrow(() -> new ResourceNotFoundException("Utilisateur non trouvé: " + request.getAssignedToUsername()));
             
             if (!task.getUserStory().getProject().getMembers().contains(assignedUser)) {
-                throw new RuntimeException("L'utilisateur doit être membre du projet pour être assigné à une tâche.");
+                throw new BusinessRuleException("L'utilisateur doit être membre du projet pour être assigné à une tâche.");
             }
             
             task.setAssignedTo(assignedUser);
@@ -152,7 +166,9 @@ public class TaskService {
             task.setAssignedTo(null);
         }
         
-        return taskRepository.save(task);
+        Task saved = saveUnique(task);
+        adjustCounters(saved.getUserStory(), before, Counters.of(saved));
+        return saved;
     }
     
     /**
@@ -165,5 +181,236 @@ public class TaskService {
     public void deleteTask(Long taskId, String username) {
         Task task = getTaskById(taskId, username);
         taskRepository.delete(task);
+        adjustCounters(task.getUserStory(), Counters.of(task), Counters.NONE);
+    }
+
+    /**
+     * Crée plusieurs tâches, éventuellement dans des User Stories et des projets différents, dans une seule
+     * transaction : les User Stories et les utilisateurs assignés sont chargés en une requête chacun, l'accès est
+     * vérifié une fois par projet, les compteurs des User Stories touchées sont recalculés en une seule mise à jour
+     * et le modèle de lecture des tableaux est recalculé une fois par projet.
+     *
+     * @param requests Les tâches à créer.
+     * @param username Le nom d'utilisateur de la personne effectuant la création.
+     * @return Les tâches créées, dans l'ordre de la requête.
+     * @throws DuplicateTaskTitleException Si un titre est déjà utilisé dans sa User Story ; aucune tâche n'est créée.
+     * @throws RuntimeException            Si une User Story ou un utilisateur assigné n'est pas valide.
+     */
+    @Transactional
+    public List<Task> createTasks(List<CreateTaskRequest> requests, String username) {
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> userStoryIds = BulkIds.of(requests.stream().map(CreateTaskRequest::getUserStoryId).toList());
+        Map<Long, UserStory> userStories = userStoryRepository.findByIdIn(userStoryIds).stream()
+                .collect(Collectors.toMap(UserStory::getId, Function.identity()));
+        if (userStories.size() != userStoryIds.size()
+                || requests.stream().anyMatch(request -> request.getUserStoryId() == null)) {
+            throw new ResourceNotFoundException("User story not found");
+        }
+        checkMembership(userStories.values(), username);
+        Map<String, User> assignees = findAssignees(requests);
+        
+        List<Task> tasks = requests.stream()
+                .map(request -> {
+                    UserStory userStory = userStories.get(request.getUserStoryId());
+                    return Task.builder()
+                            .title(request.getTitle())
+                            .description(request.getDescription())
+                            .priority(request.getPriority())
+                            .status(request.getStatus())
+                            .userStory(userStory)
+                            .assignedTo(assignee(request, userStory, assignees))
+                            .build();
+                })
+                .toList();
+        
+        List<Task> saved = saveAllUnique(tasks);
+        Map<Long, Counters> changes = new LinkedHashMap<>();
+        saved.forEach(task -> changes.merge(task.getUserStory().getId(), Counters.of(task), Counters::plus));
+        recomputeCounters(userStories, changes);
+        return saved;
+    }
+    
+    /**
+     * Met à jour plusieurs tâches dans une seule transaction : les tâches et les utilisateurs assignés sont chargés
+     * en une requête chacun, l'accès est vérifié une fois par projet et les compteurs de chaque User Story sont mis
+     * à jour une seule fois.
+     *
+     * @param requests Les modifications, chacune portant l'identifiant de sa tâche.
+     * @param username Le nom d'utilisateur effectuant la mise à jour.
+     * @return Les tâches mises à jour, dans l'ordre de la requête.
+     * @throws TaskNotFoundException       Si une tâche n'existe pas ; aucune tâche n'est modifiée.
+     * @throws DuplicateTaskTitleException Si un nouveau titre est déjà utilisé dans sa User Story.
+     * @throws RuntimeException            Si un utilisateur assigné n'est pas valide.
+     */
+    @Transactional
+    public List<Task> updateTasks(List<UpdateTaskRequest> requests, String username) {
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> taskIds = BulkIds.of(requests.stream().map(UpdateTaskRequest::getTaskId).toList());
+        Map<Long, Task> tasks = taskRepository.findByIdIn(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        if (tasks.size() != taskIds.size() || requests.stream().anyMatch(request -> request.getTaskId() == null)) {
+            throw new TaskNotFoundException("Tâche non trouvée");
+        }
+        if (taskIds.size() != requests.size()) {
+            throw new BusinessRuleException("Une tâche ne peut être modifiée qu'une fois par requête.");
+        }
+        checkMembership(tasks.values().stream().map(Task::getUserStory).toList(), username);
+        Map<String, User> assignees = findAssignees(requests);
+        
+        Map<Long, Counters> before = new LinkedHashMap<>();
+        tasks.values().forEach(task -> before.put(task.getId(), Counters.of(task)));
+        List<Task> updated = requests.stream()
+                .map(request -> {
+                    Task task = tasks.get(request.getTaskId());
+                    task.setTitle(request.getTitle());
+                    task.setDescription(request.getDescription());
+                    task.setPriority(request.getPriority());
+                    task.setStatus(request.getStatus());
+                    task.setAssignedTo(assignee(request, task.getUserStory(), assignees));
+                    return task;
+                })
+                .toList();
+        
+        List<Task> saved = saveAllUnique(updated);
+        Map<Long, UserStory> userStories = new LinkedHashMap<>();
+        Map<Long, Counters> changes = new LinkedHashMap<>();
+        saved.forEach(task -> {
+            userStories.putIfAbsent(task.getUserStory().getId(), task.getUserStory());
+            changes.merge(task.getUserStory().getId(), Counters.of(task).minus(before.get(task.getId())), Counters::plus);
+        });
+        recomputeCounters(userStories, changes);
+        return saved;
+    }
+
+    /**
+     * Vérifie l'accès de l'utilisateur une fois par projet des User Stories données.
+     */
+    private void checkMembership(Collection<UserStory> userStories, String username) {
+        userStories.stream()
+                .map(userStory -> userStory.getProject().getId())
+                .distinct()
+                .forEach(projectId -> projectService.checkMembership(projectId, username));
+    }
+
+    /**
+     * Charge en une requête les utilisateurs assignés par les tâches données, indexés par nom d'utilisateur.
+     */
+    private Map<String, User> findAssignees(List<? extends CreateTaskRequest> requests) {
+        Set<String> usernames = requests.stream()
+                .map(CreateTaskRequest::getAssignedToUsername)
+                .filter(assigned -> assigned != null && !assigned.isEmpty())
+                .collect(Collectors.toSet());
+        if (usernames.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findByUsernameIn(usernames).stream()
+                .collect(Collectors.toMap(User::getUsername, Function.identity()));
+    }
+
+    /**
+     * @return L'utilisateur assigné par la requête, membre du projet de la User Story, ou {@code null}.
+     */
+    private static User assignee(CreateTaskRequest request, UserStory userStory, Map<String, User> assignees) {
+        String assignedUsername = request.getAssignedToUsername();
+        if (assignedUsername == null || assignedUsername.isEmpty()) {
+            return null;
+        }
+        User assignedUser = assignees.get(assignedUsername);
+        if (assignedUser == null) {
+            throw new ResourceNotFoundException("Utilisateur non trouvé: " + assignedUsername);
+        }
+        if (!userStory.getProject().getMembers().contains(assignedUser)) {
+            throw new BusinessRuleException("L'utilisateur doit être membre du projet pour être assigné à une tâche.");
+        }
+        return assignedUser;
+    }
+
+    /**
+     * Enregistre plusieurs tâches ; l'unicité des titres dans leur User Story est vérifiée par la base.
+     *
+     * @throws DuplicateTaskTitleException Si un titre est déjà utilisé dans sa User Story.
+     */
+    private List<Task> saveAllUnique(List<Task> tasks) {
+        return UniqueConstraints.save(() -> taskRepository.saveAllAndFlush(tasks), UniqueConstraints.TASK_TITLE,
+                () -> new DuplicateTaskTitleException("Une tâche avec ce titre existe déjà dans cette user story."));
+    }
+
+    /**
+     * Enregistre une tâche ; l'unicité du titre dans la User Story est vérifiée par la base.
+     *
+     * @throws DuplicateTaskTitleException Si le titre est déjà utilisé dans la User Story.
+     */
+    private Task saveUnique(Task task) {
+        return UniqueConstraints.save(() -> taskRepository.saveAndFlush(task), UniqueConstraints.TASK_TITLE,
+                () -> new DuplicateTaskTitleException("Une tâche avec ce titre existe déjà dans cette user story."));
+    }
+
+    /**
+     * Répercute sur les compteurs de la User Story le passage d'une tâche d'un état à un autre, par une mise à jour
+     * relative en base (et non une lecture suivie d'une écriture).
+     */
+    private void adjustCounters(UserStory userStory, Counters before, Counters after) {
+        if (!before.equals(after)) {
+            userStoryRepository.adjustTaskCounters(userStory.getId(), after.total() - before.total(),
+                    after.done() - before.done(), after.inProgress() - before.inProgress(),
+                    after.assigned() - before.assigned());
+            eventPublisher.publishEvent(BoardChangedEvent.story(userStory.getProject().getId(), userStory.getId()));
+        }
+    }
+
+    /**
+     * Recalcule en une seule mise à jour les compteurs des User Stories dont les tâches ont changé, puis publie un
+     * changement par projet : celui de la User Story si elle est seule de son projet, celui du projet sinon.
+     *
+     * @param userStories Les User Stories touchées, par identifiant.
+     * @param changes     L'écart de compteurs de chacune.
+     */
+    private void recomputeCounters(Map<Long, UserStory> userStories, Map<Long, Counters> changes) {
+        List<Long> changed = changes.entrySet().stream()
+                .filter(change -> !change.getValue().equals(Counters.NONE))
+                .map(Map.Entry::getKey)
+                .toList();
+        if (changed.isEmpty()) {
+            return;
+        }
+        userStoryRepository.lockByIdIn(changed);
+        userStoryRepository.recomputeTaskCounters(changed);
+
+        Map<Long, List<Long>> byProject = new LinkedHashMap<>();
+        changed.forEach(userStoryId -> byProject
+                .computeIfAbsent(userStories.get(userStoryId).getProject().getId(), projectId -> new ArrayList<>())
+                .add(userStoryId));
+        byProject.forEach((projectId, projectStories) -> eventPublisher.publishEvent(projectStories.size() == 1
+                ? BoardChangedEvent.story(projectId, projectStories.get(0))
+                : BoardChangedEvent.project(projectId)));
+    }
+
+    /**
+     * Contribution d'une tâche aux compteurs de sa User Story.
+     */
+    private record Counters(int total, int done, int inProgress, int assigned) {
+
+        static final Counters NONE = new Counters(0, 0, 0, 0);
+
+        Counters plus(Counters other) {
+            return new Counters(total + other.total, done + other.done, inProgress + other.inProgress,
+                    assigned + other.assigned);
+        }
+
+        Counters minus(Counters other) {
+            return new Counters(total - other.total, done - other.done, inProgress - other.inProgress,
+                    assigned - other.assigned);
+        }
+
+        static Counters of(Task task) {
+            return new Counters(1,
+                    task.getStatus() == Task.Status.DONE ? 1 : 0,
+                    task.getStatus() == Task.Status.IN_PROGRESS ? 1 : 0,
+                    task.getAssignedTo() != null ? 1 : 0);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+package com.taskforge.service;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Traduction des violations de contraintes d'unicité en exceptions métier.
+ * L'unicité des titres, noms et statuts dans leur parent (projet, User Story) est garantie par la base : une création ou
+ * une mise à jour est écrite directement, sans requête de vérification préalable, et une violation est traduite
+ * vers l'exception de doublon existante. Les écritures passent par {@code saveAndFlush} pour que la violation
+ * survienne dans le service et non à la validation de la transaction.
+ */
+final class UniqueConstraints {
+
+    static final String USER_STORY_TITLE = "uk_user_story_title_project";
+
+    static final String SPRINT_NAME = "uk_sprint_name_project";
+
+    static final String TASK_TITLE = "uk_task_title_user_story";
+
+    static final String VERSION_TITLE = "uk_version_title_project";
+
+    static final String VERSION_NUMBER = "uk_version_number_project";
+
+    static final String COLUMN_STATUS = "uk_status_project";
+
+    private UniqueConstraints() {
+    }
+
+    /**
+     * Exécute une écriture et traduit la violation de la contrainte donnée.
+     *
+     * @param write      L'écriture, qui doit émettre ses requêtes immédiatement.
+     * @param constraint Le nom de la contrainte d'unicité.
+     * @param duplicate  L'exception levée en cas de violation de cette contrainte.
+     * @return Le résultat de l'écriture.
+     */
+    static <T> T save(Supplier<T> write, String constraint, Supplier<? extends RuntimeException> duplicate) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException ex) {
+            if (violates(ex, constraint)) {
+                throw duplicate.get();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Le nom de contrainte extrait par Hibernate dépend du dialecte (H2 y ajoute le nom de l'index) :
+     * il est recherché, ainsi que le message du pilote, sans tenir compte de la casse.
+     */
+    static boolean violates(DataIntegrityViolationException ex, String constraint) {
+        StringBuilder text = new StringBuilder();
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                text.append(violation.getConstraintName()).append(' ');
+            }
+            if (cause.getCause() == null && cause.getMessage() != null) {
+                text.append(cause.getMessage());
+            }
+        }
+        return text.toString().toLowerCase(Locale.ROOT).contains(constraint);
+    }
+}
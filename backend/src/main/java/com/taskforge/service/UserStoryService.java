@@ -1,13 +1,30 @@
 package com.taskforge.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.taskforge.dto.CreateUserStoryRequest;
+import com.taskforge.dto.MoveInBacklogRequest;
+import com.taskforge.dto.MoveUserStoryRequest;
+import com.taskforge.exceptions.BusinessRuleException;
+import com.taskforge.exceptions.ColumnFullException;
 import com.taskforge.exceptions.DuplicateUserStoryTitleException;
+import com.taskforge.exceptions.ForbiddenOperationException;
+import com.taskforge.exceptions.ResourceNotFoundException;
+import com.taskforge.models.KanbanColumn;
 import com.taskforge.models.Project;
 import com.taskforge.models.User;
 import com.taskforge.models.UserStory;
@@ -17,8 +34,6 @@ import com.taskforge.repositories.TaskRepository;
 import com.taskforge.repositories.UserRepository;
 import com.taskforge.repositories.UserStoryRepository;
 
-import jakarta.transaction.Transactional;
-
 /**
  * Service gérant la logique métier liée aux User Stories.
  * Permet de créer, récupérer, mettre à jour et supprimer des User Stories,
@@ -44,29 +59,46 @@ public class UserStoryService {
     
     @Autowired
     private KanbanColumnRepository kanbanColumnRepository;
+
+    @Autowired
+    private ProjectSummaryCache projectSummaryCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private StatusWriteCoalescer statusWriteCoalescer;
+
+    @Autowired
+    private RankRebalancer rankRebalancer;
+
+    @Autowired
+    private WipLimits wipLimits;
     
     /**
      * Crée une nouvelle User Story dans un projet.
      * Vérifie que le titre est unique dans le projet et que les utilisateurs assignés sont bien membres du projet.
+     * La User Story est placée en dernier dans sa colonne et dans le backlog, et entre dans la colonne Kanban de son
+     * statut si elle existe.
      *
      * @param request  Les détails de la User Story à créer.
      * @param username Le nom d'utilisateur de la personne effectuant la création.
      * @return La User Story crée et sauvegardée.
      * @throws DuplicateUserStoryTitleException Si une User Story avec le même titre existe déjà dans le projet.
      * @throws RuntimeException                 Si un utilisateur assigné n'est pas trouvé ou n'est pas membre du projet.
+     * @throws ColumnFullException              Si la colonne du statut a atteint sa limite WIP.
      */
+    @Transactional
     public UserStory createUserStory(CreateUserStoryRequest request, String username) {
         Project project = projectService.getProjectById(request.getProjectId(), username);
-        
-        if (userStoryRepository.existsByTitleAndProjectId(request.getTitle(), project.getId())) {
-            throw new DuplicateUserStoryTitleException("Une user story avec ce titre existe déjà dans ce projet.");
-        }
 
         UserStory userStory = UserStory.builder()
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .priority(request.getPriority())
                 .status(request.getStatus())
+                .rank(LexoRank.after(userStoryRepository.findMaxRank(project.getId()).orElse(null)))
+                .backlogRank(LexoRank.after(userStoryRepository.findMaxBacklogRank(project.getId()).orElse(null)))
                 .project(project)
                 .assignedTo(new HashSet<>())
                 .build();
@@ -74,17 +106,22 @@ public class UserStoryService {
         if (request.getAssignedToUsernames() != null && !request.getAssignedToUsernames().isEmpty()) {
             for (String assignedUsername : request.getAssignedToUsernames()) {
                 User assignedUser = userRepository.findByUsername(assignedUsername)
-                    .orElseThrow(() -> new RuntimeException("User not found: " + assignedUsername));
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found: " + assignedUsername));
             
                 if (!project.getMembers().contains(assignedUser)) {
-                    throw new RuntimeException("User " + assignedUsername + " is not a member of this project");
+                    throw new BusinessRuleException("User " + assignedUsername + " is not a member of this project");
                 }
                 
                 userStory.getAssignedTo().add(assignedUser);
             }
         }
         
-        return userStoryRepository.save(userStory);
+        moveToStatusColumn(userStory, request.getStatus());
+        UserStory saved = saveUnique(userStory);
+        // Le nombre de User Stories figure dans la liste « Mes projets » des membres
+        projectSummaryCache.evictMembersOf(project);
+        eventPublisher.publishEvent(BoardChangedEvent.story(project.getId(), saved.getId()));
+        return FetchPlans.userStory(saved);
     }
     
     /**
@@ -95,10 +132,11 @@ public class UserStoryService {
      * @param username  Le nom d'utilisateur effectuant la requête.
      * @return Une liste de User Stories.
      */
+    @Transactional(readOnly = true)
     public List<UserStory> getUserStoriesByProject(Long projectId, String username) {
         // Verify user has access to project
-        projectService.getProjectById(projectId, username);
-        return userStoryRepository.findByProjectId(projectId);
+        projectService.checkMembership(projectId, username);
+        return FetchPlans.userStories(userStoryRepository.findByProjectId(projectId));
     }
     
     /**
@@ -110,12 +148,27 @@ public class UserStoryService {
      * @return La User Story trouvée.
      * @throws RuntimeException Si la User Story n'existe pas ou si l'accès est refusé.
      */
+    @Transactional(readOnly = true)
     public UserStory getUserStoryById(Long userStoryId, String username) {
+        return FetchPlans.userStory(findAccessibleUserStory(userStoryId, username));
+    }
+    
+    /**
+     * Récupère une User Story après vérification de l'accès, sans charger ses tâches ni ses assignés.
+     * Utilisée par les opérations qui n'ont besoin de la User Story que pour contrôler l'accès.
+     *
+     * @param userStoryId L'identifiant de la User Story.
+     * @param username    Le nom d'utilisateur effectuant la requête.
+     * @return La User Story trouvée.
+     * @throws RuntimeException Si la User Story n'existe pas ou si l'accès est refusé.
+     */
+    @Transactional(readOnly = true)
+    public UserStory findAccessibleUserStory(Long userStoryId, String username) {
         UserStory userStory = userStoryRepository.findById(userStoryId)
-                .orElseThrow(() -> new RuntimeException("User story not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("User story not found"));
         
         // Verify user has access to project
-        projectService.getProjectById(userStory.getProject().getId(), username);
+        projectService.checkMembership(userStory.getProject().getId(), username);
         
         return userStory;
     }
@@ -130,17 +183,19 @@ public class UserStoryService {
      * @return La User Story mise à jour.
      * @throws DuplicateUserStoryTitleException Si le nouveau titre est déjà utilisé dans le projet.
      * @throws RuntimeException                 Si un utilisateur assigné n'est pas valide.
+     * @throws ColumnFullException              Si le statut change pour celui d'une colonne qui a atteint sa limite WIP.
      */
+    @Transactional
     public UserStory updateUserStory(Long userStoryId, CreateUserStoryRequest request, String username) {
+        statusWriteCoalescer.supersede(List.of(userStoryId));
+        // Verrouillée avant d'être lue : la colonne quittée par le compteur WIP est celle de la dernière écriture validée
+        userStoryRepository.lockByIdIn(List.of(userStoryId));
         UserStory userStory = getUserStoryById(userStoryId, username);
         
-        if (userStoryRepository.existsByTitleAndProjectId(request.getTitle(), userStory.getProject().getId())) {
-            UserStory existing = userStoryRepository.findByTitleAndProjectId(request.getTitle(), userStory.getProject().getId());
-            if (existing != null && !existing.getId().equals(userStoryId)) {
-                throw new DuplicateUserStoryTitleException("Une user story avec ce titre existe déjà dans ce projet.");
-            }
+        // La limite WIP est vérifiée avant toute modification : les compteurs sont écrits sur-le-champ
+        if (!Objects.equals(userStory.getStatus(), request.getStatus())) {
+            moveToStatusColumn(userStory, request.getStatus());
         }
-        
         userStory.setTitle(request.getTitle());
         userStory.setDescription(request.getDescription());
         userStory.setPriority(request.getPriority());
@@ -151,17 +206,19 @@ public class UserStoryService {
         if (request.getAssignedToUsernames() != null && !request.getAssignedToUsernames().isEmpty()) {
             for (String assignedUsername : request.getAssignedToUsernames()) {
                 User assignedUser = userRepository.findByUsername(assignedUsername)
-                        .orElseThrow(() -> new RuntimeException("User not found: " + assignedUsername));
+                        .orElseThrow(() -> new ResourceNotFoundException("User not found: " + assignedUsername));
                 
                 if (!userStory.getProject().getMembers().contains(assignedUser)) {
-                    throw new RuntimeException("User " + assignedUsername + " is not a member of this project");
+                    throw new BusinessRuleException("User " + assignedUsername + " is not a member of this project");
                 }
                 
                 userStory.getAssignedTo().add(assignedUser);
             }
         }
         
-        return userStoryRepository.save(userStory);
+        UserStory saved = saveUnique(userStory);
+        eventPublisher.publishEvent(BoardChangedEvent.story(saved.getProject().getId(), saved.getId()));
+        return FetchPlans.userStory(saved);
     }
     
     /**
@@ -174,17 +231,25 @@ public class UserStoryService {
      */
     @Transactional
     public void deleteUserStory(Long userStoryId, String username) {
-        UserStory userStory = getUserStoryById(userStoryId, username);
+        statusWriteCoalescer.supersede(List.of(userStoryId));
+        userStoryRepository.lockByIdIn(List.of(userStoryId));
+        UserStory userStory = findAccessibleUserStory(userStoryId, username);
         
         // Only project owner can delete user stories
-        if (!userStory.getProject().getOwner().getUsername().equals(username)) {
-            throw new RuntimeException("Only project owner can delete user stories");
+        if (!CurrentUser.isOwner(userStory.getProject(), username)) {
+            throw new ForbiddenOperationException("Only project owner can delete user stories");
+        }
+
+        if (userStory.getKanbanColumn() != null) {
+            wipLimits.move(userStory.getKanbanColumn(), null);
         }
 
         // Supprimer toutes les tâches associées
         taskRepository.deleteAllByUserStoryId(userStoryId);
         
         userStoryRepository.deleteById(userStoryId);
+        projectSummaryCache.evictMembersOf(userStory.getProject());
+        eventPublisher.publishEvent(BoardChangedEvent.story(userStory.getProject().getId(), userStoryId));
     }
     
     /**
@@ -195,19 +260,324 @@ public class UserStoryService {
      * @param status      Le nouveau statut.
      * @param username    Le nom d'utilisateur effectuant la mise à jour.
      * @return La User Story avec le statut mis à jour.
-     * @throws RuntimeException Si la User Story n'existe pas ou si l'accès est refusé.
+     * @throws RuntimeException    Si la User Story n'existe pas ou si l'accès est refusé.
+     * @throws ColumnFullException Si la colonne du statut a atteint sa limite WIP.
      */
     @Transactional
     public UserStory updateUserStoryStatus(Long userStoryId, String status, String username) {
+        statusWriteCoalescer.supersede(List.of(userStoryId));
+        userStoryRepository.lockByIdIn(List.of(userStoryId));
         UserStory userStory = getUserStoryById(userStoryId, username);
         
-        // Mettre à jour le statut
+        // Mettre à jour la colonne Kanban si elle existe, puis le statut
+        moveToStatusColumn(userStory, status);
         userStory.setStatus(status);
         
-        // Mettre à jour la colonne Kanban si elle existe
-        kanbanColumnRepository.findByStatusAndProjectId(status, userStory.getProject().getId())
-                .ifPresent(userStory::setKanbanColumn);
-        
-        return userStoryRepository.save(userStory);
+        UserStory saved = userStoryRepository.save(userStory);
+        eventPublisher.publishEvent(BoardChangedEvent.story(saved.getProject().getId(), saved.getId()));
+        return FetchPlans.userStory(saved);
+    }
+
+    /**
+     * Déplace une User Story sur le tableau (drag & drop) : dans une autre colonne Kanban, dont elle prend le
+     * statut, et à une place donnée par ses voisines ; seule sa ligne est modifiée.
+     * La User Story est placée juste après la voisine qui la précède, ou juste avant celle qui la suit si seule
+     * celle-ci est indiquée. La ligne de cette voisine est verrouillée : deux déplacements concurrents vers la même
+     * place s'exécutent l'un après l'autre et n'obtiennent pas le même rang. La ligne de la User Story l'est aussi,
+     * avant sa lecture, pour qu'un déplacement concurrent n'écrase pas une écriture validée entre-temps.
+     *
+     * @param userStoryId L'identifiant de la User Story.
+     * @param request     La colonne et les voisines de destination.
+     * @param username    Le nom d'utilisateur effectuant le déplacement.
+     * @return La User Story déplacée.
+     * @throws BusinessRuleException Si la colonne ou une voisine n'appartient pas au projet, ou si les voisines
+     *                               ne sont plus dans cet ordre (tableau affiché périmé).
+     * @throws ColumnFullException   Si la colonne de destination a atteint sa limite WIP.
+     */
+    @Transactional
+    public UserStory moveUserStory(Long userStoryId, MoveUserStoryRequest request, String username) {
+        if (userStoryId.equals(request.getAfterId()) || userStoryId.equals(request.getBeforeId())) {
+            throw new BusinessRuleException("Une User Story ne peut pas être sa propre voisine");
+        }
+        statusWriteCoalescer.supersede(List.of(userStoryId));
+        // Verrouillée avant d'être lue : sa colonne courante, que quitte le compteur WIP, et ses autres champs
+        // sont ceux de la dernière écriture validée
+        Long anchorId = request.getAfterId() != null ? request.getAfterId() : request.getBeforeId();
+        userStoryRepository.lockByIdIn(anchorId != null ? List.of(userStoryId, anchorId) : List.of(userStoryId));
+        UserStory userStory = findAccessibleUserStory(userStoryId, username);
+        Long projectId = userStory.getProject().getId();
+
+        String after = neighbourRank(request.getAfterId(), projectId);
+        String before = neighbourRank(request.getBeforeId(), projectId);
+        if (after != null && before != null && after.compareTo(before) >= 0) {
+            throw new BusinessRuleException("Les User Stories voisines ne sont plus dans cet ordre : rechargez le tableau");
+        }
+
+        String lower;
+        String upper;
+        if (after != null) {
+            lower = after;
+            upper = userStoryRepository.findFirstByProjectIdAndRankGreaterThanAndIdNotOrderByRankAsc(projectId, after, userStoryId)
+                    .map(UserStory::getRank).orElse(null);
+        } else if (before != null) {
+            lower = userStoryRepository.findFirstByProjectIdAndRankLessThanAndIdNotOrderByRankDesc(projectId, before, userStoryId)
+                    .map(UserStory::getRank).orElse(null);
+            upper = before;
+        } else {
+            lower = userStoryRepository.findMaxRank(projectId).orElse(null);
+            upper = null;
+        }
+        userStory.setRank(LexoRank.between(lower, upper));
+        if (LexoRank.needsRebalance(userStory.getRank())) {
+            rankRebalancer.scheduleStories(projectId);
+        }
+
+        if (request.getKanbanColumnId() != null) {
+            KanbanColumn column = kanbanColumnRepository.findById(request.getKanbanColumnId())
+                    .filter(candidate -> candidate.getProject().getId().equals(projectId))
+                    .orElseThrow(() -> new BusinessRuleException("La colonne Kanban n'appartient pas à ce projet"));
+            wipLimits.move(userStory.getKanbanColumn(), column);
+            userStory.setKanbanColumn(column);
+            userStory.setStatus(column.getStatus());
+        }
+
+        UserStory saved = userStoryRepository.save(userStory);
+        eventPublisher.publishEvent(BoardChangedEvent.story(projectId, saved.getId()));
+        return FetchPlans.userStory(saved);
+    }
+
+    /**
+     * Change la priorité d'une User Story dans le backlog du projet : elle est placée juste après la voisine qui la
+     * précède, ou juste avant celle qui la suit si seule celle-ci est indiquée ; seule sa ligne est modifiée.
+     * Sa ligne et celle de cette voisine sont verrouillées avant d'être lues : deux déplacements concurrents vers la
+     * même place n'obtiennent pas le même rang, et un statut enregistré entre-temps n'est pas écrasé.
+     *
+     * @param userStoryId L'identifiant de la User Story.
+     * @param request     Les voisines de destination dans le backlog.
+     * @param username    Le nom d'utilisateur effectuant le déplacement.
+     * @return La User Story déplacée.
+     * @throws BusinessRuleException Si une voisine n'appartient pas au projet, ou si les voisines ne sont plus dans
+     *                               cet ordre (backlog affiché périmé).
+     */
+    @Transactional
+    public UserStory moveInBacklog(Long userStoryId, MoveInBacklogRequest request, String username) {
+        if (userStoryId.equals(request.getAfterId()) || userStoryId.equals(request.getBeforeId())) {
+            throw new BusinessRuleException("Une User Story ne peut pas être sa propre voisine");
+        }
+        Long anchorId = request.getAfterId() != null ? request.getAfterId() : request.getBeforeId();
+        userStoryRepository.lockByIdIn(anchorId != null ? List.of(userStoryId, anchorId) : List.of(userStoryId));
+        UserStory userStory = findAccessibleUserStory(userStoryId, username);
+        Long projectId = userStory.getProject().getId();
+
+        String after = neighbourBacklogRank(request.getAfterId(), projectId);
+        String before = neighbourBacklogRank(request.getBeforeId(), projectId);
+        if (after != null && before != null && after.compareTo(before) >= 0) {
+            throw new BusinessRuleException("Les User Stories voisines ne sont plus dans cet ordre : rechargez le backlog");
+        }
+
+        String lower;
+        String upper;
+        if (after != null) {
+            lower = after;
+            upper = userStoryRepository
+                    .findFirstByProjectIdAndBacklogRankGreaterThanAndIdNotOrderByBacklogRankAsc(projectId, after, userStoryId)
+                    .map(UserStory::getBacklogRank).orElse(null);
+        } else if (before != null) {
+            lower = userStoryRepository
+                    .findFirstByProjectIdAndBacklogRankLessThanAndIdNotOrderByBacklogRankDesc(projectId, before, userStoryId)
+                    .map(UserStory::getBacklogRank).orElse(null);
+            upper = before;
+        } else {
+            lower = userStoryRepository.findMaxBacklogRank(projectId).orElse(null);
+            upper = null;
+        }
+        userStory.setBacklogRank(LexoRank.between(lower, upper));
+        if (LexoRank.needsRebalance(userStory.getBacklogRank())) {
+            rankRebalancer.scheduleBacklog(projectId);
+        }
+
+        UserStory saved = userStoryRepository.save(userStory);
+        eventPublisher.publishEvent(BoardChangedEvent.story(projectId, saved.getId()));
+        return FetchPlans.userStory(saved);
+    }
+
+    /**
+     * Réordonne le backlog d'un projet en une fois (import d'un backlog priorisé ailleurs) : les User Stories
+     * indiquées passent en tête, dans l'ordre donné, les autres les suivent dans leur ordre courant. Tous les rangs
+     * de backlog du projet sont redistribués, ses lignes verrouillées.
+     *
+     * @param projectId    L'identifiant du projet.
+     * @param userStoryIds Les User Stories, de la plus prioritaire à la moins prioritaire.
+     * @param username     Le nom d'utilisateur effectuant la mise à jour.
+     * @return Le nombre de User Stories placées en tête.
+     * @throws BusinessRuleException Si une User Story n'appartient pas au projet ; aucune n'est alors modifiée.
+     */
+    @Transactional
+    public int reorderBacklog(Long projectId, Collection<Long> userStoryIds, String username) {
+        projectService.checkMembership(projectId, username);
+        Set<Long> ids = BulkIds.of(userStoryIds);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, UserStory> current = new LinkedHashMap<>();
+        userStoryRepository.lockByProjectIdOrderByBacklogRank(projectId).forEach(us -> current.put(us.getId(), us));
+        List<UserStory> ordered = new ArrayList<>(current.size());
+        for (Long id : ids) {
+            UserStory userStory = current.remove(id);
+            if (userStory == null) {
+                throw new BusinessRuleException("User stories must belong to the project");
+            }
+            ordered.add(userStory);
+        }
+        ordered.addAll(current.values());
+
+        String[] ranks = LexoRank.spread(ordered.size());
+        for (int i = 0; i < ranks.length; i++) {
+            ordered.get(i).setBacklogRank(ranks[i]);
+        }
+        userStoryRepository.flush();
+        eventPublisher.publishEvent(BoardChangedEvent.project(projectId));
+        return ids.size();
+    }
+
+    /**
+     * Accepte le statut d'une User Story (drag & drop) sans l'écrire : il est enregistré par
+     * {@link StatusWriteCoalescer} à la fin de la fenêtre de regroupement, avec les changements suivants
+     * de la même User Story remplacés par le dernier.
+     * Appelée dans une transaction d'écriture englobante (lot atomique), l'écriture est faite tout de suite pour
+     * suivre le sort de cette transaction.
+     *
+     * @param userStoryId L'identifiant de la User Story.
+     * @param status      Le nouveau statut.
+     * @param username    Le nom d'utilisateur effectuant la mise à jour.
+     * @return La User Story telle qu'elle sera enregistrée.
+     * @throws ResourceNotFoundException Si la User Story n'existe pas.
+     * @throws BusinessRuleException     Si le statut est vide.
+     * @throws ColumnFullException       Si la colonne du statut semble pleine ; l'enregistrement différé vérifie à
+     *                                   nouveau la limite et abandonne le statut si elle est atteinte entre-temps.
+     */
+    @Transactional(readOnly = true)
+    public UserStory submitUserStoryStatus(Long userStoryId, String status, String username) {
+        if (status == null || status.isBlank()) {
+            throw new BusinessRuleException("Le statut est obligatoire");
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return updateUserStoryStatus(userStoryId, status, username);
+        }
+        UserStory userStory = getUserStoryById(userStoryId, username);
+        Optional<KanbanColumn> column = kanbanColumnRepository.findByStatusAndProjectId(status, userStory.getProject().getId());
+        column.ifPresent(target -> wipLimits.checkRoom(userStory.getKanbanColumn(), target));
+        statusWriteCoalescer.submit(userStory.getId(), userStory.getProject().getId(), status);
+
+        // Transaction en lecture seule : la réponse reflète le statut accepté sans que rien ne soit écrit ici
+        userStory.setStatus(status);
+        column.ifPresent(userStory::setKanbanColumn);
+        return userStory;
+    }
+
+    /**
+     * Met à jour le statut de plusieurs User Stories, éventuellement de projets différents.
+     * L'accès est vérifié une fois par projet, puis chaque projet reçoit une seule mise à jour en base,
+     * qui place aussi ses User Stories dans la colonne Kanban du statut si elle existe.
+     *
+     * @param userStoryIds Les identifiants des User Stories.
+     * @param status       Le nouveau statut.
+     * @param username     Le nom d'utilisateur effectuant la mise à jour.
+     * @return Le nombre de User Stories mises à jour.
+     * @throws ResourceNotFoundException Si une User Story n'existe pas ; aucune n'est alors modifiée.
+     * @throws ColumnFullException       Si la colonne du statut n'a pas la place pour toutes les User Stories
+     *                                   d'un projet ; aucune n'est alors modifiée.
+     */
+    @Transactional
+    public int updateUserStoriesStatus(Collection<Long> userStoryIds, String status, String username) {
+        if (status == null || status.isBlank()) {
+            throw new BusinessRuleException("Le statut est obligatoire");
+        }
+        Set<Long> ids = BulkIds.of(userStoryIds);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        statusWriteCoalescer.supersede(ids);
+
+        // Lignes verrouillées : les colonnes quittées, qui ajustent leurs compteurs, ne changent plus d'ici l'écriture
+        Map<Long, List<UserStory>> byProject = new LinkedHashMap<>();
+        userStoryRepository.lockByIdIn(ids).forEach(us -> byProject
+                .computeIfAbsent(us.getProject().getId(), projectId -> new ArrayList<>())
+                .add(us));
+        if (byProject.values().stream().mapToInt(List::size).sum() != ids.size()) {
+            throw new ResourceNotFoundException("User story not found");
+        }
+        byProject.keySet().forEach(projectId -> projectService.checkMembership(projectId, username));
+
+        int updated = 0;
+        for (Map.Entry<Long, List<UserStory>> project : byProject.entrySet()) {
+            Long projectId = project.getKey();
+            Optional<KanbanColumn> column = kanbanColumnRepository.findByStatusAndProjectId(status, projectId);
+            if (column.isPresent()) {
+                wipLimits.moveAll(project.getValue(), column.get());
+            }
+            updated += column.isPresent()
+                    ? userStoryRepository.updateStatusAndColumn(ids, projectId, status, column.get())
+                    : userStoryRepository.updateStatus(ids, projectId, status);
+            eventPublisher.publishEvent(BoardChangedEvent.project(projectId));
+        }
+        return updated;
+    }
+
+    /**
+     * Place une User Story dans la colonne Kanban d'un statut, si elle existe ; sinon elle reste dans sa colonne.
+     *
+     * @throws ColumnFullException Si la colonne a atteint sa limite WIP.
+     */
+    private void moveToStatusColumn(UserStory userStory, String status) {
+        kanbanColumnRepository.findByStatusAndProjectId(status, userStory.getProject().getId()).ifPresent(column -> {
+            wipLimits.move(userStory.getKanbanColumn(), column);
+            userStory.setKanbanColumn(column);
+        });
+    }
+
+    /**
+     * @return Le rang de la voisine indiquée, ou {@code null} si aucune ne l'est. Une voisine sans rang (données
+     *         antérieures aux rangs) fait redistribuer les rangs du projet dans la transaction en cours.
+     * @throws BusinessRuleException Si la voisine n'appartient pas au projet.
+     */
+    private String neighbourRank(Long neighbourId, Long projectId) {
+        if (neighbourId == null) {
+            return null;
+        }
+        UserStory neighbour = userStoryRepository.findByIdAndProjectId(neighbourId, projectId)
+                .orElseThrow(() -> new BusinessRuleException("La User Story voisine " + neighbourId + " n'appartient pas à ce projet"));
+        if (neighbour.getRank() == null) {
+            rankRebalancer.rebalance(projectId);
+        }
+        return neighbour.getRank();
+    }
+
+    /**
+     * @return Le rang de backlog de la voisine indiquée, ou {@code null} si aucune ne l'est. Une voisine sans rang
+     *         fait redistribuer les rangs de backlog du projet dans la transaction en cours.
+     * @throws BusinessRuleException Si la voisine n'appartient pas au projet.
+     */
+    private String neighbourBacklogRank(Long neighbourId, Long projectId) {
+        if (neighbourId == null) {
+            return null;
+        }
+        UserStory neighbour = userStoryRepository.findByIdAndProjectId(neighbourId, projectId)
+                .orElseThrow(() -> new BusinessRuleException("La User Story voisine " + neighbourId + " n'appartient pas à ce projet"));
+        if (neighbour.getBacklogRank() == null) {
+            rankRebalancer.rebalanceBacklog(projectId);
+        }
+        return neighbour.getBacklogRank();
+    }
+
+    /**
+     * Enregistre une User Story ; l'unicité du titre dans le projet est vérifiée par la base.
+     *
+     * @throws DuplicateUserStoryTitleException Si le titre est déjà utilisé dans le projet.
+     */
+    private UserStory saveUnique(UserStory userStory) {
+        return UniqueConstraints.save(() -> userStoryRepository.saveAndFlush(userStory), UniqueConstraints.USER_STORY_TITLE,
+                () -> new DuplicateUserStoryTitleException("Une user story avec ce titre existe déjà dans ce projet."));
     }
-}
\ No newline at end of file
+}
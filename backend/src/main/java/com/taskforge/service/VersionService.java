@@ -1,13 +1,19 @@
 package com.taskforge.service;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.taskforge.dto.CreateVersionRequest;
+import com.taskforge.exceptions.BusinessRuleException;
 import com.taskforge.exceptions.DuplicateProjectNameException;
+import com.taskforge.exceptions.ResourceNotFoundException;
 import com.taskforge.models.Project;
 import com.taskforge.models.UserStory;
 import com.taskforge.models.Version;
@@ -24,29 +30,29 @@ public class VersionService {
     private final VersionRepository versionRepository;
     private final ProjectRepository projectRepository;
     private final UserStoryRepository userStoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectChangeVersions projectChangeVersions;
+    private final ProjectService projectService;
 
+    @Transactional(readOnly = true)
     public List<Version> getVersionsByProject(Long projectId) {
-        return versionRepository.findByProjectIdOrderByIdDesc(projectId);
+        return FetchPlans.versions(versionRepository.findByProjectIdOrderByIdDesc(projectId));
     }
 
+    @Transactional(readOnly = true)
     public Version getVersionById(Long id) {
+        return FetchPlans.version(findVersion(id));
+    }
+
+    private Version findVersion(Long id) {
         return versionRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Version non trouvée avec l'ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Version non trouvée avec l'ID: " + id));
     }
 
     @Transactional
     public Version createVersion(CreateVersionRequest request) {
         Project project = projectRepository.findById(request.getProjectId())
-                .orElseThrow(() -> new RuntimeException("Projet non trouvé avec l'ID: " + request.getProjectId()));
-
-        if (versionRepository.existsByProjectIdAndVersionNumber(request.getProjectId(), request.getVersionNumber())) {
-            throw new DuplicateProjectNameException("Une version avec ce numéro existe déjà pour ce projet");
-        }
-
-        if (versionRepository.findByProjectIdOrderByIdDesc(request.getProjectId()).stream()
-                .anyMatch(v -> v.getTitle().equals(request.getTitle()))) {
-            throw new DuplicateProjectNameException("Une version avec ce titre existe déjà pour ce projet");
-        }
+                .orElseThrow(() -> new ResourceNotFoundException("Projet non trouvé avec l'ID: " + request.getProjectId()));
 
         Version version = Version.builder()
                 .title(request.getTitle())
@@ -56,28 +62,29 @@ public class VersionService {
                 .status(Version.VersionStatus.PLANNED)
                 .build();
 
-        return versionRepository.save(version);
+        Version saved = saveUnique(version);
+        projectChangeVersions.bump(project.getId());
+        return saved;
     }
 
     @Transactional
     public Version updateVersion(Long id, CreateVersionRequest request) {
-        Version version = getVersionById(id);
-
-        if (!version.getVersionNumber().equals(request.getVersionNumber()) &&
-            versionRepository.existsByProjectIdAndVersionNumber(version.getProject().getId(), request.getVersionNumber())) {
-            throw new DuplicateProjectNameException("Une version avec ce numéro existe déjà pour ce projet");
-        }
+        Version version = findVersion(id);
 
         version.setTitle(request.getTitle());
         version.setDescription(request.getDescription());
         version.setVersionNumber(request.getVersionNumber());
 
-        return versionRepository.save(version);
+        // Plan de chargement appliqué avant l'écriture : le flush vide la file de chargement par lots
+        FetchPlans.version(version);
+        Version saved = saveUnique(version);
+        eventPublisher.publishEvent(BoardChangedEvent.project(saved.getProject().getId()));
+        return saved;
     }
 
     @Transactional
     public Version updateVersionStatus(Long id, Version.VersionStatus status) {
-        Version version = getVersionById(id);
+        Version version = findVersion(id);
         version.setStatus(status);
         
         // Définir la date de release automatiquement
@@ -85,12 +92,13 @@ public class VersionService {
             version.setReleaseDate(LocalDate.now());
         }
         
-        return versionRepository.save(version);
+        projectChangeVersions.bump(version.getProject().getId());
+        return FetchPlans.version(versionRepository.save(version));
     }
 
     @Transactional
     public void deleteVersion(Long id) {
-        Version version = getVersionById(id);
+        Version version = findVersion(id);
         
         List<UserStory> userStories = userStoryRepository.findByVersionId(id);
         for (UserStory story : userStories) {
@@ -99,32 +107,103 @@ public class VersionService {
         }
         
         versionRepository.delete(version);
+        eventPublisher.publishEvent(BoardChangedEvent.project(version.getProject().getId()));
     }
 
     @Transactional
     public UserStory assignUserStoryToVersion(Long versionId, Long userStoryId) {
-        Version version = getVersionById(versionId);
+        Version version = findVersion(versionId);
         UserStory userStory = userStoryRepository.findById(userStoryId)
-                .orElseThrow(() -> new RuntimeException("User Story non trouvée avec l'ID: " + userStoryId));
+                .orElseThrow(() -> new ResourceNotFoundException("User Story non trouvée avec l'ID: " + userStoryId));
 
         if (!userStory.getProject().getId().equals(version.getProject().getId())) {
-            throw new RuntimeException("La User Story n'appartient pas au même projet que la version");
+            throw new BusinessRuleException("La User Story n'appartient pas au même projet que la version");
         }
 
         userStory.setVersion(version);
-        return userStoryRepository.save(userStory);
+        UserStory saved = userStoryRepository.save(userStory);
+        eventPublisher.publishEvent(BoardChangedEvent.story(saved.getProject().getId(), saved.getId()));
+        return FetchPlans.userStory(saved);
     }
 
     @Transactional
     public UserStory removeUserStoryFromVersion(Long userStoryId) {
         UserStory userStory = userStoryRepository.findById(userStoryId)
-                .orElseThrow(() -> new RuntimeException("User Story non trouvée avec l'ID: " + userStoryId));
+                .orElseThrow(() -> new ResourceNotFoundException("User Story non trouvée avec l'ID: " + userStoryId));
 
         userStory.setVersion(null);
-        return userStoryRepository.save(userStory);
+        UserStory saved = userStoryRepository.save(userStory);
+        eventPublisher.publishEvent(BoardChangedEvent.story(saved.getProject().getId(), saved.getId()));
+        return FetchPlans.userStory(saved);
     }
 
+    /**
+     * Associe plusieurs User Stories à une version par une seule mise à jour en base, après un seul contrôle d'accès.
+     *
+     * @return Le nombre de User Stories associées.
+     * @throws BusinessRuleException Si une User Story n'existe pas ou n'appartient pas au projet de la version ;
+     *                               aucune n'est alors associée.
+     */
+    @Transactional
+    public int assignUserStoriesToVersion(Long versionId, Collection<Long> userStoryIds, String username) {
+        Version version = findVersion(versionId);
+        Long projectId = version.getProject().getId();
+        projectService.checkMembership(projectId, username);
+        Set<Long> ids = BulkIds.of(userStoryIds);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int updated = userStoryRepository.assignVersion(ids, projectId, version);
+        if (updated != ids.size()) {
+            throw new BusinessRuleException("Toutes les User Stories doivent appartenir au même projet que la version");
+        }
+        eventPublisher.publishEvent(BoardChangedEvent.project(projectId));
+        return updated;
+    }
+
+    /**
+     * Retire plusieurs User Stories d'une version par une seule mise à jour en base.
+     * Les User Stories qui ne sont pas associées à cette version sont ignorées.
+     *
+     * @return Le nombre de User Stories retirées de la version.
+     */
+    @Transactional
+    public int removeUserStoriesFromVersion(Long versionId, Collection<Long> userStoryIds, String username) {
+        Version version = findVersion(versionId);
+        Long projectId = version.getProject().getId();
+        projectService.checkMembership(projectId, username);
+        Set<Long> ids = BulkIds.of(userStoryIds);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int updated = userStoryRepository.removeVersion(ids, versionId);
+        if (updated > 0) {
+            eventPublisher.publishEvent(BoardChangedEvent.project(projectId));
+        }
+        return updated;
+    }
+
+    @Transactional(readOnly = true)
     public List<UserStory> getUserStoriesByVersion(Long versionId) {
-        return userStoryRepository.findByVersionId(versionId);
+        return FetchPlans.userStories(userStoryRepository.findByVersionId(versionId));
+    }
+
+    /**
+     * Enregistre une version ; l'unicité du numéro et du titre dans le projet est vérifiée par la base.
+     */
+    private Version saveUnique(Version version) {
+        try {
+            return versionRepository.saveAndFlush(version);
+        } catch (DataIntegrityViolationException ex) {
+            if (UniqueConstraints.violates(ex, UniqueConstraints.VERSION_NUMBER)) {
+                throw new DuplicateProjectNameException("Une version avec ce numéro existe déjà pour ce projet");
+            }
+            if (UniqueConstraints.violates(ex, UniqueConstraints.VERSION_TITLE)) {
+                throw new DuplicateProjectNameException("Une version avec ce titre existe déjà pour ce projet");
+            }
+            throw ex;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,185 @@
+package com.taskforge.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskforge.exceptions.ColumnFullException;
+import com.taskforge.models.KanbanColumn;
+import com.taskforge.models.UserStory;
+import com.taskforge.repositories.KanbanColumnRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Limites WIP des colonnes Kanban, appliquées par les compteurs de User Stories des colonnes ({@code story_count}).
+ * Chaque écriture qui fait entrer des User Stories dans une colonne ou les en fait sortir ajuste ces compteurs, dans
+ * sa transaction, par des mises à jour relatives ; l'entrée est conditionnelle ({@code story_count + n <= wip_limit}),
+ * si bien que la limite est vérifiée par la base sans compter les User Stories. Deux glisser-déposer concurrents vers
+ * la dernière place libre d'une colonne s'exécutent l'un après l'autre sur sa ligne : le second est refusé. Les
+ * colonnes sont modifiées par identifiant croissant, pour que deux déplacements croisés ne s'interbloquent pas.
+ * Les appelants verrouillent la ligne de la User Story avant de lire la colonne qu'elle quitte.
+ *
+ * <p>Une limite abaissée sous le nombre courant ne fait sortir aucune User Story : la colonne refuse les entrées
+ * jusqu'à redescendre sous sa limite. Une écriture faite hors des services peut décaler les compteurs : ils sont
+ * recalculés au démarrage puis toutes les {@code taskforge.wip-limits.reconcile-interval}.
+ *
+ * <p>Métriques : {@code taskforge.wip_limits.rejected}, les entrées refusées, et
+ * {@code taskforge.wip_limits.repaired}, les colonnes dont le compteur a été recalculé.
+ */
+@Slf4j
+@Component
+public class WipLimits {
+
+    static final String REJECTED_METRIC = "taskforge.wip_limits.rejected";
+    static final String REPAIRED_METRIC = "taskforge.wip_limits.repaired";
+
+    private final KanbanColumnRepository kanbanColumnRepository;
+    private final ProjectChangeVersions projectChangeVersions;
+    private final TransactionTemplate transaction;
+    private final Counter rejected;
+    private final Counter repaired;
+
+    public WipLimits(KanbanColumnRepository kanbanColumnRepository, ProjectChangeVersions projectChangeVersions,
+            PlatformTransactionManager transactionManager, MeterRegistry registry) {
+        this.kanbanColumnRepository = kanbanColumnRepository;
+        this.projectChangeVersions = projectChangeVersions;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.rejected = Counter.builder(REJECTED_METRIC)
+                .description("Entrées de User Stories refusées par la limite WIP d'une colonne")
+                .register(registry);
+        this.repaired = Counter.builder(REPAIRED_METRIC)
+                .description("Colonnes dont le nombre de User Stories a été recalculé")
+                .register(registry);
+    }
+
+    /**
+     * Fait passer une User Story d'une colonne à une autre, dans la transaction en cours.
+     *
+     * @param from La colonne qu'elle quitte, ou {@code null} (création, User Story sans colonne).
+     * @param to   La colonne où elle entre, ou {@code null} (suppression).
+     * @throws ColumnFullException Si {@code to} a atteint sa limite WIP.
+     */
+    public void move(KanbanColumn from, KanbanColumn to) {
+        Map<Long, Integer> leaving = from == null ? Map.of() : Map.of(from.getId(), 1);
+        if (!transfer(leaving, to, 1)) {
+            throw full(to);
+        }
+    }
+
+    /**
+     * Fait entrer des User Stories dans une colonne, chacune quittant la sienne, dans la transaction en cours.
+     *
+     * @param stories Les User Stories, dont la colonne courante est celle lue en base.
+     * @param to      La colonne de destination.
+     * @throws ColumnFullException Si {@code to} n'a pas la place pour toutes ; aucun compteur n'est alors modifié.
+     */
+    public void moveAll(Collection<UserStory> stories, KanbanColumn to) {
+        if (!tryMoveAll(stories, to)) {
+            throw full(to);
+        }
+    }
+
+    /**
+     * Comme {@link #moveAll}, sans lever d'exception.
+     *
+     * @return {@code false} si {@code to} n'a pas la place pour toutes ; aucun compteur n'est alors modifié.
+     */
+    public boolean tryMoveAll(Collection<UserStory> stories, KanbanColumn to) {
+        Map<Long, Integer> leaving = new HashMap<>();
+        int entering = 0;
+        for (UserStory story : stories) {
+            Long columnId = story.getKanbanColumn() == null ? null : story.getKanbanColumn().getId();
+            if (to != null && to.getId().equals(columnId)) {
+                continue;
+            }
+            entering++;
+            if (columnId != null) {
+                leaving.merge(columnId, 1, Integer::sum);
+            }
+        }
+        return transfer(leaving, to, entering);
+    }
+
+    /**
+     * Refuse d'avance l'entrée d'une User Story dans une colonne pleine, d'après le compteur lu avec la colonne.
+     * Utilisée quand l'écriture est différée ({@link StatusWriteCoalescer}) : seule l'écriture vérifie la limite
+     * sans concurrence possible.
+     *
+     * @throws ColumnFullException Si {@code to} semblait pleine à la lecture.
+     */
+    public void checkRoom(KanbanColumn from, KanbanColumn to) {
+        if (to.getWipLimit() != null && to.getStoryCount() >= to.getWipLimit()
+                && (from == null || !Objects.equals(from.getId(), to.getId()))) {
+            rejected.increment();
+            throw full(to);
+        }
+    }
+
+    /**
+     * Recalcule les compteurs qui ont dérivé, au démarrage puis périodiquement.
+     *
+     * @return Le nombre de colonnes corrigées.
+     */
+    @Scheduled(fixedDelayString = "${taskforge.wip-limits.reconcile-interval:1h}",
+            initialDelayString = "${taskforge.wip-limits.reconcile-interval:1h}")
+    public int reconcile() {
+        Integer count = transaction.execute(status -> kanbanColumnRepository.reconcileStoryCounts());
+        if (count != null && count > 0) {
+            repaired.increment(count);
+            log.warn("Nombre de User Stories corrigé pour {} colonnes Kanban", count);
+            // Les listes de colonnes en cache affichent les compteurs
+            projectChangeVersions.bumpAll();
+        }
+        return count == null ? 0 : count;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    private boolean transfer(Map<Long, Integer> leaving, KanbanColumn to, int entering) {
+        Map<Long, Integer> deltas = new TreeMap<>();
+        leaving.forEach((columnId, count) -> deltas.put(columnId, -count));
+        if (to != null && entering > 0) {
+            deltas.merge(to.getId(), entering, Integer::sum);
+        }
+
+        List<Map.Entry<Long, Integer>> applied = new ArrayList<>();
+        for (Map.Entry<Long, Integer> delta : deltas.entrySet()) {
+            if (delta.getValue() > 0
+                    && kanbanColumnRepository.addStoriesWithinLimit(delta.getKey(), delta.getValue()) == 0) {
+                // Les sorties déjà comptées sont annulées : l'appelant peut poursuivre sa transaction
+                applied.forEach(done -> kanbanColumnRepository.adjustStoryCount(done.getKey(), -done.getValue()));
+                rejected.increment();
+                return false;
+            }
+            if (delta.getValue() < 0) {
+                kanbanColumnRepository.adjustStoryCount(delta.getKey(), delta.getValue());
+            }
+            if (delta.getValue() != 0) {
+                applied.add(delta);
+            }
+        }
+        return true;
+    }
+
+    private static ColumnFullException full(KanbanColumn column) {
+        return new ColumnFullException("La colonne « " + column.getName() + " » a atteint sa limite WIP ("
+                + column.getWipLimit() + " User Stories)");
+    }
+}
@@ -0,0 +1,90 @@
+package com.taskforge.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.taskforge.models.UserStory;
+
+/**
+ * Micro-benchmark JMH des encodages proposés par l'API (JSON, CBOR, Smile) sur le backlog d'un projet.
+ * Mesure l'encodage et le décodage d'un {@code List<UserStory>} ; la taille de la charge utile de chaque
+ * format est affichée au démarrage et se déduit aussi du compteur {@code bytes} (octets/s ÷ ops/s).
+ *
+ * <p>Lancement : voir la section « Serialization Benchmark » du README.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncodingBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"200"})
+    public int stories;
+
+    private List<UserStory> board;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory(format))
+                .modulesToInstall(new BlackbirdModule())
+                .build();
+        JavaType type = mapper.getTypeFactory().constructCollectionType(List.class, UserStory.class);
+        board = SerializationBenchmark.board(stories);
+        writer = mapper.writerFor(type);
+        reader = mapper.readerFor(type);
+        payload = writer.writeValueAsBytes(board);
+        System.out.printf("%n%s payload for %d stories: %d bytes%n", format, stories, payload.length);
+    }
+
+    @Benchmark
+    public long encode(SerializationBenchmark.Bytes counter) throws IOException {
+        SerializationBenchmark.CountingOutputStream out = new SerializationBenchmark.CountingOutputStream();
+        writer.writeValue(out, board);
+        counter.bytes += out.count;
+        return out.count;
+    }
+
+    @Benchmark
+    public List<UserStory> decode() throws IOException {
+        return reader.readValue(payload);
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+}
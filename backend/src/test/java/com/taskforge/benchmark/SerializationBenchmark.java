@@ -0,0 +1,166 @@
+package com.taskforge.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.taskforge.models.KanbanColumn;
+import com.taskforge.models.Project;
+import com.taskforge.models.Sprint;
+import com.taskforge.models.Task;
+import com.taskforge.models.User;
+import com.taskforge.models.UserStory;
+import com.taskforge.models.Version;
+
+/**
+ * Micro-benchmark JMH de la sérialisation du backlog d'un projet ({@code List<UserStory>}),
+ * la réponse la plus volumineuse de l'API.
+ * Compare l'ObjectMapper par défaut (réflexion, writer reconstruit à chaque appel) à la configuration
+ * de l'application (module Blackbird et writer préparé pour le type).
+ * Le JSON est écrit dans un flux qui ne fait que compter les octets, ce qui exclut le coût des E/S.
+ *
+ * <p>Lancement : voir la section « Serialization benchmark » du README.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"200"})
+    public int stories;
+
+    private List<UserStory> board;
+    private ObjectMapper baselineMapper;
+    private ObjectWriter tunedWriter;
+
+    /**
+     * Nombre d'octets produits, rapporté par JMH en octets par seconde à côté du débit d'opérations.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        board = board(stories);
+        baselineMapper = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper tunedMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+        tunedWriter = tunedMapper.writerFor(tunedMapper.getTypeFactory().constructCollectionType(List.class, UserStory.class));
+    }
+
+    @Benchmark
+    public long baseline(Bytes counter) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        baselineMapper.writeValue(out, board);
+        counter.bytes += out.count;
+        return out.count;
+    }
+
+    @Benchmark
+    public long blackbirdPrefetchedWriter(Bytes counter) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        tunedWriter.writeValue(out, board);
+        counter.bytes += out.count;
+        return out.count;
+    }
+
+    /**
+     * Construit un tableau réaliste : chaque User Story a son projet, son sprint, sa version,
+     * sa colonne, deux assignés et trois tâches.
+     */
+    static List<UserStory> board(int size) {
+        User owner = User.builder().id(1L).username("owner").email("owner@example.com").password("hash").build();
+        Set<User> members = new HashSet<>();
+        members.add(owner);
+        for (long i = 2; i <= 6; i++) {
+            members.add(User.builder().id(i).username("member" + i).email("member" + i + "@example.com").password("hash").build());
+        }
+        List<User> team = new ArrayList<>(members);
+        Project project = Project.builder().id(1L).name("Board").description("Projet de benchmark")
+                .owner(owner).members(members).build();
+        Sprint sprint = Sprint.builder().id(1L).name("Sprint 1").startDate(LocalDate.of(2025, 1, 6))
+                .endDate(LocalDate.of(2025, 1, 20)).status(Sprint.Status.ACTIVE).project(project).build();
+        Version version = Version.builder().id(1L).title("Release").versionNumber("1.0.0")
+                .releaseDate(LocalDate.of(2025, 2, 1)).project(project).build();
+        List<KanbanColumn> columns = List.of(
+                KanbanColumn.builder().id(1L).name("To Do").status("TODO").order(0).project(project).build(),
+                KanbanColumn.builder().id(2L).name("In Progress").status("IN_PROGRESS").order(1).project(project).build(),
+                KanbanColumn.builder().id(3L).name("Done").status("DONE").order(2).project(project).build());
+
+        List<UserStory> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            KanbanColumn column = columns.get(i % columns.size());
+            UserStory story = UserStory.builder()
+                    .id((long) i + 1)
+                    .title("En tant qu'utilisateur, je veux la fonctionnalité " + i)
+                    .description("Critères d'acceptation détaillés de la User Story " + i)
+                    .priority(UserStory.Priority.values()[i % UserStory.Priority.values().length])
+                    .status(column.getStatus())
+                    .project(project)
+                    .sprint(sprint)
+                    .version(version)
+                    .kanbanColumn(column)
+                    .assignedTo(new HashSet<>(List.of(team.get(i % team.size()), team.get((i + 1) % team.size()))))
+                    .build();
+            List<Task> tasks = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                tasks.add(Task.builder().id((long) i * 3 + t + 1).title("Tâche " + t).description("Détail de la tâche")
+                        .priority(Task.Priority.MEDIUM).status(Task.Status.TODO).userStory(story)
+                        .assignedTo(team.get(t % team.size())).build());
+            }
+            story.setTasks(tasks);
+            result.add(story);
+        }
+        return result;
+    }
+
+    /**
+     * Flux de sortie qui compte les octets sans les conserver.
+     */
+    static final class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.taskforge.compression;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskforge.dto.CreateProjectRequest;
+import com.taskforge.dto.CreateSprintRequest;
+import com.taskforge.dto.CreateUserStoryRequest;
+import com.taskforge.dto.RegisterRequest;
+import com.taskforge.dto.UserDto;
+import com.taskforge.models.Sprint;
+import com.taskforge.models.UserStory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Tests d'intégration du filtre de réponses compressées.
+ * Vérifie l'ETag, la réponse 304, la compression gzip et la réutilisation des octets compressés en cache.
+ */
+@SpringBootTest(properties = "taskforge.compression.min-response-size=256")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CompressedResponseFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String sprintStoriesUrl;
+
+    @BeforeEach
+    void setup() throws Exception {
+        jdbcTemplate.execute("DELETE FROM tasks");
+        jdbcTemplate.execute("DELETE FROM user_story_assignees");
+        jdbcTemplate.execute("DELETE FROM user_stories");
+        jdbcTemplate.execute("DELETE FROM sprints");
+        jdbcTemplate.execute("DELETE FROM kanban_columns");
+        jdbcTemplate.execute("DELETE FROM project_members");
+        jdbcTemplate.execute("DELETE FROM projects");
+        jdbcTemplate.execute("DELETE FROM users");
+
+        RegisterRequest register = new RegisterRequest();
+        register.setUsername("owner");
+        register.setEmail("owner@example.com");
+        register.setPassword("password");
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(register)));
+
+        CreateProjectRequest project = new CreateProjectRequest();
+        project.setName("Compression");
+        project.setDescription("Projet de test de la compression");
+        project.setUser(UserDto.builder().username("owner").build());
+        project.setMembers(List.of());
+        String response = mockMvc.perform(post("/api/projects")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(project)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long projectId = objectMapper.readTree(response).get("id").asLong();
+
+        CreateSprintRequest sprint = new CreateSprintRequest();
+        sprint.setName("Sprint 1");
+        sprint.setStartDate(LocalDate.now());
+        sprint.setEndDate(LocalDate.now().plusWeeks(2));
+        sprint.setStatus(Sprint.Status.PLANNED);
+        sprint.setProjectId(projectId);
+        String sprintResponse = mockMvc.perform(post("/api/sprints")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(sprint)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long sprintId = objectMapper.readTree(sprintResponse).get("id").asLong();
+
+        for (int i = 0; i < 5; i++) {
+            CreateUserStoryRequest story = new CreateUserStoryRequest();
+            story.setTitle("Story " + i);
+            story.setDescription("Description suffisamment longue pour dépasser le seuil de compression");
+            story.setProjectId(projectId);
+            story.setPriority(UserStory.Priority.MEDIUM);
+            story.setStatus("TODO");
+            String storyResponse = mockMvc.perform(post("/api/user-stories")
+                    .with(user("owner"))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(story)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            long storyId = objectMapper.readTree(storyResponse).get("id").asLong();
+            mockMvc.perform(post("/api/sprints/" + sprintId + "/user-stories/" + storyId).with(user("owner")))
+                    .andExpect(status().isOk());
+        }
+        sprintStoriesUrl = "/api/sprints/" + sprintId + "/user-stories";
+    }
+
+    /**
+     * Vérifie qu'une lecture acceptant gzip reçoit le même contenu compressé, avec un ETag.
+     */
+    @Test
+    void get_withAcceptEncodingGzip_shouldReturnCompressedBody() throws Exception {
+        MvcResult plain = mockMvc.perform(get(sprintStoriesUrl).with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+        MvcResult gzipped = mockMvc.perform(get(sprintStoriesUrl).with(user("owner"))
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        byte[] compressed = gzipped.getResponse().getContentAsByteArray();
+        byte[] expected = plain.getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(in.readAllBytes()).isEqualTo(expected);
+        }
+        assertThat(compressed.length).isLessThan(expected.length);
+        assertThat(gzipped.getResponse().getHeader(HttpHeaders.ETAG))
+                .startsWith("W/\"")
+                .isEqualTo(plain.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    /**
+     * Vérifie que la seconde lecture d'une ressource inchangée réutilise les octets compressés en cache.
+     */
+    @Test
+    void get_unchangedResource_shouldHitCompressedCache() throws Exception {
+        double hitsBefore = count("hit");
+        double missesBefore = count("miss");
+
+        byte[] first = mockMvc.perform(get(sprintStoriesUrl).with(user("owner")).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] second = mockMvc.perform(get(sprintStoriesUrl).with(user("owner")).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(count("miss") - missesBefore).isEqualTo(1.0);
+        assertThat(count("hit") - hitsBefore).isEqualTo(1.0);
+    }
+
+    /**
+     * Vérifie qu'une requête conditionnelle avec l'ETag courant reçoit un 304 sans corps.
+     */
+    @Test
+    void get_withMatchingIfNoneMatch_shouldReturnNotModified() throws Exception {
+        String etag = mockMvc.perform(get(sprintStoriesUrl).with(user("owner")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult result = mockMvc.perform(get(sprintStoriesUrl).with(user("owner")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+    }
+
+    /**
+     * Vérifie que le cache évince les entrées les moins récemment lues au-delà de sa taille maximale.
+     */
+    @Test
+    void cache_shouldEvictLeastRecentlyUsedEntries() {
+        CompressedResponseCache cache = new CompressedResponseCache(10);
+        cache.put("a", new byte[4]);
+        cache.put("b", new byte[4]);
+        cache.get("a");
+        cache.put("c", new byte[4]);
+
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.sizeInBytes()).isEqualTo(8);
+    }
+
+    /**
+     * Vérifie la lecture de l'en-tête Accept-Encoding, y compris un gzip explicitement refusé.
+     */
+    @Test
+    void acceptsGzip_shouldHonourQualityValues() {
+        assertThat(CompressedResponseFilter.acceptsGzip("gzip, deflate")).isTrue();
+        assertThat(CompressedResponseFilter.acceptsGzip("br;q=1.0, gzip;q=0.8")).isTrue();
+        assertThat(CompressedResponseFilter.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(CompressedResponseFilter.acceptsGzip("identity")).isFalse();
+        assertThat(CompressedResponseFilter.acceptsGzip(null)).isFalse();
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter(CompressedResponseFilter.CACHE_METRIC, "result", result).count();
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskforge.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import com.taskforge.service.ProjectChangeVersions;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests de la configuration des caches de réponses : le cache des lectures d'un projet, propre à chaque instance,
+ * se désactive sans toucher au cache des réponses compressées.
+ */
+class CompressionConfigTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(CompressionConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withBean(ProjectChangeVersions.class);
+
+    @Test
+    void projectCache_shouldBeEnabledByDefault() {
+        runner.run(context -> {
+            assertThat(context).hasSingleBean(ProjectResponseCache.class);
+            assertThat(context).hasBean("projectResponseFilter");
+        });
+    }
+
+    @Test
+    void projectCache_whenDisabled_shouldKeepOnlyCompressedResponseCache() {
+        runner.withPropertyValues("taskforge.compression.project-cache-enabled=false").run(context -> {
+            assertThat(context).doesNotHaveBean(ProjectResponseCache.class);
+            assertThat(context).doesNotHaveBean("projectResponseFilter");
+            assertThat(context).hasSingleBean(CompressedResponseCache.class);
+            assertThat(context).hasBean("compressedResponseFilter");
+        });
+    }
+}
@@ -0,0 +1,242 @@
+package com.taskforge.compression;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskforge.dto.CreateProjectRequest;
+import com.taskforge.dto.CreateUserStoryRequest;
+import com.taskforge.dto.LoginRequest;
+import com.taskforge.dto.RegisterRequest;
+import com.taskforge.dto.UserDto;
+import com.taskforge.models.UserStory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Tests d'intégration du cache de réponses rendues des lectures d'un projet.
+ * Vérifie le service depuis le cache, son invalidation par une écriture, la séparation des types de contenu
+ * et le contournement du cache sans appartenance attestée par le jeton.
+ */
+@SpringBootTest(properties = {
+        "taskforge.compression.min-response-size=256",
+        // Le cache ne sert que les membres attestés par le jeton
+        "taskforge.membership-claims.enabled=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectResponseFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private long projectId;
+
+    private String boardUrl;
+
+    private String token;
+
+    @BeforeEach
+    void setup() throws Exception {
+        jdbcTemplate.execute("DELETE FROM board_entries");
+        jdbcTemplate.execute("DELETE FROM tasks");
+        jdbcTemplate.execute("DELETE FROM user_story_assignees");
+        jdbcTemplate.execute("DELETE FROM user_stories");
+        jdbcTemplate.execute("DELETE FROM sprints");
+        jdbcTemplate.execute("DELETE FROM kanban_columns");
+        jdbcTemplate.execute("DELETE FROM project_members");
+        jdbcTemplate.execute("DELETE FROM projects");
+        jdbcTemplate.execute("DELETE FROM users");
+
+        RegisterRequest register = new RegisterRequest();
+        register.setUsername("owner");
+        register.setEmail("owner@example.com");
+        register.setPassword("password");
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(register)));
+
+        CreateProjectRequest project = new CreateProjectRequest();
+        project.setName("Rendu");
+        project.setDescription("Projet de test du cache de réponses rendues");
+        project.setUser(UserDto.builder().username("owner").build());
+        project.setMembers(List.of());
+        String response = mockMvc.perform(post("/api/projects")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(project)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        projectId = objectMapper.readTree(response).get("id").asLong();
+
+        for (int i = 0; i < 5; i++) {
+            createStory("Story " + i);
+        }
+        boardUrl = "/api/board/project/" + projectId;
+
+        // Jeton émis après la création du projet : il atteste l'appartenance au projet
+        String login = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest("owner", "password"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        token = objectMapper.readTree(login).get("token").asText();
+    }
+
+    /**
+     * Vérifie que la seconde lecture d'un projet inchangé est servie depuis le cache, à l'identique.
+     */
+    @Test
+    void get_unchangedProject_shouldServeRenderedBytes() throws Exception {
+        double hitsBefore = count("hit");
+        double missesBefore = count("miss");
+
+        MvcResult first = mockMvc.perform(authenticated(get(boardUrl)).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+        MvcResult second = mockMvc.perform(authenticated(get(boardUrl)).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        assertThat(second.getResponse().getContentAsByteArray()).isEqualTo(first.getResponse().getContentAsByteArray());
+        assertThat(second.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo(first.getResponse().getHeader(HttpHeaders.ETAG));
+        assertThat(count("miss") - missesBefore).isEqualTo(1.0);
+        assertThat(count("hit") - hitsBefore).isEqualTo(1.0);
+
+        // Un client sans gzip reçoit le corps décompressé depuis la même entrée
+        MvcResult plain = mockMvc.perform(authenticated(get(boardUrl)))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.length()").value(5))
+                .andReturn();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(first.getResponse().getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.getResponse().getContentAsByteArray());
+        }
+        assertThat(count("hit") - hitsBefore).isEqualTo(2.0);
+    }
+
+    /**
+     * Vérifie qu'une écriture sur le projet change sa version : la lecture suivante est rendue de nouveau.
+     */
+    @Test
+    void get_afterWrite_shouldRenderAgain() throws Exception {
+        String etag = mockMvc.perform(authenticated(get(boardUrl)))
+                .andExpect(jsonPath("$.length()").value(5))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        createStory("Story 5");
+        double missesBefore = count("miss");
+
+        mockMvc.perform(authenticated(get(boardUrl)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(6));
+        assertThat(count("miss") - missesBefore).isEqualTo(1.0);
+    }
+
+    /**
+     * Vérifie qu'une requête conditionnelle servie depuis le cache reçoit un 304 sans corps.
+     */
+    @Test
+    void get_withMatchingIfNoneMatch_shouldReturnNotModifiedFromCache() throws Exception {
+        String etag = mockMvc.perform(authenticated(get(boardUrl)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        double hitsBefore = count("hit");
+
+        MvcResult result = mockMvc.perform(authenticated(get(boardUrl)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+        assertThat(count("hit") - hitsBefore).isEqualTo(1.0);
+    }
+
+    /**
+     * Vérifie que chaque type de contenu négocié a sa propre entrée.
+     */
+    @Test
+    void get_withOtherAccept_shouldNotShareEntry() throws Exception {
+        mockMvc.perform(authenticated(get(boardUrl)).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+        double missesBefore = count("miss");
+
+        mockMvc.perform(authenticated(get(boardUrl)).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_CBOR_VALUE));
+
+        assertThat(count("miss") - missesBefore).isEqualTo(1.0);
+    }
+
+    /**
+     * Vérifie qu'un appelant sans appartenance attestée par un jeton n'est jamais servi depuis le cache.
+     */
+    @Test
+    void get_withoutMembershipClaim_shouldBypassCache() throws Exception {
+        mockMvc.perform(authenticated(get(boardUrl))).andExpect(status().isOk());
+        double bypassesBefore = count("bypass");
+        double hitsBefore = count("hit");
+
+        mockMvc.perform(get(boardUrl).with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+        mockMvc.perform(get(boardUrl).with(user("intruder")))
+                .andExpect(status().isForbidden());
+
+        assertThat(count("bypass") - bypassesBefore).isEqualTo(2.0);
+        assertThat(count("hit") - hitsBefore).isEqualTo(0.0);
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private void createStory(String title) throws Exception {
+        CreateUserStoryRequest story = new CreateUserStoryRequest();
+        story.setTitle(title);
+        story.setDescription("Description suffisamment longue pour dépasser le seuil de compression");
+        story.setProjectId(projectId);
+        story.setPriority(UserStory.Priority.MEDIUM);
+        story.setStatus("TODO");
+        mockMvc.perform(post("/api/user-stories")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(story)))
+                .andExpect(status().isOk());
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter(ProjectResponseFilter.CACHE_METRIC, "result", result).count();
+    }
+}
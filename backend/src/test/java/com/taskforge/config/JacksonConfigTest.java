@@ -0,0 +1,91 @@
+package com.taskforge.config;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.taskforge.models.Project;
+import com.taskforge.models.Task;
+import com.taskforge.models.User;
+import com.taskforge.models.UserStory;
+
+/**
+ * Tests de la configuration de sérialisation JSON.
+ * Vérifie que le module Blackbird et le convertisseur à writers préparés sont bien installés
+ * et que le JSON produit est identique à celui d'un ObjectMapper standard.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JacksonConfigTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter converter;
+
+    /**
+     * Vérifie que Spring MVC utilise le convertisseur préparé et que Blackbird est enregistré.
+     */
+    @Test
+    void context_shouldUsePrefetchingConverterWithBlackbird() {
+        assertThat(converter).isInstanceOf(PrefetchingJackson2HttpMessageConverter.class);
+        assertThat(objectMapper.getRegisteredModuleIds()).contains(new BlackbirdModule().getTypeId());
+    }
+
+    /**
+     * Vérifie que le JSON d'une liste de User Stories est identique à celui produit sans optimisation.
+     */
+    @Test
+    void write_shouldProduceSameJsonAsPlainObjectMapper() throws Exception {
+        List<UserStory> stories = List.of(story(1L), story(2L));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(stories, new ParameterizedTypeReference<List<UserStory>>() { }.getType(),
+                MediaType.APPLICATION_JSON, output);
+
+        String expected = Jackson2ObjectMapperBuilder.json().build().writeValueAsString(stories);
+        assertThat(output.getBodyAsString()).isEqualTo(expected);
+    }
+
+    /**
+     * Vérifie que le writer d'un type est résolu une seule fois puis réutilisé.
+     */
+    @Test
+    void prefetchedWriter_shouldBeReusedForSameType() {
+        PrefetchingJackson2HttpMessageConverter prefetching = (PrefetchingJackson2HttpMessageConverter) converter;
+        var type = objectMapper.getTypeFactory().constructCollectionType(List.class, UserStory.class);
+
+        assertThat(prefetching.prefetchedWriter(type)).isSameAs(prefetching.prefetchedWriter(type));
+    }
+
+    private static UserStory story(Long id) {
+        User owner = User.builder().id(1L).username("alice").email("alice@example.com").password("secret").build();
+        Project project = Project.builder().id(10L).name("Projet").description("Description")
+                .owner(owner).members(new HashSet<>(List.of(owner))).build();
+        UserStory story = UserStory.builder()
+                .id(id)
+                .title("US " + id)
+                .description("Description")
+                .priority(UserStory.Priority.HIGH)
+                .status("TODO")
+                .project(project)
+                .assignedTo(new HashSet<>(List.of(owner)))
+                .build();
+        story.setTasks(List.of(Task.builder().id(id * 10).title("Tâche").priority(Task.Priority.LOW)
+                .status(Task.Status.TODO).userStory(story).assignedTo(owner).build()));
+        return story;
+    }
+}
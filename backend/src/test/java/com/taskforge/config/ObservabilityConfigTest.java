@@ -0,0 +1,78 @@
+package com.taskforge.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Tests d'intégration de l'exposition des métriques.
+ * Vérifie que le endpoint Prometheus est accessible sans authentification et qu'il publie
+ * les histogrammes de latence par méthode de contrôleur ainsi que les métriques du pool, d'Hibernate et de la JVM.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class ObservabilityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Vérifie qu'une requête applicative produit un histogramme tagué avec la méthode du contrôleur.
+     */
+    @Test
+    @WithMockUser
+    void prometheus_shouldExposeHistogramPerHandler() throws Exception {
+        mockMvc.perform(get("/api/users")).andExpect(status().isOk());
+
+        String scrape = scrape();
+
+        assertThat(scrape).contains("http_server_requests_seconds_bucket");
+        assertThat(scrape).contains("handler=\"UserController#getAllUsers\"");
+    }
+
+    /**
+     * Vérifie la présence des métriques de saturation du pool, des statistiques Hibernate et de la JVM.
+     */
+    @Test
+    void prometheus_shouldExposePoolHibernateAndJvmMetrics() throws Exception {
+        String scrape = scrape();
+
+        assertThat(scrape).contains("hikaricp_connections_active", "hikaricp_connections_pending",
+                "hikaricp_connections_acquire_seconds");
+        assertThat(scrape).contains("hibernate_query_executions_total", "hibernate_entities_loads_total",
+                "hibernate_cache_query_requests_total");
+        assertThat(scrape).contains("jvm_gc_", "jvm_threads_live_threads");
+    }
+
+    /**
+     * Vérifie que la sonde de santé est accessible sans authentification.
+     */
+    @Test
+    void healthEndpoint_shouldBeOpen() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    /**
+     * Vérifie que les autres endpoints Actuator restent protégés.
+     */
+    @Test
+    void metricsEndpoint_shouldRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isForbidden());
+    }
+
+    private String scrape() throws Exception {
+        return mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+}
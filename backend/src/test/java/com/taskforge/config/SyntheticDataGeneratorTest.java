@@ -0,0 +1,108 @@
+package com.taskforge.config;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.taskforge.repositories.UserStoryRepository;
+
+/**
+ * Tests d'intégration du générateur de données synthétiques.
+ * Vérifie que les volumes demandés sont bien créés, que les relations sont cohérentes
+ * et que la génération est ignorée lorsque les données existent déjà.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SyntheticDataGeneratorTest {
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SyntheticDataProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SyntheticDataProperties();
+        properties.setPrefix("seedtest");
+        properties.setUsers(12);
+        properties.setProjects(3);
+        properties.setMembersPerProject(4);
+        properties.setStoriesPerProject(10);
+        properties.setTasksPerStory(2);
+        properties.setSprintsPerProject(3);
+        properties.setVersionsPerProject(2);
+        properties.setCustomColumnsPerProject(1);
+        properties.setBatchSize(7);
+    }
+
+    @AfterEach
+    void tearDown() {
+        generator.purge(properties);
+    }
+
+    /**
+     * Vérifie que chaque table reçoit le volume annoncé dans le résumé de génération.
+     */
+    @Test
+    void generate_shouldCreateRequestedVolumes() {
+        Map<String, Integer> summary = generator.generate(properties);
+
+        assertThat(summary).containsEntry("users", 12).containsEntry("projects", 3)
+                .containsEntry("sprints", 9).containsEntry("versions", 6).containsEntry("kanban_columns", 12);
+        assertThat(count("SELECT COUNT(*) FROM users WHERE username LIKE 'seedtest_user_%'")).isEqualTo(12);
+        assertThat(count("SELECT COUNT(*) FROM projects WHERE name LIKE 'seedtest_project_%'")).isEqualTo(3);
+        assertThat(count("SELECT COUNT(*) FROM user_stories us JOIN projects p ON us.project_id = p.id WHERE p.name LIKE 'seedtest_project_%'"))
+                .isEqualTo(summary.get("user_stories"));
+        assertThat(count("SELECT COUNT(*) FROM tasks t JOIN user_stories us ON t.user_story_id = us.id "
+                + "JOIN projects p ON us.project_id = p.id WHERE p.name LIKE 'seedtest_project_%'"))
+                .isEqualTo(summary.get("tasks"));
+        assertThat(summary.get("board_entries")).isEqualTo(summary.get("user_stories"));
+    }
+
+    /**
+     * Vérifie que le propriétaire est toujours membre, que chaque User Story pointe vers la colonne de son statut
+     * et que ses compteurs de tâches correspondent aux tâches insérées.
+     */
+    @Test
+    void generate_shouldKeepRelationsConsistent() {
+        generator.generate(properties);
+
+        assertThat(count("SELECT COUNT(*) FROM projects p WHERE p.name LIKE 'seedtest_project_%' AND NOT EXISTS "
+                + "(SELECT 1 FROM project_members pm WHERE pm.project_id = p.id AND pm.user_id = p.owner_id)")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM user_stories us JOIN kanban_columns c ON us.kanban_column_id = c.id "
+                + "JOIN projects p ON us.project_id = p.id WHERE p.name LIKE 'seedtest_project_%' "
+                + "AND (c.status <> us.status OR c.project_id <> us.project_id)")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM user_stories us JOIN projects p ON us.project_id = p.id "
+                + "WHERE p.name LIKE 'seedtest_project_%' AND (us.task_count <> " + UserStoryRepository.TASK_COUNT
+                + " OR us.done_task_count <> " + UserStoryRepository.DONE_TASK_COUNT
+                + " OR us.in_progress_task_count <> " + UserStoryRepository.IN_PROGRESS_TASK_COUNT
+                + " OR us.assigned_task_count <> " + UserStoryRepository.ASSIGNED_TASK_COUNT + ")")).isZero();
+    }
+
+    /**
+     * Vérifie qu'une seconde exécution avec le même préfixe ne crée rien.
+     */
+    @Test
+    void generate_shouldSkipWhenPrefixAlreadyExists() {
+        generator.generate(properties);
+
+        Map<String, Integer> second = generator.generate(properties);
+
+        assertThat(second).isEmpty();
+        assertThat(count("SELECT COUNT(*) FROM projects WHERE name LIKE 'seedtest_project_%'")).isEqualTo(3);
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
@@ -0,0 +1,193 @@
+package com.taskforge.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskforge.dto.BatchOperation;
+import com.taskforge.dto.BatchRequest;
+import com.taskforge.dto.CreateProjectRequest;
+import com.taskforge.dto.RegisterRequest;
+import com.taskforge.dto.UserDto;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setup() throws Exception {
+        // Nettoyer la base de données
+        jdbcTemplate.execute("DELETE FROM board_entries");
+        jdbcTemplate.execute("DELETE FROM tasks");
+        jdbcTemplate.execute("DELETE FROM user_story_assignees");
+        jdbcTemplate.execute("DELETE FROM user_stories");
+        jdbcTemplate.execute("DELETE FROM sprints");
+        jdbcTemplate.execute("DELETE FROM versions");
+        jdbcTemplate.execute("DELETE FROM kanban_columns");
+        jdbcTemplate.execute("DELETE FROM project_members");
+        jdbcTemplate.execute("DELETE FROM projects");
+        jdbcTemplate.execute("DELETE FROM users");
+
+        register("owner");
+        register("outsider");
+
+        CreateProjectRequest projectRequest = new CreateProjectRequest();
+        projectRequest.setName("Batch Project");
+        projectRequest.setDescription("Project for testing batches");
+        projectRequest.setUser(UserDto.builder().username("owner").build());
+        projectRequest.setMembers(List.of());
+
+        String projectResponse = mockMvc.perform(post("/api/projects")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(projectRequest)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        projectId = objectMapper.readTree(projectResponse).get("id").asLong();
+    }
+
+    @Test
+    void batch_shouldExecuteOperationsInOrderAndIndependently() throws Exception {
+        batch("owner", false,
+                operation("POST", "/api/user-stories", story("Story A")),
+                operation("GET", "/api/user-stories/999999", null),
+                operation("POST", "/api/user-stories", story("Story B")),
+                operation("GET", "/api/user-stories/project/" + projectId, null))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(true))
+                .andExpect(jsonPath("$.results.length()").value(4))
+                .andExpect(jsonPath("$.results[0].status").value(200))
+                .andExpect(jsonPath("$.results[0].body.title").value("Story A"))
+                .andExpect(jsonPath("$.results[1].status").value(404))
+                .andExpect(jsonPath("$.results[1].body.message").exists())
+                .andExpect(jsonPath("$.results[2].status").value(200))
+                .andExpect(jsonPath("$.results[3].status").value(200))
+                .andExpect(jsonPath("$.results[3].body.length()").value(2));
+    }
+
+    @Test
+    void atomicBatch_shouldRollBackEverythingOnFirstFailure() throws Exception {
+        batch("owner", true,
+                operation("POST", "/api/user-stories", story("Story A")),
+                operation("POST", "/api/user-stories", story("Story A")),
+                operation("POST", "/api/user-stories", story("Story C")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(false))
+                .andExpect(jsonPath("$.results[0].status").value(200))
+                .andExpect(jsonPath("$.results[1].status").value(400))
+                .andExpect(jsonPath("$.results[2].status").value(424));
+
+        mockMvc.perform(get("/api/user-stories/project/" + projectId).with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/api/board/project/" + projectId).with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void atomicBatch_shouldCommitWhenEveryOperationSucceeds() throws Exception {
+        batch("owner", true,
+                operation("POST", "/api/user-stories", story("Story A")),
+                operation("POST", "/api/user-stories", story("Story B")),
+                operation("GET", "/api/user-stories/project/" + projectId, null))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(true))
+                .andExpect(jsonPath("$.results[2].body.length()").value(2));
+
+        mockMvc.perform(get("/api/board/project/" + projectId).with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void batch_shouldAuthorizeEachOperationForTheCaller() throws Exception {
+        batch("outsider", false,
+                operation("GET", "/api/user-stories/project/" + projectId, null),
+                operation("POST", "/api/user-stories", story("Intrusion")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value(403))
+                .andExpect(jsonPath("$.results[1].status").value(403));
+    }
+
+    @Test
+    void batch_withInvalidOperations_shouldBeRejected() throws Exception {
+        batch("owner", false).andExpect(status().isBadRequest());
+        batch("owner", false, operation("POST", "/api/auth/login", Map.of("username", "owner")))
+                .andExpect(status().isBadRequest());
+        batch("owner", false, operation("POST", "/api/batch", Map.of()))
+                .andExpect(status().isBadRequest());
+        batch("owner", false, operation("TRACE", "/api/projects/myprojects", null))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void batch_withoutAuthentication_shouldBeRejected() throws Exception {
+        mockMvc.perform(post("/api/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(BatchRequest.builder()
+                        .operations(List.of(operation("GET", "/api/projects/myprojects", null)))
+                        .build())))
+                .andExpect(status().isForbidden());
+    }
+
+    private ResultActions batch(String username, boolean atomic, BatchOperation... operations) throws Exception {
+        BatchRequest request = BatchRequest.builder().atomic(atomic).operations(List.of(operations)).build();
+        return mockMvc.perform(post("/api/batch")
+                .with(user(username))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private BatchOperation operation(String method, String path, Object body) {
+        return BatchOperation.builder()
+                .method(method)
+                .path(path)
+                .body(body == null ? null : objectMapper.valueToTree(body))
+                .build();
+    }
+
+    private Map<String, Object> story(String title) {
+        return Map.of("title", title, "projectId", projectId, "priority", "MEDIUM", "status", "TODO");
+    }
+
+    private void register(String username) throws Exception {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername(username);
+        request.setEmail(username + "@example.com");
+        request.setPassword("password");
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+}
@@ -0,0 +1,390 @@
+package com.taskforge.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskforge.dto.BatchOperation;
+import com.taskforge.dto.BatchRequest;
+import com.taskforge.dto.BulkUserStoriesRequest;
+import com.taskforge.dto.CreateKanbanColumnRequest;
+import com.taskforge.dto.CreateProjectRequest;
+import com.taskforge.dto.CreateSprintRequest;
+import com.taskforge.dto.CreateTaskRequest;
+import com.taskforge.dto.CreateUserStoryRequest;
+import com.taskforge.dto.RegisterRequest;
+import com.taskforge.dto.UpdateUserStoryStatusRequest;
+import com.taskforge.dto.UserDto;
+import com.taskforge.models.Sprint;
+import com.taskforge.models.Task;
+import com.taskforge.models.UserStory;
+import com.taskforge.service.BoardEngine;
+import com.taskforge.service.BoardProjection;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BoardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BoardProjection boardProjection;
+
+    @Autowired
+    private BoardEngine boardEngine;
+
+    private Long projectId;
+    private Long sprintId;
+
+    @BeforeEach
+    void setup() throws Exception {
+        // Nettoyer la base de données
+        jdbcTemplate.execute("DELETE FROM board_entries");
+        jdbcTemplate.execute("DELETE FROM tasks");
+        jdbcTemplate.execute("DELETE FROM user_story_assignees");
+        jdbcTemplate.execute("DELETE FROM user_stories");
+        jdbcTemplate.execute("DELETE FROM sprints");
+        jdbcTemplate.execute("DELETE FROM versions");
+        jdbcTemplate.execute("DELETE FROM kanban_columns");
+        jdbcTemplate.execute("DELETE FROM project_members");
+        jdbcTemplate.execute("DELETE FROM projects");
+        jdbcTemplate.execute("DELETE FROM users");
+
+        register("owner");
+        register("member");
+        register("outsider");
+
+        CreateProjectRequest projectRequest = new CreateProjectRequest();
+        projectRequest.setName("Board Project");
+        projectRequest.setDescription("Project for testing boards");
+        projectRequest.setUser(UserDto.builder().username("owner").build());
+        projectRequest.setMembers(List.of(UserDto.builder().username("member").build()));
+
+        String projectResponse = mockMvc.perform(post("/api/projects")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(projectRequest)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        projectId = objectMapper.readTree(projectResponse).get("id").asLong();
+
+        CreateSprintRequest sprintRequest = new CreateSprintRequest();
+        sprintRequest.setName("Sprint 1");
+        sprintRequest.setStartDate(LocalDate.now());
+        sprintRequest.setEndDate(LocalDate.now().plusWeeks(2));
+        sprintRequest.setStatus(Sprint.Status.PLANNED);
+        sprintRequest.setProjectId(projectId);
+
+        String sprintResponse = mockMvc.perform(post("/api/sprints")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(sprintRequest)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        sprintId = objectMapper.readTree(sprintResponse).get("id").asLong();
+    }
+
+    @Test
+    void projectBoard_shouldReflectStoryWrites() throws Exception {
+        Long storyId = createUserStory("Story A", List.of("member", "owner"));
+
+        mockMvc.perform(get("/api/board/project/" + projectId).with(user("member")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(storyId))
+                .andExpect(jsonPath("$[0].title").value("Story A"))
+                .andExpect(jsonPath("$[0].status").value("TODO"))
+                .andExpect(jsonPath("$[0].kanbanColumn.name").value("À faire"))
+                .andExpect(jsonPath("$[0].assignedTo[0].username").value("member"))
+                .andExpect(jsonPath("$[0].assignedTo[1].username").value("owner"))
+                .andExpect(jsonPath("$[0].sprint").doesNotExist());
+
+        UpdateUserStoryStatusRequest statusRequest = new UpdateUserStoryStatusRequest();
+        statusRequest.setStatus("IN_PROGRESS");
+        mockMvc.perform(put("/api/user-stories/" + storyId + "/status")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(statusRequest)))
+                .andExpect(status().isOk());
+
+        CreateTaskRequest taskRequest = new CreateTaskRequest();
+        taskRequest.setTitle("Task 1");
+        taskRequest.setPriority(Task.Priority.LOW);
+        taskRequest.setStatus(Task.Status.DONE);
+        taskRequest.setUserStoryId(storyId);
+        mockMvc.perform(post("/api/tasks")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/board/project/" + projectId).with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$[0].kanbanColumn.name").value("En cours"))
+                .andExpect(jsonPath("$[0].taskCount").value(1))
+                .andExpect(jsonPath("$[0].doneTaskCount").value(1));
+
+        mockMvc.perform(delete("/api/user-stories/" + storyId).with(user("owner")))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/board/project/" + projectId).with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void backlogAndSprintBoard_shouldFollowSprintAssignment() throws Exception {
+        Long plannedId = createUserStory("Planned", List.of());
+        Long backlogId = createUserStory("Backlog", List.of());
+
+        mockMvc.perform(post("/api/sprints/" + sprintId + "/user-stories/" + plannedId).with(user("owner")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/board/project/" + projectId + "/backlog").with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(backlogId));
+
+        mockMvc.perform(get("/api/board/sprint/" + sprintId).with(user("member")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(plannedId))
+                .andExpect(jsonPath("$[0].sprint.name").value("Sprint 1"));
+
+        CreateSprintRequest rename = new CreateSprintRequest();
+        rename.setName("Sprint 1 renamed");
+        rename.setStartDate(LocalDate.now());
+        rename.setEndDate(LocalDate.now().plusWeeks(2));
+        rename.setStatus(Sprint.Status.PLANNED);
+        rename.setProjectId(projectId);
+        mockMvc.perform(put("/api/sprints/" + sprintId)
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(rename)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/board/sprint/" + sprintId).with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].sprint.name").value("Sprint 1 renamed"));
+
+        mockMvc.perform(delete("/api/sprints/user-stories/" + plannedId + "/sprint").with(user("owner")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/board/project/" + projectId + "/backlog").with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void backlog_shouldBeReadByPriorityPageByPage() throws Exception {
+        Long first = createUserStory("Story A", List.of());
+        Long second = createUserStory("Story B", List.of());
+        Long third = createUserStory("Story C", List.of());
+        Long fourth = createUserStory("Story D", List.of());
+        mockMvc.perform(put("/api/user-stories/project/" + projectId + "/backlog-order")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkUserStoriesRequest(List.of(fourth, second)))))
+                .andExpect(status().isOk());
+
+        // Une User Story retirée d'un sprint retrouve sa place dans le backlog
+        mockMvc.perform(post("/api/sprints/" + sprintId + "/user-stories/" + second).with(user("owner")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/board/project/" + projectId + "/backlog").with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains(fourth.intValue(), first.intValue(), third.intValue())));
+        mockMvc.perform(delete("/api/sprints/user-stories/" + second + "/sprint").with(user("owner")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/board/project/" + projectId + "/backlog").param("size", "3").with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains(fourth.intValue(), second.intValue(), first.intValue())));
+        mockMvc.perform(get("/api/board/project/" + projectId + "/backlog")
+                .param("page", "1").param("size", "3").with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains(third.intValue())));
+        mockMvc.perform(get("/api/board/project/" + projectId + "/backlog")
+                .param("page", "2").param("size", "3").with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/api/board/project/" + projectId + "/backlog").param("size", "0").with(user("owner")))
+                .andExpect(status().isBadRequest());
+
+        // Même page depuis le modèle de lecture, dans une transaction (lot atomique)
+        BatchRequest batch = new BatchRequest(true, List.of(new BatchOperation("GET",
+                "/api/board/project/" + projectId + "/backlog?page=0&size=2", null)));
+        mockMvc.perform(post("/api/batch")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].body[*].id", contains(fourth.intValue(), second.intValue())));
+
+        assertEquals(List.of(), boardEngine.verify(projectId));
+    }
+
+    @Test
+    void rebuild_shouldRepopulateReadModel() throws Exception {
+        createUserStory("Story A", List.of("owner"));
+        createUserStory("Story B", List.of());
+        jdbcTemplate.execute("DELETE FROM board_entries");
+
+        mockMvc.perform(get("/api/board/project/" + projectId).with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        assertTrue(boardProjection.isMissing());
+        assertEquals(2, boardProjection.rebuild());
+
+        mockMvc.perform(get("/api/board/project/" + projectId).with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Story A"))
+                .andExpect(jsonPath("$[0].assignedTo[0].username").value("owner"));
+    }
+
+    @Test
+    void boardEngine_shouldStayConsistentWithDatabase() throws Exception {
+        Long firstId = createUserStory("Story A", List.of("member"));
+        mockMvc.perform(get("/api/board/project/" + projectId).with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        Long secondId = createUserStory("Story B", List.of());
+        mockMvc.perform(post("/api/sprints/" + sprintId + "/user-stories/" + secondId).with(user("owner")))
+                .andExpect(status().isOk());
+
+        UpdateUserStoryStatusRequest statusRequest = new UpdateUserStoryStatusRequest();
+        statusRequest.setStatus("DONE");
+        mockMvc.perform(put("/api/user-stories/" + secondId + "/status")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(statusRequest)))
+                .andExpect(status().isOk());
+
+        CreateKanbanColumnRequest columnRequest = new CreateKanbanColumnRequest();
+        columnRequest.setName("En revue");
+        columnRequest.setStatus("REVIEW");
+        columnRequest.setOrder(4);
+        columnRequest.setProjectId(projectId);
+        mockMvc.perform(post("/api/kanban-columns")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(columnRequest)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/user-stories/" + firstId).with(user("owner")))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/board/project/" + projectId + "/columns").with(user("member")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[3].status").value("REVIEW"))
+                .andExpect(jsonPath("$[3].projectId").value(projectId));
+
+        mockMvc.perform(get("/api/board/sprint/" + sprintId).with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(secondId))
+                .andExpect(jsonPath("$[0].kanbanColumn.name").value("Terminé"));
+
+        assertEquals(List.of(), boardEngine.verify(projectId));
+    }
+
+    @Test
+    void boardEngine_afterBoardReadAndWriteInOneTransaction_shouldReadCommittedEntry() throws Exception {
+        Long storyId = createUserStory("Story A", List.of());
+        mockMvc.perform(get("/api/board/project/" + projectId).with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("TODO"));
+
+        // Le modèle de lecture est aussi lu dans la transaction du lot, qui modifie ensuite la User Story
+        BatchRequest batch = new BatchRequest(true, List.of(
+                new BatchOperation("GET", "/api/board/project/" + projectId, null),
+                new BatchOperation("PUT", "/api/user-stories/" + storyId + "/status",
+                        objectMapper.valueToTree(Map.of("status", "DONE")))));
+        mockMvc.perform(post("/api/batch")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(true));
+
+        mockMvc.perform(get("/api/board/project/" + projectId).with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("DONE"));
+        assertEquals(List.of(), boardEngine.verify(projectId));
+    }
+
+    @Test
+    void projectBoard_asNonMember_shouldBeForbidden() throws Exception {
+        mockMvc.perform(get("/api/board/project/" + projectId).with(user("outsider")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/board/sprint/" + sprintId).with(user("outsider")))
+                .andExpect(status().isForbidden());
+    }
+
+    private void register(String username) throws Exception {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername(username);
+        request.setEmail(username + "@example.com");
+        request.setPassword("password");
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+    }
+
+    private Long createUserStory(String title, List<String> assignees) throws Exception {
+        CreateUserStoryRequest request = new CreateUserStoryRequest();
+        request.setTitle(title);
+        request.setDescription("Description de " + title);
+        request.setPriority(UserStory.Priority.MEDIUM);
+        request.setStatus("TODO");
+        request.setProjectId(projectId);
+        request.setAssignedToUsernames(assignees);
+        String response = mockMvc.perform(post("/api/user-stories")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+}
@@ -2,8 +2,10 @@ package com.taskforge.controller;
 
 import java.util.List;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled; // Ajout de l'import pour @Disabled
@@ -27,6 +29,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taskforge.dto.CreateKanbanColumnRequest;
 import com.taskforge.dto.CreateProjectRequest;
+import com.taskforge.dto.MoveKanbanColumnRequest;
 import com.taskforge.dto.RegisterRequest;
 import com.taskforge.dto.UserDto;
 
@@ -149,6 +152,98 @@ public class KanbanColumnControllerTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    void createKanbanColumn_shouldBePlacedByOrder() throws Exception {
+        createColumn("TODO", 1, "À faire");
+        createColumn("DONE", 3, "Terminé");
+        createColumn("IN_PROGRESS", 2, "En cours");
+
+        mockMvc.perform(get("/api/kanban-columns/project/" + projectId)
+                .with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].status", contains("TODO", "IN_PROGRESS", "DONE")));
+    }
+
+    @Test
+    void moveKanbanColumn_shouldRewriteOnlyTheMovedColumn() throws Exception {
+        Long todo = createColumn("TODO", 1, "À faire");
+        Long inProgress = createColumn("IN_PROGRESS", 2, "En cours");
+        Long done = createColumn("DONE", 3, "Terminé");
+        List<String> ranksBefore = jdbcTemplate.queryForList(
+                "SELECT column_rank FROM kanban_columns WHERE id IN (?, ?) ORDER BY id", String.class, todo, inProgress);
+
+        mockMvc.perform(put("/api/kanban-columns/" + done + "/move")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new MoveKanbanColumnRequest(null, todo))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(done));
+
+        mockMvc.perform(get("/api/board/project/" + projectId + "/columns")
+                .with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].status", contains("DONE", "TODO", "IN_PROGRESS")));
+        assertEquals(ranksBefore, jdbcTemplate.queryForList(
+                "SELECT column_rank FROM kanban_columns WHERE id IN (?, ?) ORDER BY id", String.class, todo, inProgress));
+
+        // Entre deux voisines : la colonne prend place au milieu
+        mockMvc.perform(put("/api/kanban-columns/" + done + "/move")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new MoveKanbanColumnRequest(todo, inProgress))))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/kanban-columns/project/" + projectId)
+                .with(user("owner")))
+                .andExpect(jsonPath("$[*].status", contains("TODO", "DONE", "IN_PROGRESS")));
+    }
+
+    @Test
+    void moveKanbanColumn_withNeighboursNoLongerAdjacent_shouldReturnBadRequest() throws Exception {
+        Long todo = createColumn("TODO", 1, "À faire");
+        createColumn("IN_PROGRESS", 2, "En cours");
+        Long done = createColumn("DONE", 3, "Terminé");
+        Long review = createColumn("REVIEW", 4, "Revue");
+
+        mockMvc.perform(put("/api/kanban-columns/" + review + "/move")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new MoveKanbanColumnRequest(todo, done))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void moveKanbanColumn_asNonMember_shouldReturnForbidden() throws Exception {
+        Long todo = createColumn("TODO", 1, "À faire");
+
+        mockMvc.perform(put("/api/kanban-columns/" + todo + "/move")
+                .with(user("unauthorized"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new MoveKanbanColumnRequest())))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void createKanbanColumn_withWipLimit_shouldReturnItAndRejectLimitsBelowOne() throws Exception {
+        CreateKanbanColumnRequest request = createRequest("Revue", "REVIEW", 1);
+        request.setWipLimit(3);
+
+        mockMvc.perform(post("/api/kanban-columns")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.wipLimit").value(3))
+                .andExpect(jsonPath("$.storyCount").value(0));
+
+        request.setStatus("TESTING");
+        request.setWipLimit(0);
+        mockMvc.perform(post("/api/kanban-columns")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
     // --- TESTS BRANCHES : AUTHENTIFICATION MANQUANTE (Principal == null) ---
 
     @Test
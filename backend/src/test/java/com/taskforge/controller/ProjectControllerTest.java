@@ -18,13 +18,17 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taskforge.dto.CreateProjectRequest;
+import com.taskforge.dto.CreateUserStoryRequest;
+import com.taskforge.dto.LoginRequest;
 import com.taskforge.dto.RegisterRequest;
 import com.taskforge.dto.UserDto;
+import com.taskforge.models.UserStory;
 
 /**
  * Tests d'intégration pour le contrôleur de projets (ProjectController).
@@ -146,6 +150,73 @@ public class ProjectControllerTest {
                 .andExpect(jsonPath("$[0].name").value("Test Project"));
     }
 
+    /**
+     * Vérifie le résumé renvoyé par « Mes projets » (rôle, compteurs) et son invalidation lorsqu'un membre
+     * est ajouté au projet ou qu'une User Story est créée.
+     */
+    @Test
+    void getMyProjects_shouldReturnSummariesRefreshedOnChanges() throws Exception {
+        RegisterRequest memberRequest = new RegisterRequest();
+        memberRequest.setUsername("otheruser");
+        memberRequest.setEmail("otheruser@example.com");
+        memberRequest.setPassword("password");
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(memberRequest)))
+                .andExpect(status().isOk());
+
+        CreateProjectRequest createRequest = new CreateProjectRequest();
+        createRequest.setName("Summary Project");
+        createRequest.setDescription("Description");
+        createRequest.setUser(UserDto.builder().username("testuser").build());
+        createRequest.setMembers(List.of());
+        String response = mockMvc.perform(post("/api/projects")
+                .with(user("testuser"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long projectId = objectMapper.readTree(response).get("id").asLong();
+
+        mockMvc.perform(get("/api/projects/myprojects").with(user("otheruser")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/api/projects/myprojects").with(user("testuser")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].role").value("OWNER"))
+                .andExpect(jsonPath("$[0].memberCount").value(1))
+                .andExpect(jsonPath("$[0].userStoryCount").value(0))
+                .andExpect(jsonPath("$[0].members").doesNotExist());
+
+        createRequest.setMembers(List.of(UserDto.builder().username("otheruser").build()));
+        mockMvc.perform(put("/api/projects/" + projectId)
+                .with(user("testuser"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isOk());
+        CreateUserStoryRequest storyRequest = new CreateUserStoryRequest();
+        storyRequest.setTitle("Story");
+        storyRequest.setDescription("Description");
+        storyRequest.setProjectId(projectId);
+        storyRequest.setPriority(UserStory.Priority.LOW);
+        storyRequest.setStatus("TODO");
+        mockMvc.perform(post("/api/user-stories")
+                .with(user("testuser"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(storyRequest)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/projects/myprojects").with(user("otheruser")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Summary Project"))
+                .andExpect(jsonPath("$[0].role").value("MEMBER"))
+                .andExpect(jsonPath("$[0].memberCount").value(2))
+                .andExpect(jsonPath("$[0].userStoryCount").value(1));
+        mockMvc.perform(get("/api/projects/myprojects").with(user("testuser")))
+                .andExpect(jsonPath("$[0].memberCount").value(2))
+                .andExpect(jsonPath("$[0].userStoryCount").value(1));
+    }
+
     /**
      * Vérifie que la récupération des projets échoue sans authentification.
      */
@@ -349,7 +420,12 @@ public class ProjectControllerTest {
         
         mockMvc.perform(get("/api/projects/99999")
                 .with(user("testuser")))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.type").value("urn:taskforge:problem:resource-not-found"))
+                .andExpect(jsonPath("$.detail").value("Project not found"))
+                .andExpect(jsonPath("$.message").value("Project not found"));
     }
 
     @Test
@@ -467,4 +543,68 @@ public class ProjectControllerTest {
                 .with(user("unauthorized")))
                 .andExpect(status().isForbidden());
     }
+
+    /**
+     * Vérifie qu'un jeton dont les appartenances sont devenues périmées ne donne plus accès à un projet
+     * dont l'utilisateur a été retiré, et qu'un jeton émis avant l'ajout à un projet y donne accès.
+     */
+    @Test
+    void projectAccess_withJwt_shouldFollowMembershipChangesAfterTokenIssue() throws Exception {
+        RegisterRequest memberRequest = new RegisterRequest();
+        memberRequest.setUsername("member");
+        memberRequest.setEmail("member@example.com");
+        memberRequest.setPassword("password");
+
+        String registerResponse = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(memberRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String memberToken = objectMapper.readTree(registerResponse).get("token").asText();
+
+        // Jeton émis avant l'ajout au projet : les appartenances sont vérifiées en base
+        CreateProjectRequest request = new CreateProjectRequest();
+        request.setName("Shared Project");
+        request.setUser(UserDto.builder().username("testuser").build());
+        request.setMembers(List.of(UserDto.builder().username("member").build()));
+
+        String createResponse = mockMvc.perform(post("/api/projects")
+                .with(user("testuser"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Long projectId = objectMapper.readTree(createResponse).get("id").asLong();
+
+        mockMvc.perform(get("/api/kanban-columns/project/" + projectId)
+                .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk());
+
+        // Jeton émis après l'ajout : l'appartenance est portée par le jeton
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("member");
+        loginRequest.setPassword("password");
+        String loginResponse = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        memberToken = objectMapper.readTree(loginResponse).get("token").asText();
+
+        mockMvc.perform(get("/api/kanban-columns/project/" + projectId)
+                .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk());
+
+        // Retrait du membre : le jeton est périmé et l'accès est refusé
+        request.setMembers(List.of());
+        mockMvc.perform(put("/api/projects/" + projectId)
+                .with(user("testuser"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/kanban-columns/project/" + projectId)
+                .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isForbidden());
+    }
 }
@@ -0,0 +1,550 @@
+package com.taskforge.controller;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskforge.dto.BulkUserStoriesRequest;
+import com.taskforge.dto.BulkUserStoryStatusRequest;
+import com.taskforge.dto.CreateKanbanColumnRequest;
+import com.taskforge.dto.CreateProjectRequest;
+import com.taskforge.dto.CreateSprintRequest;
+import com.taskforge.dto.CreateTaskRequest;
+import com.taskforge.dto.CreateUserStoryRequest;
+import com.taskforge.dto.CreateVersionRequest;
+import com.taskforge.dto.MoveInBacklogRequest;
+import com.taskforge.dto.MoveKanbanColumnRequest;
+import com.taskforge.dto.MoveUserStoryRequest;
+import com.taskforge.dto.UpdateTaskRequest;
+import com.taskforge.dto.UpdateUserStoryStatusRequest;
+import com.taskforge.dto.UserDto;
+import com.taskforge.models.KanbanColumn;
+import com.taskforge.models.Project;
+import com.taskforge.models.Sprint;
+import com.taskforge.models.Task;
+import com.taskforge.models.User;
+import com.taskforge.models.UserStory;
+import com.taskforge.models.Version;
+import com.taskforge.monitoring.SqlMetricsFilter;
+import com.taskforge.repositories.KanbanColumnRepository;
+import com.taskforge.repositories.ProjectRepository;
+import com.taskforge.repositories.SprintRepository;
+import com.taskforge.repositories.TaskRepository;
+import com.taskforge.repositories.UserRepository;
+import com.taskforge.repositories.UserStoryRepository;
+import com.taskforge.repositories.VersionRepository;
+import com.taskforge.service.BoardProjection;
+import com.taskforge.service.JwtService;
+
+/**
+ * Test de non-régression du nombre de requêtes SQL par endpoint.
+ * Un jeu de données fixe est créé en base H2 puis chaque endpoint des contrôleurs de projets, User Stories,
+ * tâches, sprints, colonnes Kanban, versions et tableaux est appelé avec un vrai jeton JWT. Le nombre de requêtes
+ * lu dans l'en-tête {@code X-SQL-Count} doit rester sous la borne déclarée dans {@link #BOUNDS}.
+ *
+ * <p>Le test est exécuté avec deux tailles de jeu de données (membres, User Stories, tâches par User Story,
+ * sprints, versions). Une borne constante impose le même nombre de requêtes quelle que soit la taille des
+ * collections, ce qui détecte l'apparition d'un N+1 ; les bornes linéaires ou quadratiques correspondent
+ * aux N+1 connus et ne doivent que diminuer.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+class QueryCountRegressionTest {
+
+    private static final Set<String> COVERED_CONTROLLERS = Set.of(
+            "ProjectController", "UserStoryController", "TaskController",
+            "SprintController", "KanbanColumnController", "VersionController", "BoardController");
+
+    /**
+     * Bornes par endpoint, indexées comme les budgets de {@code taskforge.sql.budgets}.
+     * Toute hausse fait échouer le build : corriger la régression ou, si elle est justifiée, relever la borne ici.
+     */
+    private static final Map<String, Bound> BOUNDS = new LinkedHashMap<>();
+
+    static {
+        // Lectures : plan de chargement explicite par endpoint, nombre de requêtes indépendant des données. L'accès
+        // au projet est vérifié en base : les claims d'appartenance du token sont désactivés par défaut
+        BOUNDS.put("GET /api/projects/{projectId}", constant(1));
+        BOUNDS.put("GET /api/projects/myprojects", constant(1));
+        BOUNDS.put("GET /api/user-stories/project/{projectId}", constant(3));
+        BOUNDS.put("GET /api/user-stories/{userStoryId}", constant(4));
+        BOUNDS.put("GET /api/tasks/{taskId}", constant(1));
+        BOUNDS.put("GET /api/tasks/user-story/{userStoryId}", constant(3));
+        BOUNDS.put("GET /api/sprints/project/{projectId}", constant(2));
+        BOUNDS.put("GET /api/sprints/{sprintId}", constant(1));
+        BOUNDS.put("GET /api/sprints/{sprintId}/user-stories", constant(3));
+        BOUNDS.put("GET /api/sprints/project/{projectId}/backlog", constant(3));
+        BOUNDS.put("GET /api/kanban-columns/project/{projectId}", constant(2));
+        BOUNDS.put("GET /api/versions/project/{projectId}", constant(3));
+        BOUNDS.put("GET /api/versions/{id}", constant(3));
+        BOUNDS.put("GET /api/versions/{versionId}/user-stories", constant(3));
+        BOUNDS.put("GET /api/board/project/{projectId}", constant(3));
+        BOUNDS.put("GET /api/board/project/{projectId}/columns", constant(2));
+        BOUNDS.put("GET /api/board/project/{projectId}/backlog", constant(2));
+        BOUNDS.put("GET /api/board/sprint/{sprintId}", constant(3));
+        // N+1 connus : un findByUsername par membre
+        BOUNDS.put("POST /api/projects", linear(7, 2));
+        BOUNDS.put("PUT /api/projects/{projectId}", linear(5, 2));
+        BOUNDS.put("POST /api/user-stories", linear(10, 1));
+        BOUNDS.put("PUT /api/user-stories/{userStoryId}", linear(11, 1));
+        BOUNDS.put("PUT /api/user-stories/{userStoryId}/status", constant(14));
+        BOUNDS.put("POST /api/tasks", constant(8));
+        BOUNDS.put("PUT /api/tasks/{taskId}", constant(3));
+        BOUNDS.put("POST /api/sprints", constant(2));
+        BOUNDS.put("PUT /api/sprints/{sprintId}", constant(6));
+        BOUNDS.put("POST /api/sprints/{sprintId}/user-stories/{userStoryId}", constant(8));
+        BOUNDS.put("DELETE /api/sprints/user-stories/{userStoryId}/sprint", constant(8));
+        BOUNDS.put("POST /api/sprints/{sprintId}/start", constant(3));
+        BOUNDS.put("POST /api/sprints/{sprintId}/complete", constant(2));
+        BOUNDS.put("POST /api/kanban-columns", constant(4));
+        BOUNDS.put("PUT /api/kanban-columns/{columnId}", constant(7));
+        BOUNDS.put("POST /api/versions", constant(2));
+        BOUNDS.put("PUT /api/versions/{id}", constant(8));
+        BOUNDS.put("PUT /api/versions/{id}/status", constant(4));
+        BOUNDS.put("POST /api/versions/{versionId}/user-stories/{userStoryId}", constant(9));
+        BOUNDS.put("DELETE /api/versions/{versionId}/user-stories/{userStoryId}", constant(8));
+        BOUNDS.put("DELETE /api/tasks/{taskId}", constant(6));
+        BOUNDS.put("DELETE /api/kanban-columns/{columnId}", constant(6));
+        BOUNDS.put("DELETE /api/versions/{id}", linear(6, 1));
+        BOUNDS.put("DELETE /api/sprints/{sprintId}", constant(7));
+        BOUNDS.put("DELETE /api/user-stories/{userStoryId}", linear(10, 1));
+        // Déplacements : lecture des voisines par l'index de rang, une seule ligne modifiée
+        BOUNDS.put("PUT /api/user-stories/{userStoryId}/move", constant(13));
+        BOUNDS.put("PUT /api/kanban-columns/{columnId}/move", constant(4));
+        BOUNDS.put("PUT /api/user-stories/{userStoryId}/backlog-position", constant(13));
+        // Écritures groupées : une requête par projet, une insertion par tâche créée (identifiants IDENTITY)
+        BOUNDS.put("PUT /api/user-stories/status", constant(11));
+        BOUNDS.put("POST /api/tasks/bulk", linear(9, 1));
+        BOUNDS.put("PUT /api/tasks/bulk", constant(9));
+        BOUNDS.put("POST /api/sprints/{sprintId}/user-stories", constant(6));
+        BOUNDS.put("DELETE /api/sprints/{sprintId}/user-stories", constant(6));
+        BOUNDS.put("POST /api/versions/{versionId}/user-stories", constant(7));
+        BOUNDS.put("DELETE /api/versions/{versionId}/user-stories", constant(7));
+        // Redistribution des rangs de backlog : une mise à jour par User Story du projet
+        BOUNDS.put("PUT /api/user-stories/project/{projectId}/backlog-order", linear(7, 1));
+        // N+1 connus : suppression des tâches User Story par User Story, puis entité par entité
+        BOUNDS.put("DELETE /api/projects/{projectId}", quadratic(14, 5, 1));
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private BoardProjection boardProjection;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserStoryRepository userStoryRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private VersionRepository versionRepository;
+
+    @Autowired
+    private KanbanColumnRepository kanbanColumnRepository;
+
+    private String token;
+
+    @BeforeEach
+    void setup() {
+        cleanDatabase();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanDatabase();
+    }
+
+    /**
+     * Vérifie que chaque endpoint des contrôleurs couverts possède une borne, pour qu'un nouvel endpoint
+     * ne puisse pas échapper au test.
+     */
+    @Test
+    void everyControllerEndpoint_shouldHaveABound() {
+        Set<String> endpoints = new TreeSet<>();
+        handlerMapping.getHandlerMethods().forEach((info, method) -> {
+            if (COVERED_CONTROLLERS.contains(method.getBeanType().getSimpleName())) {
+                info.getMethodsCondition().getMethods().forEach(httpMethod ->
+                        info.getPatternValues().forEach(pattern -> endpoints.add(httpMethod.name() + " " + pattern)));
+            }
+        });
+
+        assertThat(BOUNDS.keySet()).containsExactlyInAnyOrderElementsOf(endpoints);
+    }
+
+    /**
+     * Appelle chaque endpoint sur un jeu de données de la taille donnée et compare le nombre de requêtes
+     * SQL émises à sa borne.
+     *
+     * @param size Taille des collections du jeu de données.
+     */
+    @ParameterizedTest(name = "jeu de données de taille {0}")
+    @ValueSource(ints = {2, 6})
+    void everyEndpoint_shouldStayWithinItsStatementBound(int size) throws Exception {
+        Map<String, Integer> counts = exerciseEveryEndpoint(seed(size), size);
+
+        assertThat(counts.keySet()).containsExactlyInAnyOrderElementsOf(BOUNDS.keySet());
+        SoftAssertions softly = new SoftAssertions();
+        counts.forEach((endpoint, count) -> {
+            int limit = BOUNDS.get(endpoint).limit(size);
+            softly.assertThat(count)
+                    .as("%s : %d requêtes SQL pour une taille %d (borne %d)", endpoint, count, size, limit)
+                    .isLessThanOrEqualTo(limit);
+        });
+        softly.assertAll();
+    }
+
+    private Map<String, Integer> exerciseEveryEndpoint(Dataset data, int size) throws Exception {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        Long projectId = data.project().getId();
+        Long storyId = data.stories().get(0).getId();
+        Long otherStoryId = data.stories().get(1).getId();
+        Long taskId = data.tasks().get(0).getId();
+        Long sprintId = data.sprints().get(0).getId();
+        Long versionId = data.versions().get(0).getId();
+        List<Long> storyIds = data.stories().stream().map(UserStory::getId).toList();
+        BulkUserStoriesRequest allStories = new BulkUserStoriesRequest(storyIds);
+        List<UserDto> members = data.members().stream()
+                .map(member -> UserDto.builder().username(member.getUsername()).build())
+                .toList();
+
+        // Lectures
+        call(counts, get("/api/projects/{projectId}", projectId));
+        call(counts, get("/api/projects/myprojects"));
+        call(counts, get("/api/user-stories/project/{projectId}", projectId));
+        call(counts, get("/api/user-stories/{userStoryId}", storyId));
+        call(counts, get("/api/tasks/{taskId}", taskId));
+        call(counts, get("/api/tasks/user-story/{userStoryId}", storyId));
+        call(counts, get("/api/sprints/project/{projectId}", projectId));
+        call(counts, get("/api/sprints/{sprintId}", sprintId));
+        call(counts, get("/api/sprints/{sprintId}/user-stories", sprintId));
+        call(counts, get("/api/sprints/project/{projectId}/backlog", projectId));
+        call(counts, get("/api/kanban-columns/project/{projectId}", projectId));
+        call(counts, get("/api/versions/project/{projectId}", projectId));
+        call(counts, get("/api/versions/{id}", versionId));
+        call(counts, get("/api/versions/{versionId}/user-stories", versionId));
+        call(counts, get("/api/board/project/{projectId}", projectId));
+        call(counts, get("/api/board/project/{projectId}/columns", projectId));
+        call(counts, get("/api/board/project/{projectId}/backlog", projectId).param("size", "10"));
+        call(counts, get("/api/board/sprint/{sprintId}", sprintId));
+
+        // Écritures
+        CreateProjectRequest newProject = new CreateProjectRequest();
+        newProject.setName("Nouveau projet");
+        newProject.setDescription("Créé par le test");
+        newProject.setUser(UserDto.builder().username(data.owner().getUsername()).build());
+        newProject.setMembers(members);
+        call(counts, json(post("/api/projects"), newProject));
+
+        CreateProjectRequest updateProject = new CreateProjectRequest();
+        updateProject.setName(data.project().getName());
+        updateProject.setDescription("Description mise à jour");
+        updateProject.setMembers(members);
+        call(counts, json(put("/api/projects/{projectId}", projectId), updateProject));
+
+        CreateUserStoryRequest newStory = storyRequest(projectId, "Nouvelle US", data);
+        call(counts, json(post("/api/user-stories"), newStory));
+        call(counts, json(put("/api/user-stories/{userStoryId}", storyId), storyRequest(projectId, "US renommée", data)));
+
+        UpdateUserStoryStatusRequest status = new UpdateUserStoryStatusRequest();
+        status.setStatus("IN_PROGRESS");
+        call(counts, json(put("/api/user-stories/{userStoryId}/status", storyId), status));
+        call(counts, json(put("/api/user-stories/status"), new BulkUserStoryStatusRequest(storyIds, "DONE")));
+        call(counts, json(put("/api/user-stories/{userStoryId}/move", storyId),
+                new MoveUserStoryRequest(null, otherStoryId, null)));
+        call(counts, json(put("/api/user-stories/{userStoryId}/backlog-position", storyId),
+                new MoveInBacklogRequest(otherStoryId, null)));
+        call(counts, json(put("/api/user-stories/project/{projectId}/backlog-order", projectId),
+                new BulkUserStoriesRequest(storyIds.reversed())));
+
+        call(counts, json(post("/api/tasks"), taskRequest(storyId, "Nouvelle tâche", data)));
+        call(counts, json(put("/api/tasks/{taskId}", taskId), taskRequest(storyId, "Tâche renommée", data)));
+        call(counts, json(post("/api/tasks/bulk"), storyIds.stream()
+                .map(id -> taskRequest(id, "Tâche groupée", data))
+                .toList()));
+        // Retirées aussitôt : la suppression d'une User Story, qui supprime ses tâches une à une, est mesurée sur le
+        // jeu de données initial
+        jdbcTemplate.update("DELETE FROM tasks WHERE title = ?", "Tâche groupée");
+        // Une tâche par User Story, pour que le nombre de User Stories touchées suive la taille
+        List<UpdateTaskRequest> taskUpdates = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Task task = data.tasks().get(i * size + 1);
+            UpdateTaskRequest update = new UpdateTaskRequest();
+            update.setTaskId(task.getId());
+            update.setTitle("Tâche groupée renommée");
+            update.setPriority(Task.Priority.HIGH);
+            update.setStatus(Task.Status.DONE);
+            update.setAssignedToUsername(data.members().get(0).getUsername());
+            taskUpdates.add(update);
+        }
+        call(counts, json(put("/api/tasks/bulk"), taskUpdates));
+
+        call(counts, json(post("/api/sprints"), sprintRequest(projectId, "Nouveau sprint")));
+        call(counts, json(put("/api/sprints/{sprintId}", sprintId), sprintRequest(projectId, "Sprint renommé")));
+        call(counts, post("/api/sprints/{sprintId}/user-stories/{userStoryId}", sprintId, otherStoryId));
+        call(counts, delete("/api/sprints/user-stories/{userStoryId}/sprint", otherStoryId));
+        call(counts, json(post("/api/sprints/{sprintId}/user-stories", sprintId), allStories));
+        call(counts, json(delete("/api/sprints/{sprintId}/user-stories", sprintId), allStories));
+        call(counts, post("/api/sprints/{sprintId}/start", sprintId));
+        call(counts, post("/api/sprints/{sprintId}/complete", sprintId));
+
+        CreateKanbanColumnRequest column = new CreateKanbanColumnRequest();
+        column.setName("Validation");
+        column.setStatus("VALIDATION");
+        column.setOrder(10);
+        column.setProjectId(projectId);
+        call(counts, json(post("/api/kanban-columns"), column));
+        column.setName("Recette");
+        call(counts, json(put("/api/kanban-columns/{columnId}", data.customColumn().getId()), column));
+        call(counts, json(put("/api/kanban-columns/{columnId}/move", data.customColumn().getId()),
+                new MoveKanbanColumnRequest(null, jdbcTemplate.queryForObject(
+                        "SELECT id FROM kanban_columns WHERE project_id = ? AND status = 'TODO'", Long.class, projectId))));
+
+        call(counts, json(post("/api/versions"), versionRequest(projectId, "Nouvelle version", "9.0.0")));
+        call(counts, json(put("/api/versions/{id}", versionId), versionRequest(projectId, "Version renommée", "1.0.1")));
+        call(counts, put("/api/versions/{id}/status", versionId).param("status", "RELEASED"));
+        call(counts, post("/api/versions/{versionId}/user-stories/{userStoryId}", versionId, otherStoryId));
+        call(counts, delete("/api/versions/{versionId}/user-stories/{userStoryId}", versionId, otherStoryId));
+        call(counts, json(post("/api/versions/{versionId}/user-stories", versionId), allStories));
+        call(counts, json(delete("/api/versions/{versionId}/user-stories", versionId), allStories));
+
+        // Suppressions
+        call(counts, delete("/api/tasks/{taskId}", taskId));
+        call(counts, delete("/api/kanban-columns/{columnId}", data.customColumn().getId()));
+        call(counts, delete("/api/versions/{id}", versionId));
+        call(counts, delete("/api/sprints/{sprintId}", data.sprints().get(1).getId()));
+        call(counts, delete("/api/user-stories/{userStoryId}", otherStoryId));
+
+        // La suppression d'un projet ne supprime pas ses versions : elles sont retirées au préalable
+        jdbcTemplate.update("UPDATE user_stories SET version_id = NULL WHERE project_id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM versions WHERE project_id = ?", projectId);
+        call(counts, delete("/api/projects/{projectId}", projectId));
+        return counts;
+    }
+
+    private void call(Map<String, Integer> counts, MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andReturn();
+        String endpoint = result.getRequest().getMethod() + " "
+                + result.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        assertThat(result.getResponse().getStatus())
+                .as("%s : %s", endpoint, result.getResponse().getContentAsString())
+                .isBetween(200, 299);
+        counts.put(endpoint, Integer.parseInt(result.getResponse().getHeader(SqlMetricsFilter.SQL_COUNT_HEADER)));
+    }
+
+    private MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, Object body) throws Exception {
+        return request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(body));
+    }
+
+    private static CreateUserStoryRequest storyRequest(Long projectId, String title, Dataset data) {
+        CreateUserStoryRequest request = new CreateUserStoryRequest();
+        request.setTitle(title);
+        request.setDescription("Description");
+        request.setPriority(UserStory.Priority.HIGH);
+        request.setStatus("TODO");
+        request.setProjectId(projectId);
+        request.setAssignedToUsernames(data.members().stream().map(User::getUsername).toList());
+        return request;
+    }
+
+    private static CreateTaskRequest taskRequest(Long storyId, String title, Dataset data) {
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setTitle(title);
+        request.setDescription("Description");
+        request.setPriority(Task.Priority.MEDIUM);
+        request.setStatus(Task.Status.TODO);
+        request.setUserStoryId(storyId);
+        request.setAssignedToUsername(data.members().get(0).getUsername());
+        return request;
+    }
+
+    private static CreateSprintRequest sprintRequest(Long projectId, String name) {
+        CreateSprintRequest request = new CreateSprintRequest();
+        request.setName(name);
+        request.setStartDate(LocalDate.of(2025, 1, 6));
+        request.setEndDate(LocalDate.of(2025, 1, 20));
+        request.setStatus(Sprint.Status.PLANNED);
+        request.setProjectId(projectId);
+        return request;
+    }
+
+    private static CreateVersionRequest versionRequest(Long projectId, String title, String number) {
+        CreateVersionRequest request = new CreateVersionRequest();
+        request.setTitle(title);
+        request.setDescription("Description");
+        request.setVersionNumber(number);
+        request.setProjectId(projectId);
+        return request;
+    }
+
+    /**
+     * Crée un projet dont toutes les collections ont la taille donnée : membres, sprints, versions,
+     * User Stories (assignées à tous les membres, réparties dans le premier sprint et la première version)
+     * et tâches par User Story.
+     */
+    private Dataset seed(int size) {
+        User owner = userRepository.save(User.builder()
+                .username("owner").email("owner@example.com").password("unused").build());
+        List<User> members = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            members.add(userRepository.save(User.builder()
+                    .username("member" + i).email("member" + i + "@example.com").password("unused").build()));
+        }
+        Set<User> projectMembers = new HashSet<>(members);
+        projectMembers.add(owner);
+        Project project = projectRepository.save(Project.builder()
+                .name("Projet mesuré").description("Jeu de données fixe").owner(owner).members(projectMembers).build());
+
+        KanbanColumn todo = kanbanColumnRepository.save(KanbanColumn.builder()
+                .name("À faire").status("TODO").order(1).rank("4").project(project).isDefault(true).build());
+        kanbanColumnRepository.save(KanbanColumn.builder()
+                .name("En cours").status("IN_PROGRESS").order(2).rank("8").project(project).isDefault(true).build());
+        kanbanColumnRepository.save(KanbanColumn.builder()
+                .name("Terminé").status("DONE").order(3).rank("c").project(project).isDefault(true).build());
+        KanbanColumn custom = kanbanColumnRepository.save(KanbanColumn.builder()
+                .name("Revue").status("REVIEW").order(4).rank("g").project(project).isDefault(false).build());
+
+        List<Sprint> sprints = new ArrayList<>();
+        List<Version> versions = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            sprints.add(sprintRepository.save(Sprint.builder()
+                    .name("Sprint " + i)
+                    .startDate(LocalDate.of(2025, 1, 1).plusWeeks(2L * i))
+                    .endDate(LocalDate.of(2025, 1, 14).plusWeeks(2L * i))
+                    .status(Sprint.Status.PLANNED)
+                    .project(project)
+                    .build()));
+            versions.add(versionRepository.save(Version.builder()
+                    .title("Version " + i).description("Version " + i).versionNumber("1." + i + ".0")
+                    .project(project).build()));
+        }
+
+        List<UserStory> stories = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            UserStory story = userStoryRepository.save(UserStory.builder()
+                    .title("US " + i)
+                    .description("User Story " + i)
+                    .priority(UserStory.Priority.MEDIUM)
+                    .status("TODO")
+                    .rank(String.format("%03d1", i))
+                    .backlogRank(String.format("%03d1", size - i))
+                    .project(project)
+                    .sprint(i % 2 == 0 ? sprints.get(0) : null)
+                    .version(i % 2 == 0 ? versions.get(0) : null)
+                    .kanbanColumn(todo)
+                    .assignedTo(new HashSet<>(members))
+                    .build());
+            stories.add(story);
+            for (int j = 0; j < size; j++) {
+                tasks.add(taskRepository.save(Task.builder()
+                        .title("Tâche " + i + "." + j)
+                        .description("Tâche")
+                        .priority(Task.Priority.LOW)
+                        .status(Task.Status.TODO)
+                        .userStory(story)
+                        .assignedTo(members.get(j))
+                        .build()));
+            }
+        }
+
+        boardProjection.rebuild();
+        token = jwtService.generateToken(owner);
+        return new Dataset(owner, members, project, custom, sprints, versions, stories, tasks);
+    }
+
+    private void cleanDatabase() {
+        jdbcTemplate.execute("DELETE FROM board_entries");
+        jdbcTemplate.execute("DELETE FROM tasks");
+        jdbcTemplate.execute("DELETE FROM user_story_assignees");
+        jdbcTemplate.execute("DELETE FROM user_stories");
+        jdbcTemplate.execute("DELETE FROM versions");
+        jdbcTemplate.execute("DELETE FROM sprints");
+        jdbcTemplate.execute("DELETE FROM kanban_columns");
+        jdbcTemplate.execute("DELETE FROM project_members");
+        jdbcTemplate.execute("DELETE FROM projects");
+        jdbcTemplate.execute("DELETE FROM users");
+    }
+
+    private static Bound constant(int fixed) {
+        return new Bound(fixed, 0, 0);
+    }
+
+    private static Bound linear(int fixed, int perElement) {
+        return new Bound(fixed, perElement, 0);
+    }
+
+    private static Bound quadratic(int fixed, int perElement, int perElementSquared) {
+        return new Bound(fixed, perElement, perElementSquared);
+    }
+
+    /**
+     * Borne du nombre de requêtes SQL en fonction de la taille des collections : une part fixe, une part
+     * proportionnelle (N+1) et une part quadratique (N+1 imbriqués, ex. tâches de chaque User Story).
+     */
+    private record Bound(int fixed, int perElement, int perElementSquared) {
+        int limit(int size) {
+            return fixed + perElement * size + perElementSquared * size * size;
+        }
+    }
+
+    private record Dataset(User owner, List<User> members, Project project, KanbanColumn customColumn,
+            List<Sprint> sprints, List<Version> versions, List<UserStory> stories, List<Task> tasks) {
+    }
+}
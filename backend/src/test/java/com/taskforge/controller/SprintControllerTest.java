@@ -22,6 +22,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskforge.dto.BulkUserStoriesRequest;
 import com.taskforge.dto.CreateProjectRequest;
 import com.taskforge.dto.CreateSprintRequest;
 import com.taskforge.dto.CreateUserStoryRequest;
@@ -350,6 +351,54 @@ class SprintControllerTest {
                 .andExpect(jsonPath("$.sprint").doesNotExist());
     }
 
+    @Test
+    void assignAndRemoveUserStories_shouldUpdateEveryStoryAtOnce() throws Exception {
+        Long first = createUserStory("Bulk Story 1");
+        Long second = createUserStory("Bulk Story 2");
+        Long third = createUserStory("Bulk Story 3");
+
+        mockMvc.perform(post("/api/sprints/" + sprintId + "/user-stories")
+                .with(user("member"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkUserStoriesRequest(List.of(first, second, third)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(3));
+
+        mockMvc.perform(get("/api/sprints/" + sprintId + "/user-stories")
+                .with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3));
+
+        // Seules les User Stories du sprint sont retirées
+        mockMvc.perform(delete("/api/sprints/" + sprintId + "/user-stories")
+                .with(user("member"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkUserStoriesRequest(List.of(first, second, first)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2));
+
+        mockMvc.perform(get("/api/sprints/project/" + projectId + "/backlog")
+                .with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void assignUserStories_withUnknownStory_shouldAssignNone() throws Exception {
+        Long userStoryId = createUserStory("Bulk Story");
+
+        mockMvc.perform(post("/api/sprints/" + sprintId + "/user-stories")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkUserStoriesRequest(List.of(userStoryId, 999999L)))))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/sprints/" + sprintId + "/user-stories")
+                .with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
     @Test
     @WithMockUser(username = "owner")
     void getUserStoriesBySprint_shouldReturnUserStories() throws Exception {
@@ -496,5 +545,23 @@ class SprintControllerTest {
                 .with(user("owner")))
                 .andExpect(status().isBadRequest());
     }
-}
 
+    private Long createUserStory(String title) throws Exception {
+        CreateUserStoryRequest usRequest = new CreateUserStoryRequest();
+        usRequest.setTitle(title);
+        usRequest.setDescription("Description");
+        usRequest.setPriority(UserStory.Priority.MEDIUM);
+        usRequest.setStatus("TODO");
+        usRequest.setProjectId(projectId);
+
+        String usResponse = mockMvc.perform(post("/api/user-stories")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(usRequest)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(usResponse).get("id").asLong();
+    }
+}
@@ -2,6 +2,7 @@ package com.taskforge.controller;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,9 +28,11 @@ import com.taskforge.dto.CreateProjectRequest;
 import com.taskforge.dto.CreateTaskRequest;
 import com.taskforge.dto.CreateUserStoryRequest;
 import com.taskforge.dto.RegisterRequest;
+import com.taskforge.dto.UpdateTaskRequest;
 import com.taskforge.dto.UserDto;
 import com.taskforge.models.Task;
 import com.taskforge.models.UserStory;
+import com.taskforge.service.TaskCounterReconciler;
 
 /**
  * Tests d'intégration pour le contrôleur des tâches (TaskController).
@@ -49,6 +52,9 @@ public class TaskControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TaskCounterReconciler taskCounterReconciler;
+
     private Long projectId;
     private Long userStoryId;
 
@@ -597,5 +603,145 @@ public class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.assignedTo").doesNotExist());
     }
-}
 
+    /**
+     * Vérifie que les compteurs de tâches de la User Story suivent les créations, modifications et suppressions,
+     * et qu'ils sont exposés par la liste des User Stories sans les tâches elles-mêmes.
+     */
+    @Test
+    @WithMockUser(username = "owner")
+    void taskWrites_shouldMaintainUserStoryCounters() throws Exception {
+        Long first = createTask("Counted Task 1", Task.Status.TODO, "member");
+        createTask("Counted Task 2", Task.Status.IN_PROGRESS, null);
+        Long third = createTask("Counted Task 3", Task.Status.DONE, "owner");
+        assertCounters(3, 1, 1, 2);
+
+        CreateTaskRequest updateRequest = taskRequest("Counted Task 1", Task.Status.DONE, null);
+        mockMvc.perform(put("/api/tasks/" + first)
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk());
+        assertCounters(3, 2, 1, 1);
+
+        mockMvc.perform(delete("/api/tasks/" + third)
+                .with(user("owner")))
+                .andExpect(status().isNoContent());
+        assertCounters(2, 1, 1, 0);
+
+        mockMvc.perform(get("/api/user-stories/project/" + projectId)
+                .with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].taskCount").value(2))
+                .andExpect(jsonPath("$[0].doneTaskCount").value(1))
+                .andExpect(jsonPath("$[0].tasks").doesNotExist());
+    }
+
+    /**
+     * Vérifie que la création et la mise à jour groupées de tâches maintiennent les compteurs de la User Story.
+     */
+    @Test
+    void bulkTaskWrites_shouldMaintainUserStoryCounters() throws Exception {
+        String created = mockMvc.perform(post("/api/tasks/bulk")
+                .with(user("member"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(
+                        taskRequest("Bulk Task 1", Task.Status.TODO, "member"),
+                        taskRequest("Bulk Task 2", Task.Status.IN_PROGRESS, null),
+                        taskRequest("Bulk Task 3", Task.Status.DONE, "owner")))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].title").value("Bulk Task 1"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertCounters(3, 1, 1, 2);
+
+        UpdateTaskRequest first = updateRequest(objectMapper.readTree(created).get(0).get("id").asLong(),
+                "Bulk Task 1", Task.Status.DONE, null);
+        UpdateTaskRequest second = updateRequest(objectMapper.readTree(created).get(1).get("id").asLong(),
+                "Bulk Task 2 renamed", Task.Status.DONE, "member");
+        mockMvc.perform(put("/api/tasks/bulk")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(first, second))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].title").value("Bulk Task 2 renamed"));
+        assertCounters(3, 3, 0, 2);
+    }
+
+    /**
+     * Vérifie qu'une création groupée dont un titre est en doublon ne crée aucune tâche.
+     */
+    @Test
+    void createTasks_withDuplicateTitle_shouldCreateNone() throws Exception {
+        createTask("Existing Task", Task.Status.TODO, null);
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(
+                        taskRequest("New Task", Task.Status.TODO, null),
+                        taskRequest("Existing Task", Task.Status.TODO, null)))))
+                .andExpect(status().isBadRequest());
+        assertCounters(1, 0, 0, 0);
+    }
+
+    /**
+     * Vérifie que la réconciliation corrige les compteurs modifiés hors du service, et eux seuls.
+     */
+    @Test
+    @WithMockUser(username = "owner")
+    void reconcile_shouldRepairDriftedCounters() throws Exception {
+        createTask("Drift Task 1", Task.Status.DONE, "member");
+        createTask("Drift Task 2", Task.Status.TODO, null);
+        assertThat(taskCounterReconciler.reconcile()).isZero();
+
+        jdbcTemplate.update("UPDATE user_stories SET task_count = 7, done_task_count = 0 WHERE id = ?", userStoryId);
+
+        assertThat(taskCounterReconciler.reconcile()).isEqualTo(1);
+        assertCounters(2, 1, 0, 1);
+    }
+
+    private Long createTask(String title, Task.Status status, String assignee) throws Exception {
+        String response = mockMvc.perform(post("/api/tasks")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest(title, status, assignee))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    private CreateTaskRequest taskRequest(String title, Task.Status status, String assignee) {
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setTitle(title);
+        request.setUserStoryId(userStoryId);
+        request.setPriority(Task.Priority.MEDIUM);
+        request.setStatus(status);
+        request.setAssignedToUsername(assignee);
+        return request;
+    }
+
+    private UpdateTaskRequest updateRequest(Long taskId, String title, Task.Status status, String assignee) {
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setTaskId(taskId);
+        request.setTitle(title);
+        request.setPriority(Task.Priority.MEDIUM);
+        request.setStatus(status);
+        request.setAssignedToUsername(assignee);
+        return request;
+    }
+
+    private void assertCounters(int total, int done, int inProgress, int assigned) throws Exception {
+        mockMvc.perform(get("/api/user-stories/" + userStoryId)
+                .with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.taskCount").value(total))
+                .andExpect(jsonPath("$.doneTaskCount").value(done))
+                .andExpect(jsonPath("$.inProgressTaskCount").value(inProgress))
+                .andExpect(jsonPath("$.assignedTaskCount").value(assigned));
+    }
+}
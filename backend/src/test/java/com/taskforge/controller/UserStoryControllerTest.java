@@ -1,6 +1,16 @@
 package com.taskforge.controller;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,20 +23,31 @@ import org.springframework.security.test.context.support.WithMockUser;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.taskforge.dto.BulkUserStoriesRequest;
+import com.taskforge.dto.BulkUserStoryStatusRequest;
+import com.taskforge.dto.CreateKanbanColumnRequest;
 import com.taskforge.dto.CreateProjectRequest;
 import com.taskforge.dto.CreateUserStoryRequest;
+import com.taskforge.dto.MoveInBacklogRequest;
+import com.taskforge.dto.MoveUserStoryRequest;
 import com.taskforge.dto.RegisterRequest;
 import com.taskforge.dto.UpdateUserStoryStatusRequest;
 import com.taskforge.dto.UserDto;
 import com.taskforge.models.UserStory;
+import com.taskforge.service.RankRebalancer;
 
 /**
  * Tests d'intégration pour le contrôleur des User Stories.
@@ -37,6 +58,8 @@ import com.taskforge.models.UserStory;
 @ActiveProfiles("test")
 public class UserStoryControllerTest {
 
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -46,6 +69,9 @@ public class UserStoryControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private RankRebalancer rankRebalancer;
+
     private Long projectId;
 
     @BeforeEach
@@ -167,6 +193,252 @@ public class UserStoryControllerTest {
                 .andExpect(jsonPath("$.status").value("DONE"));
     }
 
+    @Test
+    void updateUserStoriesStatus_shouldUpdateEveryStory() throws Exception {
+        Long first = createUserStory("Bulk Status 1", "TODO");
+        Long second = createUserStory("Bulk Status 2", "TODO");
+
+        BulkUserStoryStatusRequest request = new BulkUserStoryStatusRequest(List.of(first, second), "IN_PROGRESS");
+
+        mockMvc.perform(put("/api/user-stories/status")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2));
+
+        mockMvc.perform(get("/api/user-stories/" + second)
+                .with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.kanbanColumn.status").value("IN_PROGRESS"));
+    }
+
+    @Test
+    void updateUserStoriesStatus_withUnknownStory_shouldUpdateNone() throws Exception {
+        Long id = createUserStory("Bulk Status", "TODO");
+
+        BulkUserStoryStatusRequest request = new BulkUserStoryStatusRequest(List.of(id, 999999L), "DONE");
+
+        mockMvc.perform(put("/api/user-stories/status")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/user-stories/" + id)
+                .with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("TODO"));
+    }
+
+    @Test
+    void moveUserStory_shouldRewriteOnlyTheMovedStory() throws Exception {
+        Long first = createUserStory("Move 1", "TODO");
+        Long second = createUserStory("Move 2", "TODO");
+        Long third = createUserStory("Move 3", "TODO");
+        List<String> ranksBefore = ranks(first, second);
+
+        move(third, new MoveUserStoryRequest(null, first, null))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(third));
+
+        mockMvc.perform(get("/api/board/project/" + projectId)
+                .with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains(first.intValue(), third.intValue(), second.intValue())));
+        assertThat(ranks(first, second)).isEqualTo(ranksBefore);
+
+        // Devant une voisine : la User Story passe juste avant elle
+        move(second, new MoveUserStoryRequest(null, null, first)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/board/project/" + projectId)
+                .with(user("owner")))
+                .andExpect(jsonPath("$[*].id", contains(second.intValue(), first.intValue(), third.intValue())));
+    }
+
+    @Test
+    void moveUserStory_toAnotherColumn_shouldTakeItsStatus() throws Exception {
+        Long id = createUserStory("Move Column", "TODO");
+        Long columnId = jdbcTemplate.queryForObject(
+                "SELECT id FROM kanban_columns WHERE project_id = ? AND status = 'IN_PROGRESS'", Long.class, projectId);
+
+        move(id, new MoveUserStoryRequest(columnId, null, null))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.kanbanColumn.id").value(columnId));
+    }
+
+    @Test
+    void moveUserStory_withNeighboursOutOfOrder_shouldReturnBadRequest() throws Exception {
+        Long first = createUserStory("Move 1", "TODO");
+        Long second = createUserStory("Move 2", "TODO");
+        Long third = createUserStory("Move 3", "TODO");
+
+        move(third, new MoveUserStoryRequest(null, second, first))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void moveUserStory_asNonMember_shouldReturnForbidden() throws Exception {
+        Long id = createUserStory("Move Forbidden", "TODO");
+
+        mockMvc.perform(put("/api/user-stories/" + id + "/move")
+                .with(user("unauthorized"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new MoveUserStoryRequest())))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void moveUserStory_repeatedlyToTheFront_shouldBeRebalancedInOrder() throws Exception {
+        Long first = createUserStory("Rebalance 1", "TODO");
+        Long second = createUserStory("Rebalance 2", "TODO");
+        Long front = first;
+        for (int i = 0; i < 60; i++) {
+            Long moved = front.equals(first) ? second : first;
+            move(moved, new MoveUserStoryRequest(null, null, front)).andExpect(status().isOk());
+            front = moved;
+        }
+        // Chaque déplacement en tête raccourcit l'intervalle : les rangs dépassent dix caractères et le projet
+        // est signalé ; la redistribution peut aussi avoir été faite entre-temps par la tâche planifiée
+        rankRebalancer.rebalancePending();
+
+        assertThat(ranks(first, second)).allMatch(rank -> rank.length() == 1);
+        Long back = front.equals(first) ? second : first;
+        mockMvc.perform(get("/api/board/project/" + projectId)
+                .with(user("owner")))
+                .andExpect(jsonPath("$[*].id", contains(front.intValue(), back.intValue())));
+    }
+
+    @Test
+    void moveInBacklog_shouldRewriteOnlyTheMovedStory() throws Exception {
+        Long first = createUserStory("Backlog 1", "TODO");
+        Long second = createUserStory("Backlog 2", "TODO");
+        Long third = createUserStory("Backlog 3", "TODO");
+        List<String> backlogRanksBefore = backlogRanks(first, second);
+
+        moveInBacklog(third, new MoveInBacklogRequest(null, first))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(third));
+
+        mockMvc.perform(get("/api/sprints/project/" + projectId + "/backlog")
+                .with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains(third.intValue(), first.intValue(), second.intValue())));
+        assertThat(backlogRanks(first, second)).isEqualTo(backlogRanksBefore);
+        // Le rang de backlog est distinct du rang sur le tableau
+        mockMvc.perform(get("/api/board/project/" + projectId)
+                .with(user("owner")))
+                .andExpect(jsonPath("$[*].id", contains(first.intValue(), second.intValue(), third.intValue())));
+
+        moveInBacklog(first, new MoveInBacklogRequest(second, null)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/sprints/project/" + projectId + "/backlog")
+                .with(user("owner")))
+                .andExpect(jsonPath("$[*].id", contains(third.intValue(), second.intValue(), first.intValue())));
+    }
+
+    @Test
+    void moveInBacklog_withNeighboursOutOfOrder_shouldReturnBadRequest() throws Exception {
+        Long first = createUserStory("Backlog 1", "TODO");
+        Long second = createUserStory("Backlog 2", "TODO");
+        Long third = createUserStory("Backlog 3", "TODO");
+
+        moveInBacklog(third, new MoveInBacklogRequest(second, first))
+                .andExpect(status().isBadRequest());
+        moveInBacklog(third, new MoveInBacklogRequest(third, null))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void moveInBacklog_asNonMember_shouldReturnForbidden() throws Exception {
+        Long id = createUserStory("Backlog Forbidden", "TODO");
+
+        mockMvc.perform(put("/api/user-stories/" + id + "/backlog-position")
+                .with(user("unauthorized"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new MoveInBacklogRequest())))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void moveInBacklog_repeatedlyToTheFront_shouldBeRebalancedInOrder() throws Exception {
+        Long first = createUserStory("Rebalance 1", "TODO");
+        Long second = createUserStory("Rebalance 2", "TODO");
+        Long front = first;
+        for (int i = 0; i < 60; i++) {
+            Long moved = front.equals(first) ? second : first;
+            moveInBacklog(moved, new MoveInBacklogRequest(null, front)).andExpect(status().isOk());
+            front = moved;
+        }
+        rankRebalancer.rebalancePending();
+
+        assertThat(backlogRanks(first, second)).allMatch(rank -> rank.length() == 1);
+        Long back = front.equals(first) ? second : first;
+        mockMvc.perform(get("/api/sprints/project/" + projectId + "/backlog")
+                .with(user("owner")))
+                .andExpect(jsonPath("$[*].id", contains(front.intValue(), back.intValue())));
+    }
+
+    @Test
+    void reorderBacklog_shouldPutListedStoriesFirst() throws Exception {
+        Long first = createUserStory("Import 1", "TODO");
+        Long second = createUserStory("Import 2", "TODO");
+        Long third = createUserStory("Import 3", "TODO");
+
+        reorderBacklog(List.of(third, second))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2));
+
+        mockMvc.perform(get("/api/sprints/project/" + projectId + "/backlog")
+                .with(user("owner")))
+                .andExpect(jsonPath("$[*].id", contains(third.intValue(), second.intValue(), first.intValue())));
+    }
+
+    @Test
+    void reorderBacklog_withUnknownStory_shouldChangeNothing() throws Exception {
+        Long first = createUserStory("Import 1", "TODO");
+        Long second = createUserStory("Import 2", "TODO");
+        List<String> backlogRanksBefore = backlogRanks(first, second);
+
+        reorderBacklog(List.of(second, 999999L))
+                .andExpect(status().isBadRequest());
+
+        assertThat(backlogRanks(first, second)).isEqualTo(backlogRanksBefore);
+    }
+
+    @Test
+    @WithMockUser(username = "owner")
+    void getUserStoriesByProject_shouldSerializeLazyAssociations() throws Exception {
+        CreateUserStoryRequest request = createRequest("Story Associations", "TODO");
+        request.setAssignedToUsernames(List.of("member"));
+        String response = mockMvc.perform(post("/api/user-stories")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readTree(response).get("id").asLong();
+
+        UpdateUserStoryStatusRequest statusRequest = new UpdateUserStoryStatusRequest();
+        statusRequest.setStatus("DONE");
+        mockMvc.perform(put("/api/user-stories/" + id + "/status")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(statusRequest)))
+                .andExpect(status().isOk());
+
+        // Open-in-view désactivé : tout ce qui est sérialisé doit avoir été chargé par le service
+        mockMvc.perform(get("/api/user-stories/project/" + projectId)
+                .with(user("member")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].project.owner.username").value("owner"))
+                .andExpect(jsonPath("$[0].project.members.length()").value(2))
+                .andExpect(jsonPath("$[0].assignedTo[0].username").value("member"))
+                .andExpect(jsonPath("$[0].kanbanColumn.status").value("DONE"))
+                .andExpect(jsonPath("$[0].taskCount").value(0))
+                .andExpect(jsonPath("$[0].tasks").doesNotExist());
+    }
+
     // --- TESTS BRANCHES : AUTHENTIFICATION MANQUANTE (Principal == null) ---
     // Ces tests sont cruciaux pour la couverture des blocs "if (principal == null)"
 
@@ -258,6 +530,222 @@ public class UserStoryControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    // --- LIMITES WIP ---
+
+    @Test
+    void statusChange_intoFullColumn_shouldReturnConflictUntilASlotIsFreed() throws Exception {
+        Long inProgress = setWipLimit("IN_PROGRESS", 1);
+        Long first = createUserStory("Story 1", "TODO");
+        Long second = createUserStory("Story 2", "TODO");
+
+        changeStatus(first, "IN_PROGRESS").andExpect(status().isOk());
+        changeStatus(second, "IN_PROGRESS")
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.type").value("urn:taskforge:problem:column-full"));
+        assertThat(storyCount(inProgress)).isEqualTo(1);
+
+        // Rester dans sa colonne ne compte pas comme une entrée
+        changeStatus(first, "IN_PROGRESS").andExpect(status().isOk());
+
+        changeStatus(first, "DONE").andExpect(status().isOk());
+        changeStatus(second, "IN_PROGRESS").andExpect(status().isOk());
+        assertThat(storyCount(inProgress)).isEqualTo(1);
+        assertThat(storedStatus(second)).isEqualTo("IN_PROGRESS");
+    }
+
+    @Test
+    void createUserStory_intoFullColumn_shouldReturnConflict() throws Exception {
+        Long todo = setWipLimit("TODO", 1);
+        createUserStory("Story 1", "TODO");
+
+        mockMvc.perform(post("/api/user-stories")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest("Story 2", "TODO"))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.type").value("urn:taskforge:problem:column-full"));
+
+        assertThat(storyCount(todo)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_stories WHERE project_id = ?", Integer.class, projectId)).isEqualTo(1);
+    }
+
+    @Test
+    void moveAndDelete_shouldKeepColumnCountsInStep() throws Exception {
+        Long inProgress = setWipLimit("IN_PROGRESS", 1);
+        Long first = createUserStory("Story 1", "TODO");
+        Long second = createUserStory("Story 2", "TODO");
+
+        move(first, new MoveUserStoryRequest(inProgress, null, null)).andExpect(status().isOk());
+        move(second, new MoveUserStoryRequest(inProgress, null, null)).andExpect(status().isConflict());
+        assertThat(storedStatus(second)).isEqualTo("TODO");
+
+        mockMvc.perform(delete("/api/user-stories/" + first).with(user("owner")))
+                .andExpect(status().isNoContent());
+        assertThat(storyCount(inProgress)).isZero();
+        move(second, new MoveUserStoryRequest(inProgress, null, null)).andExpect(status().isOk());
+        assertThat(storyCount(inProgress)).isEqualTo(1);
+    }
+
+    @Test
+    void bulkStatusChange_beyondWipLimit_shouldChangeNothing() throws Exception {
+        Long inProgress = setWipLimit("IN_PROGRESS", 2);
+        Long first = createUserStory("Story 1", "TODO");
+        Long second = createUserStory("Story 2", "TODO");
+        Long third = createUserStory("Story 3", "TODO");
+
+        mockMvc.perform(put("/api/user-stories/status")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new BulkUserStoryStatusRequest(List.of(first, second, third), "IN_PROGRESS"))))
+                .andExpect(status().isConflict());
+
+        assertThat(storyCount(inProgress)).isZero();
+        assertThat(storedStatus(first)).isEqualTo("TODO");
+    }
+
+    @Test
+    void concurrentStatusChanges_shouldNeverOverfillAColumn() throws Exception {
+        Long inProgress = setWipLimit("IN_PROGRESS", 2);
+        List<Long> stories = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            stories.add(createUserStory("Story " + i, "TODO"));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(stories.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (Long story : stories) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return changeStatus(story, "IN_PROGRESS").andReturn().getResponse().getStatus();
+            }));
+        }
+        start.countDown();
+        List<Integer> statuses = new ArrayList<>();
+        for (Future<Integer> result : results) {
+            statuses.add(result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertThat(statuses).filteredOn(code -> code == 200).hasSize(2);
+        assertThat(statuses).filteredOn(code -> code == 409).hasSize(4);
+        assertThat(storyCount(inProgress)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_stories WHERE kanban_column_id = ?",
+                Integer.class, inProgress)).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentMovesOfOneStory_shouldCountItOnce() throws Exception {
+        Long todo = jdbcTemplate.queryForObject(
+                "SELECT id FROM kanban_columns WHERE project_id = ? AND status = ?", Long.class, projectId, "TODO");
+        Long inProgress = setWipLimit("IN_PROGRESS", 1);
+        Long story = createUserStory("Story 1", "TODO");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return move(story, new MoveUserStoryRequest(inProgress, null, null)).andReturn().getResponse().getStatus();
+            }));
+        }
+        start.countDown();
+        List<Integer> statuses = new ArrayList<>();
+        for (Future<Integer> result : results) {
+            statuses.add(result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Chaque déplacement lit la colonne laissée par le précédent : les suivants restent dans la colonne
+        assertThat(statuses).containsOnly(200);
+        assertThat(storyCount(inProgress)).isEqualTo(1);
+        assertThat(storyCount(todo)).isZero();
+    }
+
+    @Test
+    void concurrentStatusChangesOfOneStory_shouldCountItOnce() throws Exception {
+        Long todo = jdbcTemplate.queryForObject(
+                "SELECT id FROM kanban_columns WHERE project_id = ? AND status = ?", Long.class, projectId, "TODO");
+        Long inProgress = setWipLimit("IN_PROGRESS", 1);
+        Long story = createUserStory("Story 1", "TODO");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return changeStatus(story, "IN_PROGRESS").andReturn().getResponse().getStatus();
+            }));
+        }
+        start.countDown();
+        List<Integer> statuses = new ArrayList<>();
+        for (Future<Integer> result : results) {
+            statuses.add(result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertThat(statuses).containsOnly(200);
+        assertThat(storyCount(inProgress)).isEqualTo(1);
+        assertThat(storyCount(todo)).isZero();
+    }
+
+    // --- NÉGOCIATION DE CONTENU : ENCODAGES BINAIRES ---
+
+    @Test
+    @WithMockUser(username = "owner")
+    void getUserStoriesByProject_acceptCbor_shouldReturnSameContentAsJson() throws Exception {
+        createUserStory("Story 1", "TODO");
+        createUserStory("Story 2", "DONE");
+
+        byte[] cbor = mockMvc.perform(get("/api/user-stories/project/" + projectId)
+                .with(user("owner"))
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        String json = mockMvc.perform(get("/api/user-stories/project/" + projectId)
+                .with(user("owner")))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(new CBORMapper().readTree(cbor)).isEqualTo(objectMapper.readTree(json));
+        assertThat(cbor.length).isLessThan(json.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    @WithMockUser(username = "owner")
+    void getUserStoriesByProject_acceptSmile_shouldReturnSmile() throws Exception {
+        createUserStory("Story 1", "TODO");
+
+        byte[] smile = mockMvc.perform(get("/api/user-stories/project/" + projectId)
+                .with(user("owner"))
+                .accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode stories = new SmileMapper().readTree(smile);
+        assertThat(stories).hasSize(1);
+        assertThat(stories.get(0).get("title").asText()).isEqualTo("Story 1");
+    }
+
+    @Test
+    @WithMockUser(username = "owner")
+    void createUserStory_cborBody_shouldBeAccepted() throws Exception {
+        CreateUserStoryRequest request = createRequest("Binary Story", "TODO");
+
+        mockMvc.perform(post("/api/user-stories")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_CBOR)
+                .content(new CBORMapper().writeValueAsBytes(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Binary Story"));
+    }
+
     // --- HELPER METHODS ---
 
     private void registerUser(String username) throws Exception {
@@ -281,6 +769,70 @@ public class UserStoryControllerTest {
         return request;
     }
 
+    private ResultActions move(Long userStoryId, MoveUserStoryRequest request) throws Exception {
+        return mockMvc.perform(put("/api/user-stories/" + userStoryId + "/move")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private ResultActions moveInBacklog(Long userStoryId, MoveInBacklogRequest request) throws Exception {
+        return mockMvc.perform(put("/api/user-stories/" + userStoryId + "/backlog-position")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private ResultActions reorderBacklog(List<Long> userStoryIds) throws Exception {
+        return mockMvc.perform(put("/api/user-stories/project/" + projectId + "/backlog-order")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkUserStoriesRequest(userStoryIds))));
+    }
+
+    private ResultActions changeStatus(Long userStoryId, String status) throws Exception {
+        UpdateUserStoryStatusRequest request = new UpdateUserStoryStatusRequest();
+        request.setStatus(status);
+        return mockMvc.perform(put("/api/user-stories/" + userStoryId + "/status")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private Long setWipLimit(String status, int wipLimit) throws Exception {
+        Long columnId = jdbcTemplate.queryForObject(
+                "SELECT id FROM kanban_columns WHERE project_id = ? AND status = ?", Long.class, projectId, status);
+        CreateKanbanColumnRequest request = new CreateKanbanColumnRequest();
+        request.setName(status);
+        request.setStatus(status);
+        request.setWipLimit(wipLimit);
+        mockMvc.perform(put("/api/kanban-columns/" + columnId)
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.wipLimit").value(wipLimit));
+        return columnId;
+    }
+
+    private int storyCount(Long columnId) {
+        return jdbcTemplate.queryForObject("SELECT story_count FROM kanban_columns WHERE id = ?", Integer.class, columnId);
+    }
+
+    private String storedStatus(Long userStoryId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM user_stories WHERE id = ?", String.class, userStoryId);
+    }
+
+    private List<String> backlogRanks(Long first, Long second) {
+        return jdbcTemplate.queryForList(
+                "SELECT backlog_rank FROM user_stories WHERE id IN (?, ?) ORDER BY id", String.class, first, second);
+    }
+
+    private List<String> ranks(Long first, Long second) {
+        return jdbcTemplate.queryForList(
+                "SELECT story_rank FROM user_stories WHERE id IN (?, ?) ORDER BY id", String.class, first, second);
+    }
+
     private Long createUserStory(String title, String status) throws Exception {
         CreateUserStoryRequest request = createRequest(title, status);
         String response = mockMvc.perform(post("/api/user-stories")
@@ -0,0 +1,280 @@
+package com.taskforge.controller;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskforge.dto.CreateProjectRequest;
+import com.taskforge.dto.RegisterRequest;
+import com.taskforge.dto.UserDto;
+import com.taskforge.repositories.KanbanColumnRepository;
+import com.taskforge.repositories.UserStoryRepository;
+import com.taskforge.service.StatusWriteCoalescer;
+import com.taskforge.service.WipLimits;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests d'intégration du regroupement des changements de statut ({@code taskforge.status-coalescing}).
+ * La fenêtre est assez longue pour que seuls les enregistrements déclenchés par les tests aient lieu.
+ */
+@SpringBootTest(properties = {
+    "taskforge.status-coalescing.enabled=true",
+    "taskforge.status-coalescing.window=1h"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserStoryStatusCoalescingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StatusWriteCoalescer statusWriteCoalescer;
+
+    @Autowired
+    private UserStoryRepository userStoryRepository;
+
+    @Autowired
+    private KanbanColumnRepository kanbanColumnRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private WipLimits wipLimits;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long projectId;
+    private Long userStoryId;
+
+    @BeforeEach
+    void setup() throws Exception {
+        statusWriteCoalescer.flush();
+
+        // Nettoyer la base de données
+        jdbcTemplate.execute("DELETE FROM board_entries");
+        jdbcTemplate.execute("DELETE FROM tasks");
+        jdbcTemplate.execute("DELETE FROM user_story_assignees");
+        jdbcTemplate.execute("DELETE FROM user_stories");
+        jdbcTemplate.execute("DELETE FROM sprints");
+        jdbcTemplate.execute("DELETE FROM versions");
+        jdbcTemplate.execute("DELETE FROM kanban_columns");
+        jdbcTemplate.execute("DELETE FROM project_members");
+        jdbcTemplate.execute("DELETE FROM projects");
+        jdbcTemplate.execute("DELETE FROM users");
+
+        register("owner");
+        register("outsider");
+
+        CreateProjectRequest projectRequest = new CreateProjectRequest();
+        projectRequest.setName("Coalescing Project");
+        projectRequest.setDescription("Project for testing status coalescing");
+        projectRequest.setUser(UserDto.builder().username("owner").build());
+        projectRequest.setMembers(List.of());
+
+        String projectResponse = mockMvc.perform(post("/api/projects")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(projectRequest)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        projectId = objectMapper.readTree(projectResponse).get("id").asLong();
+        userStoryId = createUserStory("Story");
+    }
+
+    @Test
+    void rapidStatusChanges_shouldBeAcknowledgedAndPersistOnlyTheLast() throws Exception {
+        double accepted = count("accepted");
+        double persisted = count("persisted");
+
+        for (String status : List.of("IN_PROGRESS", "DONE", "IN_PROGRESS", "DONE")) {
+            changeStatus("owner", userStoryId, status)
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.status").value(status))
+                    .andExpect(jsonPath("$.kanbanColumn.status").value(status));
+        }
+        assertThat(storedStatus(userStoryId)).isEqualTo("TODO");
+
+        statusWriteCoalescer.flush();
+
+        assertThat(storedStatus(userStoryId)).isEqualTo("DONE");
+        assertThat(jdbcTemplate.queryForObject("SELECT kc.status FROM user_stories us "
+                + "JOIN kanban_columns kc ON kc.id = us.kanban_column_id WHERE us.id = ?", String.class, userStoryId))
+                .isEqualTo("DONE");
+        assertThat(count("accepted") - accepted).isEqualTo(4);
+        assertThat(count("persisted") - persisted).isEqualTo(1);
+        mockMvc.perform(get("/api/board/project/" + projectId).with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("DONE"));
+    }
+
+    @Test
+    void pendingStatusesOfSeveralStories_shouldBePersistedTogether() throws Exception {
+        Long other = createUserStory("Other story");
+
+        changeStatus("owner", userStoryId, "DONE").andExpect(status().isAccepted());
+        changeStatus("owner", other, "IN_PROGRESS").andExpect(status().isAccepted());
+        statusWriteCoalescer.flush();
+
+        assertThat(storedStatus(userStoryId)).isEqualTo("DONE");
+        assertThat(storedStatus(other)).isEqualTo("IN_PROGRESS");
+    }
+
+    @Test
+    void synchronousWriteAfterPendingStatus_shouldWin() throws Exception {
+        changeStatus("owner", userStoryId, "DONE").andExpect(status().isAccepted());
+
+        mockMvc.perform(put("/api/user-stories/" + userStoryId)
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(story("Story", "IN_PROGRESS"))))
+                .andExpect(status().isOk());
+        statusWriteCoalescer.flush();
+
+        assertThat(storedStatus(userStoryId)).isEqualTo("IN_PROGRESS");
+    }
+
+    @Test
+    void failedSynchronousWrite_shouldKeepPendingStatus() throws Exception {
+        createUserStory("Taken title");
+        changeStatus("owner", userStoryId, "DONE").andExpect(status().isAccepted());
+
+        mockMvc.perform(put("/api/user-stories/" + userStoryId)
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(story("Taken title", "IN_PROGRESS"))))
+                .andExpect(status().isBadRequest());
+        statusWriteCoalescer.flush();
+
+        assertThat(storedStatus(userStoryId)).isEqualTo("DONE");
+    }
+
+    @Test
+    void statusChangeFromNonMember_shouldBeRejectedAndNeverPersisted() throws Exception {
+        changeStatus("outsider", userStoryId, "DONE").andExpect(status().isForbidden());
+        statusWriteCoalescer.flush();
+
+        assertThat(storedStatus(userStoryId)).isEqualTo("TODO");
+    }
+
+    @Test
+    void pendingStatusesBeyondWipLimit_shouldBeRejectedAtAcknowledgementOrWhenPersisted() throws Exception {
+        jdbcTemplate.update("UPDATE kanban_columns SET wip_limit = 1 WHERE project_id = ? AND status = 'IN_PROGRESS'",
+                projectId);
+        Long other = createUserStory("Other story");
+        double rejected = count("rejected");
+
+        // Le compteur lu à l'acquittement laisse la place : la limite n'est réservée qu'à l'enregistrement
+        changeStatus("owner", userStoryId, "IN_PROGRESS").andExpect(status().isAccepted());
+        changeStatus("owner", other, "IN_PROGRESS").andExpect(status().isAccepted());
+        statusWriteCoalescer.flush();
+
+        assertThat(storedStatus(userStoryId)).isEqualTo("TODO");
+        assertThat(storedStatus(other)).isEqualTo("TODO");
+        assertThat(count("rejected") - rejected).isEqualTo(2);
+
+        changeStatus("owner", userStoryId, "IN_PROGRESS").andExpect(status().isAccepted());
+        statusWriteCoalescer.flush();
+        assertThat(storedStatus(userStoryId)).isEqualTo("IN_PROGRESS");
+        changeStatus("owner", other, "IN_PROGRESS").andExpect(status().isConflict());
+    }
+
+    @Test
+    void pendingStatuses_shouldBePersistedAtTheEndOfTheWindowAndOnShutdown() throws Exception {
+        StatusWriteCoalescer shortWindow = coalescer(Duration.ofMillis(20));
+        shortWindow.submit(userStoryId, projectId, "IN_PROGRESS");
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!"IN_PROGRESS".equals(storedStatus(userStoryId)) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(storedStatus(userStoryId)).isEqualTo("IN_PROGRESS");
+        shortWindow.shutdown();
+
+        StatusWriteCoalescer longWindow = coalescer(Duration.ofHours(1));
+        longWindow.submit(userStoryId, projectId, "DONE");
+        longWindow.shutdown();
+        assertThat(storedStatus(userStoryId)).isEqualTo("DONE");
+    }
+
+    private StatusWriteCoalescer coalescer(Duration window) {
+        return new StatusWriteCoalescer(true, window, userStoryRepository, kanbanColumnRepository, eventPublisher,
+                wipLimits, transactionManager, new SimpleMeterRegistry());
+    }
+
+    private ResultActions changeStatus(String username, Long id, String status) throws Exception {
+        return mockMvc.perform(put("/api/user-stories/" + id + "/status")
+                .with(user(username))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("status", status))));
+    }
+
+    private String storedStatus(Long id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM user_stories WHERE id = ?", String.class, id);
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("taskforge.user_story.status_coalescing", "result", result).count();
+    }
+
+    private Long createUserStory(String title) throws Exception {
+        String response = mockMvc.perform(post("/api/user-stories")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(story(title, "TODO"))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    private Map<String, Object> story(String title, String status) {
+        return Map.of("title", title, "projectId", projectId, "priority", "MEDIUM", "status", status);
+    }
+
+    private void register(String username) throws Exception {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername(username);
+        request.setEmail(username + "@example.com");
+        request.setPassword("password");
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+}
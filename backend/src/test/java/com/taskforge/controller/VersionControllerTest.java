@@ -17,6 +17,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskforge.dto.BulkUserStoriesRequest;
 import com.taskforge.dto.CreateVersionRequest;
 import com.taskforge.exceptions.DuplicateProjectNameException;
 import com.taskforge.models.Project;
@@ -239,6 +240,34 @@ public class VersionControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST et DELETE /api/versions/{versionId}/user-stories")
+    class BulkUserStories {
+        @Test
+        @DisplayName("Devrait associer plusieurs User Stories à une version")
+        void shouldAssignUserStoriesToVersion() throws Exception {
+            when(versionService.assignUserStoriesToVersion(1L, List.of(1L, 2L), "owner")).thenReturn(2);
+            mockMvc.perform(post("/api/versions/{versionId}/user-stories", 1L)
+                    .principal(() -> "owner")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new BulkUserStoriesRequest(List.of(1L, 2L)))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.updated", is(2)));
+        }
+
+        @Test
+        @DisplayName("Devrait retirer plusieurs User Stories d'une version")
+        void shouldRemoveUserStoriesFromVersion() throws Exception {
+            when(versionService.removeUserStoriesFromVersion(1L, List.of(1L, 2L), "owner")).thenReturn(1);
+            mockMvc.perform(delete("/api/versions/{versionId}/user-stories", 1L)
+                    .principal(() -> "owner")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new BulkUserStoriesRequest(List.of(1L, 2L)))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.updated", is(1)));
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/versions/{versionId}/user-stories")
     class GetUserStoriesByVersion {
@@ -0,0 +1,205 @@
+package com.taskforge.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskforge.dto.BatchOperation;
+import com.taskforge.dto.BatchRequest;
+import com.taskforge.dto.CreateProjectRequest;
+import com.taskforge.dto.CreateUserStoryRequest;
+import com.taskforge.dto.RegisterRequest;
+import com.taskforge.dto.UserDto;
+import com.taskforge.models.UserStory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Tests d'intégration du routage des lectures vers le réplica.
+ * Une seconde connexion H2 à la même base tient lieu de réplica : les compteurs de routage indiquent
+ * quelle cible a servi chaque connexion en lecture seule.
+ */
+@SpringBootTest(properties = {
+        "taskforge.datasource.replica.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=false",
+        "taskforge.datasource.replica.pin-window=1m"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReplicaRoutingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private long projectId;
+    private long userStoryId;
+
+    @BeforeEach
+    void setup() throws Exception {
+        jdbcTemplate.execute("DELETE FROM tasks");
+        jdbcTemplate.execute("DELETE FROM user_story_assignees");
+        jdbcTemplate.execute("DELETE FROM user_stories");
+        jdbcTemplate.execute("DELETE FROM sprints");
+        jdbcTemplate.execute("DELETE FROM kanban_columns");
+        jdbcTemplate.execute("DELETE FROM project_members");
+        jdbcTemplate.execute("DELETE FROM projects");
+        jdbcTemplate.execute("DELETE FROM users");
+
+        registerUser("owner");
+        registerUser("member");
+
+        CreateProjectRequest project = new CreateProjectRequest();
+        project.setName("Replica");
+        project.setDescription("Projet de test du routage");
+        project.setUser(UserDto.builder().username("owner").build());
+        project.setMembers(List.of(UserDto.builder().username("member").build()));
+        String response = mockMvc.perform(post("/api/projects")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(project)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        projectId = objectMapper.readTree(response).get("id").asLong();
+
+        CreateUserStoryRequest story = new CreateUserStoryRequest();
+        story.setTitle("Story");
+        story.setDescription("Description");
+        story.setProjectId(projectId);
+        story.setPriority(UserStory.Priority.MEDIUM);
+        story.setStatus("TODO");
+        String storyResponse = mockMvc.perform(post("/api/user-stories")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(story)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        userStoryId = objectMapper.readTree(storyResponse).get("id").asLong();
+    }
+
+    /**
+     * Vérifie que l'application utilise la source de données à connexion différée.
+     */
+    @Test
+    void dataSource_shouldBeLazyRoutingProxy() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+    }
+
+    /**
+     * Vérifie qu'une lecture en transaction readOnly d'un utilisateur qui n'a pas écrit part vers le réplica.
+     */
+    @Test
+    void readOnlyRead_ofUserWithoutRecentWrite_shouldUseReplica() throws Exception {
+        double replicaBefore = count(ReplicaRoutingDataSource.REPLICA);
+        double primaryBefore = count(ReplicaRoutingDataSource.PRIMARY);
+
+        mockMvc.perform(get("/api/user-stories/project/" + projectId).with(user("member")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        assertThat(count(ReplicaRoutingDataSource.REPLICA)).isGreaterThan(replicaBefore);
+        assertThat(count(ReplicaRoutingDataSource.PRIMARY)).isEqualTo(primaryBefore);
+    }
+
+    /**
+     * Vérifie que les lectures d'un utilisateur restent sur la base principale juste après son écriture.
+     */
+    @Test
+    void readOnlyRead_afterOwnWrite_shouldStayOnPrimary() throws Exception {
+        double replicaBefore = count(ReplicaRoutingDataSource.REPLICA);
+        double primaryBefore = count(ReplicaRoutingDataSource.PRIMARY);
+
+        mockMvc.perform(get("/api/user-stories/project/" + projectId).with(user("owner")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Story"));
+
+        assertThat(count(ReplicaRoutingDataSource.PRIMARY)).isGreaterThan(primaryBefore);
+        assertThat(count(ReplicaRoutingDataSource.REPLICA)).isEqualTo(replicaBefore);
+    }
+
+    /**
+     * Vérifie qu'une lecture qui suit une écriture dans un lot non atomique part vers la base principale.
+     */
+    @Test
+    void nonAtomicBatch_readAfterWrite_shouldUsePrimary() throws Exception {
+        double replicaBefore = count(ReplicaRoutingDataSource.REPLICA);
+        BatchRequest batch = BatchRequest.builder()
+                .atomic(false)
+                .operations(List.of(
+                        BatchOperation.builder().method("PUT").path("/api/user-stories/" + userStoryId + "/status")
+                                .body(objectMapper.valueToTree(Map.of("status", "DONE"))).build(),
+                        BatchOperation.builder().method("GET").path("/api/user-stories/" + userStoryId).build()))
+                .build();
+
+        mockMvc.perform(post("/api/batch")
+                .with(user("member"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value(200))
+                .andExpect(jsonPath("$.results[1].status").value(200));
+
+        assertThat(count(ReplicaRoutingDataSource.REPLICA)).isEqualTo(replicaBefore);
+    }
+
+    /**
+     * Vérifie que l'épinglage expire à la fin de sa fenêtre.
+     */
+    @Test
+    void primaryPinning_shouldExpireAfterWindow() {
+        PrimaryPinning pinned = new PrimaryPinning(Duration.ofMinutes(1), Clock.systemUTC());
+        PrimaryPinning expired = new PrimaryPinning(Duration.ZERO, Clock.systemUTC());
+        pinned.pin("owner");
+        expired.pin("owner");
+
+        assertThat(pinned.isPinned("owner")).isTrue();
+        assertThat(pinned.isPinned("member")).isFalse();
+        assertThat(pinned.isPinned(null)).isFalse();
+        assertThat(expired.isPinned("owner")).isFalse();
+    }
+
+    private void registerUser(String username) throws Exception {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername(username);
+        request.setEmail(username + "@example.com");
+        request.setPassword("password");
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private double count(String target) {
+        return meterRegistry.counter(ReplicaRoutingDataSource.ROUTING_METRIC, "target", target).count();
+    }
+}
@@ -1,18 +1,20 @@
 package com.taskforge.exceptions;
 
+import java.net.URI;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
-
-import java.util.Map;
+import org.springframework.web.server.ResponseStatusException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * Tests unitaires pour le gestionnaire global d'exceptions (GlobalExceptionHandler).
  * Vérifie que chaque exception métier est correctement interceptée et transformée
- * en une réponse HTTP appropriée (code statut et message JSON).
+ * en une réponse ProblemDetail (RFC 7807) avec le statut porté par l'exception et une propriété "message".
  */
 class GlobalExceptionHandlerTest {
 
@@ -32,16 +34,12 @@ class GlobalExceptionHandlerTest {
      */
     @Test
     void handleUsernameExists_shouldReturnBadRequestWithMessage() {
-        UsernameAlreadyExists exception = new UsernameAlreadyExists("Username 'testuser' already exists");
-
-        ResponseEntity<?> response = exceptionHandler.handleUsernameExists(exception);
+        ResponseEntity<ProblemDetail> response = exceptionHandler.handleTaskForgeException(
+                new UsernameAlreadyExists("Username 'testuser' already exists"));
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-        assertThat(response.getBody()).isInstanceOf(Map.class);
-        
-        @SuppressWarnings("unchecked")
-        Map<String, String> body = (Map<String, String>) response.getBody();
-        assertThat(body).containsEntry("message", "Username 'testuser' already exists");
+        assertThat(response.getBody().getDetail()).isEqualTo("Username 'testuser' already exists");
+        assertThat(response.getBody().getProperties()).containsEntry("message", "Username 'testuser' already exists");
     }
 
     /**
@@ -50,16 +48,11 @@ class GlobalExceptionHandlerTest {
      */
     @Test
     void handleEmailExists_shouldReturnBadRequestWithMessage() {
-        EmailAlreadyExists exception = new EmailAlreadyExists("Email 'test@example.com' already exists");
-
-        ResponseEntity<?> response = exceptionHandler.handleEmailExists(exception);
+        ResponseEntity<ProblemDetail> response = exceptionHandler.handleTaskForgeException(
+                new EmailAlreadyExists("Email 'test@example.com' already exists"));
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-        assertThat(response.getBody()).isInstanceOf(Map.class);
-        
-        @SuppressWarnings("unchecked")
-        Map<String, String> body = (Map<String, String>) response.getBody();
-        assertThat(body).containsEntry("message", "Email 'test@example.com' already exists");
+        assertThat(response.getBody().getProperties()).containsEntry("message", "Email 'test@example.com' already exists");
     }
 
     /**
@@ -68,16 +61,12 @@ class GlobalExceptionHandlerTest {
      */
     @Test
     void handleInvalidCredentials_shouldReturnUnauthorizedWithMessage() {
-        InvalidCredentialsException exception = new InvalidCredentialsException("Invalid username or password");
-
-        ResponseEntity<?> response = exceptionHandler.handleInvalidCredentials(exception);
+        ResponseEntity<ProblemDetail> response = exceptionHandler.handleTaskForgeException(
+                new InvalidCredentialsException("Invalid username or password"));
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
-        assertThat(response.getBody()).isInstanceOf(Map.class);
-        
-        @SuppressWarnings("unchecked")
-        Map<String, String> body = (Map<String, String>) response.getBody();
-        assertThat(body).containsEntry("message", "Invalid username or password");
+        assertThat(response.getBody().getStatus()).isEqualTo(401);
+        assertThat(response.getBody().getProperties()).containsEntry("message", "Invalid username or password");
     }
 
     /**
@@ -86,16 +75,11 @@ class GlobalExceptionHandlerTest {
      */
     @Test
     void handleDuplicateUserStoryTitle_shouldReturnBadRequestWithMessage() {
-        DuplicateUserStoryTitleException exception = new DuplicateUserStoryTitleException("User story title 'Implement login' already exists");
-
-        ResponseEntity<?> response = exceptionHandler.handleDuplicateUserStoryTitle(exception);
+        ResponseEntity<ProblemDetail> response = exceptionHandler.handleTaskForgeException(
+                new DuplicateUserStoryTitleException("User story title 'Implement login' already exists"));
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-        assertThat(response.getBody()).isInstanceOf(Map.class);
-        
-        @SuppressWarnings("unchecked")
-        Map<String, String> body = (Map<String, String>) response.getBody();
-        assertThat(body).containsEntry("message", "User story title 'Implement login' already exists");
+        assertThat(response.getBody().getProperties()).containsEntry("message", "User story title 'Implement login' already exists");
     }
 
     /**
@@ -104,16 +88,11 @@ class GlobalExceptionHandlerTest {
      */
     @Test
     void handleDuplicateProjectName_shouldReturnBadRequestWithMessage() {
-        DuplicateProjectNameException exception = new DuplicateProjectNameException("Project name 'TaskForge' already exists");
-
-        ResponseEntity<?> response = exceptionHandler.handleDuplicateProjectName(exception);
+        ResponseEntity<ProblemDetail> response = exceptionHandler.handleTaskForgeException(
+                new DuplicateProjectNameException("Project name 'TaskForge' already exists"));
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-        assertThat(response.getBody()).isInstanceOf(Map.class);
-        
-        @SuppressWarnings("unchecked")
-        Map<String, String> body = (Map<String, String>) response.getBody();
-        assertThat(body).containsEntry("message", "Project name 'TaskForge' already exists");
+        assertThat(response.getBody().getProperties()).containsEntry("message", "Project name 'TaskForge' already exists");
     }
 
     /**
@@ -122,16 +101,11 @@ class GlobalExceptionHandlerTest {
      */
     @Test
     void handleProjectSuppression_shouldReturnForbiddenWithMessage() {
-        ProjectSuppressionException exception = new ProjectSuppressionException("Cannot delete project: you are not the owner");
-
-        ResponseEntity<?> response = exceptionHandler.handleProjectSuppression(exception);
+        ResponseEntity<ProblemDetail> response = exceptionHandler.handleTaskForgeException(
+                new ProjectSuppressionException("Cannot delete project: you are not the owner"));
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
-        assertThat(response.getBody()).isInstanceOf(Map.class);
-        
-        @SuppressWarnings("unchecked")
-        Map<String, String> body = (Map<String, String>) response.getBody();
-        assertThat(body).containsEntry("message", "Cannot delete project: you are not the owner");
+        assertThat(response.getBody().getProperties()).containsEntry("message", "Cannot delete project: you are not the owner");
     }
 
     /**
@@ -140,16 +114,46 @@ class GlobalExceptionHandlerTest {
      */
     @Test
     void handleUpdateProject_shouldReturnBadRequestWithMessage() {
-        UpdateProjectException exception = new UpdateProjectException("Cannot update project: invalid data");
-
-        ResponseEntity<?> response = exceptionHandler.handleUpdateProject(exception);
+        ResponseEntity<ProblemDetail> response = exceptionHandler.handleTaskForgeException(
+                new UpdateProjectException("Cannot update project: invalid data"));
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-        assertThat(response.getBody()).isInstanceOf(Map.class);
-        
-        @SuppressWarnings("unchecked")
-        Map<String, String> body = (Map<String, String>) response.getBody();
-        assertThat(body).containsEntry("message", "Cannot update project: invalid data");
+        assertThat(response.getBody().getProperties()).containsEntry("message", "Cannot update project: invalid data");
+    }
+
+    /**
+     * Vérifie que les exceptions génériques de chaque catégorie sont mappées vers leur statut.
+     */
+    @Test
+    void handleCategoryExceptions_shouldReturnTheirStatus() {
+        assertThat(exceptionHandler.handleTaskForgeException(new ResourceNotFoundException("Project not found"))
+                .getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(exceptionHandler.handleTaskForgeException(new ForbiddenOperationException("User is not a member of this project"))
+                .getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(exceptionHandler.handleTaskForgeException(new BusinessRuleException("Only PLANNED sprints can be started"))
+                .getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(exceptionHandler.handleTaskForgeException(new DuplicateResourceException("Une colonne avec ce statut existe déjà"))
+                .getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Vérifie que le type de problème est dérivé de la classe de l'exception.
+     */
+    @Test
+    void handleTaskForgeException_shouldSetProblemTypeFromClass() {
+        ResponseEntity<ProblemDetail> response = exceptionHandler.handleTaskForgeException(new TaskNotFoundException("Tâche non trouvée"));
+
+        assertThat(response.getBody().getType()).isEqualTo(URI.create("urn:taskforge:problem:task-not-found"));
+        assertThat(response.getBody().getTitle()).isEqualTo("Not Found");
+    }
+
+    /**
+     * Vérifie que les exceptions métier ne capturent pas de pile d'appels.
+     */
+    @Test
+    void taskForgeException_shouldNotCaptureStackTrace() {
+        assertThat(new ResourceNotFoundException("Project not found").getStackTrace()).isEmpty();
+        assertThat(new DuplicateSprintNameException("Sprint").getStackTrace()).isEmpty();
     }
 
     /**
@@ -157,15 +161,10 @@ class GlobalExceptionHandlerTest {
      */
     @Test
     void handleUsernameExists_shouldWorkWithEmptyMessage() {
-        UsernameAlreadyExists exception = new UsernameAlreadyExists("");
-
-        ResponseEntity<?> response = exceptionHandler.handleUsernameExists(exception);
+        ResponseEntity<ProblemDetail> response = exceptionHandler.handleTaskForgeException(new UsernameAlreadyExists(""));
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-        
-        @SuppressWarnings("unchecked")
-        Map<String, String> body = (Map<String, String>) response.getBody();
-        assertThat(body).containsEntry("message", "");
+        assertThat(response.getBody().getProperties()).containsEntry("message", "");
     }
 
     /**
@@ -174,38 +173,35 @@ class GlobalExceptionHandlerTest {
     @Test
     void handleInvalidCredentials_shouldHandleLongMessage() {
         String longMessage = "Invalid credentials: " + "a".repeat(500);
-        InvalidCredentialsException exception = new InvalidCredentialsException(longMessage);
 
-        ResponseEntity<?> response = exceptionHandler.handleInvalidCredentials(exception);
+        ResponseEntity<ProblemDetail> response = exceptionHandler.handleTaskForgeException(new InvalidCredentialsException(longMessage));
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
-        
-        @SuppressWarnings("unchecked")
-        Map<String, String> body = (Map<String, String>) response.getBody();
-        assertThat(body.get("message")).hasSize(longMessage.length());
+        assertThat((String) response.getBody().getProperties().get("message")).hasSize(longMessage.length());
+    }
+
+    /**
+     * Vérifie qu'une ResponseStatusException conserve son statut.
+     */
+    @Test
+    void handleResponseStatusException_shouldKeepDeclaredStatus() {
+        ResponseEntity<ProblemDetail> response = exceptionHandler.handleResponseStatusException(
+                new ResponseStatusException(HttpStatus.BAD_REQUEST, "Password must be at least 8 characters"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getProperties()).containsEntry("message", "Password must be at least 8 characters");
     }
 
     /**
-     * Vérifie que tous les gestionnaires d'exceptions retournent un corps de réponse
-     * structuré sous forme de Map (JSON).
+     * Vérifie qu'une RuntimeException non typée est traitée comme une erreur serveur,
+     * quel que soit son message.
      */
     @Test
-    void allHandlers_shouldReturnMapWithMessageKey() {
-        ResponseEntity<?> response1 = exceptionHandler.handleUsernameExists(new UsernameAlreadyExists("test"));
-        ResponseEntity<?> response2 = exceptionHandler.handleEmailExists(new EmailAlreadyExists("test"));
-        ResponseEntity<?> response3 = exceptionHandler.handleInvalidCredentials(new InvalidCredentialsException("test"));
-        ResponseEntity<?> response4 = exceptionHandler.handleDuplicateUserStoryTitle(new DuplicateUserStoryTitleException("test"));
-        ResponseEntity<?> response5 = exceptionHandler.handleDuplicateProjectName(new DuplicateProjectNameException("test"));
-        ResponseEntity<?> response6 = exceptionHandler.handleProjectSuppression(new ProjectSuppressionException("test"));
-        ResponseEntity<?> response7 = exceptionHandler.handleUpdateProject(new UpdateProjectException("test"));
+    void handleRuntimeException_shouldReturnInternalServerError() {
+        ResponseEntity<ProblemDetail> response = exceptionHandler.handleRuntimeException(new RuntimeException("Project not found"));
 
-        assertThat(response1.getBody()).isInstanceOf(Map.class);
-        assertThat(response2.getBody()).isInstanceOf(Map.class);
-        assertThat(response3.getBody()).isInstanceOf(Map.class);
-        assertThat(response4.getBody()).isInstanceOf(Map.class);
-        assertThat(response5.getBody()).isInstanceOf(Map.class);
-        assertThat(response6.getBody()).isInstanceOf(Map.class);
-        assertThat(response7.getBody()).isInstanceOf(Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(response.getBody().getProperties()).containsEntry("message", "Project not found");
     }
 
     /**
@@ -214,9 +210,9 @@ class GlobalExceptionHandlerTest {
      */
     @Test
     void differentExceptions_shouldReturnDifferentStatusCodes() {
-        ResponseEntity<?> badRequest = exceptionHandler.handleUsernameExists(new UsernameAlreadyExists("test"));
-        ResponseEntity<?> unauthorized = exceptionHandler.handleInvalidCredentials(new InvalidCredentialsException("test"));
-        ResponseEntity<?> forbidden = exceptionHandler.handleProjectSuppression(new ProjectSuppressionException("test"));
+        ResponseEntity<?> badRequest = exceptionHandler.handleTaskForgeException(new UsernameAlreadyExists("test"));
+        ResponseEntity<?> unauthorized = exceptionHandler.handleTaskForgeException(new InvalidCredentialsException("test"));
+        ResponseEntity<?> forbidden = exceptionHandler.handleTaskForgeException(new ProjectSuppressionException("test"));
 
         assertThat(badRequest.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         assertThat(unauthorized.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
@@ -225,4 +221,4 @@ class GlobalExceptionHandlerTest {
         assertThat(badRequest.getStatusCode()).isNotEqualTo(unauthorized.getStatusCode());
         assertThat(unauthorized.getStatusCode()).isNotEqualTo(forbidden.getStatusCode());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,103 @@
+package com.taskforge.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskforge.repositories.IdempotencyRecordRepository;
+
+/**
+ * Tests d'intégration du stockage des clés d'idempotence en base ({@code taskforge.idempotency.store=database}).
+ */
+@SpringBootTest(properties = "taskforge.idempotency.store=database")
+@ActiveProfiles("test")
+class DatabaseIdempotencyStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    @Autowired
+    private IdempotencyStore store;
+
+    @Autowired
+    private IdempotencyRecordRepository repository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final IdempotencyProperties properties = new IdempotencyProperties();
+
+    private final IdempotencyStore.Key key = new IdempotencyStore.Key("owner", "key-1");
+
+    @BeforeEach
+    void setup() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void store_shouldBeBackedByTheDatabase() {
+        assertThat(store).isInstanceOf(DatabaseIdempotencyStore.class);
+    }
+
+    @Test
+    void claim_shouldReplayCompletedResponseAndRejectOtherRequests() {
+        assertThat(store.claim(key, "fingerprint").outcome()).isEqualTo(IdempotencyStore.Outcome.ACQUIRED);
+        assertThat(store.claim(key, "fingerprint").outcome()).isEqualTo(IdempotencyStore.Outcome.IN_PROGRESS);
+
+        store.complete(key, new StoredResponse(201, "application/json", null,
+                "{\"id\":1}".getBytes(StandardCharsets.UTF_8)));
+
+        IdempotencyStore.Claim replay = store.claim(key, "fingerprint");
+        assertThat(replay.outcome()).isEqualTo(IdempotencyStore.Outcome.COMPLETED);
+        assertThat(replay.response().status()).isEqualTo(201);
+        assertThat(new String(replay.response().body(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}");
+        assertThat(store.claim(key, "other").outcome()).isEqualTo(IdempotencyStore.Outcome.MISMATCH);
+        assertThat(store.claim(new IdempotencyStore.Key("member", "key-1"), "other").outcome())
+                .isEqualTo(IdempotencyStore.Outcome.ACQUIRED);
+    }
+
+    @Test
+    void release_shouldLetTheNextAttemptExecute() {
+        store.claim(key, "fingerprint");
+        store.release(key);
+
+        assertThat(store.claim(key, "fingerprint").outcome()).isEqualTo(IdempotencyStore.Outcome.ACQUIRED);
+    }
+
+    @Test
+    void abandonedAndExpiredKeys_shouldBeClaimedAgain() {
+        store(NOW).claim(key, "fingerprint");
+
+        assertThat(store(NOW.plusSeconds(30)).claim(key, "fingerprint").outcome())
+                .isEqualTo(IdempotencyStore.Outcome.IN_PROGRESS);
+        assertThat(store(NOW.plus(Duration.ofMinutes(2))).claim(key, "fingerprint").outcome())
+                .isEqualTo(IdempotencyStore.Outcome.ACQUIRED);
+
+        store(NOW.plus(Duration.ofMinutes(2))).complete(key, new StoredResponse(200, null, null, new byte[0]));
+        assertThat(store(NOW.plus(Duration.ofDays(2))).claim(key, "other").outcome())
+                .isEqualTo(IdempotencyStore.Outcome.ACQUIRED);
+    }
+
+    @Test
+    void purge_shouldDeleteExpiredKeys() {
+        store(NOW).claim(key, "fingerprint");
+        store(NOW).claim(new IdempotencyStore.Key("owner", "key-2"), "fingerprint");
+
+        assertThat(((DatabaseIdempotencyStore) store(NOW.plus(Duration.ofDays(2)))).purge()).isEqualTo(2);
+        assertThat(repository.count()).isZero();
+    }
+
+    private IdempotencyStore store(Instant now) {
+        return new DatabaseIdempotencyStore(repository, transactionTemplate, properties,
+                Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
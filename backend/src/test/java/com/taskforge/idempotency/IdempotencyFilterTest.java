@@ -0,0 +1,225 @@
+package com.taskforge.idempotency;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskforge.dto.CreateProjectRequest;
+import com.taskforge.dto.CreateSprintRequest;
+import com.taskforge.dto.RegisterRequest;
+import com.taskforge.dto.UserDto;
+import com.taskforge.models.Sprint;
+
+/**
+ * Tests d'intégration de l'en-tête {@code Idempotency-Key} sur les écritures, avec le stockage en mémoire.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IdempotencyProperties properties;
+
+    private Long projectId;
+    private Long userStoryId;
+
+    @BeforeEach
+    void setup() throws Exception {
+        // Nettoyer la base de données
+        jdbcTemplate.execute("DELETE FROM board_entries");
+        jdbcTemplate.execute("DELETE FROM tasks");
+        jdbcTemplate.execute("DELETE FROM user_story_assignees");
+        jdbcTemplate.execute("DELETE FROM user_stories");
+        jdbcTemplate.execute("DELETE FROM sprints");
+        jdbcTemplate.execute("DELETE FROM versions");
+        jdbcTemplate.execute("DELETE FROM kanban_columns");
+        jdbcTemplate.execute("DELETE FROM project_members");
+        jdbcTemplate.execute("DELETE FROM projects");
+        jdbcTemplate.execute("DELETE FROM users");
+
+        register("owner");
+        register("member");
+
+        CreateProjectRequest projectRequest = new CreateProjectRequest();
+        projectRequest.setName("Idempotency Project");
+        projectRequest.setDescription("Project for testing idempotency keys");
+        projectRequest.setUser(UserDto.builder().username("owner").build());
+        projectRequest.setMembers(List.of(UserDto.builder().username("member").build()));
+
+        String projectResponse = mockMvc.perform(post("/api/projects")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(projectRequest)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        projectId = objectMapper.readTree(projectResponse).get("id").asLong();
+
+        String storyResponse = mockMvc.perform(post("/api/user-stories")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("title", "Story", "projectId", projectId,
+                        "priority", "MEDIUM", "status", "TODO"))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        userStoryId = objectMapper.readTree(storyResponse).get("id").asLong();
+    }
+
+    @Test
+    void retriedCreateTask_shouldReplayFirstResponseWithoutCreatingTwice() throws Exception {
+        String key = "create-task-" + System.nanoTime();
+
+        String first = createTask("owner", key, "Tâche réessayée")
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        createTask("owner", key, "Tâche réessayée")
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED, "true"))
+                .andExpect(content().json(first, true));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE user_story_id = ?",
+                Integer.class, userStoryId)).isEqualTo(1);
+    }
+
+    @Test
+    void retriedCreateTask_withOversizedResponse_shouldReplayStatusWithoutCreatingTwice() throws Exception {
+        String key = "oversized-" + System.nanoTime();
+        int maxResponseBytes = properties.getMaxResponseBytes();
+        properties.setMaxResponseBytes(1);
+        try {
+            createTask("owner", key, "Tâche volumineuse")
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.title").value("Tâche volumineuse"));
+
+            createTask("owner", key, "Tâche volumineuse")
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string(IdempotencyFilter.REPLAYED, "true"))
+                    .andExpect(content().string(""));
+        } finally {
+            properties.setMaxResponseBytes(maxResponseBytes);
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE user_story_id = ?",
+                Integer.class, userStoryId)).isEqualTo(1);
+    }
+
+    @Test
+    void retriedSprintStart_shouldReplaySuccessInsteadOfBusinessError() throws Exception {
+        CreateSprintRequest sprintRequest = new CreateSprintRequest();
+        sprintRequest.setName("Sprint 1");
+        sprintRequest.setStartDate(LocalDate.now());
+        sprintRequest.setEndDate(LocalDate.now().plusWeeks(2));
+        sprintRequest.setStatus(Sprint.Status.PLANNED);
+        sprintRequest.setProjectId(projectId);
+        String sprintResponse = mockMvc.perform(post("/api/sprints")
+                .with(user("owner"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(sprintRequest)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        long sprintId = objectMapper.readTree(sprintResponse).get("id").asLong();
+        String key = "start-sprint-" + System.nanoTime();
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/sprints/" + sprintId + "/start")
+                    .with(user("owner"))
+                    .header(IdempotencyFilter.IDEMPOTENCY_KEY, key))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("ACTIVE"));
+        }
+
+        // Sans clé, la même requête est exécutée de nouveau et refusée
+        mockMvc.perform(post("/api/sprints/" + sprintId + "/start").with(user("owner")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void keyReusedForAnotherRequest_shouldBeRejected() throws Exception {
+        String key = "reused-" + System.nanoTime();
+
+        createTask("owner", key, "Première tâche").andExpect(status().isCreated());
+        createTask("owner", key, "Autre tâche")
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").exists());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE user_story_id = ?",
+                Integer.class, userStoryId)).isEqualTo(1);
+    }
+
+    @Test
+    void sameKeyFromAnotherUser_shouldBeExecutedSeparately() throws Exception {
+        String key = "shared-" + System.nanoTime();
+
+        createTask("owner", key, "Tâche du propriétaire").andExpect(status().isCreated());
+        createTask("member", key, "Tâche du membre")
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE user_story_id = ?",
+                Integer.class, userStoryId)).isEqualTo(2);
+    }
+
+    @Test
+    void tooLongKey_shouldBeRejected() throws Exception {
+        createTask("owner", "k".repeat(IdempotencyFilter.MAX_KEY_LENGTH + 1), "Tâche")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").exists());
+    }
+
+    private ResultActions createTask(String username, String key, String title) throws Exception {
+        return mockMvc.perform(post("/api/tasks")
+                .with(user(username))
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("title", title, "userStoryId", userStoryId,
+                        "priority", "MEDIUM", "status", "TODO"))));
+    }
+
+    private void register(String username) throws Exception {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername(username);
+        request.setEmail(username + "@example.com");
+        request.setPassword("password");
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+}
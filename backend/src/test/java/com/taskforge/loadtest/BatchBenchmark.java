@@ -0,0 +1,200 @@
+package com.taskforge.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compare l'ouverture d'un projet par le frontend (projet, User Stories, colonnes, sprints, backlog, versions)
+ * faite en appels séparés, l'un après l'autre comme un client qui attend chaque réponse, et en un seul lot
+ * {@code POST /api/batch}. Chaque utilisateur virtuel alterne les deux variantes sur le même projet ; le rapport
+ * donne la latence d'une ouverture complète dans chaque variante.
+ *
+ * <p>Lancement (instance démarrée au préalable avec le profil {@code seed}) :
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.taskforge.loadtest.BatchBenchmark \
+ *     -Dloadtest.users=20 -Dloadtest.duration=30
+ * </pre>
+ */
+public class BatchBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String SEPARATE = "ouverture d'un projet : appels séparés";
+    private static final String BATCHED = "ouverture d'un projet : un lot";
+
+    private final String baseUrl;
+    private final String userPrefix;
+    private final String password;
+    private final int userPool;
+    private final HttpClient client;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private volatile boolean measuring;
+
+    public BatchBenchmark(String baseUrl, String userPrefix, String password, int userPool) {
+        this.baseUrl = baseUrl;
+        this.userPrefix = userPrefix;
+        this.password = password;
+        this.userPool = userPool;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+        int virtualUsers = Integer.getInteger("loadtest.users", 20);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup", 10);
+        int durationSeconds = Integer.getInteger("loadtest.duration", 30);
+        String prefix = System.getProperty("loadtest.userPrefix", "load");
+        String password = System.getProperty("loadtest.password", "load_password");
+        int userPool = Integer.getInteger("loadtest.userPool", 500);
+
+        BatchBenchmark benchmark = new BatchBenchmark(baseUrl, prefix, password, userPool);
+        System.out.printf("Lots : %d utilisateurs virtuels, %ds de chauffe, %ds de mesure contre %s%n",
+                virtualUsers, warmupSeconds, durationSeconds, baseUrl);
+        System.out.print(benchmark.run(virtualUsers, warmupSeconds, durationSeconds));
+    }
+
+    /**
+     * Exécute la campagne : une phase de chauffe non mesurée puis une phase mesurée.
+     *
+     * @return Le rapport de latence des deux variantes.
+     */
+    public String run(int virtualUsers, int warmupSeconds, int durationSeconds) throws InterruptedException {
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < virtualUsers; i++) {
+                final int userIndex = i % userPool;
+                executor.submit(() -> {
+                    String token = login(userPrefix + "_user_" + userIndex);
+                    Long projectId = token == null ? null : firstProject(token);
+                    if (projectId == null) {
+                        return;
+                    }
+                    List<String> paths = projectPaths(projectId);
+                    String batch = batchBody(paths);
+                    while (System.nanoTime() < end) {
+                        separate(token, paths);
+                        batched(token, batch);
+                    }
+                });
+            }
+            long sleepMillis = TimeUnit.NANOSECONDS.toMillis(warmupEnd - System.nanoTime());
+            Thread.sleep(Math.max(0, sleepMillis));
+            measuring = true;
+        }
+        return recorder.report(durationSeconds);
+    }
+
+    private static List<String> projectPaths(long projectId) {
+        return List.of(
+                "/api/projects/" + projectId,
+                "/api/user-stories/project/" + projectId,
+                "/api/kanban-columns/project/" + projectId,
+                "/api/sprints/project/" + projectId,
+                "/api/sprints/project/" + projectId + "/backlog",
+                "/api/versions/project/" + projectId);
+    }
+
+    private static String batchBody(List<String> paths) {
+        List<Map<String, String>> operations = new ArrayList<>();
+        paths.forEach(path -> operations.add(Map.of("method", "GET", "path", path)));
+        try {
+            return MAPPER.writeValueAsString(Map.of("atomic", false, "operations", operations));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void separate(String token, List<String> paths) {
+        long start = System.nanoTime();
+        boolean success = true;
+        for (String path : paths) {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build());
+            success &= response != null && response.statusCode() / 100 == 2;
+        }
+        record(SEPARATE, start, success);
+    }
+
+    private void batched(String token, String body) {
+        long start = System.nanoTime();
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/batch"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+        boolean success = response != null && response.statusCode() / 100 == 2;
+        if (success) {
+            try {
+                for (JsonNode result : MAPPER.readTree(response.body()).get("results")) {
+                    success &= result.get("status").asInt() / 100 == 2;
+                }
+            } catch (Exception e) {
+                success = false;
+            }
+        }
+        record(BATCHED, start, success);
+    }
+
+    private void record(String variant, long start, boolean success) {
+        if (measuring) {
+            recorder.record(variant, System.nanoTime() - start, success);
+        }
+    }
+
+    private String login(String username) {
+        try {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            MAPPER.writeValueAsString(Map.of("username", username, "password", password))))
+                    .build());
+            return response == null || response.statusCode() != 200 ? null
+                    : MAPPER.readTree(response.body()).get("token").asText();
+        } catch (Exception e) {
+            System.err.println("Connexion impossible pour " + username + " : " + e.getMessage());
+            return null;
+        }
+    }
+
+    private Long firstProject(String token) {
+        try {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/projects/myprojects"))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build());
+            JsonNode projects = response == null ? null : MAPPER.readTree(response.body());
+            return projects == null || projects.isEmpty() ? null : projects.get(0).get("id").asLong();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
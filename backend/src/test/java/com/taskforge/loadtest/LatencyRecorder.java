@@ -0,0 +1,86 @@
+package com.taskforge.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Enregistre les latences par endpoint et calcule le débit et les percentiles en fin de campagne.
+ * Les échantillons sont conservés en totalité : les volumes d'une campagne locale restent modestes
+ * et cela évite l'approximation d'un histogramme.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, EndpointSamples> samples = new ConcurrentHashMap<>();
+
+    /**
+     * Enregistre un appel.
+     *
+     * @param endpoint     Le gabarit de l'endpoint (ex. "GET /api/user-stories/project/{id}").
+     * @param latencyNanos La durée de l'appel en nanosecondes.
+     * @param success      true si le serveur a répondu avec un statut 2xx.
+     */
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        samples.computeIfAbsent(endpoint, key -> new EndpointSamples()).add(latencyNanos, success);
+    }
+
+    /**
+     * Construit le rapport texte de la campagne.
+     *
+     * @param elapsedSeconds La durée de la phase mesurée, en secondes.
+     * @return Un tableau lisible avec le débit et les percentiles de chaque endpoint.
+     */
+    public String report(double elapsedSeconds) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-48s %8s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requêtes", "Erreurs", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        long totalCount = 0;
+        long totalErrors = 0;
+        for (Map.Entry<String, EndpointSamples> entry : new TreeMap<>(samples).entrySet()) {
+            long[] latencies = entry.getValue().snapshot();
+            Arrays.sort(latencies);
+            long errors = entry.getValue().errors();
+            totalCount += latencies.length;
+            totalErrors += errors;
+            out.append(String.format("%-48s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), latencies.length, errors, latencies.length / elapsedSeconds,
+                    percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+                    latencies.length == 0 ? 0.0 : latencies[latencies.length - 1] / 1_000_000.0));
+        }
+        out.append(String.format("%-48s %8d %7d %9.1f%n", "TOTAL", totalCount, totalErrors, totalCount / elapsedSeconds));
+        return out.toString();
+    }
+
+    static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000.0;
+    }
+
+    private static final class EndpointSamples {
+        private long[] values = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long latencyNanos, boolean success) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized long[] snapshot() {
+            return Arrays.copyOf(values, size);
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.taskforge.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Harnais de charge HTTP rejouant un mélange d'appels réaliste contre une instance locale.
+ * Chaque utilisateur virtuel tourne sur un thread virtuel : il se connecte avec un compte généré
+ * par le profil {@code seed}, choisit un de ses projets puis enchaîne les appels selon des poids
+ * proches du trafic observé (lectures de tableau majoritaires, quelques écritures).
+ *
+ * <p>Lancement (instance démarrée au préalable avec le profil {@code seed}) :
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.taskforge.loadtest.LoadTestDriver \
+ *     -Dloadtest.users=100 -Dloadtest.duration=60
+ * </pre>
+ */
+public class LoadTestDriver {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String baseUrl;
+    private final String userPrefix;
+    private final String password;
+    private final int userPool;
+    private final HttpClient client;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final List<WeightedOperation> mix = new ArrayList<>();
+    private volatile boolean measuring;
+
+    public LoadTestDriver(String baseUrl, String userPrefix, String password, int userPool) {
+        this.baseUrl = baseUrl;
+        this.userPrefix = userPrefix;
+        this.password = password;
+        this.userPool = userPool;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        mix.add(new WeightedOperation(25, "GET /api/user-stories/project/{id}", session ->
+                session.refreshStories(get(session, "/api/user-stories/project/" + session.projectId, "GET /api/user-stories/project/{id}"))));
+        mix.add(new WeightedOperation(15, "GET /api/kanban-columns/project/{id}", session ->
+                get(session, "/api/kanban-columns/project/" + session.projectId, "GET /api/kanban-columns/project/{id}")));
+        mix.add(new WeightedOperation(15, "GET /api/tasks/user-story/{id}", session -> {
+            Long storyId = session.randomStory();
+            if (storyId != null) {
+                get(session, "/api/tasks/user-story/" + storyId, "GET /api/tasks/user-story/{id}");
+            }
+        }));
+        mix.add(new WeightedOperation(10, "GET /api/sprints/project/{id}", session ->
+                get(session, "/api/sprints/project/" + session.projectId, "GET /api/sprints/project/{id}")));
+        mix.add(new WeightedOperation(8, "GET /api/sprints/project/{id}/backlog", session ->
+                get(session, "/api/sprints/project/" + session.projectId + "/backlog", "GET /api/sprints/project/{id}/backlog")));
+        mix.add(new WeightedOperation(5, "GET /api/versions/project/{id}", session ->
+                get(session, "/api/versions/project/" + session.projectId, "GET /api/versions/project/{id}")));
+        mix.add(new WeightedOperation(5, "GET /api/projects/{id}", session ->
+                get(session, "/api/projects/" + session.projectId, "GET /api/projects/{id}")));
+        mix.add(new WeightedOperation(5, "GET /api/projects/myprojects", session ->
+                get(session, "/api/projects/myprojects", "GET /api/projects/myprojects")));
+        mix.add(new WeightedOperation(8, "PUT /api/user-stories/{id}/status", session -> {
+            Long storyId = session.randomStory();
+            if (storyId != null) {
+                String status = new String[] {"TODO", "IN_PROGRESS", "DONE"}[ThreadLocalRandom.current().nextInt(3)];
+                send(session, "PUT", "/api/user-stories/" + storyId + "/status",
+                        Map.of("status", status), "PUT /api/user-stories/{id}/status");
+            }
+        }));
+        mix.add(new WeightedOperation(4, "POST /api/tasks", session -> {
+            Long storyId = session.randomStory();
+            if (storyId != null) {
+                send(session, "POST", "/api/tasks", Map.of(
+                        "title", "lt-" + UUID.randomUUID(),
+                        "description", "Tâche créée par le harnais de charge",
+                        "priority", "MEDIUM",
+                        "status", "TODO",
+                        "userStoryId", storyId), "POST /api/tasks");
+            }
+        }));
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+        int virtualUsers = Integer.getInteger("loadtest.users", 50);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup", 10);
+        int durationSeconds = Integer.getInteger("loadtest.duration", 60);
+        String prefix = System.getProperty("loadtest.userPrefix", "load");
+        String password = System.getProperty("loadtest.password", "load_password");
+        int userPool = Integer.getInteger("loadtest.userPool", 500);
+
+        LoadTestDriver driver = new LoadTestDriver(baseUrl, prefix, password, userPool);
+        System.out.printf("Charge : %d utilisateurs virtuels, %ds de chauffe, %ds de mesure contre %s%n",
+                virtualUsers, warmupSeconds, durationSeconds, baseUrl);
+        System.out.print(driver.run(virtualUsers, warmupSeconds, durationSeconds));
+    }
+
+    /**
+     * Exécute la campagne : une phase de chauffe non mesurée puis une phase mesurée.
+     *
+     * @return Le rapport de débit et de latence par endpoint.
+     */
+    public String run(int virtualUsers, int warmupSeconds, int durationSeconds) throws InterruptedException {
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(durationSeconds);
+        int totalWeight = mix.stream().mapToInt(WeightedOperation::weight).sum();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < virtualUsers; i++) {
+                final int userIndex = i % userPool;
+                executor.submit(() -> {
+                    Session session = login(userPrefix + "_user_" + userIndex);
+                    if (session == null) {
+                        return;
+                    }
+                    while (System.nanoTime() < end) {
+                        pick(totalWeight).action().accept(session);
+                    }
+                });
+            }
+            long sleepMillis = TimeUnit.NANOSECONDS.toMillis(warmupEnd - System.nanoTime());
+            Thread.sleep(Math.max(0, sleepMillis));
+            measuring = true;
+        }
+        return recorder.report(durationSeconds);
+    }
+
+    private WeightedOperation pick(int totalWeight) {
+        int draw = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (WeightedOperation operation : mix) {
+            draw -= operation.weight();
+            if (draw < 0) {
+                return operation;
+            }
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    private Session login(String username) {
+        try {
+            JsonNode auth = MAPPER.readTree(execute(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            MAPPER.writeValueAsString(Map.of("username", username, "password", password))))
+                    .build(), "POST /api/auth/login").body());
+            Session session = new Session(auth.get("token").asText());
+            JsonNode projects = get(session, "/api/projects/myprojects", "GET /api/projects/myprojects");
+            if (projects == null || projects.isEmpty()) {
+                return null;
+            }
+            session.projectId = projects.get(ThreadLocalRandom.current().nextInt(projects.size())).get("id").asLong();
+            session.refreshStories(get(session, "/api/user-stories/project/" + session.projectId, "GET /api/user-stories/project/{id}"));
+            return session;
+        } catch (Exception e) {
+            System.err.println("Connexion impossible pour " + username + " : " + e.getMessage());
+            return null;
+        }
+    }
+
+    private JsonNode get(Session session, String path, String endpoint) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + session.token)
+                .GET()
+                .build();
+        return parse(execute(request, endpoint));
+    }
+
+    private JsonNode send(Session session, String method, String path, Object body, String endpoint) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", "Bearer " + session.token)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body)))
+                    .build();
+            return parse(execute(request, endpoint));
+        } catch (Exception e) {
+            recorder.record(endpoint, 0, false);
+            return null;
+        }
+    }
+
+    private HttpResponse<String> execute(HttpRequest request, String endpoint) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (measuring) {
+                recorder.record(endpoint, System.nanoTime() - start, response.statusCode() / 100 == 2);
+            }
+            return response;
+        } catch (Exception e) {
+            if (measuring) {
+                recorder.record(endpoint, System.nanoTime() - start, false);
+            }
+            return null;
+        }
+    }
+
+    private static JsonNode parse(HttpResponse<String> response) {
+        if (response == null || response.statusCode() / 100 != 2 || response.body().isEmpty()) {
+            return null;
+        }
+        try {
+            return MAPPER.readTree(response.body());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private record WeightedOperation(int weight, String name, java.util.function.Consumer<Session> action) {
+    }
+
+    /**
+     * État d'un utilisateur virtuel : son jeton, le projet courant et les User Stories connues.
+     */
+    private static final class Session {
+        private final String token;
+        private long projectId;
+        private List<Long> storyIds = List.of();
+
+        Session(String token) {
+            this.token = token;
+        }
+
+        void refreshStories(JsonNode stories) {
+            if (stories == null || !stories.isArray()) {
+                return;
+            }
+            List<Long> ids = new ArrayList<>(stories.size());
+            stories.forEach(story -> ids.add(story.get("id").asLong()));
+            storyIds = ids;
+        }
+
+        Long randomStory() {
+            List<Long> ids = storyIds;
+            return ids.isEmpty() ? null : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.taskforge.monitoring;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskforge.dto.CreateProjectRequest;
+import com.taskforge.dto.RegisterRequest;
+import com.taskforge.dto.UserDto;
+
+/**
+ * Tests d'intégration de l'instrumentation SQL par requête HTTP.
+ * Vérifie la publication des en-têtes de mesure et le signalement des dépassements de budget.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+class SqlMetricsFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SqlMetricsProperties properties;
+
+    private Map<String, Integer> originalBudgets;
+
+    @BeforeEach
+    void setup() throws Exception {
+        originalBudgets = Map.copyOf(properties.getBudgets());
+        jdbcTemplate.execute("DELETE FROM tasks");
+        jdbcTemplate.execute("DELETE FROM user_story_assignees");
+        jdbcTemplate.execute("DELETE FROM user_stories");
+        jdbcTemplate.execute("DELETE FROM sprints");
+        jdbcTemplate.execute("DELETE FROM kanban_columns");
+        jdbcTemplate.execute("DELETE FROM project_members");
+        jdbcTemplate.execute("DELETE FROM projects");
+        jdbcTemplate.execute("DELETE FROM users");
+
+        RegisterRequest register = new RegisterRequest();
+        register.setUsername("sqluser");
+        register.setEmail("sqluser@example.com");
+        register.setPassword("password");
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(register)))
+                .andExpect(status().isOk());
+
+        CreateProjectRequest project = new CreateProjectRequest();
+        project.setName("SQL Project");
+        project.setDescription("Instrumentation");
+        project.setUser(UserDto.builder().username("sqluser").build());
+        project.setMembers(List.of());
+        mockMvc.perform(post("/api/projects")
+                .with(user("sqluser"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(project)))
+                .andExpect(status().isOk());
+    }
+
+    @AfterEach
+    void restoreBudgets() {
+        properties.getBudgets().clear();
+        properties.getBudgets().putAll(originalBudgets);
+    }
+
+    /**
+     * Vérifie que le nombre de requêtes SQL et leur durée sont exposés dans les en-têtes de réponse.
+     */
+    @Test
+    void request_shouldExposeSqlCountAndTimeHeaders() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/projects/myprojects").with(user("sqluser")))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlMetricsFilter.SQL_TIME_HEADER))
+                .andExpect(header().doesNotExist(SqlMetricsFilter.SQL_BUDGET_EXCEEDED_HEADER))
+                .andReturn();
+
+        assertThat(Integer.parseInt(result.getResponse().getHeader(SqlMetricsFilter.SQL_COUNT_HEADER))).isPositive();
+        assertThat(result.getResponse().getContentAsString()).contains("SQL Project");
+    }
+
+    /**
+     * Vérifie qu'un endpoint qui dépasse son budget est signalé, le budget étant indexé par gabarit de route.
+     */
+    @Test
+    void request_shouldFlagBudgetOverrun() throws Exception {
+        properties.getBudgets().put("GET /api/projects/myprojects", 0);
+
+        mockMvc.perform(get("/api/projects/myprojects").with(user("sqluser")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlMetricsFilter.SQL_BUDGET_EXCEEDED_HEADER, "0"));
+    }
+
+    /**
+     * Vérifie que les compteurs sont propres à chaque requête HTTP.
+     */
+    @Test
+    void request_shouldCountStatementsPerRequest() throws Exception {
+        // La liste des projets est mise en cache : la première lecture la calcule
+        mockMvc.perform(get("/api/projects/myprojects").with(user("sqluser")));
+        String first = mockMvc.perform(get("/api/projects/myprojects").with(user("sqluser")))
+                .andReturn().getResponse().getHeader(SqlMetricsFilter.SQL_COUNT_HEADER);
+        String second = mockMvc.perform(get("/api/projects/myprojects").with(user("sqluser")))
+                .andReturn().getResponse().getHeader(SqlMetricsFilter.SQL_COUNT_HEADER);
+
+        assertThat(second).isEqualTo(first);
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -117,6 +118,25 @@ class JwtFilterTest {
 
     }
 
+    /**
+     * Vérifie qu'un token portant l'identifiant de l'utilisateur authentifie sans charger l'utilisateur en base.
+     */
+    @Test
+    void shouldAuthenticateFromClaims_WhenTokenCarriesUserId() throws ServletException, IOException {
+        String token = "valid.jwt.token";
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser(7L, "testUser", Map.of());
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+        when(jwtService.extractAuthenticatedUser(token)).thenReturn(authenticatedUser);
+
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isSameAs(authenticatedUser);
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("testUser");
+        verifyNoInteractions(userDetailsService);
+    }
+
     /**
      * Vérifie que le filtre ne tente pas de ré-authentifier si l'utilisateur est déjà authentifié dans le contexte.
      */
@@ -7,8 +7,17 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.taskforge.dto.ProjectSummary;
+import com.taskforge.repositories.ProjectRepository;
+import com.taskforge.security.AuthenticatedUser;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 /**
  * Tests unitaires pour le service utilitaire JWT (JwtService).
@@ -72,4 +81,72 @@ class JwtServiceTest {
         assertThat(expiration).isBetween(expectedExpiration - 1000, expectedExpiration + 1000);
     }
 
-}
\ No newline at end of file
+    /**
+     * Vérifie que le token d'un utilisateur enregistré porte son identifiant et ses projets avec son rôle,
+     * et que ces appartenances sont écartées dès que son tampon de version change.
+     */
+    @Test
+    void extractAuthenticatedUser_ShouldCarryIdAndMemberships_UntilMembershipVersionChanges() {
+        ProjectRepository projectRepository = mock(ProjectRepository.class);
+        MembershipVersions membershipVersions = new MembershipVersions();
+        ReflectionTestUtils.setField(jwtService, "projectRepository", projectRepository);
+        ReflectionTestUtils.setField(jwtService, "membershipVersions", membershipVersions);
+        ReflectionTestUtils.setField(jwtService, "membershipClaimsEnabled", true);
+        when(projectRepository.findIdsByMemberId(7L)).thenReturn(List.of(1L, 2L));
+        when(projectRepository.findIdsByOwnerId(7L)).thenReturn(List.of(1L));
+
+        com.taskforge.models.User user = com.taskforge.models.User.builder()
+                .id(7L).username("testuser").password("password").build();
+        String token = jwtService.generateToken(user);
+
+        AuthenticatedUser authenticated = jwtService.extractAuthenticatedUser(token);
+        assertThat(authenticated.getId()).isEqualTo(7L);
+        assertThat(authenticated.getName()).isEqualTo("testuser");
+        assertThat(authenticated.getProjects())
+                .containsEntry(1L, ProjectSummary.Role.OWNER)
+                .containsEntry(2L, ProjectSummary.Role.MEMBER)
+                .hasSize(2);
+
+        membershipVersions.bump(List.of(7L));
+
+        AuthenticatedUser stale = jwtService.extractAuthenticatedUser(token);
+        assertThat(stale.getId()).isEqualTo(7L);
+        assertThat(stale.hasProjectClaims()).isFalse();
+        assertThat(stale.isMemberOf(1L)).isFalse();
+    }
+
+    /**
+     * Vérifie que, claims d'appartenance désactivés (par défaut), le token ne porte que l'identifiant
+     * et qu'une liste de projets présente dans un token n'est pas crue.
+     */
+    @Test
+    void extractAuthenticatedUser_ShouldIgnoreMemberships_ByDefault() {
+        ProjectRepository projectRepository = mock(ProjectRepository.class);
+        MembershipVersions membershipVersions = new MembershipVersions();
+        ReflectionTestUtils.setField(jwtService, "projectRepository", projectRepository);
+        ReflectionTestUtils.setField(jwtService, "membershipVersions", membershipVersions);
+        com.taskforge.models.User user = com.taskforge.models.User.builder()
+                .id(7L).username("testuser").password("password").build();
+
+        AuthenticatedUser authenticated = jwtService.extractAuthenticatedUser(jwtService.generateToken(user));
+        assertThat(authenticated.getId()).isEqualTo(7L);
+        assertThat(authenticated.hasProjectClaims()).isFalse();
+        verifyNoInteractions(projectRepository);
+
+        // Token émis par une instance où les claims sont encore activés
+        String issuedElsewhere = jwtService.generateToken(Map.of(JwtService.CLAIM_USER_ID, 7L,
+                JwtService.CLAIM_MEMBERSHIP_VERSION, membershipVersions.current(7L),
+                JwtService.CLAIM_PROJECTS, Map.of("1", "O")), user);
+        assertThat(jwtService.extractAuthenticatedUser(issuedElsewhere).hasProjectClaims()).isFalse();
+    }
+
+    /**
+     * Vérifie qu'un token sans identifiant d'utilisateur ne produit pas de principal.
+     */
+    @Test
+    void extractAuthenticatedUser_ShouldReturnNull_WhenTokenHasNoUserId() {
+        String token = jwtService.generateToken(userDetails);
+
+        assertThat(jwtService.extractAuthenticatedUser(token)).isNull();
+    }
+}
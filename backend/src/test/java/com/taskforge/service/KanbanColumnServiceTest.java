@@ -1,5 +1,9 @@
 package com.taskforge.service;
 
+import java.sql.SQLException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -34,6 +38,9 @@ class KanbanColumnServiceTest {
     @Mock
     private ProjectService projectService;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private KanbanColumnService kanbanColumnService;
     
@@ -78,8 +85,7 @@ class KanbanColumnServiceTest {
     void createKanbanColumn_shouldCreateSuccessfully() {
         // Given
         when(projectService.getProjectById(1L, "testuser")).thenReturn(testProject);
-        when(kanbanColumnRepository.existsByStatusAndProjectId("IN_PROGRESS", 1L)).thenReturn(false);
-        when(kanbanColumnRepository.save(any(KanbanColumn.class))).thenReturn(testColumn);
+        when(kanbanColumnRepository.saveAndFlush(any(KanbanColumn.class))).thenReturn(testColumn);
         
         // When
         KanbanColumn result = kanbanColumnService.createKanbanColumn(createRequest, "testuser");
@@ -87,15 +93,14 @@ class KanbanColumnServiceTest {
         // Then
         assertNotNull(result);
         verify(projectService).getProjectById(1L, "testuser");
-        verify(kanbanColumnRepository).existsByStatusAndProjectId("IN_PROGRESS", 1L);
-        verify(kanbanColumnRepository).save(any(KanbanColumn.class));
+        verify(kanbanColumnRepository).saveAndFlush(any(KanbanColumn.class));
     }
     
     @Test
     void createKanbanColumn_withDuplicateStatus_shouldThrowException() {
         // Given
         when(projectService.getProjectById(1L, "testuser")).thenReturn(testProject);
-        when(kanbanColumnRepository.existsByStatusAndProjectId("IN_PROGRESS", 1L)).thenReturn(true);
+        when(kanbanColumnRepository.saveAndFlush(any(KanbanColumn.class))).thenThrow(uniqueViolation("uk_status_project"));
         
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -103,7 +108,6 @@ class KanbanColumnServiceTest {
         });
         
         assertTrue(exception.getMessage().contains("existe déjà"));
-        verify(kanbanColumnRepository, times(0)).save(any(KanbanColumn.class));
     }
     
     @Test
@@ -111,7 +115,6 @@ class KanbanColumnServiceTest {
         // Given
         createRequest.setStatus("in progress"); // Avec espaces et minuscules
         when(projectService.getProjectById(1L, "testuser")).thenReturn(testProject);
-        when(kanbanColumnRepository.existsByStatusAndProjectId("in progress", 1L)).thenReturn(false);
         
         KanbanColumn savedColumn = KanbanColumn.builder()
                 .id(1L)
@@ -122,7 +125,7 @@ class KanbanColumnServiceTest {
                 .isDefault(false)
                 .build();
         
-        when(kanbanColumnRepository.save(any(KanbanColumn.class))).thenReturn(savedColumn);
+        when(kanbanColumnRepository.saveAndFlush(any(KanbanColumn.class))).thenReturn(savedColumn);
         
         // When
         KanbanColumn result = kanbanColumnService.createKanbanColumn(createRequest, "testuser");
@@ -164,8 +167,7 @@ class KanbanColumnServiceTest {
         
         List<KanbanColumn> columns = Arrays.asList(column1, column2, column3);
         
-        when(projectService.getProjectById(1L, "testuser")).thenReturn(testProject);
-        when(kanbanColumnRepository.findByProjectIdOrderByOrderAsc(1L)).thenReturn(columns);
+        when(kanbanColumnRepository.findByProjectIdOrderByRank(1L)).thenReturn(columns);
         
         // When
         List<KanbanColumn> result = kanbanColumnService.getColumnsByProject(1L, "testuser");
@@ -176,8 +178,8 @@ class KanbanColumnServiceTest {
         assertEquals("TODO", result.get(0).getStatus());
         assertEquals("IN_PROGRESS", result.get(1).getStatus());
         assertEquals("DONE", result.get(2).getStatus());
-        verify(projectService).getProjectById(1L, "testuser");
-        verify(kanbanColumnRepository).findByProjectIdOrderByOrderAsc(1L);
+        verify(projectService).checkMembership(1L, "testuser");
+        verify(kanbanColumnRepository).findByProjectIdOrderByRank(1L);
     }
     
     @Test
@@ -186,7 +188,6 @@ class KanbanColumnServiceTest {
         createRequest.setName("Nouveau nom");
         
         when(kanbanColumnRepository.findById(1L)).thenReturn(Optional.of(testColumn));
-        when(projectService.getProjectById(1L, "testuser")).thenReturn(testProject);
         when(kanbanColumnRepository.save(any(KanbanColumn.class))).thenReturn(testColumn);
         
         // When
@@ -195,7 +196,7 @@ class KanbanColumnServiceTest {
         // Then
         assertNotNull(result);
         verify(kanbanColumnRepository).findById(1L);
-        verify(projectService).getProjectById(1L, "testuser");
+        verify(projectService).checkMembership(1L, "testuser");
         verify(kanbanColumnRepository).save(any(KanbanColumn.class));
     }
     
@@ -220,7 +221,6 @@ class KanbanColumnServiceTest {
         createRequest.setOrder(5);
         
         when(kanbanColumnRepository.findById(1L)).thenReturn(Optional.of(testColumn));
-        when(projectService.getProjectById(1L, "testuser")).thenReturn(testProject);
         when(kanbanColumnRepository.save(any(KanbanColumn.class))).thenReturn(testColumn);
         
         // When
@@ -238,7 +238,6 @@ class KanbanColumnServiceTest {
         createRequest.setOrder(5);
         
         when(kanbanColumnRepository.findById(1L)).thenReturn(Optional.of(testColumn));
-        when(projectService.getProjectById(1L, "testuser")).thenReturn(testProject);
         when(kanbanColumnRepository.save(any(KanbanColumn.class))).thenReturn(testColumn);
         
         // When
@@ -252,14 +251,13 @@ class KanbanColumnServiceTest {
     void deleteKanbanColumn_shouldDeleteSuccessfully() {
         // Given
         when(kanbanColumnRepository.findById(1L)).thenReturn(Optional.of(testColumn));
-        when(projectService.getProjectById(1L, "testuser")).thenReturn(testProject);
         
         // When
         kanbanColumnService.deleteKanbanColumn(1L, "testuser");
         
         // Then
         verify(kanbanColumnRepository).findById(1L);
-        verify(projectService).getProjectById(1L, "testuser");
+        verify(projectService).checkMembership(1L, "testuser");
         verify(kanbanColumnRepository).delete(testColumn);
     }
     
@@ -268,7 +266,6 @@ class KanbanColumnServiceTest {
         // Given
         testColumn.setIsDefault(true);
         when(kanbanColumnRepository.findById(1L)).thenReturn(Optional.of(testColumn));
-        when(projectService.getProjectById(1L, "testuser")).thenReturn(testProject);
         
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -320,5 +317,12 @@ class KanbanColumnServiceTest {
         // Vérifier que 3 colonnes ont été créées
         verify(kanbanColumnRepository, times(3)).save(any(KanbanColumn.class));
     }
-}
 
+    /**
+     * Violation de contrainte d'unicité telle que la renvoie Spring Data.
+     */
+    private static DataIntegrityViolationException uniqueViolation(String constraint) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key", new SQLException(), constraint));
+    }
+}
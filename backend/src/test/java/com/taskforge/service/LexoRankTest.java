@@ -0,0 +1,59 @@
+package com.taskforge.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+class LexoRankTest {
+
+    @Test
+    void between_shouldReturnAShortRankStrictlyInside() {
+        assertThat(LexoRank.between(null, null)).isEqualTo("i");
+        assertThat(LexoRank.between("a", "c")).isEqualTo("b");
+        assertThat(LexoRank.between("a", "b")).isEqualTo("ai");
+        assertThat(LexoRank.between("az", "b")).isEqualTo("azi");
+        assertThat(LexoRank.between(null, "1")).isEqualTo("0i");
+        assertThat(LexoRank.after("z")).isEqualTo("zi");
+    }
+
+    @Test
+    void between_shouldAlwaysFindRoomBetweenDistinctRanks() {
+        String lower = "a";
+        String upper = "b";
+        for (int i = 0; i < 200; i++) {
+            String middle = LexoRank.between(lower, upper);
+            assertThat(middle).isGreaterThan(lower).isLessThan(upper).doesNotEndWith("0");
+            if (i % 2 == 0) {
+                lower = middle;
+            } else {
+                upper = middle;
+            }
+        }
+    }
+
+    @Test
+    void between_withUnorderedRanks_shouldThrow() {
+        assertThatThrownBy(() -> LexoRank.between("b", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LexoRank.between("b", "b")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void spread_shouldReturnEvenlySpacedRanksInOrder() {
+        assertThat(LexoRank.spread(3)).containsExactly("9", "i", "r");
+        String[] ranks = LexoRank.spread(1000);
+        List<String> sorted = new ArrayList<>(List.of(ranks));
+        sorted.sort(null);
+        assertThat(sorted).containsExactly(ranks).doesNotHaveDuplicates();
+        assertThat(ranks).allMatch(rank -> rank.length() <= 3 && !LexoRank.needsRebalance(rank));
+    }
+
+    @Test
+    void needsRebalance_shouldFlagLongRanks() {
+        assertThat(LexoRank.needsRebalance("i")).isFalse();
+        assertThat(LexoRank.needsRebalance("0000000000i")).isTrue();
+        assertThat(LexoRank.needsRebalance(null)).isFalse();
+    }
+}
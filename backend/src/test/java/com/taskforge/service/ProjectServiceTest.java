@@ -1,5 +1,6 @@
 package com.taskforge.service;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -16,6 +17,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
@@ -23,8 +25,10 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.taskforge.dto.CreateProjectRequest;
+import com.taskforge.dto.ProjectSummary;
 import com.taskforge.dto.UserDto;
 import com.taskforge.exceptions.DuplicateProjectNameException;
 import com.taskforge.exceptions.ProjectSuppressionException;
@@ -38,6 +42,8 @@ import com.taskforge.repositories.SprintRepository;
 import com.taskforge.repositories.KanbanColumnRepository;
 import com.taskforge.service.KanbanColumnService;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Tests unitaires pour le service de gestion des projets (ProjectService).
  * Vérifie la logique métier de création, récupération, mise à jour et suppression des projets,
@@ -64,6 +70,18 @@ class ProjectServiceTest {
     @Mock
     private KanbanColumnService kanbanColumnService;
 
+    @Spy
+    private ProjectSummaryCache projectSummaryCache = new ProjectSummaryCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+
+    @Spy
+    private MembershipVersions membershipVersions = new MembershipVersions();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ProjectChangeVersions projectChangeVersions;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -416,21 +434,37 @@ class ProjectServiceTest {
     }
 
     /**
-     * Vérifie que la méthode getProjectsByUsername retourne bien la liste des projets
-     * où l'utilisateur est impliqué (propriétaire ou membre).
+     * Vérifie que la liste « Mes projets » est calculée une fois par utilisateur puis servie depuis le cache.
      */
     @Test
-    void getProjectsByUsername_shouldReturnUserProjects() {
-        Project project1 = Project.builder().id(1L).name("Project 1").owner(testUser).build();
-        Project project2 = Project.builder().id(2L).name("Project 2").owner(testUser).build();
-        
-        when(projectRepository.findAllByOwnerOrMember("testuser"))
-                .thenReturn(Arrays.asList(project1, project2));
+    void getProjectSummaries_shouldQueryOnceThenServeFromCache() {
+        ProjectSummary summary1 = new ProjectSummary(1L, "Project 1", null, ProjectSummary.Role.OWNER, 1, 0);
+        ProjectSummary summary2 = new ProjectSummary(2L, "Project 2", null, ProjectSummary.Role.MEMBER, 3, 5);
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(projectRepository.findSummariesByMemberId(1L)).thenReturn(List.of(summary1, summary2));
 
-        List<Project> projects = projectService.getProjectsByUsername("testuser");
+        List<ProjectSummary> first = projectService.getProjectSummaries("testuser");
+        List<ProjectSummary> second = projectService.getProjectSummaries("testuser");
+
+        assertThat(first).extracting(ProjectSummary::getName).containsExactly("Project 1", "Project 2");
+        assertThat(second).isEqualTo(first);
+        verify(projectRepository, times(1)).findSummariesByMemberId(1L);
+    }
+
+    /**
+     * Vérifie que la création d'un projet invalide la liste en cache de ses membres.
+     */
+    @Test
+    void createProject_shouldEvictCachedSummariesOfMembers() {
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(projectRepository.findSummariesByMemberId(1L)).thenReturn(List.of());
+        projectService.getProjectSummaries("testuser");
+
+        Project savedProject = Project.builder().id(1L).name("Test Project").owner(testUser).members(Set.of(testUser)).build();
+        when(projectRepository.save(any(Project.class))).thenReturn(savedProject);
+        projectService.createProject(createRequest);
+        projectService.getProjectSummaries("testuser");
 
-        assertThat(projects).hasSize(2);
-        assertThat(projects).extracting(Project::getName)
-                .containsExactlyInAnyOrder("Project 1", "Project 2");
+        verify(projectRepository, times(2)).findSummariesByMemberId(1L);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,135 @@
+package com.taskforge.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.taskforge.exceptions.ForbiddenOperationException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitaires du regroupement des lectures concurrentes (SingleFlight).
+ * Vérifie le partage d'une exécution en cours, la séparation par version du projet et la propagation des erreurs.
+ */
+class SingleFlightTest {
+
+    private ProjectChangeVersions versions;
+    private SimpleMeterRegistry registry;
+    private SingleFlight singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        versions = new ProjectChangeVersions();
+        registry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(versions, registry);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Vérifie que les appels concurrents d'une même lecture partagent une seule exécution et son résultat.
+     */
+    @Test
+    void share_concurrentIdenticalReads_shouldExecuteOnce() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        Future<List<String>> leader = executor.submit(() -> singleFlight.share("stories", 1L, () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return List.of("a", "b");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<List<String>> follower = executor.submit(() -> singleFlight.share("stories", 1L, () -> {
+            executions.incrementAndGet();
+            return List.of("c");
+        }));
+        waitForFollowers("stories", 1);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).containsExactly("a", "b");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(leader.get());
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(registry.counter(SingleFlight.METRIC, "query", "stories", "role", "leader").count()).isEqualTo(1.0);
+    }
+
+    /**
+     * Vérifie qu'une lecture commencée après une écriture sur le projet n'attend pas une lecture antérieure.
+     */
+    @Test
+    void share_afterProjectChange_shouldExecuteAgain() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> before = executor.submit(() -> singleFlight.share("stories", 1L, () -> {
+            started.countDown();
+            await(release);
+            return "avant";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        versions.bump(1L);
+
+        assertThat(singleFlight.share("stories", 1L, () -> "après")).isEqualTo("après");
+        assertThat(singleFlight.share("columns", 1L, () -> "colonnes")).isEqualTo("colonnes");
+        release.countDown();
+        assertThat(before.get(5, TimeUnit.SECONDS)).isEqualTo("avant");
+    }
+
+    /**
+     * Vérifie que l'erreur de l'exécution partagée est transmise à tous les appelants, puis oubliée.
+     */
+    @Test
+    void share_whenLoaderFails_shouldPropagateToFollowers() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.share("stories", 1L, () -> {
+            started.countDown();
+            await(release);
+            throw new ForbiddenOperationException("refusé");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = executor.submit(() -> singleFlight.share("stories", 1L, () -> "jamais"));
+        waitForFollowers("stories", 1);
+        release.countDown();
+
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ForbiddenOperationException.class);
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ForbiddenOperationException.class);
+        assertThat(singleFlight.share("stories", 1L, () -> "ensuite")).isEqualTo("ensuite");
+    }
+
+    private void waitForFollowers(String query, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (registry.counter(SingleFlight.METRIC, "query", query, "role", "follower").count() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
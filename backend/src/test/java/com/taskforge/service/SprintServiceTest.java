@@ -1,5 +1,9 @@
 package com.taskforge.service;
 
+import java.sql.SQLException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashSet;
@@ -16,6 +20,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -23,6 +28,7 @@ import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.taskforge.dto.CreateSprintRequest;
+import com.taskforge.exceptions.BusinessRuleException;
 import com.taskforge.exceptions.DuplicateSprintNameException;
 import com.taskforge.exceptions.InvalidSprintDateException;
 import com.taskforge.models.Project;
@@ -32,6 +38,8 @@ import com.taskforge.models.UserStory;
 import com.taskforge.repositories.SprintRepository;
 import com.taskforge.repositories.UserStoryRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class SprintServiceTest {
 
@@ -44,6 +52,15 @@ class SprintServiceTest {
     @Mock
     private UserStoryRepository userStoryRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new ProjectChangeVersions(), new SimpleMeterRegistry());
+
+    @Mock
+    private ProjectChangeVersions projectChangeVersions;
+
     @InjectMocks
     private SprintService sprintService;
 
@@ -88,15 +105,14 @@ class SprintServiceTest {
         request.setProjectId(project.getId());
 
         when(projectService.getProjectById(project.getId(), projectOwner.getUsername())).thenReturn(project);
-        when(sprintRepository.existsByNameAndProjectId(request.getName(), project.getId())).thenReturn(false);
-        when(sprintRepository.save(any(Sprint.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(sprintRepository.saveAndFlush(any(Sprint.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Sprint created = sprintService.createSprint(request, projectOwner.getUsername());
 
         assertThat(created).isNotNull();
         assertThat(created.getName()).isEqualTo("Sprint 1");
         assertThat(created.getProject()).isEqualTo(project);
-        verify(sprintRepository, times(1)).save(any(Sprint.class));
+        verify(sprintRepository, times(1)).saveAndFlush(any(Sprint.class));
     }
 
     @Test
@@ -109,11 +125,10 @@ class SprintServiceTest {
         request.setProjectId(project.getId());
 
         when(projectService.getProjectById(project.getId(), projectOwner.getUsername())).thenReturn(project);
-        when(sprintRepository.existsByNameAndProjectId(request.getName(), project.getId())).thenReturn(true);
+        when(sprintRepository.saveAndFlush(any(Sprint.class))).thenThrow(uniqueViolation("uk_sprint_name_project"));
 
         assertThatThrownBy(() -> sprintService.createSprint(request, projectOwner.getUsername()))
                 .isInstanceOf(DuplicateSprintNameException.class);
-        verify(sprintRepository, never()).save(any(Sprint.class));
     }
 
     @Test
@@ -151,18 +166,16 @@ class SprintServiceTest {
     @Test
     void getSprintById_shouldSucceed() {
         when(sprintRepository.findById(sprint.getId())).thenReturn(Optional.of(sprint));
-        when(projectService.getProjectById(project.getId(), projectOwner.getUsername())).thenReturn(project);
 
         Sprint found = sprintService.getSprintById(sprint.getId(), projectOwner.getUsername());
 
         assertThat(found).isEqualTo(sprint);
-        verify(projectService).getProjectById(project.getId(), projectOwner.getUsername());
+        verify(projectService).checkMembership(project.getId(), projectOwner.getUsername());
     }
 
     @Test
     void deleteSprint_shouldSucceed_whenUserIsOwner() {
         when(sprintRepository.findById(sprint.getId())).thenReturn(Optional.of(sprint));
-        when(projectService.getProjectById(project.getId(), projectOwner.getUsername())).thenReturn(project);
         when(userStoryRepository.findByProjectId(project.getId())).thenReturn(Collections.emptyList());
 
         sprintService.deleteSprint(sprint.getId(), projectOwner.getUsername());
@@ -173,7 +186,6 @@ class SprintServiceTest {
     @Test
     void deleteSprint_shouldThrowException_whenUserIsNotOwner() {
         when(sprintRepository.findById(sprint.getId())).thenReturn(Optional.of(sprint));
-        when(projectService.getProjectById(project.getId(), memberUser.getUsername())).thenReturn(project);
 
         assertThatThrownBy(() -> sprintService.deleteSprint(sprint.getId(), memberUser.getUsername()))
                 .isInstanceOf(RuntimeException.class)
@@ -190,7 +202,6 @@ class SprintServiceTest {
                 .build();
 
         when(sprintRepository.findById(sprint.getId())).thenReturn(Optional.of(sprint));
-        when(projectService.getProjectById(project.getId(), projectOwner.getUsername())).thenReturn(project);
         when(userStoryRepository.findById(userStory.getId())).thenReturn(Optional.of(userStory));
         when(userStoryRepository.save(any(UserStory.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -210,7 +221,6 @@ class SprintServiceTest {
                 .build();
 
         when(userStoryRepository.findById(userStory.getId())).thenReturn(Optional.of(userStory));
-        when(projectService.getProjectById(project.getId(), projectOwner.getUsername())).thenReturn(project);
         when(userStoryRepository.save(any(UserStory.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         UserStory updated = sprintService.removeUserStoryFromSprint(userStory.getId(), projectOwner.getUsername());
@@ -219,10 +229,43 @@ class SprintServiceTest {
         verify(userStoryRepository, times(1)).save(userStory);
     }
 
+    @Test
+    void assignUserStoriesToSprint_shouldUpdateAllStoriesInOneStatement() {
+        when(sprintRepository.findById(sprint.getId())).thenReturn(Optional.of(sprint));
+        when(userStoryRepository.assignSprint(Set.of(1L, 2L, 3L), project.getId(), sprint)).thenReturn(3);
+
+        int updated = sprintService.assignUserStoriesToSprint(sprint.getId(), List.of(1L, 2L, 3L, 2L), memberUser.getUsername());
+
+        assertThat(updated).isEqualTo(3);
+        verify(projectService, times(1)).checkMembership(project.getId(), memberUser.getUsername());
+        verify(eventPublisher).publishEvent(BoardChangedEvent.project(project.getId()));
+        verify(userStoryRepository, never()).save(any(UserStory.class));
+    }
+
+    @Test
+    void assignUserStoriesToSprint_shouldThrowException_whenStoryOutsideProject() {
+        when(sprintRepository.findById(sprint.getId())).thenReturn(Optional.of(sprint));
+        when(userStoryRepository.assignSprint(Set.of(1L, 2L), project.getId(), sprint)).thenReturn(1);
+
+        assertThatThrownBy(() -> sprintService.assignUserStoriesToSprint(sprint.getId(), List.of(1L, 2L), projectOwner.getUsername()))
+                .isInstanceOf(BusinessRuleException.class);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void removeUserStoriesFromSprint_shouldOnlyCountStoriesOfTheSprint() {
+        when(sprintRepository.findById(sprint.getId())).thenReturn(Optional.of(sprint));
+        when(userStoryRepository.removeSprint(Set.of(1L, 2L), sprint.getId())).thenReturn(1);
+
+        int updated = sprintService.removeUserStoriesFromSprint(sprint.getId(), List.of(1L, 2L), projectOwner.getUsername());
+
+        assertThat(updated).isEqualTo(1);
+        verify(eventPublisher).publishEvent(BoardChangedEvent.project(project.getId()));
+    }
+
     @Test
     void startSprint_shouldSucceed() {
         when(sprintRepository.findById(sprint.getId())).thenReturn(Optional.of(sprint));
-        when(projectService.getProjectById(project.getId(), projectOwner.getUsername())).thenReturn(project);
         when(sprintRepository.findByProjectId(project.getId())).thenReturn(List.of(sprint));
         when(sprintRepository.save(any(Sprint.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -236,7 +279,6 @@ class SprintServiceTest {
     void startSprint_shouldThrowException_whenSprintNotPlanned() {
         sprint.setStatus(Sprint.Status.ACTIVE);
         when(sprintRepository.findById(sprint.getId())).thenReturn(Optional.of(sprint));
-        when(projectService.getProjectById(project.getId(), projectOwner.getUsername())).thenReturn(project);
 
         assertThatThrownBy(() -> sprintService.startSprint(sprint.getId(), projectOwner.getUsername()))
                 .isInstanceOf(RuntimeException.class)
@@ -254,7 +296,6 @@ class SprintServiceTest {
                 .build();
 
         when(sprintRepository.findById(sprint.getId())).thenReturn(Optional.of(sprint));
-        when(projectService.getProjectById(project.getId(), projectOwner.getUsername())).thenReturn(project);
         when(sprintRepository.findByProjectId(project.getId())).thenReturn(List.of(sprint, activeSprint));
 
         assertThatThrownBy(() -> sprintService.startSprint(sprint.getId(), projectOwner.getUsername()))
@@ -266,7 +307,6 @@ class SprintServiceTest {
     @Test
     void startSprint_shouldThrowException_whenUserIsNotOwner() {
         when(sprintRepository.findById(sprint.getId())).thenReturn(Optional.of(sprint));
-        when(projectService.getProjectById(project.getId(), memberUser.getUsername())).thenReturn(project);
 
         assertThatThrownBy(() -> sprintService.startSprint(sprint.getId(), memberUser.getUsername()))
                 .isInstanceOf(RuntimeException.class)
@@ -278,7 +318,6 @@ class SprintServiceTest {
     void completeSprint_shouldSucceed() {
         sprint.setStatus(Sprint.Status.ACTIVE);
         when(sprintRepository.findById(sprint.getId())).thenReturn(Optional.of(sprint));
-        when(projectService.getProjectById(project.getId(), projectOwner.getUsername())).thenReturn(project);
         when(sprintRepository.save(any(Sprint.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Sprint completed = sprintService.completeSprint(sprint.getId(), projectOwner.getUsername());
@@ -290,7 +329,6 @@ class SprintServiceTest {
     @Test
     void completeSprint_shouldThrowException_whenSprintNotActive() {
         when(sprintRepository.findById(sprint.getId())).thenReturn(Optional.of(sprint));
-        when(projectService.getProjectById(project.getId(), projectOwner.getUsername())).thenReturn(project);
 
         assertThatThrownBy(() -> sprintService.completeSprint(sprint.getId(), projectOwner.getUsername()))
                 .isInstanceOf(RuntimeException.class)
@@ -302,11 +340,18 @@ class SprintServiceTest {
     void completeSprint_shouldThrowException_whenUserIsNotOwner() {
         sprint.setStatus(Sprint.Status.ACTIVE);
         when(sprintRepository.findById(sprint.getId())).thenReturn(Optional.of(sprint));
-        when(projectService.getProjectById(project.getId(), memberUser.getUsername())).thenReturn(project);
 
         assertThatThrownBy(() -> sprintService.completeSprint(sprint.getId(), memberUser.getUsername()))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Only project owner can complete sprints");
         verify(sprintRepository, never()).save(any(Sprint.class));
     }
+
+    /**
+     * Violation de contrainte d'unicité telle que la renvoie Spring Data.
+     */
+    private static DataIntegrityViolationException uniqueViolation(String constraint) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key", new SQLException(), constraint));
+    }
 }
@@ -1,5 +1,9 @@
 package com.taskforge.service;
 
+import java.sql.SQLException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -24,9 +28,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.taskforge.dto.CreateUserStoryRequest;
 import com.taskforge.exceptions.DuplicateUserStoryTitleException;
+import com.taskforge.models.KanbanColumn;
 import com.taskforge.models.Project;
 import com.taskforge.models.User;
 import com.taskforge.models.UserStory;
+import com.taskforge.repositories.KanbanColumnRepository;
 import com.taskforge.repositories.TaskRepository;
 import com.taskforge.repositories.UserRepository;
 import com.taskforge.repositories.UserStoryRepository;
@@ -51,6 +57,24 @@ class UserStoryServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private KanbanColumnRepository kanbanColumnRepository;
+
+    @Mock
+    private ProjectSummaryCache projectSummaryCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StatusWriteCoalescer statusWriteCoalescer;
+
+    @Mock
+    private RankRebalancer rankRebalancer;
+
+    @Mock
+    private WipLimits wipLimits;
+
     @InjectMocks
     private UserStoryService userStoryService;
 
@@ -101,15 +125,14 @@ class UserStoryServiceTest {
         request.setStatus("TODO");
 
         when(projectService.getProjectById(project.getId(), projectOwner.getUsername())).thenReturn(project);
-        when(userStoryRepository.existsByTitleAndProjectId(request.getTitle(), project.getId())).thenReturn(false);
-        when(userStoryRepository.save(any(UserStory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userStoryRepository.saveAndFlush(any(UserStory.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         UserStory created = userStoryService.createUserStory(request, projectOwner.getUsername());
 
         assertThat(created).isNotNull();
         assertThat(created.getTitle()).isEqualTo("New US");
         assertThat(created.getProject()).isEqualTo(project);
-        verify(userStoryRepository, times(1)).save(any(UserStory.class));
+        verify(userStoryRepository, times(1)).saveAndFlush(any(UserStory.class));
     }
 
     /**
@@ -123,13 +146,12 @@ class UserStoryServiceTest {
         request.setTitle("Existing Title");
 
         when(projectService.getProjectById(project.getId(), projectOwner.getUsername())).thenReturn(project);
-        when(userStoryRepository.existsByTitleAndProjectId(request.getTitle(), project.getId())).thenReturn(true);
+        when(userStoryRepository.saveAndFlush(any(UserStory.class)))
+                .thenThrow(uniqueViolation("uk_user_story_title_project"));
 
         assertThatThrownBy(() -> userStoryService.createUserStory(request, projectOwner.getUsername()))
                 .isInstanceOf(DuplicateUserStoryTitleException.class)
                 .hasMessageContaining("Une user story avec ce titre existe déjà");
-        
-        verify(userStoryRepository, never()).save(any());
     }
 
     /**
@@ -144,7 +166,7 @@ class UserStoryServiceTest {
 
         when(projectService.getProjectById(project.getId(), projectOwner.getUsername())).thenReturn(project);
         when(userRepository.findByUsername("member")).thenReturn(Optional.of(memberUser));
-        when(userStoryRepository.save(any(UserStory.class))).thenAnswer(invocation -> {
+        when(userStoryRepository.saveAndFlush(any(UserStory.class))).thenAnswer(invocation -> {
             UserStory saved = invocation.getArgument(0);
             assertThat(saved.getAssignedTo()).contains(memberUser);
             return saved;
@@ -185,7 +207,7 @@ class UserStoryServiceTest {
         
         assertThat(results).hasSize(1);
         assertThat(results.get(0)).isEqualTo(userStory);
-        verify(projectService).getProjectById(project.getId(), projectOwner.getUsername());
+        verify(projectService).checkMembership(project.getId(), projectOwner.getUsername());
     }
 
     /**
@@ -198,7 +220,7 @@ class UserStoryServiceTest {
         UserStory found = userStoryService.getUserStoryById(userStory.getId(), projectOwner.getUsername());
         
         assertThat(found).isEqualTo(userStory);
-        verify(projectService).getProjectById(project.getId(), projectOwner.getUsername());
+        verify(projectService).checkMembership(project.getId(), projectOwner.getUsername());
     }
 
     /**
@@ -224,9 +246,8 @@ class UserStoryServiceTest {
         request.setAssignedToUsernames(Collections.singletonList("member"));
 
         when(userStoryRepository.findById(userStory.getId())).thenReturn(Optional.of(userStory));
-        when(userStoryRepository.existsByTitleAndProjectId(request.getTitle(), project.getId())).thenReturn(false);
         when(userRepository.findByUsername("member")).thenReturn(Optional.of(memberUser));
-        when(userStoryRepository.save(any(UserStory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userStoryRepository.saveAndFlush(any(UserStory.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         UserStory updated = userStoryService.updateUserStory(userStory.getId(), request, projectOwner.getUsername());
 
@@ -254,11 +275,9 @@ class UserStoryServiceTest {
         CreateUserStoryRequest request = new CreateUserStoryRequest();
         request.setTitle("Other Story Title");
 
-        UserStory otherStory = UserStory.builder().id(2L).title("Other Story Title").build();
-
         when(userStoryRepository.findById(userStory.getId())).thenReturn(Optional.of(userStory));
-        when(userStoryRepository.existsByTitleAndProjectId(request.getTitle(), project.getId())).thenReturn(true);
-        when(userStoryRepository.findByTitleAndProjectId(request.getTitle(), project.getId())).thenReturn(otherStory);
+        when(userStoryRepository.saveAndFlush(any(UserStory.class)))
+                .thenThrow(uniqueViolation("uk_user_story_title_project"));
 
         assertThatThrownBy(() -> userStoryService.updateUserStory(userStory.getId(), request, projectOwner.getUsername()))
                 .isInstanceOf(DuplicateUserStoryTitleException.class);
@@ -274,9 +293,7 @@ class UserStoryServiceTest {
         request.setDescription("New Desc");
 
         when(userStoryRepository.findById(userStory.getId())).thenReturn(Optional.of(userStory));
-        when(userStoryRepository.existsByTitleAndProjectId("Test Story", project.getId())).thenReturn(true);
-        when(userStoryRepository.findByTitleAndProjectId("Test Story", project.getId())).thenReturn(userStory);
-        when(userStoryRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(userStoryRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
 
         UserStory updated = userStoryService.updateUserStory(userStory.getId(), request, projectOwner.getUsername());
         
@@ -324,4 +341,53 @@ class UserStoryServiceTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("User story not found");
     }
-}
\ No newline at end of file
+
+    /**
+     * Vérifie que la mise à jour groupée du statut contrôle l'accès une fois par projet et modifie chaque projet
+     * par une seule requête, colonne Kanban comprise quand le projet en a une pour ce statut : les User Stories
+     * de ce projet y entrent dans la limite WIP.
+     */
+    @Test
+    void updateUserStoriesStatus_shouldCheckEachProjectOnce() {
+        KanbanColumn inProgress = KanbanColumn.builder().id(7L).status("IN_PROGRESS").project(project).build();
+        Project otherProject = Project.builder().id(2L).name("Other Project").owner(projectOwner).build();
+        UserStory first = UserStory.builder().id(1L).project(project).build();
+        UserStory second = UserStory.builder().id(2L).project(project).build();
+        UserStory third = UserStory.builder().id(3L).project(otherProject).build();
+        when(userStoryRepository.lockByIdIn(Set.of(1L, 2L, 3L))).thenReturn(List.of(first, second, third));
+        when(kanbanColumnRepository.findByStatusAndProjectId("IN_PROGRESS", 1L)).thenReturn(Optional.of(inProgress));
+        when(kanbanColumnRepository.findByStatusAndProjectId("IN_PROGRESS", 2L)).thenReturn(Optional.empty());
+        when(userStoryRepository.updateStatusAndColumn(Set.of(1L, 2L, 3L), 1L, "IN_PROGRESS", inProgress)).thenReturn(2);
+        when(userStoryRepository.updateStatus(Set.of(1L, 2L, 3L), 2L, "IN_PROGRESS")).thenReturn(1);
+
+        int updated = userStoryService.updateUserStoriesStatus(List.of(1L, 2L, 3L), "IN_PROGRESS", "member");
+
+        assertThat(updated).isEqualTo(3);
+        verify(projectService, times(1)).checkMembership(1L, "member");
+        verify(projectService, times(1)).checkMembership(2L, "member");
+        verify(eventPublisher).publishEvent(BoardChangedEvent.project(1L));
+        verify(eventPublisher).publishEvent(BoardChangedEvent.project(2L));
+        verify(wipLimits).moveAll(List.of(first, second), inProgress);
+    }
+
+    /**
+     * Vérifie qu'aucune User Story n'est modifiée si l'une d'elles n'existe pas.
+     */
+    @Test
+    void updateUserStoriesStatus_shouldThrowException_whenUserStoryNotFound() {
+        when(userStoryRepository.lockByIdIn(Set.of(1L, 99L))).thenReturn(List.of(userStory));
+
+        assertThatThrownBy(() -> userStoryService.updateUserStoriesStatus(List.of(1L, 99L), "DONE", "member"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("User story not found");
+        verify(userStoryRepository, never()).updateStatus(any(), anyLong(), any());
+    }
+
+    /**
+     * Violation de contrainte d'unicité telle que la renvoie Spring Data.
+     */
+    private static DataIntegrityViolationException uniqueViolation(String constraint) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key", new SQLException(), constraint));
+    }
+}
@@ -1,6 +1,11 @@
 package com.taskforge.service;
 
+import java.sql.SQLException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import com.taskforge.dto.CreateVersionRequest;
+import com.taskforge.exceptions.BusinessRuleException;
 import com.taskforge.exceptions.DuplicateProjectNameException;
 import com.taskforge.models.Project;
 import com.taskforge.models.Version;
@@ -17,6 +22,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Optional;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Set;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -39,6 +45,15 @@ public class VersionServiceTest {
     @Mock
     private UserStoryRepository userStoryRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ProjectChangeVersions projectChangeVersions;
+
+    @Mock
+    private ProjectService projectService;
+
     @InjectMocks
     private VersionService versionService;
 
@@ -92,9 +107,7 @@ public class VersionServiceTest {
                 .description("Description de la version")
                 .build(); 
         when(projectRepository.findById(testProject.getId())).thenReturn(Optional.of(testProject));
-        when(versionRepository.existsByProjectIdAndVersionNumber(testProject.getId(), "1.0")).thenReturn(false);
-        when(versionRepository.findByProjectIdOrderByIdDesc(testProject.getId())).thenReturn(new ArrayList<>());
-        when(versionRepository.save(any(Version.class))).thenReturn(testVersion);
+        when(versionRepository.saveAndFlush(any(Version.class))).thenReturn(testVersion);
         Version created = versionService.createVersion(request);
         assertThat(created).isEqualTo(testVersion);
     }
@@ -108,7 +121,7 @@ public class VersionServiceTest {
                 .description("Description de la version")
                 .build();
         when(projectRepository.findById(testProject.getId())).thenReturn(Optional.of(testProject));
-        when(versionRepository.existsByProjectIdAndVersionNumber(testProject.getId(), "1.0")).thenReturn(true);
+        when(versionRepository.saveAndFlush(any(Version.class))).thenThrow(uniqueViolation("uk_version_number_project"));
         assertThatThrownBy(() -> versionService.createVersion(request))
                 .isInstanceOf(DuplicateProjectNameException.class)
                 .hasMessageContaining("Une version avec ce numéro existe déjà pour ce projet");
@@ -123,15 +136,7 @@ public class VersionServiceTest {
                 .description("Description de la version")
                 .build();
         when(projectRepository.findById(testProject.getId())).thenReturn(Optional.of(testProject));
-        when(versionRepository.existsByProjectIdAndVersionNumber(testProject.getId(), "1.0")).thenReturn(false);
-        List<Version> existingVersions = new ArrayList<>();
-        existingVersions.add(Version.builder()
-                .id(2L)
-                .title("Version 1.0")
-                .versionNumber("0.9")
-                .project(testProject)
-                .build());
-        when(versionRepository.findByProjectIdOrderByIdDesc(testProject.getId())).thenReturn(existingVersions);
+        when(versionRepository.saveAndFlush(any(Version.class))).thenThrow(uniqueViolation("uk_version_title_project"));
         assertThatThrownBy(() -> versionService.createVersion(request)) 
                 .isInstanceOf(DuplicateProjectNameException.class)
                 .hasMessageContaining("Une version avec ce titre existe déjà pour ce projet");
@@ -145,8 +150,7 @@ public class VersionServiceTest {
                 .description("Mise à jour de la version")
                 .build();
         when(versionRepository.findById(1L)).thenReturn(Optional.of(testVersion));
-        when(versionRepository.existsByProjectIdAndVersionNumber(testProject.getId(), "1.1")).thenReturn(false);
-        when(versionRepository.save(any(Version.class))).thenReturn(testVersion);
+        when(versionRepository.saveAndFlush(any(Version.class))).thenReturn(testVersion);
         Version updated = versionService.updateVersion(1L, request);
         assertThat(updated.getTitle()).isEqualTo("Version 1.1");
         assertThat(updated.getVersionNumber()).isEqualTo("1.1");
@@ -161,7 +165,7 @@ public class VersionServiceTest {
                 .description("Mise à jour de la version")
                 .build();
         when(versionRepository.findById(1L)).thenReturn(Optional.of(testVersion));
-        when(versionRepository.existsByProjectIdAndVersionNumber(testProject.getId(), "1.1")).thenReturn(true);
+        when(versionRepository.saveAndFlush(any(Version.class))).thenThrow(uniqueViolation("uk_version_number_project"));
         assertThatThrownBy(() -> versionService.updateVersion(1L, request))
                 .isInstanceOf(DuplicateProjectNameException.class)
                 .hasMessageContaining("Une version avec ce numéro existe déjà pour ce projet");
@@ -193,6 +197,32 @@ public class VersionServiceTest {
         assertThat(updated.getVersion()).isNull();
     }
 
+    @Test
+    void assignUserStoriesToVersion_shouldCheckMembershipOnceAndUpdateInOneStatement() {
+        when(versionRepository.findById(1L)).thenReturn(Optional.of(testVersion));
+        when(userStoryRepository.assignVersion(Set.of(1L, 2L), testProject.getId(), testVersion)).thenReturn(2);
+        int updated = versionService.assignUserStoriesToVersion(1L, List.of(1L, 2L), "owner");
+        assertThat(updated).isEqualTo(2);
+        verify(projectService, times(1)).checkMembership(testProject.getId(), "owner");
+        verify(eventPublisher).publishEvent(BoardChangedEvent.project(testProject.getId()));
+    }
+
+    @Test
+    void assignUserStoriesToVersion_shouldThrowException_whenStoryOutsideProject() {
+        when(versionRepository.findById(1L)).thenReturn(Optional.of(testVersion));
+        when(userStoryRepository.assignVersion(Set.of(1L, 2L), testProject.getId(), testVersion)).thenReturn(1);
+        assertThatThrownBy(() -> versionService.assignUserStoriesToVersion(1L, List.of(1L, 2L), "owner"))
+                .isInstanceOf(BusinessRuleException.class);
+    }
+
+    @Test
+    void removeUserStoriesFromVersion_shouldNotPublish_whenNothingRemoved() {
+        when(versionRepository.findById(1L)).thenReturn(Optional.of(testVersion));
+        when(userStoryRepository.removeVersion(Set.of(5L), 1L)).thenReturn(0);
+        assertThat(versionService.removeUserStoriesFromVersion(1L, List.of(5L), "owner")).isZero();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
     @Test
     void deleteVersion_shouldDeleteVersionAndUnassignUserStories() {
         List<UserStory> userStories = new ArrayList<>();
@@ -203,4 +233,12 @@ public class VersionServiceTest {
         verify(userStoryRepository, times(1)).save(testUserStory);
         verify(versionRepository, times(1)).delete(testVersion);
     }
-}
\ No newline at end of file
+
+    /**
+     * Violation de contrainte d'unicité telle que la renvoie Spring Data.
+     */
+    private static DataIntegrityViolationException uniqueViolation(String constraint) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key", new SQLException(), constraint));
+    }
+}
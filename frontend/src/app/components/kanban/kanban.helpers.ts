@@ -17,8 +17,9 @@ export class KanbanHelpers {
     return labels[status] || status;
   }
 
-  static getTaskCountLabel(taskCount: number): string {
+  static getTaskCountLabel(taskCount: number, doneCount: number = 0): string {
     if (taskCount === 0) return 'Aucune tâche';
-    return `${taskCount} tâche${taskCount > 1 ? 's' : ''}`;
+    const label = `${taskCount} tâche${taskCount > 1 ? 's' : ''}`;
+    return doneCount > 0 ? `${label} · ${doneCount} terminée${doneCount > 1 ? 's' : ''}` : label;
   }
 }
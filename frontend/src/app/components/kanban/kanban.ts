@@ -178,14 +178,14 @@ export class KanbanComponent implements OnInit {
 
   /**
    * Charge les user stories du projet.
-   * Pour chaque user story, initialise la liste des tâches et l'état d'affichage.
+   * Les tâches ne sont pas chargées : la progression s'affiche à partir des compteurs de chaque user story,
+   * et les tâches sont récupérées à la première ouverture de leur liste.
    * @param projectId - ID du projet.
    */
   loadUserStories(projectId: number): void {
     this.userStoryService.getByProject(projectId).subscribe({
       next: (data: UserStory[]) => {
-        this.userStories = data.map((story: UserStory) => ({ ...story, showTasks: false, tasks: [] }));
-        this.userStories.forEach(story => this.loadTasksForStory(story.id));
+        this.userStories = data.map((story: UserStory) => ({ ...story, showTasks: false, tasks: undefined }));
       },
       error: (err: any) => {
         this.error = (this.error ? this.error + ' ' : '') + 'Erreur lors du chargement des user stories.';
@@ -376,6 +376,9 @@ export class KanbanComponent implements OnInit {
   toggleTasks(story: UserStory, event: MouseEvent): void {
     event.stopPropagation();
     story.showTasks = !story.showTasks;
+    if (story.showTasks && !story.tasks) {
+      this.loadTasksForStory(story.id);
+    }
   }
 
   // ========== User Story Modal Methods ==========
@@ -571,6 +574,9 @@ export class KanbanComponent implements OnInit {
         const story = this.userStories.find(s => s.id === this.currentUserStoryId);
         if (story && story.tasks) {
           story.tasks.push(newTask);
+        } else if (story) {
+          story.taskCount = (story.taskCount || 0) + 1;
+          story.doneTaskCount = (story.doneTaskCount || 0) + (newTask.status === 'DONE' ? 1 : 0);
         }
         this.showNotification('Tâche créée avec succès.', 'success');
         this.closeCreateTaskModal();
@@ -752,11 +758,16 @@ export class KanbanComponent implements OnInit {
 
   /**
    * Retourne le libellé du nombre de tâches d'une user story.
+   * Utilise les tâches si elles sont chargées, les compteurs de la user story sinon.
    * @param story - User story concernée.
-   * @returns Libellé (ex: "3 tâches").
+   * @returns Libellé (ex: "3 tâches · 1 terminée").
    */
   getTaskCountLabel(story: UserStory): string {
-    return KanbanHelpers.getTaskCountLabel(story.tasks?.length || 0);
+    if (story.tasks) {
+      const done = story.tasks.filter(t => t.status === 'DONE').length;
+      return KanbanHelpers.getTaskCountLabel(story.tasks.length, done);
+    }
+    return KanbanHelpers.getTaskCountLabel(story.taskCount || 0, story.doneTaskCount || 0);
   }
 
   // ========== Column Management Methods ==========
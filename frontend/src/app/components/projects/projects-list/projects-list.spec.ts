@@ -15,15 +15,17 @@ describe('ProjectsListComponent', () => {
       id: 1,
       name: 'Project 1',
       description: 'Description 1',
-      owner: { username: 'owner1' },
-      members: [{ username: 'member1' }]
+      role: 'OWNER' as const,
+      memberCount: 2,
+      userStoryCount: 4
     },
     {
       id: 2,
       name: 'Project 2',
       description: 'Description 2',
-      owner: { username: 'owner2' },
-      members: [{ username: 'member2' }, { username: 'member3' }]
+      role: 'MEMBER' as const,
+      memberCount: 3,
+      userStoryCount: 0
     }
   ];
 
@@ -83,6 +85,20 @@ describe('ProjectsListComponent', () => {
     expect(component.projectToDelete).toEqual(mockProjects[0]);
   });
 
+  it('should render role and counts of each project summary', () => {
+    fixture.detectChanges();
+    httpMock.expectOne('https://taskforge-dev.onrender.com/api/projects/myprojects').flush(mockProjects);
+    fixture.detectChanges();
+
+    const meta = fixture.nativeElement.querySelectorAll('.project-meta');
+    expect(meta.length).toBe(2);
+    expect(meta[0].textContent).toContain('Propriétaire');
+    expect(meta[0].textContent).toContain('2 membres');
+    expect(meta[0].textContent).toContain('4 user stories');
+    expect(meta[1].textContent).toContain('Membre');
+    expect(meta[1].textContent).toContain('0 user story');
+  });
+
   it('should handle error when loading projects', () => {
     component.showDeleteModal = true;
     component.projectToDelete = mockProjects[0];
@@ -4,12 +4,16 @@ import { HttpClient, HttpClientModule } from '@angular/common/http';
 import { Router, RouterModule } from '@angular/router';
 import { HeaderComponent } from '../../header/header';
 
-interface Project {
+/**
+ * Résumé d'un projet renvoyé par /api/projects/myprojects.
+ */
+interface ProjectSummary {
   id: number;
   name: string;
   description: string;
-  owner : { username: string };
-  members: { username: string }[];
+  role: 'OWNER' | 'MEMBER';
+  memberCount: number;
+  userStoryCount: number;
 }
 
 /**
@@ -24,13 +28,13 @@ interface Project {
   styleUrls: ['./projects-list.css']
 })
 export class ProjectsListComponent implements OnInit {
-  projects: Project[] = [];
+  projects: ProjectSummary[] = [];
   error: string | null = null;
   loading = true;
   
   // Modal state for delete confirmation
   showDeleteModal = false;
-  projectToDelete: Project | null = null;
+  projectToDelete: ProjectSummary | null = null;
   deleteError: string | null = null;
 
   constructor(private http: HttpClient, private router: Router) {}
@@ -40,7 +44,7 @@ export class ProjectsListComponent implements OnInit {
    */
   ngOnInit(): void {
     const token = localStorage.getItem('token');
-    this.http.get<Project[]>('https://taskforge-dev.onrender.com/api/projects/myprojects', { 
+    this.http.get<ProjectSummary[]>('https://taskforge-dev.onrender.com/api/projects/myprojects', { 
       headers: { Authorization: `Bearer ${token}` }
     }).subscribe({
       next: (data) => {
@@ -43,6 +43,10 @@ export interface UserStory {
   assignedTo?: { username: string }[];
   sprint?: Sprint;
   tasks?: Task[];
+  taskCount?: number;
+  doneTaskCount?: number;
+  inProgressTaskCount?: number;
+  assignedTaskCount?: number;
   showTasks?: boolean;
   version?: Version;
   kanbanColumn?: KanbanColumn;
@@ -42,7 +42,7 @@ describe('KanbanColumnService', () => {
         expect(columns).toEqual(mockColumns);
       });
 
-      const req = httpMock.expectOne(`${apiUrl}/project/1`);
+      const req = httpMock.expectOne('/api/board/project/1/columns');
       expect(req.request.method).toBe('GET');
       req.flush(mockColumns);
     });
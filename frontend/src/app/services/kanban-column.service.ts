@@ -8,6 +8,7 @@ import { KanbanColumn } from '../models/kanban.models';
 })
 export class KanbanColumnService {
   private readonly API_URL = 'https://taskforge-dev.onrender.com/api/kanban-columns';
+  private readonly BOARD_API_URL = 'https://taskforge-dev.onrender.com/api/board';
 
   constructor(private http: HttpClient) {}
 
@@ -17,7 +18,7 @@ export class KanbanColumnService {
   }
 
   getByProject(projectId: number): Observable<KanbanColumn[]> {
-    return this.http.get<KanbanColumn[]>(`${this.API_URL}/project/${projectId}`, {
+    return this.http.get<KanbanColumn[]>(`${this.BOARD_API_URL}/project/${projectId}/columns`, {
       headers: this.getHeaders()
     });
   }
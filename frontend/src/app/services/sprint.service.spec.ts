@@ -178,7 +178,7 @@ describe('SprintService', () => {
       expect(stories).toEqual(mockUserStories);
     });
 
-    const req = httpMock.expectOne('/api/sprints/1/user-stories');
+    const req = httpMock.expectOne('/api/board/sprint/1');
     expect(req.request.method).toBe('GET');
     req.flush(mockUserStories);
   });
@@ -198,7 +198,7 @@ describe('SprintService', () => {
       expect(stories).toEqual(mockUserStories);
     });
 
-    const req = httpMock.expectOne('/api/sprints/project/1/backlog');
+    const req = httpMock.expectOne('/api/board/project/1/backlog');
     expect(req.request.method).toBe('GET');
     req.flush(mockUserStories);
   });
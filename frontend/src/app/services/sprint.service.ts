@@ -34,6 +34,7 @@ export interface UserStory {
 })
 export class SprintService {
   private apiUrl = 'https://taskforge-dev.onrender.com/api/sprints';
+  private boardApiUrl = 'https://taskforge-dev.onrender.com/api/board';
 
   constructor(private http: HttpClient) {}
 
@@ -88,13 +89,13 @@ export class SprintService {
   }
 
   getUserStoriesBySprint(sprintId: number): Observable<UserStory[]> {
-    return this.http.get<UserStory[]>(`${this.apiUrl}/${sprintId}/user-stories`, {
+    return this.http.get<UserStory[]>(`${this.boardApiUrl}/sprint/${sprintId}`, {
       headers: this.getHeaders()
     });
   }
 
   getBacklogUserStories(projectId: number): Observable<UserStory[]> {
-    return this.http.get<UserStory[]>(`${this.apiUrl}/project/${projectId}/backlog`, {
+    return this.http.get<UserStory[]>(`${this.boardApiUrl}/project/${projectId}/backlog`, {
       headers: this.getHeaders()
     });
   }
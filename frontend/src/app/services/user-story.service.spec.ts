@@ -49,7 +49,7 @@ describe('UserStoryService', () => {
       expect(stories.length).toBe(2);
     });
 
-    const req = httpMock.expectOne('/api/user-stories/project/1');
+    const req = httpMock.expectOne('/api/board/project/1');
     expect(req.request.method).toBe('GET');
     expect(req.request.headers.get('Authorization')).toBe('Bearer test-token');
     req.flush(mockUserStories);
@@ -8,6 +8,7 @@ import { UserStory } from '../models/kanban.models';
 })
 export class UserStoryService {
   private readonly API_URL = 'https://taskforge-dev.onrender.com/api/user-stories';
+  private readonly BOARD_API_URL = 'https://taskforge-dev.onrender.com/api/board';
 
   constructor(private http: HttpClient) {}
 
@@ -17,7 +18,7 @@ export class UserStoryService {
   }
 
   getByProject(projectId: number): Observable<UserStory[]> {
-    return this.http.get<UserStory[]>(`${this.API_URL}/project/${projectId}`, {
+    return this.http.get<UserStory[]>(`${this.BOARD_API_URL}/project/${projectId}`, {
       headers: this.getHeaders()
     });
   }